@@ -0,0 +1,129 @@
+package ca.gov.dtsstn.vacman.api.actuate;
+
+import static java.util.Comparator.comparing;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.util.Assert;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.Nullable;
+
+/**
+ * Keeps track of the tasks submitted to the application's {@code @Async} executors, so that queued and in-flight
+ * tasks can be listed by the type of event that caused them, and records how long each task waited in its
+ * executor's queue before it started.
+ * <p>
+ * The event type is captured on the publishing thread: the application event multicaster wraps each listener
+ * invocation in {@link #runWithEventType(String, Runnable)}, and the executors' {@link TaskDecorator} (which is
+ * invoked on the submitting thread) reads it back.
+ */
+public class AsyncTaskTracker {
+
+	/**
+	 * The timer that records how long tasks wait in an executor's queue, tagged with the executor name and event type.
+	 */
+	public static final String TASK_WAIT_TIMER = "executor.task.wait";
+
+	private static final String UNKNOWN_EVENT_TYPE = "unknown";
+
+	private static final ThreadLocal<String> currentEventType = new ThreadLocal<>();
+
+	/**
+	 * A task that has been submitted to an executor, and that has not finished yet.
+	 *
+	 * @param executor the name of the executor
+	 * @param eventType the (simple) class name of the event that caused the task
+	 * @param submittedAt when the task was submitted
+	 * @param startedAt when the task started running, or {@code null} if it is still queued
+	 */
+	public record TrackedTask(String executor, String eventType, Instant submittedAt, @Nullable Instant startedAt) {
+
+		public boolean isQueued() {
+			return startedAt == null;
+		}
+
+		TrackedTask started() {
+			return new TrackedTask(executor, eventType, submittedAt, Instant.now());
+		}
+
+	}
+
+	private final Map<Object, TrackedTask> trackedTasks = new ConcurrentHashMap<>();
+
+	private final MeterRegistry meterRegistry;
+
+	public AsyncTaskTracker(MeterRegistry meterRegistry) {
+		Assert.notNull(meterRegistry, "meterRegistry is required; it must not be null");
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Runs {@code runnable} (ie: an event listener invocation) with {@code eventType} as the event type of any task
+	 * it submits to a tracked executor.
+	 */
+	public static void runWithEventType(String eventType, Runnable runnable) {
+		final var previousEventType = currentEventType.get();
+		currentEventType.set(eventType);
+
+		try {
+			runnable.run();
+		}
+		finally {
+			if (previousEventType == null) { currentEventType.remove(); }
+			else { currentEventType.set(previousEventType); }
+		}
+	}
+
+	/**
+	 * Creates a task decorator that tracks every task submitted to the executor named {@code executorName}.
+	 */
+	public TaskDecorator taskDecorator(String executorName) {
+		Assert.hasText(executorName, "executorName is required; it must not be blank");
+
+		final var waitTimers = new ConcurrentHashMap<String, Timer>();
+
+		return runnable -> {
+			final var eventType = Objects.requireNonNullElse(currentEventType.get(), UNKNOWN_EVENT_TYPE);
+			final var submittedAt = System.nanoTime();
+			final var key = new Object();
+
+			trackedTasks.put(key, new TrackedTask(executorName, eventType, Instant.now(), null));
+
+			return () -> {
+				waitTimers.computeIfAbsent(eventType, type -> Timer.builder(TASK_WAIT_TIMER)
+					.description("Time spent by tasks in the executor's queue before they started")
+					.tag("name", executorName)
+					.tag("event.type", type)
+					.register(meterRegistry))
+					.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+
+				trackedTasks.computeIfPresent(key, (k, trackedTask) -> trackedTask.started());
+
+				try {
+					runnable.run();
+				}
+				finally {
+					trackedTasks.remove(key);
+				}
+			};
+		};
+	}
+
+	/**
+	 * Returns the tasks that have been submitted but have not finished yet, oldest first.
+	 */
+	public List<TrackedTask> getTrackedTasks() {
+		return trackedTasks.values().stream()
+			.sorted(comparing(TrackedTask::submittedAt))
+			.toList();
+	}
+
+}
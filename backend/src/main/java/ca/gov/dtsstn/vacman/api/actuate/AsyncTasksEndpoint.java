@@ -0,0 +1,73 @@
+package ca.gov.dtsstn.vacman.api.actuate;
+
+import static java.util.stream.Collectors.counting;
+import static java.util.stream.Collectors.groupingBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.util.Assert;
+
+import ca.gov.dtsstn.vacman.api.actuate.AsyncTaskTracker.TrackedTask;
+import jakarta.annotation.Nullable;
+
+/**
+ * Actuator endpoint ({@code /actuator/asynctasks}) that lists the queued and in-flight tasks of each {@code @Async}
+ * executor, counted by the type of event that caused them. A growing queue of notification tasks is usually the
+ * first sign that GC Notify has slowed down.
+ */
+@Endpoint(id = "asynctasks")
+public class AsyncTasksEndpoint {
+
+	/**
+	 * The unfinished tasks of a single executor.
+	 *
+	 * @param queued the number of tasks waiting to start, by event type
+	 * @param inFlight the number of running tasks, by event type
+	 * @param oldestQueuedTaskAge how long the oldest queued task has been waiting, or {@code null} if nothing is queued
+	 */
+	public record ExecutorTasksDescriptor(Map<String, Long> queued, Map<String, Long> inFlight, @Nullable Duration oldestQueuedTaskAge) {}
+
+	public record AsyncTasksDescriptor(Map<String, ExecutorTasksDescriptor> executors) {}
+
+	private final AsyncTaskTracker asyncTaskTracker;
+
+	public AsyncTasksEndpoint(AsyncTaskTracker asyncTaskTracker) {
+		Assert.notNull(asyncTaskTracker, "asyncTaskTracker is required; it must not be null");
+		this.asyncTaskTracker = asyncTaskTracker;
+	}
+
+	@ReadOperation
+	public AsyncTasksDescriptor asyncTasks() {
+		final var now = Instant.now();
+		final var executors = new TreeMap<String, ExecutorTasksDescriptor>();
+
+		asyncTaskTracker.getTrackedTasks().stream()
+			.collect(groupingBy(TrackedTask::executor))
+			.forEach((executor, trackedTasks) -> {
+				final var queued = trackedTasks.stream()
+					.filter(TrackedTask::isQueued)
+					.collect(groupingBy(TrackedTask::eventType, TreeMap::new, counting()));
+
+				final var inFlight = trackedTasks.stream()
+					.filter(trackedTask -> !trackedTask.isQueued())
+					.collect(groupingBy(TrackedTask::eventType, TreeMap::new, counting()));
+
+				// tracked tasks are sorted oldest first
+				final var oldestQueuedTaskAge = trackedTasks.stream()
+					.filter(TrackedTask::isQueued)
+					.findFirst()
+					.map(trackedTask -> Duration.between(trackedTask.submittedAt(), now))
+					.orElse(null);
+
+				executors.put(executor, new ExecutorTasksDescriptor(queued, inFlight, oldestQueuedTaskAge));
+			});
+
+		return new AsyncTasksDescriptor(executors);
+	}
+
+}
@@ -0,0 +1,107 @@
+package ca.gov.dtsstn.vacman.api.actuate;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.util.Assert;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * Actuator endpoint ({@code /actuator/cachestats}) that lists the application's caches with their current size and
+ * statistics, and that can evict individual caches (ie: after tuning a cache spec, or to force a reload of code tables).
+ * <p>
+ * Unlike Spring Boot's {@code caches} endpoint, this endpoint reports Caffeine's statistics, which are only recorded
+ * for caches whose spec includes {@code recordStats}.
+ */
+@Endpoint(id = "cachestats")
+public class CacheStatsEndpoint {
+
+	/**
+	 * The size and statistics of a single cache.
+	 *
+	 * @param name the name of the cache
+	 * @param estimatedSize the (approximate) number of entries in the cache
+	 * @param hitCount the number of lookups that returned a cached value
+	 * @param missCount the number of lookups that did not return a cached value
+	 * @param hitRate the ratio of lookups that returned a cached value ({@code 1.0} if there were no lookups)
+	 * @param evictionCount the number of entries evicted (ie: expired, or removed to respect the maximum size)
+	 * @param averageLoadPenaltyMillis the average time spent loading new values, in milliseconds
+	 */
+	public record CacheDescriptor(
+		String name,
+		long estimatedSize,
+		long hitCount,
+		long missCount,
+		double hitRate,
+		long evictionCount,
+		double averageLoadPenaltyMillis) {}
+
+	public record CachesDescriptor(List<CacheDescriptor> caches) {}
+
+	private final CacheManager cacheManager;
+
+	public CacheStatsEndpoint(CacheManager cacheManager) {
+		Assert.notNull(cacheManager, "cacheManager is required; it must not be null");
+		this.cacheManager = cacheManager;
+	}
+
+	@ReadOperation
+	public CachesDescriptor caches() {
+		return new CachesDescriptor(cacheManager.getCacheNames().stream()
+			.sorted()
+			.map(this::getCaffeineCache)
+			.flatMap(Optional::stream)
+			.map(this::toCacheDescriptor)
+			.toList());
+	}
+
+	@ReadOperation
+	public @Nullable CacheDescriptor cache(@Selector String name) {
+		return getCaffeineCache(name)
+			.map(this::toCacheDescriptor)
+			.orElse(null);
+	}
+
+	/**
+	 * Evicts all entries from a single cache.
+	 *
+	 * @return the cache's size and statistics after the eviction, or {@code null} (404) if there is no such cache
+	 */
+	@DeleteOperation
+	public @Nullable CacheDescriptor evict(@Selector String name) {
+		return getCaffeineCache(name)
+			.map(caffeineCache -> {
+				caffeineCache.invalidate();
+				return toCacheDescriptor(caffeineCache);
+			})
+			.orElse(null);
+	}
+
+	private Optional<CaffeineCache> getCaffeineCache(String name) {
+		return Optional.ofNullable(cacheManager.getCache(name))
+			.filter(CaffeineCache.class::isInstance)
+			.map(CaffeineCache.class::cast);
+	}
+
+	private CacheDescriptor toCacheDescriptor(CaffeineCache caffeineCache) {
+		final var nativeCache = caffeineCache.getNativeCache();
+		final var stats = nativeCache.stats();
+
+		return new CacheDescriptor(
+			caffeineCache.getName(),
+			nativeCache.estimatedSize(),
+			stats.hitCount(),
+			stats.missCount(),
+			stats.hitRate(),
+			stats.evictionCount(),
+			stats.averageLoadPenalty() / 1_000_000.0);
+	}
+
+}
@@ -0,0 +1,191 @@
+package ca.gov.dtsstn.vacman.api.actuate;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.Assert;
+import org.springframework.util.unit.DataSize;
+
+import jakarta.annotation.Nullable;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+/**
+ * Actuator endpoint ({@code /actuator/flightrecording}) that starts and stops a Java Flight Recorder recording, so that
+ * a running pod can be profiled without restarting it or attaching an agent.
+ * <ul>
+ * <li>{@code POST} starts a recording (only one recording can run at a time)</li>
+ * <li>{@code GET} describes the current recording</li>
+ * <li>{@code DELETE} stops the current recording and downloads it as a {@code .jfr} file</li>
+ * </ul>
+ * Recordings are bounded: they stop by themselves after {@code maxDuration}, and discard their oldest events once they
+ * reach {@code maxSize}. A recording that stopped by itself can still be downloaded.
+ * <p>
+ * Like every actuator endpoint other than health, this endpoint is restricted to admins.
+ */
+@Endpoint(id = "flightrecording")
+public class FlightRecordingEndpoint {
+
+	private static final Logger log = LoggerFactory.getLogger(FlightRecordingEndpoint.class);
+
+	/**
+	 * The current recording.
+	 *
+	 * @param name the name of the recording
+	 * @param settings the name of the JFR settings used by the recording
+	 * @param state the state of the recording, ie: {@code RUNNING} or {@code STOPPED}
+	 * @param startTime when the recording was started
+	 * @param maxDuration how long the recording runs before it stops by itself
+	 * @param size the (approximate) size of the recorded data, in bytes
+	 */
+	public record RecordingDescriptor(String name, String settings, RecordingState state, @Nullable Instant startTime, Duration maxDuration, long size) {}
+
+	private final String settings;
+
+	private final Duration maxDuration;
+
+	private final DataSize maxSize;
+
+	private Recording recording;
+
+	public FlightRecordingEndpoint(String settings, Duration maxDuration, DataSize maxSize) {
+		Assert.hasText(settings, "settings is required; it must not be blank or null");
+		Assert.notNull(maxDuration, "maxDuration is required; it must not be null");
+		Assert.notNull(maxSize, "maxSize is required; it must not be null");
+		this.settings = settings;
+		this.maxDuration = maxDuration;
+		this.maxSize = maxSize;
+	}
+
+	@ReadOperation
+	public synchronized WebEndpointResponse<RecordingDescriptor> recording() {
+		if (recording == null) { return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND); }
+		return new WebEndpointResponse<>(toRecordingDescriptor(recording));
+	}
+
+	/**
+	 * Starts a new recording.
+	 *
+	 * @return the new recording, or the current recording (409) if one has not been downloaded yet
+	 */
+	@WriteOperation
+	public synchronized WebEndpointResponse<RecordingDescriptor> start() {
+		if (recording != null) {
+			return new WebEndpointResponse<>(toRecordingDescriptor(recording), HttpStatus.CONFLICT.value());
+		}
+
+		try {
+			final var newRecording = new Recording(Configuration.getConfiguration(settings));
+			newRecording.setName("vacman-" + Instant.now().getEpochSecond());
+			newRecording.setDuration(maxDuration);
+			newRecording.setMaxSize(maxSize.toBytes());
+			newRecording.setToDisk(true);
+			newRecording.start();
+
+			log.info("Started flight recording [{}] with settings [{}]; maxDuration: [{}], maxSize: [{}]", newRecording.getName(), settings, maxDuration, maxSize);
+
+			this.recording = newRecording;
+			return new WebEndpointResponse<>(toRecordingDescriptor(newRecording));
+		}
+		catch (final IOException | ParseException exception) {
+			throw new IllegalStateException("Could not load JFR settings " + settings, exception);
+		}
+	}
+
+	/**
+	 * Stops the current recording and returns its data. The recording is discarded once it has been downloaded.
+	 *
+	 * @return the recording's data as a {@code .jfr} file, or 404 if there is no recording
+	 */
+	@DeleteOperation(produces = "application/octet-stream")
+	public synchronized WebEndpointResponse<Resource> stop() throws IOException {
+		if (recording == null) { return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND); }
+
+		try {
+			if (recording.getState() == RecordingState.RUNNING) { recording.stop(); }
+
+			final var recordingFile = Files.createTempFile(recording.getName() + "-", ".jfr");
+
+			try {
+				recording.dump(recordingFile);
+			}
+			catch (final IOException | RuntimeException exception) {
+				Files.deleteIfExists(recordingFile);
+				throw exception;
+			}
+
+			log.info("Stopped flight recording [{}]; size: [{}] bytes", recording.getName(), Files.size(recordingFile));
+
+			return new WebEndpointResponse<>(new TemporaryFileSystemResource(recordingFile));
+		}
+		finally {
+			recording.close();
+			recording = null;
+		}
+	}
+
+	private RecordingDescriptor toRecordingDescriptor(Recording recording) {
+		return new RecordingDescriptor(recording.getName(), settings, recording.getState(), recording.getStartTime(), maxDuration, recording.getSize());
+	}
+
+	/**
+	 * A file resource that deletes its file once it has been read (ie: once it has been streamed to the client).
+	 */
+	static class TemporaryFileSystemResource extends FileSystemResource {
+
+		TemporaryFileSystemResource(Path path) {
+			super(path);
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			return new FilterInputStream(super.getInputStream()) {
+
+				@Override
+				public void close() throws IOException {
+					try {
+						super.close();
+					}
+					finally {
+						deleteFile();
+					}
+				}
+
+			};
+		}
+
+		@Override
+		public boolean isFile() {
+			// forces the resource to be streamed (via getInputStream()) rather than transferred from the file directly
+			return false;
+		}
+
+		private void deleteFile() {
+			try {
+				Files.deleteIfExists(getFile().toPath());
+			}
+			catch (final IOException exception) {
+				log.warn("Could not delete flight recording file [{}]", getPath(), exception);
+			}
+		}
+
+	}
+
+}
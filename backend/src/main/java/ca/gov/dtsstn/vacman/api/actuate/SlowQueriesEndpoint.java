@@ -0,0 +1,46 @@
+package ca.gov.dtsstn.vacman.api.actuate;
+
+import java.util.List;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.util.Assert;
+
+import ca.gov.dtsstn.vacman.api.data.query.SlowQueryRegistry;
+import ca.gov.dtsstn.vacman.api.data.query.SlowQueryRegistry.SlowQuery;
+
+/**
+ * Actuator endpoint ({@code /actuator/slowqueries}) that lists the slowest JDBC statements executed since startup (or
+ * since the last reset), along with the repository method and specifications that issued them, so that slow searches
+ * can be traced back to the filters that caused them.
+ */
+@Endpoint(id = "slowqueries")
+public class SlowQueriesEndpoint {
+
+	public record SlowQueriesDescriptor(List<SlowQuery> slowQueries) {}
+
+	private final SlowQueryRegistry slowQueryRegistry;
+
+	public SlowQueriesEndpoint(SlowQueryRegistry slowQueryRegistry) {
+		Assert.notNull(slowQueryRegistry, "slowQueryRegistry is required; it must not be null");
+		this.slowQueryRegistry = slowQueryRegistry;
+	}
+
+	/**
+	 * Lists the statements in the slow query registry, slowest first.
+	 */
+	@ReadOperation
+	public SlowQueriesDescriptor slowQueries() {
+		return new SlowQueriesDescriptor(slowQueryRegistry.getSlowQueries());
+	}
+
+	/**
+	 * Empties the slow query registry (ie: before measuring the effect of a new index).
+	 */
+	@DeleteOperation
+	public void reset() {
+		slowQueryRegistry.reset();
+	}
+
+}
@@ -1,13 +1,42 @@
 package ca.gov.dtsstn.vacman.api.config;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.PayloadApplicationEvent;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ApplicationEventMulticaster;
+import org.springframework.context.event.SimpleApplicationEventMulticaster;
+import org.springframework.context.support.AbstractApplicationContext;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import ca.gov.dtsstn.vacman.api.actuate.AsyncTaskTracker;
+import ca.gov.dtsstn.vacman.api.actuate.AsyncTasksEndpoint;
+import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.AsyncProperties.ExecutorProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
 
+/**
+ * Configures {@code @Async} processing, with a separate executor for each group of event listeners so that a slow
+ * integration (ie: GC Notify) cannot hold up unrelated work (ie: writing audit events).
+ * <p>
+ * Spring Boot binds the usual {@code executor.*} metrics (pool size, active threads, queued tasks, etc.) for each
+ * executor, tagged with the executor's name (ie: {@code name=notification}). The time tasks spend queued, and the
+ * number of tasks that had to run on the calling thread because the executor was saturated, are recorded here.
+ * <p>
+ * Spring Boot's {@code applicationTaskExecutor} is still created (see {@code spring.task.execution.mode}), and runs
+ * everything else: exports, and any {@code @Async} method that does not name an executor.
+ */
 @EnableAsync
 @Configuration
 @ConditionalOnProperty(name = { "application.async.enabled" })
@@ -15,9 +44,106 @@ public class AsyncConfig {
 
 	private static final Logger log = LoggerFactory.getLogger(AsyncConfig.class);
 
+	/**
+	 * The executor for listeners that only write audit events.
+	 */
+	public static final String AUDIT_TASK_EXECUTOR = "auditTaskExecutor";
+
+	/**
+	 * The executor for listeners that send notifications.
+	 */
+	public static final String NOTIFICATION_TASK_EXECUTOR = "notificationTaskExecutor";
+
+	/**
+	 * The executor for listeners that record match events; notifications about matches are sent by the
+	 * {@link #NOTIFICATION_TASK_EXECUTOR}, so that GC Notify slowdowns cannot hold up match events.
+	 */
+	public static final String MATCHING_TASK_EXECUTOR = "matchingTaskExecutor";
+
+	@Autowired ApplicationProperties applicationProperties;
+
+	@Autowired MeterRegistry meterRegistry;
+
 	@PostConstruct
 	public void postConstruct() {
 		log.info("Enabling async processing");
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Replaces the context's default event multicaster with one that records the type of the event being
+	 * published, so that {@link AsyncTaskTracker} can attribute async listener tasks to the event that caused them.
+	 */
+	@Bean(AbstractApplicationContext.APPLICATION_EVENT_MULTICASTER_BEAN_NAME)
+	static ApplicationEventMulticaster applicationEventMulticaster(BeanFactory beanFactory) {
+		log.info("Creating 'applicationEventMulticaster' bean");
+
+		return new SimpleApplicationEventMulticaster(beanFactory) {
+
+			@Override
+			protected void invokeListener(ApplicationListener<?> listener, ApplicationEvent event) {
+				final var eventType = (event instanceof PayloadApplicationEvent<?> payloadApplicationEvent)
+					? payloadApplicationEvent.getPayload().getClass().getSimpleName()
+					: event.getClass().getSimpleName();
+
+				AsyncTaskTracker.runWithEventType(eventType, () -> super.invokeListener(listener, event));
+			}
+
+		};
+	}
+
+	@Bean AsyncTaskTracker asyncTaskTracker() {
+		log.info("Creating 'asyncTaskTracker' bean");
+		return new AsyncTaskTracker(meterRegistry);
+	}
+
+	/**
+	 * Exposes the queued and in-flight async tasks via {@code /actuator/asynctasks}.
+	 */
+	@Bean AsyncTasksEndpoint asyncTasksEndpoint(AsyncTaskTracker asyncTaskTracker) {
+		log.info("Creating 'asyncTasksEndpoint' bean");
+		return new AsyncTasksEndpoint(asyncTaskTracker);
+	}
+
+	@Bean(AUDIT_TASK_EXECUTOR) ThreadPoolTaskExecutor auditTaskExecutor(AsyncTaskTracker asyncTaskTracker) {
+		log.info("Creating '{}' bean", AUDIT_TASK_EXECUTOR);
+		return createTaskExecutor("audit", applicationProperties.async().audit(), asyncTaskTracker);
+	}
+
+	@Bean(NOTIFICATION_TASK_EXECUTOR) ThreadPoolTaskExecutor notificationTaskExecutor(AsyncTaskTracker asyncTaskTracker) {
+		log.info("Creating '{}' bean", NOTIFICATION_TASK_EXECUTOR);
+		return createTaskExecutor("notification", applicationProperties.async().notification(), asyncTaskTracker);
+	}
+
+	@Bean(MATCHING_TASK_EXECUTOR) ThreadPoolTaskExecutor matchingTaskExecutor(AsyncTaskTracker asyncTaskTracker) {
+		log.info("Creating '{}' bean", MATCHING_TASK_EXECUTOR);
+		return createTaskExecutor("matching", applicationProperties.async().matching(), asyncTaskTracker);
+	}
+
+	ThreadPoolTaskExecutor createTaskExecutor(String name, ExecutorProperties executorProperties, AsyncTaskTracker asyncTaskTracker) {
+		final var rejectedTasks = Counter.builder("executor.rejected")
+			.description("Number of tasks that ran on the calling thread because the executor was saturated")
+			.tag("name", name)
+			.register(meterRegistry);
+
+		final var callerRunsPolicy = new ThreadPoolExecutor.CallerRunsPolicy();
+
+		final var taskExecutor = new ThreadPoolTaskExecutor();
+		taskExecutor.setThreadNamePrefix(name + "-");
+		taskExecutor.setCorePoolSize(executorProperties.corePoolSize());
+		taskExecutor.setMaxPoolSize(executorProperties.maxPoolSize());
+		taskExecutor.setQueueCapacity(executorProperties.queueCapacity());
+		taskExecutor.setTaskDecorator(asyncTaskTracker.taskDecorator(name));
+		taskExecutor.setWaitForTasksToCompleteOnShutdown(true);
+		taskExecutor.setAwaitTerminationSeconds(30);
+
+		// a saturated executor runs the task on the publishing thread rather than dropping it, since
+		// losing an audit event or a notification is worse than a slower response
+		taskExecutor.setRejectedExecutionHandler((runnable, executor) -> {
+			rejectedTasks.increment();
+			callerRunsPolicy.rejectedExecution(runnable, executor);
+		});
+
+		return taskExecutor;
+	}
+
+}
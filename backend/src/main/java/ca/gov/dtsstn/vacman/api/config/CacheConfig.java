@@ -16,7 +16,9 @@ import org.springframework.context.annotation.Configuration;
 
 import com.github.benmanes.caffeine.cache.Caffeine;
 
+import ca.gov.dtsstn.vacman.api.actuate.CacheStatsEndpoint;
 import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.web.timing.ServerTimings;
 
 @Configuration
 @EnableCaching
@@ -41,8 +43,33 @@ public class CacheConfig {
 		return cacheManager;
 	}
 
+	/**
+	 * Exposes the size and statistics of the caches (and allows evicting them) via {@code /actuator/cachestats}.
+	 */
+	@Bean CacheStatsEndpoint cacheStatsEndpoint(CacheManager cacheManager) {
+		log.info("Creating 'cacheStatsEndpoint' bean");
+		return new CacheStatsEndpoint(cacheManager);
+	}
+
+	/**
+	 * Creates a Caffeine cache from its spec, counting lookups against the current request's {@link ServerTimings}.
+	 * Its statistics are bound to the meter registry by Spring Boot's cache metrics auto-configuration, which
+	 * instruments every cache of the {@code cacheManager} bean.
+	 */
 	Function<Entry<String, String>, CaffeineCache> toCaffeineCache() {
-		return entry -> new CaffeineCache(entry.getKey(), Caffeine.from(entry.getValue()).build());
+		return entry -> {
+			final var nativeCache = Caffeine.from(entry.getValue()).build();
+			return new CaffeineCache(entry.getKey(), nativeCache) {
+
+				@Override
+				protected Object lookup(Object key) {
+					final var value = super.lookup(key);
+					ServerTimings.recordCacheLookup(value != null);
+					return value;
+				}
+
+			};
+		};
 	}
 
 }
@@ -15,8 +15,11 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Example;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import ca.gov.dtsstn.vacman.api.config.properties.DataSeederProperties;
 import ca.gov.dtsstn.vacman.api.data.entity.CityEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.ClassificationEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.EmploymentOpportunityEntity;
@@ -24,6 +27,7 @@ import ca.gov.dtsstn.vacman.api.data.entity.EmploymentTenureEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.LanguageEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.LanguageReferralTypeEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.LanguageRequirementEntity;
+import ca.gov.dtsstn.vacman.api.data.entity.MatchStatusEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.ProfileEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.ProfileStatusEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.RequestEntity;
@@ -42,6 +46,7 @@ import ca.gov.dtsstn.vacman.api.data.repository.EmploymentTenureRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.LanguageReferralTypeRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.LanguageRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.LanguageRequirementRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.MatchStatusRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.ProfileRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.ProfileStatusRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.RequestRepository;
@@ -61,6 +66,10 @@ public class DataSeederConfig {
 
 	static final Logger logger = LoggerFactory.getLogger(DataSeederConfig.class);
 
+	final DataSeederProperties dataSeederProperties;
+	final JdbcTemplate jdbcTemplate;
+	final TransactionTemplate transactionTemplate;
+
 	final ProfileRepository profileRepository;
 	final RequestRepository requestRepository;
 	final UserRepository userRepository;
@@ -72,6 +81,7 @@ public class DataSeederConfig {
 	final List<LanguageEntity> languages;
 	final List<LanguageReferralTypeEntity> languageReferralTypes;
 	final List<LanguageRequirementEntity> languageRequirements;
+	final List<MatchStatusEntity> matchStatuses;
 	final List<ProfileStatusEntity> profileStatuses;
 	final List<RequestStatusEntity> requestStatuses;
 	final List<SecurityClearanceEntity> securityClearances;
@@ -82,6 +92,9 @@ public class DataSeederConfig {
 	final List<WorkUnitEntity> workUnits;
 
 	DataSeederConfig(
+			DataSeederProperties dataSeederProperties,
+			JdbcTemplate jdbcTemplate,
+			TransactionTemplate transactionTemplate,
 			CityRepository cityRepository,
 			ClassificationRepository classificationRepository,
 			EmploymentOpportunityRepository employmentOpportunityRepository,
@@ -89,6 +102,7 @@ public class DataSeederConfig {
 			LanguageReferralTypeRepository languageReferralTypeRepository,
 			LanguageRepository languageRepository,
 			LanguageRequirementRepository languageRequirementRepository,
+			MatchStatusRepository matchStatusRepository,
 			ProfileRepository profileRepository,
 			ProfileStatusRepository profileStatusRepository,
 			RequestRepository requestRepository,
@@ -100,6 +114,10 @@ public class DataSeederConfig {
 			WfaStatusRepository wfaStatusRepository,
 			WorkScheduleRepository workScheduleRepository,
 			WorkUnitRepository workUnitRepository) {
+		this.dataSeederProperties = dataSeederProperties;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+
 		this.profileRepository = profileRepository;
 		this.requestRepository = requestRepository;
 		this.userRepository = userRepository;
@@ -111,6 +129,7 @@ public class DataSeederConfig {
 		this.languages = languageRepository.findAll();
 		this.languageReferralTypes = languageReferralTypeRepository.findAll();
 		this.languageRequirements = languageRequirementRepository.findAll();
+		this.matchStatuses = matchStatusRepository.findAll();
 		this.profileStatuses = profileStatusRepository.findAll();
 		this.requestStatuses = requestStatusRepository.findAll();
 		this.securityClearances = securityClearanceRepository.findAll();
@@ -143,6 +162,12 @@ public class DataSeederConfig {
 				seedUsers();
 				seedRequests();
 
+				final var scale = dataSeederProperties.scale();
+
+				if (scale != null && scale.isEnabled()) {
+					new ScaledDataSeeder(DataSeederConfig.this, jdbcTemplate, transactionTemplate, scale).seed();
+				}
+
 				logger.info("Data seeding complete");
 			}
 
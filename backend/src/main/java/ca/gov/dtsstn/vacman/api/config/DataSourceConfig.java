@@ -1,10 +1,127 @@
 package ca.gov.dtsstn.vacman.api.config;
 
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import javax.sql.DataSource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import ca.gov.dtsstn.vacman.api.actuate.SlowQueriesEndpoint;
+import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.data.query.QueryOrigin;
+import ca.gov.dtsstn.vacman.api.data.query.SlowQueryRegistry;
+import ca.gov.dtsstn.vacman.api.web.timing.ServerTimings;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
 
 @Configuration
 @EnableJpaAuditing
 @EnableJpaRepositories(basePackages = { "ca.gov.dtsstn.vacman.api.data.repository" })
-public class DataSourceConfig {}
+public class DataSourceConfig {
+
+	private static final Logger log = LoggerFactory.getLogger(DataSourceConfig.class);
+
+	@Autowired ApplicationProperties applicationProperties;
+
+	/**
+	 * Keeps the slowest JDBC statements, along with the repository method and specifications that issued them.
+	 */
+	@Bean SlowQueryRegistry slowQueryRegistry() {
+		log.info("Creating 'slowQueryRegistry' bean");
+
+		final var slowQueries = applicationProperties.metrics().slowQueries();
+		return new SlowQueryRegistry(slowQueries.logThreshold(), slowQueries.registrySize());
+	}
+
+	/**
+	 * Exposes the slow query registry via {@code /actuator/slowqueries}.
+	 */
+	@Bean SlowQueriesEndpoint slowQueriesEndpoint(SlowQueryRegistry slowQueryRegistry) {
+		log.info("Creating 'slowQueriesEndpoint' bean");
+		return new SlowQueriesEndpoint(slowQueryRegistry);
+	}
+
+	/**
+	 * Wraps the application's datasource in a proxy that instruments every JDBC statement and connection
+	 * acquisition, so that they can be attributed to the request that caused them (see {@link ServerTimings}),
+	 * and so that slow statements can be found (see {@link SlowQueryRegistry}).
+	 */
+	@Bean static BeanPostProcessor dataSourceProxyBeanPostProcessor(ObjectProvider<SlowQueryRegistry> slowQueryRegistry) {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessAfterInitialization(Object bean, String beanName) {
+				if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) { return bean; }
+
+				log.info("Wrapping datasource [{}] in a query instrumentation proxy", beanName);
+
+				final var proxyDataSourceBuilder = ProxyDataSourceBuilder.create(dataSource)
+					.name(beanName)
+					.listener(serverTimingQueryListener());
+
+				slowQueryRegistry.ifAvailable(proxyDataSourceBuilder::listener);
+
+				return proxyDataSourceBuilder
+					.afterMethod(methodExecutionContext -> {
+						// the only datasource method that does any real work is getConnection()
+						if (methodExecutionContext.getTarget() instanceof DataSource) {
+							ServerTimings.recordConnectionAcquired(methodExecutionContext.getElapsedTime(), TimeUnit.MILLISECONDS);
+						}
+					})
+					.build();
+			}
+
+		};
+	}
+
+	/**
+	 * Adds an interceptor to every repository proxy that tracks which repository method (and which specifications)
+	 * issued each JDBC statement (see {@link QueryOrigin}).
+	 */
+	@Bean static BeanPostProcessor queryOriginBeanPostProcessor() {
+		return new BeanPostProcessor() {
+
+			@Override
+			public Object postProcessBeforeInitialization(Object bean, String beanName) {
+				if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> repositoryFactoryBean) {
+					repositoryFactoryBean.addRepositoryFactoryCustomizer(repositoryFactory ->
+						repositoryFactory.addRepositoryProxyPostProcessor((proxyFactory, repositoryInformation) ->
+							proxyFactory.addAdvice(QueryOrigin.interceptor(repositoryInformation.getRepositoryInterface()))));
+				}
+
+				return bean;
+			}
+
+		};
+	}
+
+	static QueryExecutionListener serverTimingQueryListener() {
+		return new QueryExecutionListener() {
+
+			@Override
+			public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+				// nothing to do; the elapsed time is only known after the query
+			}
+
+			@Override
+			public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+				ServerTimings.recordJdbcStatements(queryInfoList.size(), executionInfo.getElapsedTime(), TimeUnit.MILLISECONDS);
+			}
+
+		};
+	}
+
+}
@@ -1,17 +1,25 @@
 package ca.gov.dtsstn.vacman.api.config;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.info.GitProperties;
 import org.springframework.boot.micrometer.metrics.autoconfigure.MeterRegistryCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import ca.gov.dtsstn.vacman.api.actuate.FlightRecordingEndpoint;
 import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import io.micrometer.core.instrument.Meter;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.config.MeterFilter;
 
 @Configuration
 public class MetricsConfig {
 
+	private static final Logger log = LoggerFactory.getLogger(MetricsConfig.class);
+
 	@Autowired ApplicationProperties applicationProperties;
 
 	@Autowired GitProperties gitProperties;
@@ -31,4 +39,36 @@ public class MetricsConfig {
 		};
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Adds an {@code outcome} tag ({@code SUCCESS} or {@code ERROR}) to the {@code @Timed} service and controller
+	 * timers, so that latency SLOs can be tracked for successful calls without failures skewing the percentiles.
+	 * <p>
+	 * The outcome is derived from the {@code exception} tag recorded by Micrometer's timed aspect.
+	 */
+	@Bean MeterFilter outcomeTagMeterFilter() {
+		return new MeterFilter() {
+
+			@Override
+			public Meter.Id map(Meter.Id id) {
+				final var isTimedMethod = id.getName().startsWith("service.") || id.getName().startsWith("controller.");
+				final var exception = id.getTag("exception");
+
+				if (!isTimedMethod || exception == null || id.getTag("outcome") != null) { return id; }
+
+				return id.withTag(Tag.of("outcome", "none".equals(exception) ? "SUCCESS" : "ERROR"));
+			}
+
+		};
+	}
+
+	/**
+	 * Starts and stops on-demand Java Flight Recorder recordings via {@code /actuator/flightrecording}.
+	 */
+	@Bean FlightRecordingEndpoint flightRecordingEndpoint() {
+		log.info("Creating 'flightRecordingEndpoint' bean");
+
+		final var flightRecording = applicationProperties.metrics().flightRecording();
+		return new FlightRecordingEndpoint(flightRecording.settings(), flightRecording.maxDuration(), flightRecording.maxSize());
+	}
+
+}
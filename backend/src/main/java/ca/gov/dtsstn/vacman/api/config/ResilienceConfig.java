@@ -0,0 +1,53 @@
+package ca.gov.dtsstn.vacman.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Configuration
+public class ResilienceConfig {
+
+	private static final Logger log = LoggerFactory.getLogger(ResilienceConfig.class);
+
+	/**
+	 * A registry of the circuit breakers guarding outbound integrations.
+	 * <p>
+	 * Breaker state, call outcomes (including calls short-circuited while open) and failure/slow call rates are
+	 * published as {@code resilience4j.circuitbreaker.*} meters. State transitions are logged and counted as
+	 * {@code resilience4j.circuitbreaker.transitions}, tagged with the {@code from} and {@code to} states.
+	 */
+	@Bean CircuitBreakerRegistry circuitBreakerRegistry(MeterRegistry meterRegistry) {
+		log.info("Creating 'circuitBreakerRegistry' bean");
+
+		final var circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+		TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+
+		circuitBreakerRegistry.getEventPublisher()
+			.onEntryAdded(event -> countStateTransitions(event.getAddedEntry(), meterRegistry));
+
+		return circuitBreakerRegistry;
+	}
+
+	void countStateTransitions(CircuitBreaker circuitBreaker, MeterRegistry meterRegistry) {
+		circuitBreaker.getEventPublisher().onStateTransition(event -> {
+			final var stateTransition = event.getStateTransition();
+			log.warn("Circuit breaker [{}] transitioned from [{}] to [{}]", circuitBreaker.getName(), stateTransition.getFromState(), stateTransition.getToState());
+
+			Counter.builder("resilience4j.circuitbreaker.transitions")
+				.description("Number of circuit breaker state transitions")
+				.tag("name", circuitBreaker.getName())
+				.tag("from", stateTransition.getFromState().name().toLowerCase())
+				.tag("to", stateTransition.getToState().name().toLowerCase())
+				.register(meterRegistry)
+				.increment();
+		});
+	}
+
+}
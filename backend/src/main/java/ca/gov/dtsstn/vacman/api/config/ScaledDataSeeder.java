@@ -0,0 +1,296 @@
+package ca.gov.dtsstn.vacman.api.config;
+
+import static ca.gov.dtsstn.vacman.api.data.entity.AbstractCodeEntity.byCode;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StopWatch;
+
+import ca.gov.dtsstn.vacman.api.config.properties.DataSeederProperties.ScaleProperties;
+import ca.gov.dtsstn.vacman.api.data.entity.AbstractCodeEntity;
+import net.datafaker.Faker;
+
+/**
+ * Generates a synthetic dataset of (roughly) production size: users, profiles (with their preferences), requests and
+ * matches.
+ * <p>
+ * Rows are inserted with batched JDBC statements instead of through JPA, one chunk of {@code batchSize} rows per
+ * transaction, with several chunks generated and inserted in parallel. Every chunk gets its own {@link Faker}, seeded
+ * from the chunk number, so a given configuration always generates the same dataset no matter how the chunks are
+ * scheduled.
+ * <p>
+ * Generated rows are identified by their natural keys (ie: {@code MS_ENTRA_ID} for users and {@code REQUEST_NUMBER}
+ * for requests), which is how each chunk finds the ids of the rows it just inserted without relying on generated keys
+ * being returned from a batch.
+ */
+class ScaledDataSeeder {
+
+	static final Logger logger = LoggerFactory.getLogger(ScaledDataSeeder.class);
+
+	static final long SEED = 0xDEADBEEF;
+
+	static final String SEEDED_BY = "data-seeder";
+
+	static final String INSERT_USER_SQL = """
+		INSERT INTO [USER] (USER_TYPE_ID, LANGUAGE_ID, MS_ENTRA_ID, FIRST_NAME, LAST_NAME, BUSINESS_EMAIL_ADDRESS, USER_CREATED)
+		VALUES (?, ?, ?, ?, ?, ?, ?)""";
+
+	static final String INSERT_PROFILE_SQL = """
+		INSERT INTO PROFILE (USER_ID, WFA_STATUS_ID, CLASSIFICATION_ID, CITY_ID, WORK_UNIT_ID, LANGUAGE_ID, PROFILE_STATUS_ID,
+			AVAILABLE_FOR_REFERRAL_IND, INTERESTED_IN_ALTERNATION_IND, PRIVACY_CONSENT_IND, WFA_START_DATE, WFA_END_DATE, USER_CREATED)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+	static final String INSERT_REQUEST_SQL = """
+		INSERT INTO REQUEST (REQUEST_STATUS_ID, CLASSIFICATION_ID, WORK_UNIT_ID, LANGUAGE_ID, SECURITY_CLEARANCE_ID, EMPLOYMENT_TENURE_ID,
+			SELECTION_PROCESS_TYPE_ID, WORK_SCHEDULE_ID, USER_ID_SUBMITTER, USER_ID_HIRING_MANAGER, NAME_EN, NAME_FR, REQUEST_NUMBER,
+			POSITION_NUMBER, LANGUAGE_PROFILE_EN, LANGUAGE_PROFILE_FR, START_DATE, END_DATE, USER_CREATED)
+		VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""";
+
+	static final String INSERT_MATCH_SQL = """
+		INSERT INTO [MATCH] (PROFILE_ID, REQUEST_ID, MATCH_STATUS_ID, USER_CREATED)
+		VALUES (?, ?, ?, ?)""";
+
+	final DataSeederConfig config;
+
+	final JdbcTemplate jdbcTemplate;
+
+	final TransactionTemplate transactionTemplate;
+
+	final ScaleProperties scale;
+
+	ScaledDataSeeder(DataSeederConfig config, JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate, ScaleProperties scale) {
+		this.config = config;
+		this.jdbcTemplate = jdbcTemplate;
+		this.transactionTemplate = transactionTemplate;
+		this.scale = scale;
+	}
+
+	void seed() {
+		logger.info("Generating [{}] profiles and [{}] requests with [{}] matches each...", scale.profiles(), scale.requests(), scale.matchesPerRequest());
+
+		final var stopWatch = new StopWatch("scaled-data-seeder");
+
+		stopWatch.start("profiles");
+		seedChunks("profiles", scale.profiles(), this::seedProfiles);
+		stopWatch.stop();
+
+		final var userIds = jdbcTemplate.queryForList("SELECT ID FROM [USER] WHERE MS_ENTRA_ID LIKE ? ORDER BY ID", Long.class, "SEEDED-%");
+		final var profileIds = jdbcTemplate.queryForList("SELECT P.ID FROM PROFILE P JOIN [USER] U ON U.ID = P.USER_ID WHERE U.MS_ENTRA_ID LIKE ? ORDER BY P.ID", Long.class, "SEEDED-%");
+
+		// requests must be submitted by someone, even if no users were generated
+		final var submitterIds = userIds.isEmpty()
+			? jdbcTemplate.queryForList("SELECT ID FROM [USER] WHERE MS_ENTRA_ID = ?", Long.class, "SENTINEL-123456789")
+			: userIds;
+
+		stopWatch.start("requests");
+		seedChunks("requests", scale.requests(), (faker, from, to) -> seedRequests(faker, from, to, submitterIds, profileIds));
+		stopWatch.stop();
+
+		logger.info("Scaled data generation complete: {}", stopWatch.prettyPrint());
+	}
+
+	/**
+	 * Splits {@code rowCount} rows into chunks of {@code batchSize} rows, and seeds up to {@code parallelism} chunks
+	 * at a time, each in its own transaction.
+	 */
+	void seedChunks(String name, int rowCount, ChunkSeeder chunkSeeder) {
+		if (rowCount == 0) { return; }
+
+		try (final var executor = Executors.newFixedThreadPool(scale.parallelism())) {
+			final var futures = new ArrayList<CompletableFuture<Void>>();
+
+			for (var from = 0; from < rowCount; from += scale.batchSize()) {
+				final var chunkFrom = from;
+				final var chunkTo = Math.min(from + scale.batchSize(), rowCount);
+				final var faker = new Faker(new Random(Objects.hash(SEED, name, chunkFrom)));
+
+				futures.add(CompletableFuture.runAsync(() -> {
+					transactionTemplate.executeWithoutResult(status -> chunkSeeder.seed(faker, chunkFrom, chunkTo));
+					logger.debug("Generated {} [{}..{}) of [{}]", name, chunkFrom, chunkTo, rowCount);
+				}, executor));
+			}
+
+			CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+		}
+	}
+
+	/**
+	 * Seeds the users (and their profiles) numbered {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	void seedProfiles(Faker faker, int from, int to) {
+		final var employee = config.userTypes.stream().filter(byCode("employee")).findFirst().orElseThrow();
+		final var approved = config.profileStatuses.stream().filter(byCode("APPROVED")).findFirst().orElseThrow();
+
+		final var users = new ArrayList<Object[]>(to - from);
+
+		for (var i = from; i < to; i++) {
+			users.add(new Object[] {
+				employee.getId(),
+				config.randomElement(faker, config.languages).getId(),
+				userEntraId(i),
+				faker.name().firstName(),
+				faker.name().lastName(),
+				faker.internet().safeEmailAddress(),
+				SEEDED_BY
+			});
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_USER_SQL, users);
+
+		final var userIds = jdbcTemplate.queryForList("SELECT ID FROM [USER] WHERE MS_ENTRA_ID BETWEEN ? AND ? ORDER BY MS_ENTRA_ID", Long.class, userEntraId(from), userEntraId(to - 1));
+
+		final var profiles = new ArrayList<Object[]>(userIds.size());
+		final var classificationIds = new ArrayList<Long>(userIds.size());
+
+		for (final var userId : userIds) {
+			final var classification = skewedElement(faker, config.classifications);
+			final var wfaStartDate = LocalDate.now().minusDays(faker.number().numberBetween(0, 365));
+			classificationIds.add(classification.getId());
+
+			profiles.add(new Object[] {
+				userId,
+				config.randomElement(faker, config.wfaStatuses).getId(),
+				classification.getId(),
+				skewedElement(faker, config.cities).getId(),
+				config.randomElement(faker, config.workUnits).getId(),
+				config.randomElement(faker, config.languages).getId(),
+				faker.number().numberBetween(0, 10) < 8 ? approved.getId() : config.randomElement(faker, config.profileStatuses).getId(),
+				faker.number().numberBetween(0, 10) < 9,
+				faker.random().nextBoolean(),
+				true,
+				wfaStartDate,
+				wfaStartDate.plusMonths(faker.number().numberBetween(6, 25)),
+				SEEDED_BY
+			});
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_PROFILE_SQL, profiles);
+
+		final var profileIds = jdbcTemplate.queryForList("SELECT P.ID FROM PROFILE P JOIN [USER] U ON U.ID = P.USER_ID WHERE U.MS_ENTRA_ID BETWEEN ? AND ? ORDER BY U.MS_ENTRA_ID", Long.class, userEntraId(from), userEntraId(to - 1));
+
+		final var preferredCities = new ArrayList<Object[]>();
+		final var preferredClassifications = new ArrayList<Object[]>();
+		final var preferredEmploymentOpportunities = new ArrayList<Object[]>();
+		final var preferredLanguages = new ArrayList<Object[]>();
+
+		for (var i = 0; i < profileIds.size(); i++) {
+			final var profileId = profileIds.get(i);
+
+			// most employees want their current classification, and some will also take one or two others
+			final var classifications = new LinkedHashSet<Long>(List.of(classificationIds.get(i)));
+			skewedElements(faker, config.classifications, faker.number().numberBetween(0, 3)).forEach(classification -> classifications.add(classification.getId()));
+			classifications.forEach(classificationId -> preferredClassifications.add(new Object[] { classificationId, profileId, SEEDED_BY }));
+
+			skewedElements(faker, config.cities, faker.number().numberBetween(1, 6)).forEach(city -> preferredCities.add(new Object[] { profileId, city.getId(), SEEDED_BY }));
+			config.randomSubList(faker, config.employmentOpportunities).forEach(employmentOpportunity -> preferredEmploymentOpportunities.add(new Object[] { employmentOpportunity.getId(), profileId, SEEDED_BY }));
+			config.randomSubList(faker, config.languageReferralTypes).forEach(languageReferralType -> preferredLanguages.add(new Object[] { profileId, languageReferralType.getId(), SEEDED_BY }));
+		}
+
+		jdbcTemplate.batchUpdate("INSERT INTO CLASSIFICATION_PROFILE (CLASSIFICATION_ID, PROFILE_ID, USER_CREATED) VALUES (?, ?, ?)", preferredClassifications);
+		jdbcTemplate.batchUpdate("INSERT INTO PROFILE_CITY (PROFILE_ID, CITY_ID, USER_CREATED) VALUES (?, ?, ?)", preferredCities);
+		jdbcTemplate.batchUpdate("INSERT INTO PROFILE_EMPLOYMENT_OPPORTUNITY (EMPLOYMENT_OPPORTUNITY_ID, PROFILE_ID, USER_CREATED) VALUES (?, ?, ?)", preferredEmploymentOpportunities);
+		jdbcTemplate.batchUpdate("INSERT INTO PROFILE_LANGUAGE_REFERRAL_TYPE (PROFILE_ID, LANGUAGE_REFERRAL_TYPE_ID, USER_CREATED) VALUES (?, ?, ?)", preferredLanguages);
+	}
+
+	/**
+	 * Seeds the requests (and their matches) numbered {@code from} (inclusive) to {@code to} (exclusive).
+	 */
+	void seedRequests(Faker faker, int from, int to, List<Long> submitterIds, List<Long> profileIds) {
+		final var requests = new ArrayList<Object[]>(to - from);
+
+		for (var i = from; i < to; i++) {
+			final var classification = skewedElement(faker, config.classifications);
+			final var hiringManagerId = config.randomElement(faker, submitterIds);
+			final var startDate = LocalDate.now().plusDays(faker.number().numberBetween(0, 120));
+
+			requests.add(new Object[] {
+				config.randomElement(faker, config.requestStatuses).getId(),
+				classification.getId(),
+				config.randomElement(faker, config.workUnits).getId(),
+				config.randomElement(faker, config.languages).getId(),
+				config.randomElement(faker, config.securityClearances).getId(),
+				config.randomElement(faker, config.employmentTenures).getId(),
+				config.randomElement(faker, config.selectionProcessTypes).getId(),
+				config.randomElement(faker, config.workSchedules).getId(),
+				hiringManagerId,
+				hiringManagerId,
+				classification.getNameEn() + " " + faker.job().title(),
+				classification.getNameFr() + " " + faker.job().title(),
+				requestNumber(i),
+				"%08d".formatted(i),
+				"BBB",
+				"BBB",
+				startDate,
+				startDate.plusMonths(faker.number().numberBetween(3, 13)),
+				SEEDED_BY
+			});
+		}
+
+		jdbcTemplate.batchUpdate(INSERT_REQUEST_SQL, requests);
+
+		final var requestIds = jdbcTemplate.queryForList("SELECT ID FROM REQUEST WHERE REQUEST_NUMBER BETWEEN ? AND ? ORDER BY REQUEST_NUMBER", Long.class, requestNumber(from), requestNumber(to - 1));
+
+		final var cities = new ArrayList<Object[]>();
+		final var languageRequirements = new ArrayList<Object[]>();
+		final var matches = new ArrayList<Object[]>();
+
+		for (final var requestId : requestIds) {
+			skewedElements(faker, config.cities, faker.number().numberBetween(1, 4)).forEach(city -> cities.add(new Object[] { city.getId(), requestId, SEEDED_BY }));
+			languageRequirements.add(new Object[] { config.randomElement(faker, config.languageRequirements).getId(), requestId, SEEDED_BY });
+
+			randomDistinctElements(faker, profileIds, scale.matchesPerRequest()).forEach(profileId ->
+				matches.add(new Object[] { profileId, requestId, config.randomElement(faker, config.matchStatuses).getId(), SEEDED_BY }));
+		}
+
+		jdbcTemplate.batchUpdate("INSERT INTO REQUEST_CITY (CITY_ID, REQUEST_ID, USER_CREATED) VALUES (?, ?, ?)", cities);
+		jdbcTemplate.batchUpdate("INSERT INTO REQUEST_LANGUAGE_REQUIREMENT (LANGUAGE_REQUIREMENT_ID, REQUEST_ID, USER_CREATED) VALUES (?, ?, ?)", languageRequirements);
+		jdbcTemplate.batchUpdate(INSERT_MATCH_SQL, matches);
+	}
+
+	/**
+	 * Picks a code with a long-tailed distribution: the first few codes of {@code list} are picked far more often than
+	 * the rest, much like real preferences (where a handful of cities and classifications are very popular).
+	 */
+	<T extends AbstractCodeEntity> T skewedElement(Faker faker, List<T> list) {
+		return list.get((int) (list.size() * Math.pow(faker.random().nextDouble(), 3)));
+	}
+
+	<T extends AbstractCodeEntity> List<T> skewedElements(Faker faker, List<T> list, int count) {
+		final var elements = new LinkedHashSet<T>();
+		while (elements.size() < Math.min(count, list.size())) { elements.add(skewedElement(faker, list)); }
+		return List.copyOf(elements);
+	}
+
+	<T> List<T> randomDistinctElements(Faker faker, List<T> list, int count) {
+		final var elements = new LinkedHashSet<T>();
+		while (elements.size() < Math.min(count, list.size())) { elements.add(config.randomElement(faker, list)); }
+		return List.copyOf(elements);
+	}
+
+	static String userEntraId(int userNumber) {
+		return "SEEDED-%010d".formatted(userNumber);
+	}
+
+	static String requestNumber(int requestNumber) {
+		return "S%09d".formatted(requestNumber);
+	}
+
+	@FunctionalInterface
+	interface ChunkSeeder {
+
+		void seed(Faker faker, int from, int to);
+
+	}
+
+}
@@ -0,0 +1,23 @@
+package ca.gov.dtsstn.vacman.api.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import jakarta.annotation.PostConstruct;
+
+@Configuration
+@EnableScheduling
+@ConditionalOnProperty(name = { "application.scheduling.enabled" })
+public class SchedulingConfig {
+
+	private static final Logger log = LoggerFactory.getLogger(SchedulingConfig.class);
+
+	@PostConstruct
+	public void postConstruct() {
+		log.info("Enabling scheduled tasks");
+	}
+
+}
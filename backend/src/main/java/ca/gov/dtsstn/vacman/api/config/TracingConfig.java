@@ -0,0 +1,180 @@
+package ca.gov.dtsstn.vacman.api.config;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.micrometer.observation.autoconfigure.ObservationHandlerGroup;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+import org.springframework.core.env.Environment;
+import org.springframework.util.StringUtils;
+
+import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.tracing.AdaptiveSamplingSpanProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingSenderTracingObservationHandler;
+import io.micrometer.tracing.handler.TracingObservationHandler;
+import io.micrometer.tracing.otel.bridge.OtelBaggageManager;
+import io.micrometer.tracing.otel.bridge.OtelCurrentTraceContext;
+import io.micrometer.tracing.otel.bridge.OtelPropagator;
+import io.micrometer.tracing.otel.bridge.OtelTracer;
+import io.micrometer.tracing.otel.bridge.Slf4JEventListener;
+import io.micrometer.tracing.propagation.Propagator;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.propagation.W3CTraceContextPropagator;
+import io.opentelemetry.context.propagation.ContextPropagators;
+import io.opentelemetry.exporter.otlp.http.trace.OtlpHttpSpanExporter;
+import io.opentelemetry.sdk.OpenTelemetrySdk;
+import io.opentelemetry.sdk.resources.Resource;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+/**
+ * Configures tracing: Spring's observations (ie: HTTP server requests) are recorded as OpenTelemetry spans via
+ * Micrometer Tracing, and exported (over OTLP/HTTP) to {@code management.otlp.tracing.endpoint}. Spans are still
+ * recorded, so that trace ids are propagated and logged, when no endpoint is configured.
+ * <p>
+ * Spring Boot's OpenTelemetry tracing auto-configuration is not used, so that the span processor that exports spans
+ * can be wrapped in an {@link AdaptiveSamplingSpanProcessor} (see {@code application.metrics.trace-sampling}). When
+ * adaptive sampling is disabled, {@code management.tracing.sampling.probability} decides which traces are exported.
+ */
+@Configuration
+public class TracingConfig {
+
+	private static final Logger log = LoggerFactory.getLogger(TracingConfig.class);
+
+	private static final AttributeKey<String> SERVICE_NAME = AttributeKey.stringKey("service.name");
+
+	@Autowired ApplicationProperties applicationProperties;
+
+	@Autowired Environment environment;
+
+	@Autowired MeterRegistry meterRegistry;
+
+	@Bean SpanExporter spanExporter() {
+		final var endpoint = environment.getProperty("management.otlp.tracing.endpoint");
+
+		if (!StringUtils.hasText(endpoint)) {
+			log.info("Creating 'spanExporter' bean; no tracing endpoint is configured, so spans will not be exported");
+			return SpanExporter.composite(List.of());
+		}
+
+		log.info("Creating 'spanExporter' bean; endpoint: [{}]", endpoint);
+		return OtlpHttpSpanExporter.builder().setEndpoint(endpoint).build();
+	}
+
+	/**
+	 * The span processor that exports spans, wrapped in an {@link AdaptiveSamplingSpanProcessor} if adaptive sampling
+	 * is enabled.
+	 */
+	@Bean SpanProcessor spanProcessor(SpanExporter spanExporter) {
+		final var batchSpanProcessor = BatchSpanProcessor.builder(spanExporter).build();
+		final var traceSampling = applicationProperties.metrics().traceSampling();
+
+		if (!traceSampling.enabled()) {
+			log.info("Creating 'spanProcessor' bean");
+			return batchSpanProcessor;
+		}
+
+		log.info("Creating 'spanProcessor' bean with adaptive sampling; baseProbability: [{}], latencyThreshold: [{}], alwaysSampleRoutes: {}",
+			traceSampling.baseProbability(), traceSampling.latencyThreshold(), traceSampling.alwaysSampleRoutes());
+
+		return new AdaptiveSamplingSpanProcessor(
+			batchSpanProcessor,
+			traceSampling.baseProbability(),
+			traceSampling.latencyThreshold(),
+			traceSampling.alwaysSampleRoutes(),
+			traceSampling.maxPendingTraces(),
+			meterRegistry);
+	}
+
+	/**
+	 * Records every trace when adaptive sampling is enabled, so that {@link AdaptiveSamplingSpanProcessor} can decide
+	 * which ones to export once they have ended.
+	 */
+	@Bean Sampler sampler() {
+		if (applicationProperties.metrics().traceSampling().enabled()) {
+			log.info("Creating 'sampler' bean; every trace is recorded");
+			return Sampler.alwaysOn();
+		}
+
+		final var probability = environment.getProperty("management.tracing.sampling.probability", Double.class, 0.1);
+		log.info("Creating 'sampler' bean; probability: [{}]", probability);
+		return Sampler.parentBased(Sampler.traceIdRatioBased(probability));
+	}
+
+	@Bean(destroyMethod = "close") SdkTracerProvider sdkTracerProvider(Sampler sampler, SpanProcessor spanProcessor) {
+		log.info("Creating 'sdkTracerProvider' bean");
+
+		return SdkTracerProvider.builder()
+			.setResource(Resource.getDefault().merge(Resource.create(Attributes.of(SERVICE_NAME, applicationProperties.metrics().serviceName()))))
+			.setSampler(sampler)
+			.addSpanProcessor(spanProcessor)
+			.build();
+	}
+
+	@Bean OpenTelemetrySdk openTelemetry(SdkTracerProvider sdkTracerProvider) {
+		log.info("Creating 'openTelemetry' bean");
+
+		return OpenTelemetrySdk.builder()
+			.setTracerProvider(sdkTracerProvider)
+			.setPropagators(ContextPropagators.create(W3CTraceContextPropagator.getInstance()))
+			.build();
+	}
+
+	@Bean Tracer tracer(OpenTelemetrySdk openTelemetry) {
+		log.info("Creating 'tracer' bean");
+
+		final var currentTraceContext = new OtelCurrentTraceContext();
+		final var slf4jEventListener = new Slf4JEventListener();
+
+		return new OtelTracer(
+			openTelemetry.getTracer(applicationProperties.metrics().serviceName()),
+			currentTraceContext,
+			slf4jEventListener::onEvent,
+			new OtelBaggageManager(currentTraceContext, List.of(), List.of()));
+	}
+
+	@Bean Propagator propagator(OpenTelemetrySdk openTelemetry) {
+		log.info("Creating 'propagator' bean");
+		return new OtelPropagator(openTelemetry.getPropagators(), openTelemetry.getTracer(applicationProperties.metrics().serviceName()));
+	}
+
+	/**
+	 * Registers the tracing observation handlers below as a single (first matching) handler, so that each observation
+	 * is recorded as exactly one span.
+	 */
+	@Bean ObservationHandlerGroup tracingObservationHandlerGroup() {
+		log.info("Creating 'tracingObservationHandlerGroup' bean");
+		return ObservationHandlerGroup.of(TracingObservationHandler.class);
+	}
+
+	@Order(0)
+	@Bean PropagatingSenderTracingObservationHandler<?> propagatingSenderTracingObservationHandler(Tracer tracer, Propagator propagator) {
+		log.info("Creating 'propagatingSenderTracingObservationHandler' bean");
+		return new PropagatingSenderTracingObservationHandler<>(tracer, propagator);
+	}
+
+	@Order(1)
+	@Bean PropagatingReceiverTracingObservationHandler<?> propagatingReceiverTracingObservationHandler(Tracer tracer, Propagator propagator) {
+		log.info("Creating 'propagatingReceiverTracingObservationHandler' bean");
+		return new PropagatingReceiverTracingObservationHandler<>(tracer, propagator);
+	}
+
+	@Order(2)
+	@Bean DefaultTracingObservationHandler defaultTracingObservationHandler(Tracer tracer) {
+		log.info("Creating 'defaultTracingObservationHandler' bean");
+		return new DefaultTracingObservationHandler(tracer);
+	}
+
+}
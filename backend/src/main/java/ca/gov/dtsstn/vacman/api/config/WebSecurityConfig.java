@@ -120,6 +120,30 @@ public class WebSecurityConfig {
 			return http.build();
 		}
 
+		/**
+		 * Security configuration for actuator endpoints.
+		 * <p>
+		 * Health checks remain public (so that probes work), but every other endpoint can reveal operational details
+		 * or change the application's state (ie: evicting caches, or starting flight recordings), so they are
+		 * restricted to users with the admin role.
+		 */
+		@Bean SecurityFilterChain actuatorSecurityFilterChain(HttpSecurity http) throws Exception {
+			log.info("Configuring actuator security");
+
+			http.securityMatcher("/actuator/**")
+				.authorizeHttpRequests(authorizeHttpRequests -> authorizeHttpRequests
+					.requestMatchers("/actuator/health/**").permitAll()
+					.anyRequest().hasAuthority(applicationProperties.entraId().roles().admin()))
+				.csrf(CsrfConfigurer::disable)
+				.exceptionHandling(exceptionHandling -> exceptionHandling.accessDeniedHandler(authErrorHandler))
+				.oauth2ResourceServer(oauth2ResourceServer -> oauth2ResourceServer
+					.authenticationEntryPoint(authErrorHandler)
+					.jwt(jwt -> jwt.jwtAuthenticationConverter(jwtAuthenticationConverter())))
+				.sessionManagement(sessionManagement -> sessionManagement.sessionCreationPolicy(SessionCreationPolicy.STATELESS));
+
+			return http.build();
+		}
+
 		@Bean MethodSecurityExpressionHandler methodSecurityExpressionHandler() {
 			final var methodSecurityExpressionHandler = new DefaultMethodSecurityExpressionHandler();
 			methodSecurityExpressionHandler.setPermissionEvaluator(ownershipPermissionEvaluator);
@@ -8,8 +8,11 @@ import org.springframework.validation.annotation.Validated;
 @Validated
 @ConfigurationProperties("application")
 @EnableConfigurationProperties({
+	AsyncProperties.class,
 	CachingProperties.class,
+	DataSeederProperties.class,
 	EntraIdProperties.class,
+	ExportProperties.class,
 	FrontendProperties.class,
 	GcNotifyProperties.class,
 	MetricsProperties.class,
@@ -18,8 +21,11 @@ import org.springframework.validation.annotation.Validated;
 	SwaggerUiProperties.class,
 })
 public record ApplicationProperties(
+	@NestedConfigurationProperty AsyncProperties async,
 	@NestedConfigurationProperty CachingProperties caching,
+	@NestedConfigurationProperty DataSeederProperties dataSeeder,
 	@NestedConfigurationProperty EntraIdProperties entraId,
+	@NestedConfigurationProperty ExportProperties exports,
 	@NestedConfigurationProperty FrontendProperties frontend,
 	@NestedConfigurationProperty GcNotifyProperties gcnotify,
 	@NestedConfigurationProperty MetricsProperties metrics,
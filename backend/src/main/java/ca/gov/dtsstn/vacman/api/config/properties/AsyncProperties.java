@@ -0,0 +1,43 @@
+package ca.gov.dtsstn.vacman.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Validated
+@ConfigurationProperties("application.async")
+public record AsyncProperties(
+	@NotNull Boolean enabled,
+	/**
+	 * The executor that runs the {@code @Async} listeners that only write audit events.
+	 */
+	@NotNull @Valid @NestedConfigurationProperty ExecutorProperties audit,
+	/**
+	 * The executor that runs the {@code @Async} listeners that send notifications (ie: via GC Notify).
+	 */
+	@NotNull @Valid @NestedConfigurationProperty ExecutorProperties notification,
+	/**
+	 * The executor that runs the {@code @Async} listeners for match events.
+	 */
+	@NotNull @Valid @NestedConfigurationProperty ExecutorProperties matching
+) {
+
+	/**
+	 * Thread pool settings for a single executor.
+	 *
+	 * Tasks are queued once {@code corePoolSize} threads are busy, and more threads (up to {@code maxPoolSize})
+	 * are only started once the queue is full. When both are exhausted, the task runs on the calling thread.
+	 */
+	@Validated
+	public record ExecutorProperties(
+		@NotNull @Positive Integer corePoolSize,
+		@NotNull @Positive Integer maxPoolSize,
+		@NotNull @PositiveOrZero Integer queueCapacity
+	) {}
+
+}
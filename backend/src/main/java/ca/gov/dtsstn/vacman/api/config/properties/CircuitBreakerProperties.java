@@ -0,0 +1,38 @@
+package ca.gov.dtsstn.vacman.api.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Circuit breaker settings for an outbound HTTP integration.
+ *
+ * The breaker tracks the outcome of the last {@code slidingWindowSize} calls. Once at least
+ * {@code minimumNumberOfCalls} have been made, it opens if either the failure rate or the slow call rate reaches its
+ * threshold. While open, calls fail immediately. After {@code waitDurationInOpenState} it lets
+ * {@code permittedCallsInHalfOpenState} probe calls through, and closes again if they succeed.
+ */
+@Validated
+public record CircuitBreakerProperties(
+	@NotNull Boolean enabled,
+	/**
+	 * The percentage of failed calls (I/O errors and 5xx responses) at which the breaker opens.
+	 */
+	@NotNull @Positive @Max(100) Float failureRateThreshold,
+	/**
+	 * The percentage of slow calls at which the breaker opens.
+	 */
+	@NotNull @Positive @Max(100) Float slowCallRateThreshold,
+	/**
+	 * Calls that take longer than this are counted as slow.
+	 */
+	@NotNull Duration slowCallDurationThreshold,
+	@NotNull @Positive Integer slidingWindowSize,
+	@NotNull @Positive Integer minimumNumberOfCalls,
+	@NotNull Duration waitDurationInOpenState,
+	@NotNull @Positive Integer permittedCallsInHalfOpenState
+) {}
@@ -0,0 +1,41 @@
+package ca.gov.dtsstn.vacman.api.config.properties;
+
+import java.time.Duration;
+
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Connection pool settings for an outbound HTTP integration.
+ *
+ * Connections are kept alive and reused between calls, so only the first call to a host pays for the TCP and TLS
+ * handshakes.
+ */
+@Validated
+public record ConnectionPoolProperties(
+	/**
+	 * The maximum number of pooled connections, across all hosts.
+	 */
+	@NotNull @Positive Integer maxConnections,
+	/**
+	 * The maximum number of pooled connections to a single host.
+	 */
+	@NotNull @Positive Integer maxConnectionsPerRoute,
+	/**
+	 * How long a connection may live before it is closed, regardless of activity.
+	 * Bounds how long a connection can stick to a single backend node.
+	 */
+	@NotNull Duration timeToLive,
+	/**
+	 * How long a connection may sit idle in the pool before it is evicted.
+	 * Should be shorter than the server's (or any intermediate proxy's) keep-alive timeout.
+	 */
+	@NotNull Duration idleTimeout,
+	/**
+	 * How long a call may wait for a connection to be leased from the pool when every connection is in use.
+	 * Keeps calls failing fast (rather than queueing for HttpClient's default of 3 minutes) when the pool is exhausted.
+	 */
+	@NotNull Duration connectionRequestTimeout
+) {}
@@ -0,0 +1,45 @@
+package ca.gov.dtsstn.vacman.api.config.properties;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+
+@Validated
+@ConfigurationProperties("application.data-seeder")
+public record DataSeederProperties(
+	/**
+	 * Enables the dev-only data seeder, which seeds a small hand-crafted dataset on startup.
+	 */
+	boolean enabled,
+	@Valid @NestedConfigurationProperty ScaleProperties scale
+) {
+
+	/**
+	 * Generates a synthetic dataset of (roughly) production size on top of the hand-crafted one, for performance
+	 * and load testing.
+	 *
+	 * Every profile is owned by its own generated user, and every request is submitted by one of those users.
+	 * Rows are inserted in chunks of {@code batchSize} rows, with up to {@code parallelism} chunks inserted at the
+	 * same time (each on its own database connection, so it should not exceed the connection pool size).
+	 */
+	@Validated
+	public record ScaleProperties(
+		@NotNull @PositiveOrZero Integer profiles,
+		@NotNull @PositiveOrZero Integer requests,
+		@NotNull @PositiveOrZero Integer matchesPerRequest,
+		@NotNull @Positive Integer batchSize,
+		@NotNull @Positive Integer parallelism
+	) {
+
+		public boolean isEnabled() {
+			return profiles > 0 || requests > 0;
+		}
+
+	}
+
+}
@@ -18,6 +18,7 @@ public record EntraIdProperties(
 
 	@Validated
 	public record RolesProperties(
+		@NotBlank String admin,
 		@NotBlank String hrAdvisor
 	) {}
 
@@ -0,0 +1,28 @@
+package ca.gov.dtsstn.vacman.api.config.properties;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import jakarta.validation.constraints.NotNull;
+
+@Validated
+@ConfigurationProperties("application.exports")
+public record ExportProperties(
+	/**
+	 * The local directory where completed exports are stored until they expire.
+	 * It will be created if it does not exist.
+	 */
+	@NotNull Path directory,
+	/**
+	 * How long a completed (or failed) export is kept before it is swept.
+	 * Repeat downloads of unchanged data are served from disk for this long.
+	 */
+	@NotNull Duration timeToLive,
+	/**
+	 * How often expired exports are swept.
+	 */
+	@NotNull Duration sweepInterval
+) {}
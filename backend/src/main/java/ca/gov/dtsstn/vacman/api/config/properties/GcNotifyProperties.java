@@ -4,9 +4,14 @@ import java.time.Duration;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
 
 @Validated
 @ConfigurationProperties("application.gcnotify")
@@ -17,5 +22,34 @@ public record GcNotifyProperties(
 	@NotBlank String pimsSleTeamEmail,
 	@NotBlank String genericTemplateId,
 	@Nullable Duration connectTimeout,
-	@Nullable Duration readTimeout
-) {}
+	@Nullable Duration readTimeout,
+	/**
+	 * The maximum number of recipient rows sent in a single {@code /bulk} call.
+	 * GC Notify accepts at most 50,000 rows per call; because every row carries the fully rendered email body,
+	 * smaller chunks keep the request payload bounded.
+	 */
+	@NotNull @Positive @Max(50_000) Integer bulkChunkSize,
+	@NestedConfigurationProperty CircuitBreakerProperties circuitBreaker,
+	@NestedConfigurationProperty ConnectionPoolProperties connectionPool,
+	@NestedConfigurationProperty RateLimitProperties rateLimit
+) {
+
+	/**
+	 * Client-side rate limiting of outbound GC Notify calls.
+	 *
+	 * Calls are throttled by a token bucket that refills at {@code permitsPerSecond} and holds at most
+	 * {@code burstCapacity} permits. When GC Notify responds with {@code 429 Too Many Requests}, the rate is halved
+	 * (but never below {@code minPermitsPerSecond}), all calls are paused for the duration of any {@code Retry-After}
+	 * header, and the call is retried up to {@code maxRetries} times. Each successful call then nudges the rate back
+	 * towards {@code permitsPerSecond}.
+	 */
+	@Validated
+	public record RateLimitProperties(
+		@NotNull Boolean enabled,
+		@NotNull @Positive Double permitsPerSecond,
+		@NotNull @Positive Integer burstCapacity,
+		@NotNull @Positive Double minPermitsPerSecond,
+		@NotNull @PositiveOrZero Integer maxRetries
+	) {}
+
+}
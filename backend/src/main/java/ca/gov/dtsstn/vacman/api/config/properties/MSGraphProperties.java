@@ -3,6 +3,7 @@ package ca.gov.dtsstn.vacman.api.config.properties;
 import java.time.Duration;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 /**
  * Configuration properties for Microsoft Graph API integration.
@@ -26,5 +27,29 @@ public record MSGraphProperties(
 	 * Read timeout for Microsoft Graph API calls.
 	 * Default: 30 seconds
 	 */
-	Duration readTimeout
+	Duration readTimeout,
+	/**
+	 * Circuit breaker settings for Microsoft Graph API calls.
+	 */
+	@NestedConfigurationProperty CircuitBreakerProperties circuitBreaker,
+	/**
+	 * Connection pool settings for Microsoft Graph API calls.
+	 */
+	@NestedConfigurationProperty ConnectionPoolProperties connectionPool,
+	/**
+	 * Caffeine spec for the cache of fetched users.
+	 * Default: maximumSize=10000,expireAfterWrite=5m,recordStats
+	 */
+	String userCacheSpec,
+	/**
+	 * Caffeine spec for the cache of user lookups that returned 404 Not Found.
+	 * Kept shorter than the user cache so that newly provisioned users are picked up quickly.
+	 * Default: maximumSize=10000,expireAfterWrite=1m,recordStats
+	 */
+	String userNotFoundCacheSpec,
+	/**
+	 * Caffeine spec for the cache of previously fetched users, served while Microsoft Graph is unavailable.
+	 * Default: maximumSize=10000,expireAfterWrite=24h
+	 */
+	String userFallbackCacheSpec
 ) {}
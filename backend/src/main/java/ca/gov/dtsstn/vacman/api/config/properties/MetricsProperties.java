@@ -1,9 +1,19 @@
 package ca.gov.dtsstn.vacman.api.config.properties;
 
+import java.time.Duration;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
+import org.springframework.util.unit.DataSize;
 import org.springframework.validation.annotation.Validated;
 
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
 
 @Validated
 @ConfigurationProperties("application.metrics")
@@ -17,5 +27,92 @@ public record MetricsProperties(
 	 * The service name used for metric tagging.
 	 * This identifies the service in monitoring dashboards and metric collections.
 	 */
-	@NotBlank String serviceName
-) {}
\ No newline at end of file
+	@NotBlank String serviceName,
+	/**
+	 * Per-request timing breakdowns (database, cache and external calls), returned to the browser
+	 * in a {@code Server-Timing} response header and added to the request's trace span.
+	 */
+	@NotNull @Valid @NestedConfigurationProperty ServerTimingProperties serverTiming,
+	/**
+	 * Slow JDBC statement tracking (see {@code /actuator/slowqueries}).
+	 */
+	@NotNull @Valid @NestedConfigurationProperty SlowQueryProperties slowQueries,
+	/**
+	 * On-demand Java Flight Recorder recordings (see {@code /actuator/flightrecording}).
+	 */
+	@NotNull @Valid @NestedConfigurationProperty FlightRecordingProperties flightRecording,
+	/**
+	 * Adaptive trace sampling: which traces are exported to the tracing backend.
+	 */
+	@NotNull @Valid @NestedConfigurationProperty TraceSamplingProperties traceSampling
+) {
+
+	@Validated
+	public record FlightRecordingProperties(
+		/**
+		 * The name of the JFR settings used for recordings, ie: {@code default} (low overhead) or {@code profile}.
+		 */
+		@NotBlank String settings,
+		/**
+		 * Recordings are stopped automatically after this long, in case nobody comes back to stop them.
+		 */
+		@NotNull Duration maxDuration,
+		/**
+		 * The maximum size of a recording; older events are discarded once it is reached.
+		 */
+		@NotNull DataSize maxSize
+	) {}
+
+	@Validated
+	public record ServerTimingProperties(
+		/**
+		 * Enables collecting the per-request timings.
+		 */
+		boolean enabled,
+		/**
+		 * The {@code Server-Timing} header is only returned to users with at least one of these authorities,
+		 * since it reveals details about the application's internals.
+		 */
+		@NotNull List<String> authorities
+	) {}
+
+	@Validated
+	public record SlowQueryProperties(
+		/**
+		 * Statements that take at least this long are logged (at WARN level), along with the repository
+		 * method and specifications that issued them.
+		 */
+		@NotNull Duration logThreshold,
+		/**
+		 * The number of (distinct) slowest statements kept in the slow query registry.
+		 */
+		@NotNull @Positive Integer registrySize
+	) {}
+
+	@Validated
+	public record TraceSamplingProperties(
+		/**
+		 * Enables adaptive trace sampling. When disabled, {@code management.tracing.sampling.probability} decides
+		 * which traces are exported.
+		 */
+		boolean enabled,
+		/**
+		 * The probability that a trace that matches none of the always-sample rules is exported.
+		 */
+		@NotNull @DecimalMin("0.0") @DecimalMax("1.0") Double baseProbability,
+		/**
+		 * Traces whose (local) root span takes at least this long are always exported.
+		 */
+		@NotNull Duration latencyThreshold,
+		/**
+		 * Route patterns, in {@code AntPathMatcher} syntax, whose traces are always exported (ie: the run-matches and
+		 * export routes).
+		 */
+		@NotNull List<String> alwaysSampleRoutes,
+		/**
+		 * The maximum number of traces whose spans are held in memory while waiting for their root span to end.
+		 */
+		@NotNull @Positive Integer maxPendingTraces
+	) {}
+
+}
@@ -1,7 +1,16 @@
 package ca.gov.dtsstn.vacman.api.data.entity;
 
+import static java.util.Collections.emptySet;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+
 import java.time.Instant;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.springframework.core.style.ToStringCreator;
@@ -33,6 +42,31 @@ public abstract class AbstractBaseEntity {
 		return entity -> Arrays.asList(ids).contains(entity.getId());
 	}
 
+	/**
+	 * Updates a set of join entities so that it references exactly the given entities.
+	 * <p>
+	 * Only the difference is applied: joins to entities that are no longer referenced are removed, joins to
+	 * newly referenced entities are created, and every other join is left untouched (so Hibernate will not
+	 * delete and reinsert its row). Entities are matched by id rather than by {@code equals()}, so a reference
+	 * obtained via {@code getReferenceById()} (ie: a Hibernate proxy) matches an already-loaded instance.
+	 *
+	 * @param joins the set of join entities to update
+	 * @param entities the entities that should be joined; {@code null} removes all joins
+	 * @param joinedEntity returns the entity referenced by a join
+	 * @param joinFactory creates a new join for an entity
+	 */
+	protected static <J, E extends AbstractBaseEntity> void updateJoins(Set<J> joins, @Nullable Collection<E> entities, Function<J, E> joinedEntity, Function<E, J> joinFactory) {
+		final var entitiesById = Optional.ofNullable(entities).orElse(emptySet()).stream()
+			.collect(toMap(AbstractBaseEntity::getId, identity(), (first, second) -> first, LinkedHashMap::new));
+
+		joins.removeIf(join -> !entitiesById.containsKey(joinedEntity.apply(join).getId()));
+		joins.forEach(join -> entitiesById.remove(joinedEntity.apply(join).getId()));
+
+		entitiesById.values().stream()
+			.map(joinFactory)
+			.forEach(joins::add);
+	}
+
 	@Id
 	@GeneratedValue(strategy = GenerationType.IDENTITY)
 	@Column(name = "[ID]", nullable = false, unique = true, updatable = false)
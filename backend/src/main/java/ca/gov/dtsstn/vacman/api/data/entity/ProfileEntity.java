@@ -1,6 +1,5 @@
 package ca.gov.dtsstn.vacman.api.data.entity;
 
-import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 
 import java.time.Instant;
@@ -10,6 +9,7 @@ import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.immutables.builder.Builder;
 import org.springframework.core.style.ToStringCreator;
 
@@ -25,6 +25,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
+@DynamicUpdate
 @Entity(name = "Profile")
 @Table(name = "[PROFILE]")
 public class ProfileEntity extends AbstractBaseEntity implements Ownable {
@@ -246,15 +247,10 @@ public class ProfileEntity extends AbstractBaseEntity implements Ownable {
 	}
 
 	public void setPreferredClassifications(Collection<ClassificationEntity> classifications) {
-		final var joins = Optional.ofNullable(classifications).orElse(emptySet()).stream()
-			.map(classification -> ClassificationProfileEntity.builder()
-				.classification(classification)
-				.profile(this)
-				.build())
-			.collect(toUnmodifiableSet());
-
-		this.preferredClassifications.retainAll(joins);
-		this.preferredClassifications.addAll(joins);
+		updateJoins(this.preferredClassifications, classifications, ClassificationProfileEntity::getClassification, classification -> ClassificationProfileEntity.builder()
+			.classification(classification)
+			.profile(this)
+			.build());
 	}
 
 	public Set<CityEntity> getPreferredCities() {
@@ -271,15 +267,10 @@ public class ProfileEntity extends AbstractBaseEntity implements Ownable {
 	}
 
 	public void setPreferredCities(Collection<CityEntity> cities) {
-		final var joins = Optional.ofNullable(cities).orElse(emptySet()).stream()
-			.map(city -> ProfileCityEntity.builder()
-				.city(city)
-				.profile(this)
-				.build())
-			.collect(toUnmodifiableSet());
-
-		this.preferredCities.retainAll(joins);
-		this.preferredCities.addAll(joins);
+		updateJoins(this.preferredCities, cities, ProfileCityEntity::getCity, city -> ProfileCityEntity.builder()
+			.city(city)
+			.profile(this)
+			.build());
 	}
 
 	public Set<EmploymentOpportunityEntity> getPreferredEmploymentOpportunities() {
@@ -296,15 +287,10 @@ public class ProfileEntity extends AbstractBaseEntity implements Ownable {
 	}
 
 	public void setPreferredEmploymentOpportunities(Collection<EmploymentOpportunityEntity> employmentOpportunities) {
-		final var joins = Optional.ofNullable(employmentOpportunities).orElse(emptySet()).stream()
-			.map(employmentOpportunity -> ProfileEmploymentOpportunityEntity.builder()
-				.employmentOpportunity(employmentOpportunity)
-				.profile(this)
-				.build())
-			.collect(toUnmodifiableSet());
-
-		this.preferredEmploymentOpportunities.retainAll(joins);
-		this.preferredEmploymentOpportunities.addAll(joins);
+		updateJoins(this.preferredEmploymentOpportunities, employmentOpportunities, ProfileEmploymentOpportunityEntity::getEmploymentOpportunity, employmentOpportunity -> ProfileEmploymentOpportunityEntity.builder()
+			.employmentOpportunity(employmentOpportunity)
+			.profile(this)
+			.build());
 	}
 
 	public Set<LanguageReferralTypeEntity> getPreferredLanguages() {
@@ -321,15 +307,10 @@ public class ProfileEntity extends AbstractBaseEntity implements Ownable {
 	}
 
 	public void setPreferredLanguages(Collection<LanguageReferralTypeEntity> languages) {
-		final var joins = Optional.ofNullable(languages).orElse(emptySet()).stream()
-			.map(language -> ProfileLanguageReferralTypeEntity.builder()
-				.languageReferralType(language)
-				.profile(this)
-				.build())
-			.collect(toUnmodifiableSet());
-
-		this.preferredLanguages.retainAll(joins);
-		this.preferredLanguages.addAll(joins);
+		updateJoins(this.preferredLanguages, languages, ProfileLanguageReferralTypeEntity::getLanguageReferralType, language -> ProfileLanguageReferralTypeEntity.builder()
+			.languageReferralType(language)
+			.profile(this)
+			.build());
 	}
 
 	public ProfileStatusEntity getProfileStatus() {
@@ -1,6 +1,5 @@
 package ca.gov.dtsstn.vacman.api.data.entity;
 
-import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toUnmodifiableSet;
 
 import java.time.Instant;
@@ -13,6 +12,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.immutables.builder.Builder;
 import org.springframework.core.style.ToStringCreator;
 
@@ -25,6 +25,7 @@ import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
 
+@DynamicUpdate
 @Entity(name = "Request")
 @Table(name = "[REQUEST]")
 public class RequestEntity extends AbstractBaseEntity implements Ownable {
@@ -285,15 +286,10 @@ public class RequestEntity extends AbstractBaseEntity implements Ownable {
 	}
 
 	public void setCities(Collection<CityEntity> cities) {
-		final var joins = Optional.ofNullable(cities).orElse(emptySet()).stream()
-			.map(city -> RequestCityEntity.builder()
-				.city(city)
-				.request(this)
-				.build())
-			.collect(toUnmodifiableSet());
-
-		this.cities.retainAll(joins);
-		this.cities.addAll(joins);
+		updateJoins(this.cities, cities, RequestCityEntity::getCity, city -> RequestCityEntity.builder()
+			.city(city)
+			.request(this)
+			.build());
 	}
 
 	public ClassificationEntity getClassification() {
@@ -318,15 +314,10 @@ public class RequestEntity extends AbstractBaseEntity implements Ownable {
 	}
 
 	public void setEmploymentEquities(Collection<EmploymentEquityEntity> employmentEquities) {
-		final var joins = Optional.ofNullable(employmentEquities).orElse(emptySet()).stream()
-			.map(employmentEquity -> RequestEmploymentEquityEntity.builder()
-				.employmentEquity(employmentEquity)
-				.request(this)
-				.build())
-			.collect(toUnmodifiableSet());
-
-		this.employmentEquities.retainAll(joins);
-		this.employmentEquities.addAll(joins);
+		updateJoins(this.employmentEquities, employmentEquities, RequestEmploymentEquityEntity::getEmploymentEquity, employmentEquity -> RequestEmploymentEquityEntity.builder()
+			.employmentEquity(employmentEquity)
+			.request(this)
+			.build());
 	}
 
 	public Boolean getEmploymentEquityNeedIdentifiedIndicator() {
@@ -415,15 +406,10 @@ public class RequestEntity extends AbstractBaseEntity implements Ownable {
 	}
 
 	public void setLanguageRequirements(Collection<LanguageRequirementEntity> languageRequirements) {
-		final var joins = Optional.ofNullable(languageRequirements).orElse(emptySet()).stream()
-			.map(languageRequirement -> RequestLanguageRequirementEntity.builder()
-				.languageRequirement(languageRequirement)
-				.request(this)
-				.build())
-			.collect(toUnmodifiableSet());
-
-		this.languageRequirements.retainAll(joins);
-		this.languageRequirements.addAll(joins);
+		updateJoins(this.languageRequirements, languageRequirements, RequestLanguageRequirementEntity::getLanguageRequirement, languageRequirement -> RequestLanguageRequirementEntity.builder()
+			.languageRequirement(languageRequirement)
+			.request(this)
+			.build());
 	}
 
 	public String getPositionNumber() {
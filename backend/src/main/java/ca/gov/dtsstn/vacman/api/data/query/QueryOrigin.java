@@ -0,0 +1,180 @@
+package ca.gov.dtsstn.vacman.api.data.query;
+
+import java.lang.invoke.SerializedLambda;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.function.LongConsumer;
+import java.util.stream.BaseStream;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * The repository method (and the JPA specifications passed to it) that is currently executing on this thread, so
+ * that the JDBC statements it issues can be attributed to it (see {@link SlowQueryRegistry}).
+ * <p>
+ * Statements that are not issued from within a repository method (ie: lazy loads after the method has returned, or
+ * the flush when a transaction commits) have no origin.
+ */
+public final class QueryOrigin {
+
+	private static final ThreadLocal<QueryOrigin> CURRENT = new ThreadLocal<>();
+
+	private final String repositoryMethod;
+
+	private final Object[] arguments;
+
+	private final Set<LongConsumer> resultSizeListeners = new LinkedHashSet<>();
+
+	private List<String> specifications;
+
+	QueryOrigin(String repositoryMethod, Object[] arguments) {
+		Assert.hasText(repositoryMethod, "repositoryMethod is required; it must not be blank or null");
+		this.repositoryMethod = repositoryMethod;
+		this.arguments = arguments;
+	}
+
+	/**
+	 * The repository method that is currently executing on this thread, if any.
+	 */
+	public static Optional<QueryOrigin> current() {
+		return Optional.ofNullable(CURRENT.get());
+	}
+
+	/**
+	 * Creates a method interceptor for the repository proxies that tracks the current {@link QueryOrigin}.
+	 * Only the outermost repository method is tracked (ie: not the methods that a default method delegates to).
+	 */
+	public static MethodInterceptor interceptor(Class<?> repositoryInterface) {
+		Assert.notNull(repositoryInterface, "repositoryInterface is required; it must not be null");
+		final var repositoryName = repositoryInterface.getSimpleName();
+
+		return invocation -> {
+			if (CURRENT.get() != null) { return invocation.proceed(); }
+
+			final var queryOrigin = new QueryOrigin(repositoryName + "." + invocation.getMethod().getName(), invocation.getArguments());
+			CURRENT.set(queryOrigin);
+
+			try {
+				final var result = invocation.proceed();
+				resultSize(result).ifPresent(queryOrigin::notifyResultSize);
+				return result;
+			}
+			finally {
+				CURRENT.remove();
+			}
+		};
+	}
+
+	/**
+	 * The repository method, ie: {@code ProfileRepository.findAll}.
+	 */
+	public String getRepositoryMethod() {
+		return repositoryMethod;
+	}
+
+	/**
+	 * The names of the specifications passed to the repository method, ie: {@code ProfileRepository.hasHrAdvisorId}.
+	 * Composed specifications (ie: {@code hasHrAdvisorId(id).and(hasPublicServant(true))}) are expanded into their
+	 * parts. Specifications are only named when asked, since it requires (reflectively) serializing their lambdas.
+	 */
+	public synchronized List<String> getSpecifications() {
+		if (specifications == null) {
+			final var names = new ArrayList<String>();
+			Arrays.stream(arguments)
+				.filter(Specification.class::isInstance)
+				.forEach(specification -> describeSpecification(specification, names));
+			specifications = List.copyOf(names);
+		}
+
+		return specifications;
+	}
+
+	/**
+	 * Registers a listener that is notified of the number of elements returned by the repository method, when it
+	 * returns. This is the closest thing to a row count for {@code SELECT} statements, since the result sets are
+	 * consumed by Hibernate, not by the application.
+	 */
+	public synchronized void onResultSize(LongConsumer resultSizeListener) {
+		resultSizeListeners.add(resultSizeListener);
+	}
+
+	private synchronized void notifyResultSize(long resultSize) {
+		resultSizeListeners.forEach(resultSizeListener -> resultSizeListener.accept(resultSize));
+	}
+
+	static OptionalLong resultSize(Object result) {
+		return switch (result) {
+			case null -> OptionalLong.of(0);
+			case Slice<?> slice -> OptionalLong.of(slice.getNumberOfElements());
+			case Collection<?> collection -> OptionalLong.of(collection.size());
+			case Optional<?> optional -> OptionalLong.of(optional.isPresent() ? 1 : 0);
+			// streams are consumed after the repository method returns
+			case BaseStream<?, ?> stream -> OptionalLong.empty();
+			default -> OptionalLong.of(1);
+		};
+	}
+
+	/**
+	 * Names a specification after the method that created it. Specifications are (serializable) lambdas, so the
+	 * name of the method that declared the lambda is recovered from its {@link SerializedLambda}. Lambdas declared
+	 * by Spring Data itself (ie: {@code and(..)}, {@code not(..)}) are composites, so their captured specifications
+	 * are named instead.
+	 */
+	static void describeSpecification(Object specification, List<String> names) {
+		final var serializedLambda = serializedLambda(specification);
+
+		if (serializedLambda.isEmpty()) {
+			names.add(ClassUtils.getShortName(ClassUtils.getUserClass(specification)));
+			return;
+		}
+
+		final var capturedSpecifications = new ArrayList<Object>();
+		for (var i = 0; i < serializedLambda.get().getCapturedArgCount(); i++) {
+			final var capturedArg = serializedLambda.get().getCapturedArg(i);
+			if (capturedArg instanceof Specification) { capturedSpecifications.add(capturedArg); }
+		}
+
+		final var implClass = serializedLambda.get().getImplClass().replace('/', '.');
+
+		if (!implClass.startsWith("org.springframework.")) {
+			names.add(ClassUtils.getShortName(implClass) + "." + lambdaMethodName(serializedLambda.get().getImplMethodName()));
+		}
+
+		capturedSpecifications.forEach(capturedSpecification -> describeSpecification(capturedSpecification, names));
+	}
+
+	/**
+	 * Converts a synthetic lambda method name (ie: {@code lambda$hasHrAdvisorId$0}) to the name of the
+	 * method that declared the lambda (ie: {@code hasHrAdvisorId}).
+	 */
+	static String lambdaMethodName(String implMethodName) {
+		final var parts = implMethodName.split("\\$");
+		return parts.length >= 2 && "lambda".equals(parts[0]) ? parts[1] : implMethodName;
+	}
+
+	private static Optional<SerializedLambda> serializedLambda(Object object) {
+		if (!object.getClass().isSynthetic()) { return Optional.empty(); }
+
+		try {
+			final var writeReplace = object.getClass().getDeclaredMethod("writeReplace");
+			writeReplace.setAccessible(true);
+			return Optional.of(writeReplace.invoke(object))
+				.filter(SerializedLambda.class::isInstance)
+				.map(SerializedLambda.class::cast);
+		}
+		catch (final ReflectiveOperationException | RuntimeException exception) {
+			return Optional.empty();
+		}
+	}
+
+}
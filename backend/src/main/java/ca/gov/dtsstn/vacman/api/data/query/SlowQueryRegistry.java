@@ -0,0 +1,205 @@
+package ca.gov.dtsstn.vacman.api.data.query;
+
+import static java.util.Comparator.comparing;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.util.Assert;
+
+import jakarta.annotation.Nullable;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+
+/**
+ * A datasource-proxy listener that keeps the {@code registrySize} slowest (distinct) JDBC statements, keyed by their
+ * SQL and the repository method that issued them (see {@link QueryOrigin}). Statements that take longer than
+ * {@code logThreshold} are also logged.
+ * <p>
+ * Once the registry is full, a statement is only admitted if it is slower than the fastest statement in the
+ * registry, which is then evicted. Statements that are already in the registry are always updated, so that their
+ * execution counts are accurate.
+ */
+public class SlowQueryRegistry implements QueryExecutionListener {
+
+	private static final Logger log = LoggerFactory.getLogger(SlowQueryRegistry.class);
+
+	/**
+	 * A single (distinct) statement.
+	 *
+	 * @param sql the statement's SQL (the first statement of a batch)
+	 * @param repositoryMethod the repository method that issued the statement, or {@code null} if it was not issued
+	 *        from within a repository method (ie: a lazy load, or the flush when a transaction commits)
+	 * @param specifications the names of the specifications passed to the repository method
+	 * @param count the number of times the statement was executed (since it was admitted)
+	 * @param maxElapsed the slowest execution time
+	 * @param totalElapsed the total execution time
+	 * @param rowCount the number of rows affected by the last execution, or, for queries, the number of elements
+	 *        returned by the last call to the repository method ({@code null} if unknown)
+	 * @param lastExecutedAt when the statement was last executed
+	 */
+	public record SlowQuery(
+		String sql,
+		@Nullable String repositoryMethod,
+		List<String> specifications,
+		long count,
+		Duration maxElapsed,
+		Duration totalElapsed,
+		@Nullable Long rowCount,
+		Instant lastExecutedAt) {}
+
+	private record Key(String sql, @Nullable String repositoryMethod) {}
+
+	private static final class Entry {
+
+		private final Key key;
+
+		private final List<String> specifications;
+
+		private long count;
+
+		private long maxElapsedMillis;
+
+		private long totalElapsedMillis;
+
+		private Long rowCount;
+
+		private Instant lastExecutedAt;
+
+		Entry(Key key, List<String> specifications) {
+			this.key = key;
+			this.specifications = specifications;
+		}
+
+		synchronized void record(long elapsedMillis, @Nullable Long rowCount) {
+			this.count++;
+			this.maxElapsedMillis = Math.max(maxElapsedMillis, elapsedMillis);
+			this.totalElapsedMillis += elapsedMillis;
+			this.rowCount = rowCount;
+			this.lastExecutedAt = Instant.now();
+		}
+
+		synchronized void recordRowCount(long rowCount) {
+			this.rowCount = rowCount;
+		}
+
+		synchronized long maxElapsedMillis() {
+			return maxElapsedMillis;
+		}
+
+		synchronized SlowQuery toSlowQuery() {
+			return new SlowQuery(key.sql(), key.repositoryMethod(), specifications, count,
+				Duration.ofMillis(maxElapsedMillis), Duration.ofMillis(totalElapsedMillis), rowCount, lastExecutedAt);
+		}
+
+	}
+
+	private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+	private final Duration logThreshold;
+
+	private final int registrySize;
+
+	/**
+	 * The execution time (in milliseconds) that a new statement must exceed to be admitted into a full registry.
+	 */
+	private volatile long admissionThresholdMillis = -1;
+
+	public SlowQueryRegistry(Duration logThreshold, int registrySize) {
+		Assert.notNull(logThreshold, "logThreshold is required; it must not be null");
+		Assert.isTrue(registrySize > 0, "registrySize must be greater than zero");
+		this.logThreshold = logThreshold;
+		this.registrySize = registrySize;
+	}
+
+	/**
+	 * The statements in the registry, slowest first.
+	 */
+	public List<SlowQuery> getSlowQueries() {
+		return entries.values().stream()
+			.map(Entry::toSlowQuery)
+			.sorted(comparing(SlowQuery::maxElapsed, Comparator.reverseOrder()))
+			.toList();
+	}
+
+	/**
+	 * Removes all statements from the registry.
+	 */
+	public synchronized void reset() {
+		entries.clear();
+		admissionThresholdMillis = -1;
+	}
+
+	@Override
+	public void beforeQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+		// nothing to do; the elapsed time is only known after the query
+	}
+
+	@Override
+	public void afterQuery(ExecutionInfo executionInfo, List<QueryInfo> queryInfoList) {
+		if (queryInfoList.isEmpty()) { return; }
+
+		final var sql = queryInfoList.getFirst().getQuery();
+		final var elapsedMillis = executionInfo.getElapsedTime();
+		final var queryOrigin = QueryOrigin.current();
+
+		if (elapsedMillis >= logThreshold.toMillis()) {
+			log.warn("Slow statement took {}ms; repositoryMethod: [{}], specifications: {}, sql: [{}]", elapsedMillis,
+				queryOrigin.map(QueryOrigin::getRepositoryMethod).orElse(null),
+				queryOrigin.map(QueryOrigin::getSpecifications).orElse(List.of()), sql);
+		}
+
+		final var key = new Key(sql, queryOrigin.map(QueryOrigin::getRepositoryMethod).orElse(null));
+		final var existingEntry = entries.get(key);
+
+		if (existingEntry == null && elapsedMillis <= admissionThresholdMillis) { return; }
+
+		final var entry = existingEntry != null ? existingEntry
+			: admit(key, queryOrigin.map(QueryOrigin::getSpecifications).orElse(List.of()), elapsedMillis);
+
+		entry.record(elapsedMillis, updateCount(executionInfo.getResult()));
+
+		if ("executeQuery".equals(executionInfo.getMethod().getName())) {
+			queryOrigin.ifPresent(origin -> origin.onResultSize(entry::recordRowCount));
+		}
+	}
+
+	private synchronized Entry admit(Key key, List<String> specifications, long elapsedMillis) {
+		final var entry = entries.computeIfAbsent(key, k -> new Entry(k, specifications));
+
+		if (entries.size() > registrySize) {
+			entries.values().stream()
+				.filter(candidate -> candidate != entry)
+				.min(comparing(Entry::maxElapsedMillis))
+				.ifPresent(fastest -> entries.remove(fastest.key));
+		}
+
+		if (entries.size() >= registrySize) {
+			// the new entry has not recorded its execution time yet, so it counts as elapsedMillis
+			admissionThresholdMillis = entries.values().stream()
+				.mapToLong(candidate -> candidate == entry ? Math.max(elapsedMillis, candidate.maxElapsedMillis()) : candidate.maxElapsedMillis())
+				.min().orElse(-1);
+		}
+
+		return entry;
+	}
+
+	private static @Nullable Long updateCount(@Nullable Object result) {
+		return switch (result) {
+			case Integer updateCount -> updateCount.longValue();
+			case Long updateCount -> updateCount;
+			case int[] updateCounts -> Arrays.stream(updateCounts).filter(updateCount -> updateCount > 0).asLongStream().sum();
+			case long[] updateCounts -> Arrays.stream(updateCounts).filter(updateCount -> updateCount > 0).sum();
+			case null, default -> null;
+		};
+	}
+
+}
@@ -48,6 +48,16 @@ public interface MatchRepository extends AbstractBaseRepository<MatchEntity> {
 		return (root, query, cb) -> cb.equal(root.get("request").get("id"), requestId);
 	}
 
+	/**
+	 * Specification to find matches by their IDs
+	 *
+	 * @param ids The match IDs
+	 * @return Specification for matching by match ID
+	 */
+	static Specification<MatchEntity> hasIdIn(Collection<Long> ids) {
+		return (root, query, cb) -> root.get("id").in(ids);
+	}
+
 	/**
 	 * Specification to find matches by profile ID
 	 *
@@ -0,0 +1,23 @@
+package ca.gov.dtsstn.vacman.api.event;
+
+import java.time.Instant;
+import java.util.List;
+
+import ca.gov.dtsstn.vacman.api.data.entity.MatchEntity;
+
+/**
+ * Event that is published (once) when several of a request's matches are updated together.
+ *
+ * @param requestId the id of the request that owns the matches
+ * @param entities the updated matches
+ * @param statusChanges the matches whose status was changed by the update
+ */
+public record MatchesBulkUpdatedEvent(Long requestId, List<MatchEntity> entities, List<StatusChange> statusChanges, Instant timestamp) {
+
+	public MatchesBulkUpdatedEvent(Long requestId, List<MatchEntity> entities, List<StatusChange> statusChanges) {
+		this(requestId, entities, statusChanges, Instant.now());
+	}
+
+	public record StatusChange(Long matchId, String previousStatusCode, String newStatusCode) {}
+
+}
@@ -2,6 +2,7 @@ package ca.gov.dtsstn.vacman.api.event.listener;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -11,6 +12,7 @@ import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import ca.gov.dtsstn.vacman.api.config.AsyncConfig;
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes;
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes.ProfileStatuses;
 import ca.gov.dtsstn.vacman.api.data.entity.EventEntity;
@@ -57,7 +59,7 @@ public class ProfileEventListener {
 		this.notificationService = notificationService;
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ ProfileCreateEvent.class })
 	public void handleProfileCreated(ProfileCreateEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -68,7 +70,7 @@ public class ProfileEventListener {
 		log.info("Event: profile created - ID: {}", event.dto().id());
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ ProfileReadEvent.class })
 	public void handleProfileRead(ProfileReadEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -79,7 +81,7 @@ public class ProfileEventListener {
 		log.info("Event: profiles read - Entra ID: {}, count: {}", event.entraId(), event.profileIds().size());
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ ProfileUpdatedEvent.class })
 	public void handleProfileUpdated(ProfileUpdatedEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -90,7 +92,7 @@ public class ProfileEventListener {
 		log.info("Event: profile updated - ID: {}", event.dto().id());
 	}
 
-	@Async
+	@Async(AsyncConfig.NOTIFICATION_TASK_EXECUTOR)
 	@EventListener({ ProfileStatusChangeEvent.class })
 	public void handleProfileStatusChange(ProfileStatusChangeEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -183,20 +185,23 @@ public class ProfileEventListener {
 		final var profileOwnerEmails = Optional.ofNullable(profile.userEmails()).orElse(List.of());
 		final var hrAdvisorEmail = profile.hrAdvisorEmail();
 
-		// Send notification to profile owner (personal and business emails)
-		if (!profileOwnerEmails.isEmpty()) {
-			notificationService.sendProfileNotification(profileOwnerEmails, profileId, name, language, ProfileStatus.ARCHIVED);
-			log.info("Archived notification sent to profile owner emails for profile ID: {}", profile.id());
-		} else {
+		if (profileOwnerEmails.isEmpty()) {
 			log.warn("Could not send archived notification to profile owner - no email addresses found for profile ID: {}", profile.id());
 		}
 
-		// Send notification to HR advisor
-		if (hrAdvisorEmail != null) {
-			notificationService.sendProfileNotification(hrAdvisorEmail, profileId, name, language, ProfileStatus.ARCHIVED);
-			log.info("Archived notification sent to HR advisor for profile ID: {}", profile.id());
-		} else {
+		if (hrAdvisorEmail == null) {
 			log.warn("Could not send archived notification to HR advisor - no HR advisor found for profile ID: {}", profile.id());
 		}
+
+		final var emails = Stream.of(profileOwnerEmails, Optional.ofNullable(hrAdvisorEmail).map(List::of).orElse(List.of()))
+			.flatMap(List::stream)
+			.distinct()
+			.toList();
+
+		// Send a single (bulk) notification to the profile owner and the HR advisor
+		if (!emails.isEmpty()) {
+			notificationService.sendProfileNotification(emails, profileId, name, language, ProfileStatus.ARCHIVED);
+			log.info("Archived notification sent to {} recipient(s) for profile ID: {}", emails.size(), profile.id());
+		}
 	}
 }
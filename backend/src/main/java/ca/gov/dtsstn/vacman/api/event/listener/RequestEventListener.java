@@ -1,7 +1,5 @@
 package ca.gov.dtsstn.vacman.api.event.listener;
 
-import static java.util.stream.Collectors.toSet;
-
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -19,17 +17,20 @@ import org.springframework.util.StringUtils;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import ca.gov.dtsstn.vacman.api.config.AsyncConfig;
 import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes;
 import ca.gov.dtsstn.vacman.api.data.entity.EventEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.LanguageEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.LanguageRequirementEntity;
+import ca.gov.dtsstn.vacman.api.data.entity.MatchEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.RequestEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.UserEntity;
 import ca.gov.dtsstn.vacman.api.data.repository.EventRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.MatchRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.RequestRepository;
 import ca.gov.dtsstn.vacman.api.event.MatchStatusChangeEvent;
+import ca.gov.dtsstn.vacman.api.event.MatchesBulkUpdatedEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestCompletedEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestCreatedEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestFeedbackCompletedEvent;
@@ -38,6 +39,7 @@ import ca.gov.dtsstn.vacman.api.event.RequestHrAdvisorUpdatedEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestStatusChangeEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestSubmittedEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestUpdatedEvent;
+import ca.gov.dtsstn.vacman.api.service.EmailTemplateService;
 import ca.gov.dtsstn.vacman.api.service.NotificationService;
 import ca.gov.dtsstn.vacman.api.service.NotificationService.RequestEvent;
 import ca.gov.dtsstn.vacman.api.service.dto.RequestEventDto;
@@ -79,7 +81,7 @@ public class RequestEventListener {
 		this.requestRepository = requestRepository;
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ RequestCreatedEvent.class })
 	public void handleRequestCreated(RequestCreatedEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -90,7 +92,7 @@ public class RequestEventListener {
 		log.info("Event: request created - ID: {}", event.dto().id());
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ RequestUpdatedEvent.class })
 	public void handleRequestUpdated(RequestUpdatedEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -101,7 +103,7 @@ public class RequestEventListener {
 		log.info("Event: request updated - ID: {}", event.dto().id());
 	}
 
-	@Async
+	@Async(AsyncConfig.NOTIFICATION_TASK_EXECUTOR)
 	@EventListener({ RequestHrAdvisorUpdatedEvent.class })
 	public void handleRequestHrAdvisorUpdated(RequestHrAdvisorUpdatedEvent event) {
 		final var request = event.dto();
@@ -119,7 +121,7 @@ public class RequestEventListener {
 	/**
 	 * Handles the RequestFeedbackPendingEvent and sends a notification to the request owner and matched profiles
 	 */
-	@Async
+	@Async(AsyncConfig.NOTIFICATION_TASK_EXECUTOR)
 	@EventListener({ RequestFeedbackPendingEvent.class })
 	public void sendRequestFeedbackPendingNotification(RequestFeedbackPendingEvent event) {
 		final var request = event.dto();
@@ -132,15 +134,15 @@ public class RequestEventListener {
 			request.hiringManagerEmails(),
 			request.subDelegatedManagerEmails(),
 			List.of(applicationProperties.gcnotify().hrGdInboxEmail())
-		).flatMap(List::stream).collect(toSet());
+		).flatMap(List::stream).distinct().toList();
 
-		emails.forEach(email -> notificationService.sendRequestNotification(
-			email,
+		notificationService.sendRequestNotification(
+			emails,
 			request.id(),
 			request.nameEn(),
 			RequestEvent.FEEDBACK_PENDING,
 			language
-		));
+		);
 
 		sendJobOpportunityNotificationsToMatchedProfiles(request);
 	}
@@ -248,7 +250,7 @@ public class RequestEventListener {
 		log.info("Sent job opportunity notifications () {} total recipients for request ID: [{}]", totalEmailsSent, request.id());
 	}
 
-	@Async
+	@Async(AsyncConfig.NOTIFICATION_TASK_EXECUTOR)
 	@EventListener({ RequestSubmittedEvent.class })
 	public void handleRequestSubmitted(RequestSubmittedEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -268,7 +270,7 @@ public class RequestEventListener {
 	/**
 	 * Handles the RequestStatusChangeEvent and sends a notification based on the status change.
 	 */
-	@Async
+	@Async(AsyncConfig.NOTIFICATION_TASK_EXECUTOR)
 	@EventListener({ RequestStatusChangeEvent.class })
 	public void handleRequestStatusChange(RequestStatusChangeEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -304,7 +306,7 @@ public class RequestEventListener {
 	 * Handles the RequestFeedbackCompletedEvent and sends a notification to the HR advisor (if their email is available)
 	 * and always sends a notification to the generic HR inbox. If the HR advisor's email is missing, a warning is logged.
 	 */
-	@Async
+	@Async(AsyncConfig.NOTIFICATION_TASK_EXECUTOR)
 	@EventListener({ RequestFeedbackCompletedEvent.class })
 	public void sendRequestFeedbackCompletedNotification(RequestFeedbackCompletedEvent event) {
 		final var request = event.dto();
@@ -326,7 +328,7 @@ public class RequestEventListener {
 	 * Handles the RequestCompletedEvent and sends an email notification.
 	 * The notification is sent to the submitter, hiring manager, HR delegate, and the HR advisor's business email.
 	 */
-	@Async
+	@Async(AsyncConfig.NOTIFICATION_TASK_EXECUTOR)
 	@EventListener({ RequestCompletedEvent.class })
 	public void handleRequestCompleted(RequestCompletedEvent event) throws JsonProcessingException {
 		final var request = event.dto();
@@ -347,7 +349,7 @@ public class RequestEventListener {
 			request.subDelegatedManagerEmails(),
 			Optional.ofNullable(request.hrAdvisorEmail()).map(List::of).orElse(List.<String>of()),
 			List.of(applicationProperties.gcnotify().hrGdInboxEmail())
-		).flatMap(List::stream).collect(toSet());
+		).flatMap(List::stream).distinct().toList();
 
 		if (emails.isEmpty()) {
 			log.warn("No email addresses found for request ID: [{}]", request.id());
@@ -359,17 +361,15 @@ public class RequestEventListener {
 			? RequestEvent.COMPLETED_NO_VMS
 			: RequestEvent.COMPLETED;
 
-		emails.forEach(email -> {
-			notificationService.sendRequestNotification(
-				email,
-				request.id(),
-				request.nameEn(),
-				requestEvent,
-				language,
-				request.priorityClearanceNumber(),
-				request.pscClearanceNumber()
-			);
-		});
+		notificationService.sendRequestNotification(
+			emails,
+			request.id(),
+			request.nameEn(),
+			requestEvent,
+			language,
+			request.priorityClearanceNumber(),
+			request.pscClearanceNumber()
+		);
 	}
 
 	/**
@@ -414,17 +414,17 @@ public class RequestEventListener {
 			request.subDelegatedManagerEmails(),
 			Optional.ofNullable(request.hrAdvisorEmail()).map(List::of).orElse(List.of()),
 			List.of(applicationProperties.gcnotify().hrGdInboxEmail())
-		).flatMap(List::stream).collect(toSet());
+		).flatMap(List::stream).distinct().toList();
 
-		emails.forEach(email -> notificationService.sendRequestNotification(
-			email,
+		notificationService.sendRequestNotification(
+			emails,
 			request.id(),
 			request.nameEn(),
 			RequestEvent.PSC_NOT_REQUIRED,
 			language,
 			request.priorityClearanceNumber(),
 			request.pscClearanceNumber()
-		));
+		);
 	}
 
 	/**
@@ -460,27 +460,19 @@ public class RequestEventListener {
 		final var language = Optional.ofNullable(request.languageCode())
 			.orElse(lookupCodes.languages().english());
 
-		final var hrEmail = applicationProperties.gcnotify().hrGdInboxEmail();
+		// Send to the generic HR inbox, and to the HR advisor if assigned
+		final var emails = Stream.of(
+			List.of(applicationProperties.gcnotify().hrGdInboxEmail()),
+			Optional.ofNullable(request.hrAdvisorEmail()).map(List::of).orElse(List.of())
+		).flatMap(List::stream).distinct().toList();
 
-		// Send to generic HR inbox
 		notificationService.sendRequestNotification(
-			hrEmail,
+			emails,
 			request.id(),
 			request.nameEn(),
 			RequestEvent.HR_REVIEW,
 			language
 		);
-
-		// Send to HR advisor if assigned
-		Optional.ofNullable(request.hrAdvisorEmail()).ifPresent(email ->
-			notificationService.sendRequestNotification(
-				email,
-				request.id(),
-				request.nameEn(),
-				RequestEvent.HR_REVIEW,
-				language
-			)
-		);
 	}
 
 	/**
@@ -500,15 +492,15 @@ public class RequestEventListener {
 			request.subDelegatedManagerEmails(),
 			Optional.ofNullable(request.hrAdvisorEmail()).map(List::of).orElse(List.of()),
 			List.of(applicationProperties.gcnotify().hrGdInboxEmail())
-		).flatMap(List::stream).collect(toSet());
+		).flatMap(List::stream).distinct().toList();
 
-		emails.forEach(email -> notificationService.sendRequestNotification(
-			email,
+		notificationService.sendRequestNotification(
+			emails,
 			request.id(),
 			request.nameEn(),
 			RequestEvent.CANCELLED,
 			language
-		));
+		);
 	}
 
 	/**
@@ -521,64 +513,66 @@ public class RequestEventListener {
 			final var matches = matchRepository.findAllByRequestId(request.getId());
 			log.info("Found {} matches for request ID: {}", matches.size(), request.getId());
 
-			for (final var match : matches) {
-				final var matchStatusCode = match.getMatchStatus().getCode();
-				final var approvedStatusCode = lookupCodes.matchStatuses().approved();
-
-				// Check if match status is APPROVED
-				if (!approvedStatusCode.equals(matchStatusCode)) {
-					log.debug("Skipping match ID: {} with status: {}. Expected: {}", match.getId(), matchStatusCode, approvedStatusCode);
-					continue;
+			// matches of the same request mostly share a language and feedback (and so a model), so render each email once
+			EmailTemplateService.runInRenderingBatch(() -> {
+				for (final var match : matches) {
+					final var matchStatusCode = match.getMatchStatus().getCode();
+					final var approvedStatusCode = lookupCodes.matchStatuses().approved();
+
+					// Check if match status is APPROVED
+					if (!approvedStatusCode.equals(matchStatusCode)) {
+						log.debug("Skipping match ID: {} with status: {}. Expected: {}", match.getId(), matchStatusCode, approvedStatusCode);
+						continue;
+					}
+
+					final var profile = match.getProfile();
+					final var profileEmails = new ArrayList<String>();
+
+					if (StringUtils.hasText(profile.getPersonalEmailAddress())) {
+						profileEmails.add(profile.getPersonalEmailAddress());
+					}
+
+					if (profile.getUser() != null && StringUtils.hasText(profile.getUser().getBusinessEmailAddress())) {
+						profileEmails.add(profile.getUser().getBusinessEmailAddress());
+					}
+
+					if (profileEmails.isEmpty()) {
+						log.warn("No emails found for profile ID: [{}]", profile.getId());
+						continue;
+					}
+
+					final var language = Optional.ofNullable(profile.getLanguageOfCorrespondence())
+						.map(LanguageEntity::getCode)
+						.orElse(lookupCodes.languages().english());
+
+					final var jobModel = createJobModel(request, language);
+
+					final var matchFeedback = Optional.ofNullable(match.getMatchFeedback())
+						.map(feedback -> lookupCodes.languages().english().equals(language) ? feedback.getNameEn() : feedback.getNameFr())
+						.orElse("N/A");
+
+					final var jobOpportunityHR = new EmailTemplateModel.JobOpportunityHR(
+						jobModel.requestNumber(),
+						jobModel.positionTitle(),
+						jobModel.classification(),
+						jobModel.languageRequirement(),
+						jobModel.location(),
+						jobModel.securityClearance(),
+						matchFeedback,
+						jobModel.submitterName(),
+						jobModel.submitterEmail()
+					);
+
+					notificationService.sendJobOpportunityHRNotification(profileEmails, jobOpportunityHR, language);
 				}
-
-				final var profile = match.getProfile();
-				final var profileEmails = new ArrayList<String>();
-
-				if (StringUtils.hasText(profile.getPersonalEmailAddress())) {
-					profileEmails.add(profile.getPersonalEmailAddress());
-				}
-
-				if (profile.getUser() != null && StringUtils.hasText(profile.getUser().getBusinessEmailAddress())) {
-					profileEmails.add(profile.getUser().getBusinessEmailAddress());
-				}
-
-				if (profileEmails.isEmpty()) {
-					log.warn("No emails found for profile ID: [{}]", profile.getId());
-					continue;
-				}
-
-				final var language = Optional.ofNullable(profile.getLanguageOfCorrespondence())
-					.map(LanguageEntity::getCode)
-					.orElse(lookupCodes.languages().english());
-
-				final var jobModel = createJobModel(request, language);
-
-				final var matchFeedback = Optional.ofNullable(match.getMatchFeedback())
-					.map(feedback -> lookupCodes.languages().english().equals(language) ? feedback.getNameEn() : feedback.getNameFr())
-					.orElse("N/A");
-
-				final var jobOpportunityHR = new EmailTemplateModel.JobOpportunityHR(
-					jobModel.requestNumber(),
-					jobModel.positionTitle(),
-					jobModel.classification(),
-					jobModel.languageRequirement(),
-					jobModel.location(),
-					jobModel.securityClearance(),
-					matchFeedback,
-					jobModel.submitterName(),
-					jobModel.submitterEmail()
-				);
-
-				notificationService.sendJobOpportunityHRNotification(profileEmails, jobOpportunityHR, language);
-			}
+			});
 		}, () -> log.warn("Request not found for ID: {}", requestDto.id()));
 	}
 
 	/**
-	 * Handles the MatchStatusChangeEvent and sends a notification when a match status changes from MATCH_PENDING to APPROVED.
-	 * The notification is sent to the profile owner's personal and business emails.
+	 * Handles the MatchStatusChangeEvent by saving it to the event repository.
 	 */
-	@Async
+	@Async(AsyncConfig.MATCHING_TASK_EXECUTOR)
 	@EventListener({ MatchStatusChangeEvent.class })
 	public void handleMatchStatusChange(MatchStatusChangeEvent event) throws JsonProcessingException {
 		// Save the event to the repository
@@ -589,60 +583,111 @@ public class RequestEventListener {
 
 		log.info("Event: match status changed - ID: {}, from status: {}, to status: {}",
 			event.entity().getId(), event.previousStatusCode(), event.newStatusCode());
+	}
 
+	/**
+	 * Sends a notification when a match status changes from MATCH_PENDING to APPROVED.
+	 * The notification is sent to the profile owner's personal and business emails.
+	 */
+	@Async(AsyncConfig.NOTIFICATION_TASK_EXECUTOR)
+	@EventListener({ MatchStatusChangeEvent.class })
+	public void sendMatchStatusChangeNotification(MatchStatusChangeEvent event) {
 		// Check if the status has changed from MATCH_PENDING to APPROVED
 		if ("MATCH_PENDING".equals(event.previousStatusCode()) && "APPROVED".equals(event.newStatusCode())) {
-			final var match = event.entity();
-			final var profile = match.getProfile();
-			final var request = match.getRequest();
+			sendJobOpportunityHRNotification(event.entity());
+		}
+	}
 
-			List<String> profileEmails = new ArrayList<>();
+	/**
+	 * Handles the MatchesBulkUpdatedEvent by saving a single event for the whole update to the event repository.
+	 */
+	@Async(AsyncConfig.MATCHING_TASK_EXECUTOR)
+	@EventListener({ MatchesBulkUpdatedEvent.class })
+	public void handleMatchesBulkUpdated(MatchesBulkUpdatedEvent event) {
+		final var details = Map.of(
+			"requestId", event.requestId(),
+			"matchIds", event.entities().stream().map(MatchEntity::getId).toList(),
+			"statusChanges", event.statusChanges(),
+			"timestamp", event.timestamp());
 
-			// Add personal and business emails if available
-			if (StringUtils.hasText(profile.getPersonalEmailAddress())) {
-				profileEmails.add(profile.getPersonalEmailAddress());
-			}
+		eventRepository.save(EventEntity.builder()
+			.type("MATCHES_BULK_UPDATE")
+			.details(objectMapper.writeValueAsString(details))
+			.build());
 
-			if (profile.getUser() != null && StringUtils.hasText(profile.getUser().getBusinessEmailAddress())) {
-				profileEmails.add(profile.getUser().getBusinessEmailAddress());
-			}
+		log.info("Event: matches bulk updated - request ID: {}, matches: {}, status changes: {}",
+			event.requestId(), event.entities().size(), event.statusChanges().size());
+	}
 
-			if (profileEmails.isEmpty()) {
-				log.warn("No emails found for profile ID: [{}]", profile.getId());
-				return;
-			}
+	/**
+	 * Sends a notification for each bulk-updated match whose status changed from MATCH_PENDING to APPROVED.
+	 */
+	@Async(AsyncConfig.NOTIFICATION_TASK_EXECUTOR)
+	@EventListener({ MatchesBulkUpdatedEvent.class })
+	public void sendMatchesBulkUpdatedNotifications(MatchesBulkUpdatedEvent event) {
+		final var approvedMatchIds = event.statusChanges().stream()
+			.filter(statusChange -> "MATCH_PENDING".equals(statusChange.previousStatusCode()) && "APPROVED".equals(statusChange.newStatusCode()))
+			.map(MatchesBulkUpdatedEvent.StatusChange::matchId)
+			.collect(Collectors.toSet());
+
+		EmailTemplateService.runInRenderingBatch(() -> event.entities().stream()
+			.filter(match -> approvedMatchIds.contains(match.getId()))
+			.forEach(this::sendJobOpportunityHRNotification));
+	}
 
-			// Get the profile owner's language preference
-			final var language = Optional.ofNullable(profile.getLanguageOfCorrespondence())
-				.map(LanguageEntity::getCode)
-				.orElse(lookupCodes.languages().english());
-
-			log.info("Sending job opportunity HR notification () profile owner for match ID: [{}]", match.getId());
-
-			final var jobModel = createJobModel(request, language);
-
-			// Get match feedback if available
-			final var matchFeedback = Optional.ofNullable(match.getMatchFeedback())
-				.map(feedback -> lookupCodes.languages().english().equals(language) ? feedback.getNameEn() : feedback.getNameFr())
-				.orElse("N/A");
-
-			final var jobOpportunityHR = new EmailTemplateModel.JobOpportunityHR(
-				jobModel.requestNumber(),
-				jobModel.positionTitle(),
-				jobModel.classification(),
-				jobModel.languageRequirement(),
-				jobModel.location(),
-				jobModel.securityClearance(),
-				matchFeedback,
-				jobModel.submitterName(),
-				jobModel.submitterEmail()
-			);
+	/**
+	 * Sends a job opportunity notification to the personal and business emails of a match's profile owner.
+	 */
+	private void sendJobOpportunityHRNotification(MatchEntity match) {
+		final var profile = match.getProfile();
+		final var request = match.getRequest();
 
-			notificationService.sendJobOpportunityHRNotification(profileEmails, jobOpportunityHR, language);
+		List<String> profileEmails = new ArrayList<>();
+
+		// Add personal and business emails if available
+		if (StringUtils.hasText(profile.getPersonalEmailAddress())) {
+			profileEmails.add(profile.getPersonalEmailAddress());
+		}
 
-			log.info("Sent job opportunity HR notifications () {} recipient(s) for match ID: [{}]",
-				profileEmails.size(), match.getId());
+		if (profile.getUser() != null && StringUtils.hasText(profile.getUser().getBusinessEmailAddress())) {
+			profileEmails.add(profile.getUser().getBusinessEmailAddress());
 		}
+
+		if (profileEmails.isEmpty()) {
+			log.warn("No emails found for profile ID: [{}]", profile.getId());
+			return;
+		}
+
+		// Get the profile owner's language preference
+		final var language = Optional.ofNullable(profile.getLanguageOfCorrespondence())
+			.map(LanguageEntity::getCode)
+			.orElse(lookupCodes.languages().english());
+
+		log.info("Sending job opportunity HR notification () profile owner for match ID: [{}]", match.getId());
+
+		final var jobModel = createJobModel(request, language);
+
+		// Get match feedback if available
+		final var matchFeedback = Optional.ofNullable(match.getMatchFeedback())
+			.map(feedback -> lookupCodes.languages().english().equals(language) ? feedback.getNameEn() : feedback.getNameFr())
+			.orElse("N/A");
+
+		final var jobOpportunityHR = new EmailTemplateModel.JobOpportunityHR(
+			jobModel.requestNumber(),
+			jobModel.positionTitle(),
+			jobModel.classification(),
+			jobModel.languageRequirement(),
+			jobModel.location(),
+			jobModel.securityClearance(),
+			matchFeedback,
+			jobModel.submitterName(),
+			jobModel.submitterEmail()
+		);
+
+		notificationService.sendJobOpportunityHRNotification(profileEmails, jobOpportunityHR, language);
+
+		log.info("Sent job opportunity HR notifications () {} recipient(s) for match ID: [{}]",
+			profileEmails.size(), match.getId());
 	}
 
 	/**
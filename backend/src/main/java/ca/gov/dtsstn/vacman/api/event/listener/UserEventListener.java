@@ -8,6 +8,7 @@ import org.springframework.stereotype.Component;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 
+import ca.gov.dtsstn.vacman.api.config.AsyncConfig;
 import ca.gov.dtsstn.vacman.api.data.entity.EventEntity;
 import ca.gov.dtsstn.vacman.api.data.repository.EventRepository;
 import ca.gov.dtsstn.vacman.api.event.CurrentUserReadEvent;
@@ -34,7 +35,7 @@ public class UserEventListener {
 		this.eventRepository = eventRepository;
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ UserCreatedEvent.class })
 	public void handleUserCreated(UserCreatedEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -45,7 +46,7 @@ public class UserEventListener {
 		log.info("Event: user created - ID: {}", event.dto().id());
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ UserCreateConflictEvent.class })
 	public void handleUserCreateConflict(UserCreateConflictEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -56,7 +57,7 @@ public class UserEventListener {
 		log.info("Event: user create conflict - ID: {}", event.dto().id());
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ UserUpdatedEvent.class })
 	public void handleUserUpdated(UserUpdatedEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -67,7 +68,7 @@ public class UserEventListener {
 		log.info("Event: user updated - ID: {}", event.dto().id());
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ UserDeletedEvent.class })
 	public void handleUserDeleted(UserDeletedEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -78,7 +79,7 @@ public class UserEventListener {
 		log.info("Event: user deleted - ID: {}", event.dto().id());
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ UserReadEvent.class })
 	public void handleUserRead(UserReadEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
@@ -89,7 +90,7 @@ public class UserEventListener {
 		log.info("Event: user read - ID: {}", event.dto().id());
 	}
 
-	@Async
+	@Async(AsyncConfig.AUDIT_TASK_EXECUTOR)
 	@EventListener({ CurrentUserReadEvent.class })
 	public void handleCurrentUserRead(CurrentUserReadEvent event) throws JsonProcessingException {
 		eventRepository.save(EventEntity.builder()
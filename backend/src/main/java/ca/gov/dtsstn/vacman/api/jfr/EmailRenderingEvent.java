@@ -0,0 +1,34 @@
+package ca.gov.dtsstn.vacman.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that is recorded (with its duration) every time an email template is rendered for a notification.
+ */
+@StackTrace(false)
+@Label("Email Rendering")
+@Category({ "VacMan", "Notifications" })
+@Name("ca.gov.dtsstn.vacman.EmailRendering")
+@Description("Rendering the subject and body of a notification email")
+public class EmailRenderingEvent extends Event {
+
+	@Label("Template Name")
+	public String templateName;
+
+	@Label("Language")
+	public String language;
+
+	@Label("Request Id")
+	@Description("The request the notification is about, or 0 if it is not about a request")
+	public long requestId;
+
+	@Label("Profile Id")
+	@Description("The profile the notification is about, if any")
+	public String profileId;
+
+}
@@ -0,0 +1,47 @@
+package ca.gov.dtsstn.vacman.api.jfr;
+
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that is recorded (with its duration) every time an entity is mapped to the DTO carried by an application
+ * event. Mapping walks the entity's associations, so it can trigger lazy loads.
+ */
+@StackTrace(false)
+@Label("Event DTO Mapping")
+@Category({ "VacMan", "Events" })
+@Name("ca.gov.dtsstn.vacman.EventDtoMapping")
+@Description("Mapping an entity to an application event DTO")
+public class EventDtoMappingEvent extends Event {
+
+	@Label("Entity Type")
+	@Description("The type of entity that was mapped, ie: profile, request or user")
+	public String entityType;
+
+	@Label("Entity Id")
+	public long entityId;
+
+	/**
+	 * Runs {@code mapper}, recording an event (with its duration) for it.
+	 */
+	public static <T> T record(String entityType, Long entityId, Supplier<T> mapper) {
+		final var eventDtoMappingEvent = new EventDtoMappingEvent();
+		eventDtoMappingEvent.entityType = entityType;
+		eventDtoMappingEvent.entityId = (entityId != null) ? entityId : 0;
+		eventDtoMappingEvent.begin();
+
+		try {
+			return mapper.get();
+		}
+		finally {
+			eventDtoMappingEvent.commit();
+		}
+	}
+
+}
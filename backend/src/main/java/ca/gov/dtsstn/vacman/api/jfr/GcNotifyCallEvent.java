@@ -0,0 +1,39 @@
+package ca.gov.dtsstn.vacman.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that is recorded (with its duration) for every call to GC Notify, including any time spent waiting for the
+ * client-side rate limiter.
+ */
+@StackTrace(false)
+@Label("GC Notify Call")
+@Category({ "VacMan", "Notifications" })
+@Name("ca.gov.dtsstn.vacman.GcNotifyCall")
+@Description("Sending an email (or a bulk job) through GC Notify")
+public class GcNotifyCallEvent extends Event {
+
+	@Label("Endpoint")
+	@Description("The GC Notify endpoint that was called, ie: /email or /bulk")
+	public String endpoint;
+
+	@Label("Recipient Count")
+	public int recipientCount;
+
+	@Label("Request Id")
+	@Description("The request the notification is about, or 0 if it is not about a request")
+	public long requestId;
+
+	@Label("Profile Id")
+	@Description("The profile the notification is about, if any")
+	public String profileId;
+
+	@Label("Succeeded")
+	public boolean succeeded;
+
+}
@@ -0,0 +1,36 @@
+package ca.gov.dtsstn.vacman.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that is recorded (with its duration) every time a JSON Patch or JSON Merge Patch is applied (and the
+ * patched object validated).
+ */
+@StackTrace(false)
+@Label("JSON Patch")
+@Category({ "VacMan", "Patching" })
+@Name("ca.gov.dtsstn.vacman.JsonPatch")
+@Description("Applying a JSON Patch or JSON Merge Patch to an object")
+public class JsonPatchEvent extends Event {
+
+	@Label("Target Type")
+	@Description("The type of object that was patched")
+	public Class<?> targetType;
+
+	@Label("Patch Type")
+	@Description("Either json-patch or json-merge-patch")
+	public String patchType;
+
+	@Label("Operation Count")
+	@Description("The number of JSON Patch operations, or the number of top-level fields of a JSON Merge Patch")
+	public int operationCount;
+
+	@Label("Succeeded")
+	public boolean succeeded;
+
+}
@@ -0,0 +1,34 @@
+package ca.gov.dtsstn.vacman.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that is recorded (with its duration) every time matches are found for a request.
+ */
+@StackTrace(false)
+@Label("Request Matching")
+@Category({ "VacMan", "Matching" })
+@Name("ca.gov.dtsstn.vacman.RequestMatching")
+@Description("Finding and saving the matching profiles of a request")
+public class RequestMatchingEvent extends Event {
+
+	@Label("Request Id")
+	public long requestId;
+
+	@Label("Classification")
+	public String classification;
+
+	@Label("Candidate Pool Size")
+	@Description("The number of profiles that meet all of the request's criteria")
+	public int candidatePoolSize;
+
+	@Label("Match Count")
+	@Description("The number of matches that were saved")
+	public int matchCount;
+
+}
@@ -0,0 +1,27 @@
+package ca.gov.dtsstn.vacman.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that is recorded (with its duration) for each phase of request matching
+ * (ie: loading the request, querying the candidates, ranking them and saving the matches).
+ */
+@StackTrace(false)
+@Label("Request Matching Phase")
+@Category({ "VacMan", "Matching" })
+@Name("ca.gov.dtsstn.vacman.RequestMatchingPhase")
+@Description("A single phase of finding and saving the matching profiles of a request")
+public class RequestMatchingPhaseEvent extends Event {
+
+	@Label("Request Id")
+	public long requestId;
+
+	@Label("Phase")
+	public String phase;
+
+}
@@ -0,0 +1,30 @@
+package ca.gov.dtsstn.vacman.api.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event that is recorded (with its duration) every time a spreadsheet (CSV, ODS or XLSX) is exported.
+ * The duration includes reading the rows from the database, since they are streamed into the spreadsheet.
+ */
+@StackTrace(false)
+@Label("Spreadsheet Export")
+@Category({ "VacMan", "Export" })
+@Name("ca.gov.dtsstn.vacman.SpreadsheetExport")
+@Description("Writing a spreadsheet export")
+public class SpreadsheetExportEvent extends Event {
+
+	@Label("Format")
+	public String format;
+
+	@Label("Sheet Name")
+	public String sheetName;
+
+	@Label("Row Count")
+	public long rowCount;
+
+}
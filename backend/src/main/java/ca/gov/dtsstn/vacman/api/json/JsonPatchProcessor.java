@@ -1,24 +1,24 @@
 package ca.gov.dtsstn.vacman.api.json;
 
-import java.io.StringReader;
 import java.util.Set;
-import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.util.Assert;
 
-import jakarta.json.Json;
+import ca.gov.dtsstn.vacman.api.jfr.JsonPatchEvent;
 import jakarta.json.JsonException;
 import jakarta.json.JsonMergePatch;
 import jakarta.json.JsonPatch;
-import jakarta.json.JsonStructure;
 import jakarta.json.JsonValue;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
 import jakarta.validation.Validator;
 import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.json.JsonMapper;
 
@@ -27,7 +27,8 @@ import tools.jackson.databind.json.JsonMapper;
  * This class ensures that the patch operations are applied to a copy of the original
  * object and that the resulting object is validated before being returned.
  *
- * This component uses Jackson for serialization/deserialization and Jakarta JSON for patch operations.
+ * The object is converted to a Jackson tree, patched in place by {@link JsonTreePatcher}, and converted
+ * back to an object; at no point is it serialized to (or parsed from) a JSON string.
  *
  * @see <a href="https://tools.ietf.org/html/rfc6902">RFC 6902: JSON Patch</a>
  * @see <a href="https://tools.ietf.org/html/rfc7396">RFC 7396: JSON Merge Patch</a>
@@ -57,7 +58,26 @@ public class JsonPatchProcessor {
 	 * @throws ConstraintViolationException if the patched object is not valid
 	 */
 	public <T> T patch(T object, JsonMergePatch jsonMergePatch) {
-		return patch(object, target -> jsonMergePatch.apply(target));
+		Assert.notNull(jsonMergePatch, "jsonMergePatch is required; it must not be null");
+		final var mergePatch = jsonMergePatch.toJsonValue();
+		final var operationCount = (mergePatch.getValueType() == JsonValue.ValueType.OBJECT) ? mergePatch.asJsonObject().size() : 1;
+		return recordPatch(object, "json-merge-patch", operationCount, () -> patch(object, target -> JsonTreePatcher.applyMergePatch(target, mergePatch)));
+	}
+
+	/**
+	 * Returns the names of the top-level fields that a JSON Merge Patch sets or removes.
+	 * <p>
+	 * Since a merge patch only contains the fields that are to be changed, this can be used to limit
+	 * any (potentially expensive) follow-up work to the fields that the client actually touched.
+	 *
+	 * @param jsonMergePatch the JSON Merge Patch
+	 * @return the patched field names, or an empty set if the patch is not a JSON object
+	 */
+	public Set<String> getPatchedFields(JsonMergePatch jsonMergePatch) {
+		Assert.notNull(jsonMergePatch, "jsonMergePatch is required; it must not be null");
+		final var mergePatch = jsonMergePatch.toJsonValue();
+		if (mergePatch.getValueType() != JsonValue.ValueType.OBJECT) { return Set.of(); }
+		return Set.copyOf(mergePatch.asJsonObject().keySet());
 	}
 
 	/**
@@ -70,48 +90,66 @@ public class JsonPatchProcessor {
 	 * @throws ConstraintViolationException if the patched object is not valid
 	 */
 	public <T> T patch(T object, JsonPatch jsonPatch) {
-		return patch(object, target -> jsonPatch.apply(target));
+		Assert.notNull(jsonPatch, "jsonPatch is required; it must not be null");
+		final var operations = jsonPatch.toJsonArray();
+		return recordPatch(object, "json-patch", operations.size(), () -> patch(object, target -> JsonTreePatcher.applyPatch(target, operations)));
+	}
+
+	/**
+	 * Applies a patch, recording a {@link JsonPatchEvent} JFR event (with its duration).
+	 */
+	private <T> T recordPatch(T object, String patchType, int operationCount, Supplier<T> patcher) {
+		final var jsonPatchEvent = new JsonPatchEvent();
+		jsonPatchEvent.targetType = (object != null) ? object.getClass() : null;
+		jsonPatchEvent.patchType = patchType;
+		jsonPatchEvent.operationCount = operationCount;
+		jsonPatchEvent.begin();
+
+		try {
+			final var patchedObject = patcher.get();
+			jsonPatchEvent.succeeded = true;
+			return patchedObject;
+		}
+		finally {
+			jsonPatchEvent.commit();
+		}
 	}
 
 	/**
 	 * Generic JSON patching method that delegates the actual patch application to a passed-in function.
 	 * <p>
-	 * This method first creates a deep copy of the input object. The patch function is then applied to this copy.
-	 * Finally, the patched copy is validated. If validation is successful, the patched copy is returned.
+	 * This method first converts the input object to a (newly created) Jackson tree. The patch function is then
+	 * applied to this tree, and the patched tree is converted to a new object. Finally, the patched object is
+	 * validated. If validation is successful, the patched object is returned.
 	 *
 	 * @param <T> the type of the object to patch
 	 * @param object the object to patch
-	 * @param patchFn a function that receives a {@link JsonStructure} representing the original object and returns the patched {@link JsonValue}
+	 * @param patchFn a function that receives a {@link JsonNode} representing the original object (which it may modify) and returns the patched {@link JsonNode}
 	 * @return the patched and validated object
 	 * @throws ConstraintViolationException if the patched object does not pass validation
 	 * @throws JsonPatchException if an error occurs during JSON processing
 	 */
 	@SuppressWarnings({ "unchecked" })
-	protected <T> T patch(T object, Function<? super JsonStructure, ? extends JsonValue> patchFn) {
+	protected <T> T patch(T object, UnaryOperator<JsonNode> patchFn) {
 		Assert.notNull(object, "object is required; it must not be null");
 		Assert.notNull(patchFn, "patchFn is required; it must not be null");
 
 		try {
 			log.debug("Patching object of type {}", object.getClass().getSimpleName());
 
-			final var originalJsonString = objectMapper.writeValueAsString(object);
-
-			try (final var jsonReader = Json.createReader(new StringReader(originalJsonString))) {
-				final var originalJsonStructure = jsonReader.read();
-				final var patchedJsonValue = patchFn.apply(originalJsonStructure);
-				final var patchedJsonString = patchedJsonValue.toString();
-				final var patchedObject = objectMapper.readValue(patchedJsonString, object.getClass());
+			final JsonNode originalJsonNode = objectMapper.valueToTree(object);
+			final var patchedJsonNode = patchFn.apply(originalJsonNode);
+			final var patchedObject = objectMapper.treeToValue(patchedJsonNode, object.getClass());
 
-				log.debug("Performing JSON patch validation");
-				final Set<ConstraintViolation<Object>> violations = validator.validate(patchedObject);
-				if (violations.isEmpty() == false) { throw new ConstraintViolationException(violations); }
-				log.debug("No validation errors for {}", object.getClass().getSimpleName());
+			log.debug("Performing JSON patch validation");
+			final Set<ConstraintViolation<Object>> violations = validator.validate(patchedObject);
+			if (violations.isEmpty() == false) { throw new ConstraintViolationException(violations); }
+			log.debug("No validation errors for {}", object.getClass().getSimpleName());
 
-				return (T) patchedObject;
-			}
+			return (T) patchedObject;
 		}
-		// JsonException can be thrown by Johnzon
-		// JsonProcessingException can be thrown by Jackson
+		// JsonException can be thrown by Johnzon (ie: when converting patch values)
+		// JacksonException can be thrown by Jackson
 		catch (final JsonException | JacksonException exception) {
 			throw new JsonPatchException("An error occurred while JSON-Patching", exception);
 		}
@@ -0,0 +1,314 @@
+package ca.gov.dtsstn.vacman.api.json;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Applies JSON Patch and JSON Merge Patch documents directly to a Jackson {@link JsonNode} tree.
+ * <p>
+ * Patch documents are read by the (Jakarta JSON) message converters, but applying them with Jakarta JSON
+ * would require the target to be serialized to a string and re-parsed, and then the result serialized
+ * and re-parsed again. Patch documents are small and targets are not, so instead only the patch values are
+ * converted to Jackson nodes and the target tree is modified in place.
+ * <p>
+ * Because targets are modified in place, callers must own the tree they pass in (ie: a tree created by
+ * {@code ObjectMapper.valueToTree(..)}). Any error leaves the target in an undefined state.
+ *
+ * @see <a href="https://tools.ietf.org/html/rfc6901">RFC 6901: JavaScript Object Notation (JSON) Pointer</a>
+ * @see <a href="https://tools.ietf.org/html/rfc6902">RFC 6902: JavaScript Object Notation (JSON) Patch</a>
+ * @see <a href="https://tools.ietf.org/html/rfc7396">RFC 7396: JSON Merge Patch</a>
+ */
+final class JsonTreePatcher {
+
+	private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+	private JsonTreePatcher() {}
+
+	/**
+	 * Applies the operations of a JSON Patch, in order, to {@code target}.
+	 *
+	 * @return the patched tree; this is {@code target} itself unless an operation replaced the whole document
+	 * @throws JsonPatchException if an operation is malformed, targets a nonexistent location or fails a {@code test}
+	 */
+	static JsonNode applyPatch(JsonNode target, JsonArray operations) {
+		var document = target;
+
+		for (final var operation : operations) {
+			if (operation.getValueType() != JsonValue.ValueType.OBJECT) {
+				throw new JsonPatchException("JSON Patch operations must be objects; found [" + operation + "]");
+			}
+
+			document = applyOperation(document, operation.asJsonObject());
+		}
+
+		return document;
+	}
+
+	/**
+	 * Applies a JSON Merge Patch to {@code target}.
+	 *
+	 * @return the patched tree; this is {@code target} itself unless the patch is not an object (or the target is not)
+	 */
+	static JsonNode applyMergePatch(JsonNode target, JsonValue mergePatch) {
+		return mergePatch(target, toJsonNode(mergePatch));
+	}
+
+	/**
+	 * Converts a Jakarta JSON value to an equivalent Jackson node.
+	 */
+	static JsonNode toJsonNode(JsonValue jsonValue) {
+		return switch (jsonValue.getValueType()) {
+			case ARRAY -> {
+				final var arrayNode = nodeFactory.arrayNode();
+				jsonValue.asJsonArray().forEach(value -> arrayNode.add(toJsonNode(value)));
+				yield arrayNode;
+			}
+			case OBJECT -> {
+				final var objectNode = nodeFactory.objectNode();
+				jsonValue.asJsonObject().forEach((name, value) -> objectNode.set(name, toJsonNode(value)));
+				yield objectNode;
+			}
+			case NUMBER -> toNumberNode((JsonNumber) jsonValue);
+			case STRING -> nodeFactory.stringNode(((JsonString) jsonValue).getString());
+			case TRUE -> nodeFactory.booleanNode(true);
+			case FALSE -> nodeFactory.booleanNode(false);
+			case NULL -> nodeFactory.nullNode();
+		};
+	}
+
+	private static JsonNode toNumberNode(JsonNumber jsonNumber) {
+		if (!jsonNumber.isIntegral()) { return nodeFactory.numberNode(jsonNumber.bigDecimalValue()); }
+
+		final var bigInteger = jsonNumber.bigIntegerValue();
+		if (bigInteger.bitLength() < Integer.SIZE) { return nodeFactory.numberNode(bigInteger.intValue()); }
+		if (bigInteger.bitLength() < Long.SIZE) { return nodeFactory.numberNode(bigInteger.longValue()); }
+		return nodeFactory.numberNode(bigInteger);
+	}
+
+	private static JsonNode applyOperation(JsonNode document, JsonObject operation) {
+		final var op = getString(operation, "op");
+		final var path = parsePointer(getString(operation, "path"));
+
+		return switch (op) {
+			case "add" -> add(document, path, getValue(operation));
+			case "remove" -> {
+				remove(document, path);
+				yield document;
+			}
+			case "replace" -> replace(document, path, getValue(operation));
+			case "move" -> {
+				final var from = parsePointer(getString(operation, "from"));
+				if (from.equals(path)) { yield document; }
+
+				if (path.size() > from.size() && path.subList(0, from.size()).equals(from)) {
+					throw new JsonPatchException("Cannot move a value into one of its own children; from=[" + operation.getString("from") + "]");
+				}
+
+				yield add(document, path, remove(document, from));
+			}
+			case "copy" -> add(document, path, get(document, parsePointer(getString(operation, "from"))).deepCopy());
+			case "test" -> {
+				if (!jsonEquals(get(document, path), getValue(operation))) {
+					throw new JsonPatchException("JSON Patch test failed; path=[" + operation.getString("path") + "]");
+				}
+
+				yield document;
+			}
+			default -> throw new JsonPatchException("Unsupported JSON Patch operation [" + op + "]");
+		};
+	}
+
+	private static JsonNode add(JsonNode document, List<String> path, JsonNode value) {
+		if (path.isEmpty()) { return value; }
+
+		final var parent = get(document, parentOf(path));
+		final var token = lastOf(path);
+
+		if (parent instanceof ObjectNode objectNode) {
+			objectNode.set(token, value);
+		}
+		else if (parent instanceof ArrayNode arrayNode) {
+			if ("-".equals(token)) { arrayNode.add(value); }
+			else { arrayNode.insert(toIndex(token, arrayNode.size()), value); }
+		}
+		else {
+			throw new JsonPatchException("Cannot add a value to a non-container; path=[" + toPointer(path) + "]");
+		}
+
+		return document;
+	}
+
+	private static JsonNode remove(JsonNode document, List<String> path) {
+		if (path.isEmpty()) { throw new JsonPatchException("Cannot remove the whole document"); }
+
+		final var parent = get(document, parentOf(path));
+		final var token = lastOf(path);
+
+		if (parent instanceof ObjectNode objectNode && objectNode.has(token)) {
+			return objectNode.remove(token);
+		}
+
+		if (parent instanceof ArrayNode arrayNode) {
+			return arrayNode.remove(toIndex(token, arrayNode.size() - 1));
+		}
+
+		throw new JsonPatchException("Cannot remove a nonexistent value; path=[" + toPointer(path) + "]");
+	}
+
+	private static JsonNode replace(JsonNode document, List<String> path, JsonNode value) {
+		if (path.isEmpty()) { return value; }
+
+		final var parent = get(document, parentOf(path));
+		final var token = lastOf(path);
+
+		if (parent instanceof ObjectNode objectNode && objectNode.has(token)) {
+			objectNode.set(token, value);
+		}
+		else if (parent instanceof ArrayNode arrayNode) {
+			arrayNode.set(toIndex(token, arrayNode.size() - 1), value);
+		}
+		else {
+			throw new JsonPatchException("Cannot replace a nonexistent value; path=[" + toPointer(path) + "]");
+		}
+
+		return document;
+	}
+
+	private static JsonNode get(JsonNode document, List<String> path) {
+		var node = document;
+
+		for (final var token : path) {
+			final var child = node.isArray() ? node.get(toIndex(token, node.size() - 1)) : node.get(token);
+			if (child == null) { throw new JsonPatchException("No value exists at path=[" + toPointer(path) + "]"); }
+			node = child;
+		}
+
+		return node;
+	}
+
+	private static JsonNode mergePatch(JsonNode target, JsonNode patch) {
+		if (!patch.isObject()) { return patch; }
+
+		final var objectNode = (target instanceof ObjectNode targetObject) ? targetObject : nodeFactory.objectNode();
+
+		for (final var property : patch.properties()) {
+			if (property.getValue().isNull()) {
+				objectNode.remove(property.getKey());
+			}
+			else {
+				objectNode.set(property.getKey(), mergePatch(objectNode.get(property.getKey()), property.getValue()));
+			}
+		}
+
+		return objectNode;
+	}
+
+	/**
+	 * Compares two JSON values for equality as described by RFC 6902 (ie: numbers are equal if they are numerically equal).
+	 */
+	private static boolean jsonEquals(JsonNode left, JsonNode right) {
+		if (left.isNumber() && right.isNumber()) {
+			return left.decimalValue().compareTo(right.decimalValue()) == 0;
+		}
+
+		if (left.isArray() && right.isArray()) {
+			if (left.size() != right.size()) { return false; }
+
+			for (var i = 0; i < left.size(); i++) {
+				if (!jsonEquals(left.get(i), right.get(i))) { return false; }
+			}
+
+			return true;
+		}
+
+		if (left.isObject() && right.isObject()) {
+			if (left.size() != right.size()) { return false; }
+
+			for (final var property : left.properties()) {
+				final var rightValue = right.get(property.getKey());
+				if (rightValue == null || !jsonEquals(property.getValue(), rightValue)) { return false; }
+			}
+
+			return true;
+		}
+
+		return left.equals(right);
+	}
+
+	/**
+	 * Parses a JSON Pointer into its (unescaped) reference tokens. The empty pointer refers to the whole document.
+	 */
+	static List<String> parsePointer(String pointer) {
+		if (pointer.isEmpty()) { return List.of(); }
+
+		if (pointer.charAt(0) != '/') {
+			throw new JsonPatchException("Invalid JSON Pointer [" + pointer + "]; it must be empty or start with '/'");
+		}
+
+		final var tokens = new ArrayList<String>();
+
+		for (final var token : pointer.substring(1).split("/", -1)) {
+			tokens.add(token.replace("~1", "/").replace("~0", "~"));
+		}
+
+		return tokens;
+	}
+
+	private static String toPointer(List<String> path) {
+		final var stringBuilder = new StringBuilder();
+		path.forEach(token -> stringBuilder.append('/').append(token.replace("~", "~0").replace("/", "~1")));
+		return stringBuilder.toString();
+	}
+
+	private static int toIndex(String token, int maxIndex) {
+		// array indexes must not have leading zeros (or signs, or anything else)
+		if (!token.matches("0|[1-9][0-9]{0,8}")) {
+			throw new JsonPatchException("Invalid array index [" + token + "]");
+		}
+
+		final var index = Integer.parseInt(token);
+
+		if (index > maxIndex) {
+			throw new JsonPatchException("Array index [" + token + "] is out of bounds");
+		}
+
+		return index;
+	}
+
+	private static List<String> parentOf(List<String> path) {
+		return path.subList(0, path.size() - 1);
+	}
+
+	private static String lastOf(List<String> path) {
+		return path.get(path.size() - 1);
+	}
+
+	private static String getString(JsonObject operation, String name) {
+		final var value = operation.get(name);
+
+		if (value == null || value.getValueType() != JsonValue.ValueType.STRING) {
+			throw new JsonPatchException("JSON Patch operation is missing its [" + name + "] member; operation=[" + operation + "]");
+		}
+
+		return ((JsonString) value).getString();
+	}
+
+	private static JsonNode getValue(JsonObject operation) {
+		if (!operation.containsKey("value")) {
+			throw new JsonPatchException("JSON Patch operation is missing its [value] member; operation=[" + operation + "]");
+		}
+
+		return toJsonNode(operation.get("value"));
+	}
+
+}
@@ -48,6 +48,7 @@ import ca.gov.dtsstn.vacman.api.data.repository.WfaStatusRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.WorkScheduleRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.WorkUnitRepository;
 import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Service class for retrieving code table values.
@@ -57,6 +58,7 @@ import io.micrometer.core.annotation.Counted;
  */
 @Service
 @Transactional(readOnly = true)
+@Timed("service.code")
 public class CodeService {
 
 	private final CityRepository cityRepository;
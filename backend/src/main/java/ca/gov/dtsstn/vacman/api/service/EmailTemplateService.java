@@ -2,16 +2,26 @@ package ca.gov.dtsstn.vacman.api.service;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
 
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 import org.springframework.stereotype.Service;
 
 import freemarker.template.Configuration;
 import freemarker.template.SimpleScalar;
 import freemarker.template.Template;
 import freemarker.template.TemplateException;
-
+import freemarker.template.TemplateExceptionHandler;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
 
 /**
  * Service for processing email templates using FreeMarker.
@@ -19,6 +29,7 @@ import freemarker.template.TemplateException;
  * supporting internationalization through locale-based template selection.
  */
 @Service
+@Timed("service.emailtemplate")
 public class EmailTemplateService {
 
 	/**
@@ -29,11 +40,33 @@ public class EmailTemplateService {
 	 */
 	public record EmailContent(String subject, String body) {}
 
+	private static final Logger log = LoggerFactory.getLogger(EmailTemplateService.class);
+
+	/**
+	 * Matches localized email template file names, ie: {@code requestSubmitted_en.ftl}.
+	 */
+	private static final Pattern LOCALIZED_TEMPLATE_FILENAME = Pattern.compile("^(?<name>.+)_(?<language>[a-z]{2})\\.ftl$");
+
+	/**
+	 * Content rendered within the current thread's rendering batch (see {@link #runInRenderingBatch(Runnable)}), or
+	 * {@code null} if no batch is in progress.
+	 */
+	private static final ThreadLocal<Map<RenderKey, EmailContent>> batchRenderedContent = new ThreadLocal<>();
+
+	private record TemplateKey(String templateName, Locale locale) {}
+
+	private record RenderKey(String templateName, Locale locale, Map<String, ?> model) {}
+
 	/**
 	 * The FreeMarker configuration used for template processing.
 	 */
 	private final Configuration freemarkerConfig;
 
+	/**
+	 * Email templates parsed (and validated) at startup.
+	 */
+	private final Map<TemplateKey, Template> precompiledTemplates = new ConcurrentHashMap<>();
+
 	/**
 	 * Constructs an EmailTemplateService with the given FreeMarker configuration.
 	 *
@@ -43,6 +76,84 @@ public class EmailTemplateService {
 		this.freemarkerConfig = freemarkerConfig;
 	}
 
+	/**
+	 * Parses every {@code templates/email/*.ftl} template up front, so that a broken template fails startup instead of
+	 * the first notification that uses it, and so that rendering never has to go through FreeMarker's template cache
+	 * (and its periodic staleness checks).
+	 *
+	 * @throws IllegalStateException if a template cannot be parsed or does not assign {@code emailSubject}
+	 */
+	@PostConstruct
+	public void precompileTemplates() throws IOException {
+		final var resources = new PathMatchingResourcePatternResolver().getResources("classpath:templates/email/*.ftl");
+
+		for (final var resource : resources) {
+			final var matcher = LOCALIZED_TEMPLATE_FILENAME.matcher(Optional.ofNullable(resource.getFilename()).orElse(""));
+
+			if (!matcher.matches()) {
+				log.warn("Skipping email template [{}]; its file name has no language suffix", resource.getFilename());
+				continue;
+			}
+
+			final var templateName = matcher.group("name") + ".ftl";
+			final var locale = Locale.of(matcher.group("language"));
+
+			try {
+				final var template = freemarkerConfig.getTemplate("email/" + templateName, locale);
+
+				if (!assignsEmailSubject(template)) {
+					throw new IllegalStateException("Email template " + resource.getFilename() + " does not assign emailSubject");
+				}
+
+				precompiledTemplates.put(new TemplateKey(templateName, locale), template);
+			}
+			catch (final IOException exception) {
+				throw new IllegalStateException("Failed to parse email template " + resource.getFilename(), exception);
+			}
+		}
+
+		log.info("Precompiled [{}] email templates", precompiledTemplates.size());
+	}
+
+	/**
+	 * Renders {@code template} against an empty model, ignoring any errors caused by the missing model data, and
+	 * checks that it assigned {@code emailSubject}.
+	 */
+	private boolean assignsEmailSubject(Template template) throws IOException {
+		try {
+			final var environment = template.createProcessingEnvironment(Map.of(), new StringWriter());
+			environment.setTemplateExceptionHandler(TemplateExceptionHandler.IGNORE_HANDLER);
+			environment.setLogTemplateExceptions(false);
+			environment.process();
+
+			return environment.getVariable("emailSubject") != null;
+		}
+		catch (final TemplateException exception) {
+			return false;
+		}
+	}
+
+	/**
+	 * Runs {@code runnable} (ie: the sending of one notification to many recipients) as a rendering batch: within the
+	 * batch, rendering the same template with an equal model more than once reuses the content rendered the first
+	 * time. Nested batches join the outermost one.
+	 */
+	public static void runInRenderingBatch(Runnable runnable) {
+		if (batchRenderedContent.get() != null) {
+			runnable.run();
+			return;
+		}
+
+		batchRenderedContent.set(new HashMap<>());
+
+		try {
+			runnable.run();
+		}
+		finally {
+			batchRenderedContent.remove();
+		}
+	}
+
 	/**
 	 * Processes an email template with the provided model data and language.
 	 *
@@ -53,10 +164,27 @@ public class EmailTemplateService {
 	 * @throws RuntimeException if template processing fails
 	 */
 	public EmailContent processEmailTemplate(String templateName, Locale locale, Map<String, ?> model) {
+		final var renderedContent = batchRenderedContent.get();
+
+		if (renderedContent == null) {
+			return merge(getTemplate(templateName, locale), model);
+		}
+
+		// the key holds a copy of the model, so that later changes to the caller's map cannot alias a different render
+		final var renderKey = new RenderKey(templateName, locale, Collections.unmodifiableMap(new HashMap<>(model)));
+		return renderedContent.computeIfAbsent(renderKey, key -> merge(getTemplate(key.templateName(), key.locale()), key.model()));
+	}
+
+	private Template getTemplate(String templateName, Locale locale) {
+		final var precompiledTemplate = precompiledTemplates.get(new TemplateKey(templateName, locale));
+
+		if (precompiledTemplate != null) {
+			return precompiledTemplate;
+		}
+
 		try {
 			// Automatically fetches correct template based on locale by recognizing the suffix in the template file name
-			final var template = freemarkerConfig.getTemplate("email/" + templateName, locale);
-			return merge(template, model);
+			return freemarkerConfig.getTemplate("email/" + templateName, locale);
 		}
 		catch (final IOException exception) {
 			throw new RuntimeException("Failed to process email template: " + templateName, exception);
@@ -0,0 +1,43 @@
+package ca.gov.dtsstn.vacman.api.service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Helpers for streaming large numbers of entities out of a (read-only) transaction in constant memory.
+ */
+final class EntityStreams {
+
+	/**
+	 * How many streamed entities can accumulate in the persistence context before it is cleared.
+	 */
+	static final int CLEAR_INTERVAL = 100;
+
+	private EntityStreams() {}
+
+	/**
+	 * Maps a stream of entities that is backed by a database cursor, clearing the persistence context
+	 * every {@link #CLEAR_INTERVAL} entities so that already-mapped entities can be garbage collected.
+	 * <p>
+	 * Because entities are detached once they have been mapped, {@code mapper} is the only place
+	 * where lazy associations can be navigated. Only use this in read-only transactions: any
+	 * pending changes would be discarded when the persistence context is cleared.
+	 */
+	static <E, T> Stream<T> mapAndClear(Stream<E> entities, Function<E, T> mapper, EntityManager entityManager) {
+		final var count = new AtomicLong();
+
+		return entities.map(entity -> {
+			final var result = mapper.apply(entity);
+
+			if (count.incrementAndGet() % CLEAR_INTERVAL == 0) {
+				entityManager.clear();
+			}
+
+			return result;
+		});
+	}
+
+}
@@ -0,0 +1,251 @@
+package ca.gov.dtsstn.vacman.api.service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
+
+import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.ExportProperties;
+import ca.gov.dtsstn.vacman.api.service.dto.ExportJob;
+import ca.gov.dtsstn.vacman.api.service.dto.ExportJob.Status;
+import ca.gov.dtsstn.vacman.api.service.dto.ExportJobBuilder;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Runs exports in the background and keeps their results in a local directory until they expire.
+ * <p>
+ * Export jobs are keyed by resource, filename and version, so submitting an export of a resource that
+ * hasn't changed since it was last exported returns the existing job (and its file) instead of starting
+ * a new one. Expired jobs and their files are removed by {@link #sweepExpiredExports()}.
+ * <p>
+ * Note that jobs are tracked in memory and their files are stored on local disk, so a job can only be
+ * downloaded from the instance that ran it.
+ */
+@Service
+@Timed("service.export")
+public class ExportService {
+
+	private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+	/**
+	 * Writes the content of an export to a stream.
+	 */
+	@FunctionalInterface
+	public interface ExportWriter {
+
+		void write(OutputStream outputStream) throws IOException;
+
+	}
+
+	private final Map<UUID, ExportJob> exportJobs = new ConcurrentHashMap<>();
+
+	private final Map<String, UUID> exportJobIdsByCacheKey = new ConcurrentHashMap<>();
+
+	private final ExportProperties exportProperties;
+
+	private final TaskExecutor taskExecutor;
+
+	public ExportService(ApplicationProperties applicationProperties, @Qualifier("applicationTaskExecutor") TaskExecutor taskExecutor) {
+		this.exportProperties = applicationProperties.exports();
+		this.taskExecutor = taskExecutor;
+	}
+
+	/**
+	 * Submits an export to be run in the background, unless an export of the same resource, filename and
+	 * version is already in progress or completed, in which case that export is returned instead.
+	 *
+	 * @param resourceKey identifies what is being exported (ie: {@code request/1/matches})
+	 * @param version the current version of the resource being exported
+	 * @param filename the filename that the export will be downloaded as
+	 * @param contentType the content type of the export
+	 * @param exportWriter writes the content of the export; called on a background thread
+	 */
+	@Counted("service.export.submitExport.count")
+	public ExportJob submitExport(String resourceKey, String version, String filename, String contentType, ExportWriter exportWriter) {
+		Assert.hasText(resourceKey, "resourceKey is required; it must not be blank or null");
+		Assert.hasText(version, "version is required; it must not be blank or null");
+		Assert.hasText(filename, "filename is required; it must not be blank or null");
+		Assert.hasText(contentType, "contentType is required; it must not be blank or null");
+		Assert.notNull(exportWriter, "exportWriter is required; it must not be null");
+
+		final var exportJob = new AtomicReference<ExportJob>();
+		final var isNewJob = new AtomicBoolean();
+
+		exportJobIdsByCacheKey.compute(cacheKey(resourceKey, filename, version), (cacheKey, existingJobId) -> {
+			final var existingJob = Optional.ofNullable(existingJobId).map(exportJobs::get);
+
+			if (existingJob.filter(this::isReusable).isPresent()) {
+				log.debug("Reusing export job [{}] for [{}]", existingJobId, cacheKey);
+				exportJob.set(existingJob.get());
+				return existingJobId;
+			}
+
+			final var newJob = ExportJob.builder()
+				.id(UUID.randomUUID())
+				.resourceKey(resourceKey)
+				.version(version)
+				.filename(filename)
+				.contentType(contentType)
+				.status(Status.IN_PROGRESS)
+				.createdDate(Instant.now())
+				.build();
+
+			existingJob.ifPresent(job -> exportJobs.remove(job.id()));
+			exportJobs.put(newJob.id(), newJob);
+			exportJob.set(newJob);
+			isNewJob.set(true);
+
+			return newJob.id();
+		});
+
+		if (isNewJob.get()) {
+			log.info("Submitting export job [{}] for [{}]; version: [{}]", exportJob.get().id(), resourceKey, version);
+
+			try {
+				taskExecutor.execute(() -> runExport(exportJob.get(), exportWriter));
+			}
+			catch (final TaskRejectedException exception) {
+				// an in-progress job is reused by later submissions, so a job that will never run must not stay in progress
+				log.error("Export job [{}] was rejected by the task executor", exportJob.get().id(), exception);
+				complete(exportJob.get(), Status.FAILED);
+				throw exception;
+			}
+		}
+
+		return exportJob.get();
+	}
+
+	public Optional<ExportJob> getExportJob(UUID exportJobId) {
+		return Optional.ofNullable(exportJobs.get(exportJobId));
+	}
+
+	/**
+	 * Returns the file containing the content of a completed export.
+	 */
+	public Optional<Path> getExportFile(ExportJob exportJob) {
+		return Optional.of(exportFile(exportJob))
+			.filter(file -> exportJob.status() == Status.COMPLETED)
+			.filter(Files::isRegularFile);
+	}
+
+	/**
+	 * Removes expired export jobs along with their files. Any other file in the export directory that is older than
+	 * the export time-to-live (ie: an export left behind by a previous run of the application) is also removed.
+	 */
+	@Counted("service.export.sweepExpiredExports.count")
+	@Scheduled(initialDelayString = "${application.exports.sweep-interval}", fixedDelayString = "${application.exports.sweep-interval}")
+	public void sweepExpiredExports() {
+		final var now = Instant.now();
+
+		exportJobs.values().stream()
+			.filter(exportJob -> exportJob.expiryDate() != null && !exportJob.expiryDate().isAfter(now))
+			.forEach(exportJob -> {
+				log.debug("Removing expired export job [{}]", exportJob.id());
+				exportJobIdsByCacheKey.remove(cacheKey(exportJob.resourceKey(), exportJob.filename(), exportJob.version()), exportJob.id());
+				exportJobs.remove(exportJob.id());
+				deleteQuietly(exportFile(exportJob));
+			});
+
+		if (!Files.isDirectory(exportProperties.directory())) { return; }
+
+		final var cutoff = now.minus(exportProperties.timeToLive());
+
+		try (final var files = Files.list(exportProperties.directory())) {
+			files.filter(file -> isLastModifiedBefore(file, cutoff)).forEach(this::deleteQuietly);
+		}
+		catch (final IOException exception) {
+			log.warn("Could not sweep export directory [{}]", exportProperties.directory(), exception);
+		}
+	}
+
+	private void runExport(ExportJob exportJob, ExportWriter exportWriter) {
+		final var exportFile = exportFile(exportJob);
+		final var partialFile = exportFile.resolveSibling(exportFile.getFileName() + ".part");
+
+		try {
+			Files.createDirectories(exportProperties.directory());
+
+			try (final var outputStream = new BufferedOutputStream(Files.newOutputStream(partialFile))) {
+				exportWriter.write(outputStream);
+			}
+
+			// the file is only moved into place once it is complete, so a partial export is never served
+			Files.move(partialFile, exportFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			log.info("Completed export job [{}]", exportJob.id());
+			complete(exportJob, Status.COMPLETED);
+		}
+		catch (final IOException | RuntimeException exception) {
+			log.error("Export job [{}] failed", exportJob.id(), exception);
+			deleteQuietly(partialFile);
+			complete(exportJob, Status.FAILED);
+		}
+	}
+
+	private void complete(ExportJob exportJob, Status status) {
+		final var now = Instant.now();
+
+		exportJobs.computeIfPresent(exportJob.id(), (id, job) -> ExportJobBuilder.builder(job)
+			.status(status)
+			.completedDate(now)
+			.expiryDate(now.plus(exportProperties.timeToLive()))
+			.build());
+	}
+
+	/**
+	 * In-progress jobs are always reusable; completed jobs are reusable until they expire (or their file disappears).
+	 */
+	private boolean isReusable(ExportJob exportJob) {
+		return switch (exportJob.status()) {
+			case IN_PROGRESS -> true;
+			case COMPLETED -> exportJob.expiryDate().isAfter(Instant.now()) && Files.isRegularFile(exportFile(exportJob));
+			case FAILED -> false;
+		};
+	}
+
+	private Path exportFile(ExportJob exportJob) {
+		return exportProperties.directory().resolve(exportJob.id() + ".export");
+	}
+
+	private static String cacheKey(String resourceKey, String filename, String version) {
+		return String.join(":", resourceKey, filename, version);
+	}
+
+	private static boolean isLastModifiedBefore(Path file, Instant cutoff) {
+		try {
+			return Files.getLastModifiedTime(file).toInstant().isBefore(cutoff);
+		}
+		catch (final IOException exception) {
+			return false;
+		}
+	}
+
+	private void deleteQuietly(Path file) {
+		try {
+			Files.deleteIfExists(file);
+		}
+		catch (final IOException exception) {
+			log.warn("Could not delete export file [{}]", file, exception);
+		}
+	}
+
+}
@@ -1,23 +1,58 @@
 package ca.gov.dtsstn.vacman.api.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.StringJoiner;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.boot.restclient.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.security.oauth2.client.OAuth2AuthorizeRequest;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
 import org.springframework.stereotype.Service;
+import org.springframework.util.Assert;
 import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.UriUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.service.dto.MSGraphBatchRequest;
+import ca.gov.dtsstn.vacman.api.service.dto.MSGraphBatchResponse;
 import ca.gov.dtsstn.vacman.api.service.dto.MSGraphUser;
+import ca.gov.dtsstn.vacman.api.service.http.CircuitBreakerInterceptor;
+import ca.gov.dtsstn.vacman.api.service.http.PooledHttpClientFactory;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 
 @Service
+@Timed("service.msgraph")
 public class MSGraphService {
 
 	private static final Logger log = LoggerFactory.getLogger(MSGraphService.class);
@@ -38,47 +73,272 @@ public class MSGraphService {
 		.add("surname")
 		.toString();
 
+	/**
+	 * The maximum number of requests MSGraph accepts in a single {@code $batch} call.
+	 */
+	private static final int MAX_BATCH_SIZE = 20;
+
 	private final RestTemplate restTemplate;
 
-	public MSGraphService(ApplicationProperties applicationProperties, OAuth2AuthorizedClientManager oauth2AuthorizedClientManager, RestTemplateBuilder restTemplateBuilder) {
+	private final ObjectMapper objectMapper = JsonMapper.builder()
+		.findAndAddModules()
+		.build();
+
+	/**
+	 * Users recently fetched from MSGraph, keyed by {@link #idKey(String)} and {@link #emailKey(String)}.
+	 */
+	private final Cache<String, MSGraphUser> users;
+
+	/**
+	 * Lookups that recently came back {@code 404 Not Found}, so they are not repeated on every call.
+	 */
+	private final Cache<String, Boolean> notFoundUsers;
+
+	/**
+	 * Users previously fetched from MSGraph, served while MSGraph is unavailable.
+	 */
+	private final Cache<String, MSGraphUser> fallbackUsers;
+
+	public MSGraphService(ApplicationProperties applicationProperties, OAuth2AuthorizedClientManager oauth2AuthorizedClientManager, RestTemplateBuilder restTemplateBuilder, PooledHttpClientFactory httpClientFactory, CircuitBreakerRegistry circuitBreakerRegistry, MeterRegistry meterRegistry) {
+		final var requestFactory = httpClientFactory.createRequestFactory("msgraph", applicationProperties.msGraph().connectionPool(), applicationProperties.msGraph().connectTimeout(), applicationProperties.msGraph().readTimeout());
+		final var circuitBreakerInterceptor = CircuitBreakerInterceptor.create(circuitBreakerRegistry, "msgraph", applicationProperties.msGraph().circuitBreaker());
+
 		this.restTemplate = restTemplateBuilder
+			.requestFactory(() -> requestFactory)
 			.rootUri(applicationProperties.msGraph().baseUrl())
-			.connectTimeout(applicationProperties.msGraph().connectTimeout())
-			.readTimeout(applicationProperties.msGraph().readTimeout())
-			.interceptors(oauthInterceptor(oauth2AuthorizedClientManager))
+			.interceptors(oauthInterceptor(oauth2AuthorizedClientManager), circuitBreakerInterceptor)
 			.build();
+
+		this.users = Caffeine.from(applicationProperties.msGraph().userCacheSpec()).build();
+		this.notFoundUsers = Caffeine.from(applicationProperties.msGraph().userNotFoundCacheSpec()).build();
+		this.fallbackUsers = Caffeine.from(applicationProperties.msGraph().userFallbackCacheSpec()).build();
+
+		// these caches are not managed by the cache manager, so their statistics must be bound to the meter registry here
+		CaffeineCacheMetrics.monitor(meterRegistry, users, "msgraph-users", "cache.manager", "msGraphService");
+		CaffeineCacheMetrics.monitor(meterRegistry, notFoundUsers, "msgraph-not-found-users", "cache.manager", "msGraphService");
+		CaffeineCacheMetrics.monitor(meterRegistry, fallbackUsers, "msgraph-fallback-users", "cache.manager", "msGraphService");
 	}
 
 	@Counted("service.msgraph.getUserById.count")
 	public Optional<MSGraphUser> getUserById(String microsoftEntraId) {
+		final var cacheKey = idKey(microsoftEntraId);
+
+		if (notFoundUsers.getIfPresent(cacheKey) != null) {
+			log.debug("User with id=[{}] was recently not found in MSGraph", microsoftEntraId);
+			return Optional.empty();
+		}
+
+		final var cachedUser = users.getIfPresent(cacheKey);
+
+		if (cachedUser != null) {
+			log.debug("Serving cached MSGraph user with id=[{}]", microsoftEntraId);
+			return Optional.of(cachedUser);
+		}
+
 		log.debug("Fetching user with id=[{}] from MSGraph", microsoftEntraId);
 
 		try {
 			final var response = restTemplate.getForEntity("/users/{id}?$select={properties}", MSGraphUser.class, microsoftEntraId, SELECTED_USER_PROPERTIES);
 			log.debug("Successfully retrieved user with id=[{}] from MSGraph: [{}]", microsoftEntraId, response.getBody());
-			return Optional.ofNullable(response.getBody());
 
+			final var user = Optional.ofNullable(response.getBody());
+			user.ifPresent(msGraphUser -> cacheUser(cacheKey, msGraphUser));
+			return user;
 		}
 		catch (final HttpClientErrorException.NotFound exception) {
 			log.warn("Could not find user with id=[{}] in MSGraph", microsoftEntraId);
+			cacheNotFound(cacheKey);
 			return Optional.empty();
 		}
+		catch (final CallNotPermittedException | HttpServerErrorException | ResourceAccessException exception) {
+			return getFallbackUser(cacheKey, exception);
+		}
 	}
 
 	@Counted("service.msgraph.getUserByEmail.count")
 	public Optional<MSGraphUser> getUserByEmail(String email) {
+		final var cacheKey = emailKey(email);
+
+		if (notFoundUsers.getIfPresent(cacheKey) != null) {
+			log.debug("User with email=[{}] was recently not found in MSGraph", email);
+			return Optional.empty();
+		}
+
+		final var cachedUser = users.getIfPresent(cacheKey);
+
+		if (cachedUser != null) {
+			log.debug("Serving cached MSGraph user with email=[{}]", email);
+			return Optional.of(cachedUser);
+		}
+
 		log.debug("Fetching user with id=[{}] from MSGraph", email);
 
 		try {
 			final var response = restTemplate.getForEntity("/users/{email}?$select={properties}", MSGraphUser.class, email, SELECTED_USER_PROPERTIES);
 			log.debug("Successfully retrieved user with email=[{}] from MSGraph: [{}]", email, response.getBody());
-			return Optional.ofNullable(response.getBody());
 
+			final var user = Optional.ofNullable(response.getBody());
+			user.ifPresent(msGraphUser -> cacheUser(cacheKey, msGraphUser));
+			return user;
 		}
 		catch (final HttpClientErrorException.NotFound exception) {
 			log.warn("Could not find user with email=[{}] in MSGraph", email);
+			cacheNotFound(cacheKey);
 			return Optional.empty();
 		}
+		catch (final CallNotPermittedException | HttpServerErrorException | ResourceAccessException exception) {
+			return getFallbackUser(cacheKey, exception);
+		}
+	}
+
+	/**
+	 * Fetches many users by id, using as few MSGraph {@code $batch} calls as possible.
+	 *
+	 * @return the users that were found, keyed by the requested id; ids that were not found (or could not be fetched)
+	 * are absent from the map
+	 */
+	@Counted("service.msgraph.getUsersByIds.count")
+	public Map<String, MSGraphUser> getUsersByIds(Collection<String> microsoftEntraIds) {
+		return getUsers(microsoftEntraIds, MSGraphService::idKey);
+	}
+
+	/**
+	 * Fetches many users by email, using as few MSGraph {@code $batch} calls as possible.
+	 *
+	 * @return the users that were found, keyed by the requested email; emails that were not found (or could not be
+	 * fetched) are absent from the map
+	 */
+	@Counted("service.msgraph.getUsersByEmails.count")
+	public Map<String, MSGraphUser> getUsersByEmails(Collection<String> emails) {
+		return getUsers(emails, MSGraphService::emailKey);
+	}
+
+	private Map<String, MSGraphUser> getUsers(Collection<String> idsOrEmails, Function<String, String> toCacheKey) {
+		Assert.notNull(idsOrEmails, "idsOrEmails is required; it must not be null");
+
+		final var result = new HashMap<String, MSGraphUser>();
+		final var uncachedIdsOrEmails = new ArrayList<String>();
+
+		for (final var idOrEmail : new LinkedHashSet<>(idsOrEmails)) {
+			final var cacheKey = toCacheKey.apply(idOrEmail);
+			final var cachedUser = users.getIfPresent(cacheKey);
+
+			if (cachedUser != null) {
+				result.put(idOrEmail, cachedUser);
+			}
+			else if (notFoundUsers.getIfPresent(cacheKey) == null) {
+				uncachedIdsOrEmails.add(idOrEmail);
+			}
+		}
+
+		log.debug("Fetching [{}] of [{}] requested users from MSGraph", uncachedIdsOrEmails.size(), idsOrEmails.size());
+
+		for (var i = 0; i < uncachedIdsOrEmails.size(); i += MAX_BATCH_SIZE) {
+			final var batch = uncachedIdsOrEmails.subList(i, Math.min(i + MAX_BATCH_SIZE, uncachedIdsOrEmails.size()));
+			result.putAll(fetchUsers(batch, toCacheKey));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Fetches up to {@link #MAX_BATCH_SIZE} users in a single {@code $batch} call.
+	 * Each batch request is identified by the index of its id (or email) in {@code idsOrEmails}.
+	 */
+	private Map<String, MSGraphUser> fetchUsers(List<String> idsOrEmails, Function<String, String> toCacheKey) {
+		final var requests = IntStream.range(0, idsOrEmails.size())
+			.mapToObj(i -> new MSGraphBatchRequest.Request(String.valueOf(i), "GET", "/users/%s?$select=%s".formatted(UriUtils.encodePathSegment(idsOrEmails.get(i), StandardCharsets.UTF_8), SELECTED_USER_PROPERTIES)))
+			.toList();
+
+		final var result = new HashMap<String, MSGraphUser>();
+
+		try {
+			final var batchResponse = restTemplate.postForObject("/$batch", new MSGraphBatchRequest(requests), MSGraphBatchResponse.class);
+
+			final var responses = Optional.ofNullable(batchResponse)
+				.map(MSGraphBatchResponse::responses)
+				.orElseGet(List::of);
+
+			if (responses.isEmpty()) {
+				log.warn("MSGraph returned no responses for batch of [{}]", idsOrEmails.size());
+			}
+
+			for (final var response : responses) {
+				final var idOrEmail = idsOrEmails.get(Integer.parseInt(response.id()));
+				final var cacheKey = toCacheKey.apply(idOrEmail);
+				final var status = HttpStatusCode.valueOf(response.status());
+
+				if (status.is2xxSuccessful() && response.body() != null && response.body().isObject()) {
+					final var user = objectMapper.treeToValue(response.body(), MSGraphUser.class);
+					cacheUser(cacheKey, user);
+					result.put(idOrEmail, user);
+				}
+				else if (status.isSameCodeAs(HttpStatus.NOT_FOUND)) {
+					log.warn("Could not find user [{}] in MSGraph", idOrEmail);
+					cacheNotFound(cacheKey);
+				}
+				else {
+					log.warn("Could not fetch user [{}] from MSGraph; batch response status=[{}]", idOrEmail, response.status());
+				}
+			}
+		}
+		catch (final CallNotPermittedException | HttpServerErrorException | ResourceAccessException exception) {
+			log.warn("MSGraph is unavailable; serving cached users for batch of [{}]: {}", idsOrEmails.size(), exception.getMessage());
+
+			idsOrEmails.forEach(idOrEmail -> Optional.ofNullable(fallbackUsers.getIfPresent(toCacheKey.apply(idOrEmail)))
+				.ifPresent(fallbackUser -> result.put(idOrEmail, fallbackUser)));
+		}
+
+		return result;
+	}
+
+	/**
+	 * Caches a user under the key it was looked up by, as well as under its id and email so that a later lookup by
+	 * either one is also served from the cache.
+	 */
+	private void cacheUser(String cacheKey, MSGraphUser user) {
+		final var cacheKeys = Stream.of(cacheKey, idKey(user.id()), emailKey(user.mail()))
+			.filter(Objects::nonNull)
+			.distinct()
+			.toList();
+
+		cacheKeys.forEach(key -> {
+			users.put(key, user);
+			fallbackUsers.put(key, user);
+			notFoundUsers.invalidate(key);
+		});
+	}
+
+	private void cacheNotFound(String cacheKey) {
+		notFoundUsers.put(cacheKey, Boolean.TRUE);
+		users.invalidate(cacheKey);
+		fallbackUsers.invalidate(cacheKey);
+	}
+
+	/**
+	 * Serves a previously fetched user while MSGraph is unavailable, or rethrows {@code exception} if there is none.
+	 */
+	private Optional<MSGraphUser> getFallbackUser(String cacheKey, RuntimeException exception) {
+		final var fallbackUser = fallbackUsers.getIfPresent(cacheKey);
+
+		if (fallbackUser == null) {
+			log.warn("MSGraph is unavailable and there is no cached user for [{}]: {}", cacheKey, exception.getMessage());
+			throw exception;
+		}
+
+		log.warn("MSGraph is unavailable; serving cached user for [{}]: {}", cacheKey, exception.getMessage());
+		return Optional.of(fallbackUser);
+	}
+
+	private static @Nullable String idKey(@Nullable String microsoftEntraId) {
+		return (microsoftEntraId == null) ? null : "id:" + microsoftEntraId;
+	}
+
+	/**
+	 * MSGraph matches emails case-insensitively, so the cache does too.
+	 */
+	private static @Nullable String emailKey(@Nullable String email) {
+		return (email == null) ? null : "email:" + email.toLowerCase(Locale.ROOT);
 	}
 
 	private ClientHttpRequestInterceptor oauthInterceptor(OAuth2AuthorizedClientManager oauth2AuthorizedClientManager) {
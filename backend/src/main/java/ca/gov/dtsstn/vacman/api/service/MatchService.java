@@ -1,29 +1,87 @@
 package ca.gov.dtsstn.vacman.api.service;
 
+import static ca.gov.dtsstn.vacman.api.data.repository.MatchRepository.hasIdIn;
+import static ca.gov.dtsstn.vacman.api.data.repository.MatchRepository.hasRequestId;
+import static ca.gov.dtsstn.vacman.api.web.exception.ResourceNotFoundException.asResourceNotFoundException;
+import static java.util.Comparator.comparingLong;
+import static java.util.function.Function.identity;
+import static java.util.stream.Collectors.toMap;
+import static org.springframework.data.domain.Pageable.unpaged;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
 
 import ca.gov.dtsstn.vacman.api.data.entity.MatchEntity;
+import ca.gov.dtsstn.vacman.api.data.entity.MatchFeedbackEntity;
+import ca.gov.dtsstn.vacman.api.data.entity.MatchStatusEntity;
 import ca.gov.dtsstn.vacman.api.data.repository.MatchRepository;
 import ca.gov.dtsstn.vacman.api.event.MatchStatusChangeEvent;
+import ca.gov.dtsstn.vacman.api.event.MatchesBulkUpdatedEvent;
+import ca.gov.dtsstn.vacman.api.event.MatchesBulkUpdatedEvent.StatusChange;
+import ca.gov.dtsstn.vacman.api.service.dto.MatchBulkUpdate;
+import ca.gov.dtsstn.vacman.api.service.dto.MatchFeedbackImportResult;
+import ca.gov.dtsstn.vacman.api.service.dto.MatchFeedbackImportResult.RowError;
+import ca.gov.dtsstn.vacman.api.service.dto.MatchFeedbackImportRow;
+import ca.gov.dtsstn.vacman.api.web.exception.ResourceNotFoundException;
 import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.Nullable;
 
 @Service
+@Timed("service.match")
 public class MatchService {
 
 	private static final Logger log = LoggerFactory.getLogger(MatchService.class);
 	private static final String MATCH_PENDING = "MATCH_PENDING";
 	private static final String APPROVED = "APPROVED";
 
+	/**
+	 * The maximum length of a match comment (see {@code [MATCH].[HIRING_MANAGER_COMMENT]}).
+	 */
+	private static final int MAX_COMMENT_LENGTH = 100;
+
+	/**
+	 * The maximum number of match ids that are looked up per query, to stay well below SQL Server's limit of 2100
+	 * parameters per statement.
+	 */
+	static final int MAX_MATCH_IDS_PER_QUERY = 1000;
+
+	/**
+	 * The associations that are fetched (joined) along with each bulk-updated match, to avoid N+1 selects.
+	 */
+	private static final List<String> MATCH_BULK_UPDATE_FETCH_GRAPH = List.of(
+		"matchFeedback",
+		"matchStatus",
+		"profile.user",
+		"profile.wfaStatus",
+		"request.hiringManager",
+		"request.hrAdvisor",
+		"request.requestStatus"
+	);
+
+	private final CodeService codeService;
 	private final MatchRepository matchRepository;
 	private final ApplicationEventPublisher eventPublisher;
 
-	public MatchService(MatchRepository matchRepository, ApplicationEventPublisher eventPublisher) {
+	public MatchService(CodeService codeService, MatchRepository matchRepository, ApplicationEventPublisher eventPublisher) {
+		this.codeService = codeService;
 		this.matchRepository = matchRepository;
 		this.eventPublisher = eventPublisher;
 	}
@@ -62,4 +120,230 @@ public class MatchService {
 		return savedMatch;
 	}
 
+	/**
+	 * Updates several of a request's matches at once.
+	 * <p>
+	 * All matches are loaded with a single query, status and feedback codes are resolved once (from the
+	 * code cache), and every change is flushed together (in JDBC batches) when the transaction commits.
+	 * A single {@link MatchesBulkUpdatedEvent} is published for the whole update, rather than one event per match.
+	 *
+	 * @param requestId the id of the request that owns the matches
+	 * @param updates the changes to apply; if a match appears more than once, its last update wins
+	 * @return the updated matches, in the order they were first listed in {@code updates}
+	 * @throws ResourceNotFoundException if a match does not exist (or does not belong to the request),
+	 *         or if a status or feedback code does not exist
+	 */
+	@Transactional
+	@Counted("service.match.updateMatches.count")
+	public List<MatchEntity> updateMatches(Long requestId, Collection<MatchBulkUpdate> updates) {
+		Assert.notNull(requestId, "requestId is required; it must not be null");
+		Assert.notEmpty(updates, "updates is required; it must not be empty or null");
+
+		log.debug("Bulk updating [{}] matches for request id: [{}]", updates.size(), requestId);
+
+		final var updatesByMatchId = updates.stream()
+			.collect(toMap(MatchBulkUpdate::matchId, identity(), (first, second) -> second, LinkedHashMap::new));
+
+		final var matchesById = findMatchesById(requestId, updatesByMatchId.keySet());
+
+		final var missingMatchIds = updatesByMatchId.keySet().stream()
+			.filter(matchId -> !matchesById.containsKey(matchId))
+			.toList();
+
+		if (!missingMatchIds.isEmpty()) {
+			// matches that belong to other requests are reported as missing, so as to not leak their existence
+			throw new ResourceNotFoundException("Matches with ids=" + missingMatchIds + " do not exist");
+		}
+
+		return applyUpdates(requestId, matchesById, updatesByMatchId.values());
+	}
+
+	/**
+	 * Imports match feedback (and hiring manager comments) from the rows of a previously exported match spreadsheet.
+	 * <p>
+	 * Every row is validated before anything is changed: match ids must belong to the request (and appear only once),
+	 * and feedback values must match the code, English name or French name of a match feedback (ignoring case).
+	 * If any row is invalid, no matches are updated and the row-level errors are returned. Otherwise, all matches are
+	 * updated together, exactly as if they had been passed to {@link #updateMatches(Long, Collection)}. Blank
+	 * feedback and comment values are left unchanged.
+	 *
+	 * @param requestId the id of the request that owns the matches
+	 * @param rows the spreadsheet rows, excluding the header row
+	 */
+	@Transactional
+	@Counted("service.match.importMatchFeedback.count")
+	public MatchFeedbackImportResult importMatchFeedback(Long requestId, List<MatchFeedbackImportRow> rows) {
+		Assert.notNull(requestId, "requestId is required; it must not be null");
+		Assert.notNull(rows, "rows is required; it must not be null");
+
+		log.debug("Importing match feedback from [{}] rows for request id: [{}]", rows.size(), requestId);
+
+		final var errors = new ArrayList<RowError>();
+		final var matchIdsByRow = new LinkedHashMap<MatchFeedbackImportRow, Long>();
+		final var rowNumbersByMatchId = new HashMap<Long, Long>();
+
+		for (final var row : rows) {
+			final var matchId = parseMatchId(row, errors);
+			if (matchId == null) { continue; }
+
+			final var firstRowNumber = rowNumbersByMatchId.putIfAbsent(matchId, row.rowNumber());
+
+			if (firstRowNumber != null) {
+				errors.add(new RowError(row.rowNumber(), "matchId", "Match id [" + matchId + "] is also listed on row " + firstRowNumber));
+				continue;
+			}
+
+			matchIdsByRow.put(row, matchId);
+		}
+
+		final var matchesById = matchIdsByRow.isEmpty() ? Map.<Long, MatchEntity>of() : findMatchesById(requestId, matchIdsByRow.values());
+		final var matchFeedbacksByName = getMatchFeedbacksByName();
+		final var updates = new ArrayList<MatchBulkUpdate>();
+
+		matchIdsByRow.forEach((row, matchId) -> {
+			if (!matchesById.containsKey(matchId)) {
+				// matches that belong to other requests are reported as missing, so as to not leak their existence
+				errors.add(new RowError(row.rowNumber(), "matchId", "Match id [" + matchId + "] does not exist"));
+				return;
+			}
+
+			final var update = MatchBulkUpdate.builder().matchId(matchId);
+
+			if (StringUtils.hasText(row.matchFeedback())) {
+				final var matchFeedback = matchFeedbacksByName.get(normalize(row.matchFeedback()));
+
+				if (matchFeedback == null) {
+					errors.add(new RowError(row.rowNumber(), "matchFeedback", "Match feedback [" + row.matchFeedback().strip() + "] does not exist"));
+					return;
+				}
+
+				update.matchFeedbackId(matchFeedback.getId());
+			}
+
+			if (StringUtils.hasText(row.hiringManagerComment())) {
+				final var hiringManagerComment = row.hiringManagerComment().strip();
+
+				if (hiringManagerComment.length() > MAX_COMMENT_LENGTH) {
+					errors.add(new RowError(row.rowNumber(), "hiringManagerComment", "Hiring manager comment must be at most " + MAX_COMMENT_LENGTH + " characters"));
+					return;
+				}
+
+				update.hiringManagerComment(hiringManagerComment);
+			}
+
+			final var matchBulkUpdate = update.build();
+
+			if (matchBulkUpdate.matchFeedbackId() != null || matchBulkUpdate.hiringManagerComment() != null) {
+				updates.add(matchBulkUpdate);
+			}
+		});
+
+		if (!errors.isEmpty()) {
+			log.debug("Match feedback import for request id: [{}] failed with [{}] row errors", requestId, errors.size());
+			errors.sort(comparingLong(RowError::rowNumber));
+			return new MatchFeedbackImportResult(rows.size(), List.of(), errors);
+		}
+
+		final var updatedMatches = updates.isEmpty() ? List.<MatchEntity>of() : applyUpdates(requestId, matchesById, updates);
+
+		return new MatchFeedbackImportResult(rows.size(), updatedMatches, List.of());
+	}
+
+	/**
+	 * Finds the request's matches with the given ids, {@value #MAX_MATCH_IDS_PER_QUERY} ids at a time.
+	 */
+	private Map<Long, MatchEntity> findMatchesById(Long requestId, Collection<Long> matchIds) {
+		final var distinctMatchIds = List.copyOf(new LinkedHashSet<>(matchIds));
+		final var matchesById = new HashMap<Long, MatchEntity>(distinctMatchIds.size());
+
+		for (var i = 0; i < distinctMatchIds.size(); i += MAX_MATCH_IDS_PER_QUERY) {
+			final var matchIdsChunk = distinctMatchIds.subList(i, Math.min(i + MAX_MATCH_IDS_PER_QUERY, distinctMatchIds.size()));
+
+			matchRepository.findBy(hasRequestId(requestId).and(hasIdIn(matchIdsChunk)), fluentQuery -> fluentQuery
+					.project(MATCH_BULK_UPDATE_FETCH_GRAPH)
+					.all())
+				.forEach(match -> matchesById.put(match.getId(), match));
+		}
+
+		return matchesById;
+	}
+
+	/**
+	 * Applies {@code updates} to the (already loaded) matches, saves them, and publishes a single event.
+	 */
+	private List<MatchEntity> applyUpdates(Long requestId, Map<Long, MatchEntity> matchesById, Collection<MatchBulkUpdate> updates) {
+		final var matchStatusesByCode = codeService.getMatchStatuses(unpaged()).stream()
+			.collect(toMap(MatchStatusEntity::getCode, identity()));
+
+		final var matchFeedbacksById = codeService.getMatchFeedbacks(unpaged()).stream()
+			.collect(toMap(MatchFeedbackEntity::getId, identity()));
+
+		final var matches = new ArrayList<MatchEntity>(updates.size());
+		final var statusChanges = new ArrayList<StatusChange>();
+
+		for (final var update : updates) {
+			final var match = matchesById.get(update.matchId());
+
+			if (update.matchStatusCode() != null) {
+				final var previousStatusCode = Optional.ofNullable(match.getMatchStatus()).map(MatchStatusEntity::getCode).orElse(null);
+
+				match.setMatchStatus(Optional.ofNullable(matchStatusesByCode.get(update.matchStatusCode()))
+					.orElseThrow(asResourceNotFoundException("match status", "code", update.matchStatusCode())));
+
+				if (!update.matchStatusCode().equals(previousStatusCode)) {
+					statusChanges.add(new StatusChange(match.getId(), previousStatusCode, update.matchStatusCode()));
+				}
+			}
+
+			if (update.matchFeedbackId() != null) {
+				match.setMatchFeedback(Optional.ofNullable(matchFeedbacksById.get(update.matchFeedbackId()))
+					.orElseThrow(asResourceNotFoundException("match feedback", update.matchFeedbackId())));
+			}
+
+			if (update.hiringManagerComment() != null) { match.setHiringManagerComment(update.hiringManagerComment()); }
+			if (update.hrAdvisorComment() != null) { match.setHrAdvisorComment(update.hrAdvisorComment()); }
+
+			matches.add(match);
+		}
+
+		final var savedMatches = matchRepository.saveAll(matches);
+
+		eventPublisher.publishEvent(new MatchesBulkUpdatedEvent(requestId, savedMatches, statusChanges));
+
+		return savedMatches;
+	}
+
+	/**
+	 * Returns the match feedbacks keyed by their (normalized) code, English name and French name.
+	 */
+	private Map<String, MatchFeedbackEntity> getMatchFeedbacksByName() {
+		final var matchFeedbacksByName = new HashMap<String, MatchFeedbackEntity>();
+
+		codeService.getMatchFeedbacks(unpaged()).forEach(matchFeedback -> Stream.of(matchFeedback.getCode(), matchFeedback.getNameEn(), matchFeedback.getNameFr())
+			.filter(StringUtils::hasText)
+			.forEach(name -> matchFeedbacksByName.putIfAbsent(normalize(name), matchFeedback)));
+
+		return matchFeedbacksByName;
+	}
+
+	private static @Nullable Long parseMatchId(MatchFeedbackImportRow row, List<RowError> errors) {
+		if (!StringUtils.hasText(row.matchId())) {
+			errors.add(new RowError(row.rowNumber(), "matchId", "Match id is required"));
+			return null;
+		}
+
+		try {
+			// spreadsheet apps sometimes turn ids into decimals (ie: 123.0)
+			return new BigDecimal(row.matchId().strip()).longValueExact();
+		}
+		catch (final ArithmeticException | NumberFormatException exception) {
+			errors.add(new RowError(row.rowNumber(), "matchId", "Match id [" + row.matchId().strip() + "] is not a valid id"));
+			return null;
+		}
+	}
+
+	private static String normalize(String name) {
+		return name.strip().toLowerCase(Locale.ROOT);
+	}
+
 }
@@ -1,14 +1,10 @@
 package ca.gov.dtsstn.vacman.api.service;
 
-import java.lang.reflect.RecordComponent;
-import java.text.ParseException;
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
-import javax.swing.text.MaskFormatter;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -21,9 +17,18 @@ import org.springframework.web.client.RestTemplate;
 
 import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes;
+import ca.gov.dtsstn.vacman.api.jfr.EmailRenderingEvent;
+import ca.gov.dtsstn.vacman.api.jfr.GcNotifyCallEvent;
+import ca.gov.dtsstn.vacman.api.service.EmailTemplateService.EmailContent;
 import ca.gov.dtsstn.vacman.api.service.email.data.EmailTemplateModel;
+import ca.gov.dtsstn.vacman.api.service.http.CircuitBreakerInterceptor;
+import ca.gov.dtsstn.vacman.api.service.http.PooledHttpClientFactory;
+import ca.gov.dtsstn.vacman.api.service.notify.BulkNotificationReceipt;
+import ca.gov.dtsstn.vacman.api.service.notify.GcNotifyRateLimiter;
 import ca.gov.dtsstn.vacman.api.service.notify.NotificationReceipt;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 
 /**
  * Service for handling email notifications using GC Notify.
@@ -31,6 +36,7 @@ import io.micrometer.core.annotation.Counted;
  * utilizing FreeMarker templates for content generation and supporting multiple languages.
  */
 @Service
+@Timed("service.notification")
 public class NotificationService {
 
 	/**
@@ -49,6 +55,32 @@ public class NotificationService {
 
 	private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
 
+	/**
+	 * The header row of every GC Notify bulk request. Column names must match the generic template's personalisation keys.
+	 */
+	private static final List<String> BULK_HEADER_ROW = List.of("email address", "email_body", "email_subject");
+
+	private static final String REQUEST_NUMBER_MASK = "####-####-##";
+
+	private static final long MAX_FORMATTED_REQUEST_ID = 9_999_999_999L;
+
+	/**
+	 * The request or profile that a notification is about, recorded in the notification's JFR events.
+	 */
+	private record NotificationSubject(long requestId, String profileId) {
+
+		static final NotificationSubject NONE = new NotificationSubject(0, null);
+
+		static NotificationSubject ofRequest(Long requestId) {
+			return new NotificationSubject(requestId, null);
+		}
+
+		static NotificationSubject ofProfile(String profileId) {
+			return new NotificationSubject(0, profileId);
+		}
+
+	}
+
 	private final ApplicationProperties applicationProperties;
 
 	private final RestTemplate restTemplate;
@@ -62,38 +94,64 @@ public class NotificationService {
 	 * @param restTemplateBuilder builder for creating the REST template
 	 * @param lookupCodes lookup codes configuration (reserved for future use)
 	 * @param emailTemplateService the email template service
+	 * @param rateLimiter client-side rate limiter applied to every GC Notify call
+	 * @param httpClientFactory factory for the pooled GC Notify HTTP client
+	 * @param circuitBreakerRegistry registry of the circuit breakers guarding outbound integrations
 	 */
 	public NotificationService(
 			ApplicationProperties applicationProperties,
 			RestTemplateBuilder restTemplateBuilder,
 			LookupCodes lookupCodes,
-			EmailTemplateService emailTemplateService) {
+			EmailTemplateService emailTemplateService,
+			GcNotifyRateLimiter rateLimiter,
+			PooledHttpClientFactory httpClientFactory,
+			CircuitBreakerRegistry circuitBreakerRegistry) {
 		this.applicationProperties = applicationProperties;
 		this.emailTemplateService = emailTemplateService;
+
+		final var requestFactory = httpClientFactory.createRequestFactory("gcnotify", applicationProperties.gcnotify().connectionPool(), applicationProperties.gcnotify().connectTimeout(), applicationProperties.gcnotify().readTimeout());
+		final var circuitBreakerInterceptor = CircuitBreakerInterceptor.create(circuitBreakerRegistry, "gcnotify", applicationProperties.gcnotify().circuitBreaker());
+
 		this.restTemplate = restTemplateBuilder
+			.requestFactory(() -> requestFactory)
 			.defaultHeader(HttpHeaders.AUTHORIZATION, "ApiKey-v1 %s".formatted(applicationProperties.gcnotify().apiKey()))
 			.rootUri(applicationProperties.gcnotify().baseUrl())
-			.connectTimeout(applicationProperties.gcnotify().connectTimeout())
-			.readTimeout(applicationProperties.gcnotify().readTimeout())
+			// the breaker sits inside the rate limiter so that time spent waiting for a permit is not counted as a slow call
+			.interceptors(rateLimiter, circuitBreakerInterceptor)
 			.build();
 	}
 
 	/**
-	 * Formats the request number as 0000-0000-{requestId}.
+	 * Formats the request number as {@code ####-####-##} (ie: request 123 is formatted as {@code 0000-0001-23}).
+	 * Request ids that do not fit the mask (ie: more than 10 digits) are returned as-is.
+	 * <p>
+	 * This is called for every notification sent, so the digits are written straight into the result's backing array
+	 * rather than through a formatter.
 	 *
 	 * @param requestId the ID of the request
 	 * @return the formatted request number
 	 */
 	public String formatRequestNumber(Long requestId) {
 		Assert.notNull(requestId, "requestId must not be null");
-		try {
-			MaskFormatter formatter = new MaskFormatter("####-####-##");
-			formatter.setValueContainsLiteralCharacters(false);
-			return formatter.valueToString(String.format("%010d", requestId));
-		}
-		catch (final ParseException exception) {
+
+		if (requestId < 0 || requestId > MAX_FORMATTED_REQUEST_ID) {
 			return requestId.toString();
 		}
+
+		final var chars = new char[REQUEST_NUMBER_MASK.length()];
+		var remaining = requestId.longValue();
+
+		for (var i = chars.length - 1; i >= 0; i--) {
+			if (REQUEST_NUMBER_MASK.charAt(i) == '#') {
+				chars[i] = (char) ('0' + (remaining % 10));
+				remaining /= 10;
+			}
+			else {
+				chars[i] = REQUEST_NUMBER_MASK.charAt(i);
+			}
+		}
+
+		return new String(chars);
 	}
 
 	/**
@@ -114,62 +172,35 @@ public class NotificationService {
 		Assert.hasText(username, "username is required; it must not be blank or null");
 		Assert.hasText(language, "language is required; it must not be blank or null");
 
-		final var templateName = switch (profileStatus) {
-			case APPROVED -> "vmsProfileActivation.ftl";
-			case PENDING -> "approvalRequired.ftl";
-			case ARCHIVED -> "vmsProfileClosed.ftl";
-		};
-
-		final var model = Map.<String, String>of(
-			"employeeName", username,
-			"profileId", profileId
-		);
-
-		final var emailContent = emailTemplateService.processEmailTemplate(templateName, Locale.of(language), model);
-		final var templateId = applicationProperties.gcnotify().genericTemplateId();
+		final var emailContent = processProfileTemplate(profileId, username, language, profileStatus);
+		log.trace("Request to send profile notification email=[{}], subject=[{}]", email, emailContent.subject());
 
-		// Personalization parameters
-		final var personalization = Map.of(
-			"email_subject", emailContent.subject(),
-			"email_body", emailContent.body()
-		);
-
-		log.trace("Request to send profile notification email=[{}], parameters=[{}]", email, personalization);
-
-		final var request = Map.of(
-			"email_address", email,
-			"template_id", templateId,
-			"personalisation", personalization
-		);
-
-		final var notificationReceipt = restTemplate.postForObject("/email", request, NotificationReceipt.class);
-		log.debug("Notification sent to email [{}] using template [{}]", email, templateId);
-
-		return notificationReceipt;
+		return sendEmail(email, emailContent, NotificationSubject.ofProfile(profileId));
 	}
 
 	/**
 	 * Sends a profile specific email notification to multiple email addresses.
-	 * Notifications are sent in parallel for efficiency, and each email address receives the same notification content.
+	 * The notification content is rendered once and sent through the GC Notify bulk API, in as many chunks as
+	 * required by {@code application.gcnotify.bulk-chunk-size}.
 	 *
-	 * @param emails the list of recipient email addresses; must not be empty or null, and individual emails must not be blank
+	 * @param emails the list of recipient email addresses; must not be empty or null, blank emails are ignored
 	 * @param profileId the ID of the profile; must not be blank or null
 	 * @param username the username of the profile owner; must not be blank or null
 	 * @param language the language code for the notification (e.g., "en", "fr")
-	 * @param profileStatus the status of the profile (APPROVED or PENDING)
-	 * @return a list of notification receipts, one for each successfully sent email
+	 * @param profileStatus the status of the profile (APPROVED, PENDING or ARCHIVED)
+	 * @return a list of bulk notification receipts, one for each chunk sent
 	 */
 	@Counted("service.notification.sendProfileNotificationMultiple.count")
-	public List<NotificationReceipt> sendProfileNotification(List<String> emails, String profileId, String username, String language, ProfileStatus profileStatus) {
+	public List<BulkNotificationReceipt> sendProfileNotification(List<String> emails, String profileId, String username, String language, ProfileStatus profileStatus) {
 		Assert.notEmpty(emails, "emails is required; it must not be blank or null");
 		Assert.hasText(profileId, "profileId is required; it must not be blank or null");
 		Assert.hasText(username, "username is required; it must not be blank or null");
 		Assert.hasText(language, "language is required; it must not be blank or null");
 
-		return emails.stream()
-			.filter(StringUtils::hasText)
-			.map(email -> sendProfileNotification(email, profileId, username, language, profileStatus))
-			.toList();
+		final var emailContent = processProfileTemplate(profileId, username, language, profileStatus);
+		final var jobName = "Profile %s Notification - %s".formatted(profileStatus, profileId);
+
+		return sendBulkEmail(jobName, emails, emailContent, NotificationSubject.ofProfile(profileId));
 	}
 
 	/**
@@ -208,144 +239,68 @@ public class NotificationService {
 		Assert.hasText(requestTitle, "requestTitle is required; it must not be blank or null");
 		Assert.hasText(language, "language is required; it must not be blank or null");
 
-		final var templateName = switch (requestEvent) {
-			case VMS_NOT_REQUIRED, HR_REVIEW -> "requestAssigned.ftl";
-			case SUBMITTED -> "requestSubmitted.ftl";
-			case PSC_REQUIRED -> "pscClearanceRequired.ftl";
-			case FEEDBACK_PENDING -> "prioritiesIdentified.ftl";
-			case FEEDBACK_COMPLETED -> "pendingFeedbackApprovalHR.ftl";
-			case PSC_NOT_REQUIRED -> "pscClearanceNotRequired.ftl";
-			case COMPLETED -> "feedbackApprovedPSC.ftl";
-			case COMPLETED_NO_VMS -> "feedbackApprovedPscNoVms.ftl";
-			case CANCELLED -> "requestCancelled.ftl";
-		};
-
-		// Create the appropriate model based on the request event
-		final var model = switch (requestEvent) {
-			case SUBMITTED ->
-				recordToMap(new EmailTemplateModel.RequestSubmitted(
-					formatRequestNumber(requestId),
-					"%s/%s/%s/%d".formatted(
-						applicationProperties.frontend().baseUrl(),
-						language.toLowerCase(),
-						"fr".equalsIgnoreCase(language) ? "conseiller-rh/demande" : "hr-advisor/request",
-						requestId
-					)
-				));
-			case VMS_NOT_REQUIRED, HR_REVIEW ->
-				recordToMap(new EmailTemplateModel.RequestAssigned(
-					formatRequestNumber(requestId),
-					"%s/%s/%s/%d".formatted(
-						applicationProperties.frontend().baseUrl(),
-						language.toLowerCase(),
-						"fr".equalsIgnoreCase(language) ? "conseiller-rh/demande" : "hr-advisor/request",
-						requestId
-					)
-				));
-			case PSC_REQUIRED ->
-				recordToMap(new EmailTemplateModel.PscClearanceRequired(formatRequestNumber(requestId)));
-			case FEEDBACK_PENDING ->
-				recordToMap(new EmailTemplateModel.PrioritiesIdentified(
-					formatRequestNumber(requestId),
-					"%s/%s/%s/%d/%s".formatted(
-						applicationProperties.frontend().baseUrl(),
-						language.toLowerCase(),
-						"fr".equalsIgnoreCase(language) ? "gestionnaire-embauche/demande" : "hiring-manager/request",
-						requestId,
-						"fr".equalsIgnoreCase(language) ? "correspondances" : "matches"
-					)
-				));
-			case FEEDBACK_COMPLETED ->
-				recordToMap(new EmailTemplateModel.PendingFeedbackApprovalHR(formatRequestNumber(requestId)));
-			case PSC_NOT_REQUIRED ->
-				recordToMap(new EmailTemplateModel.FeedbackApproved(formatRequestNumber(requestId), Optional.ofNullable(priorityClearanceNumber).orElse("")));
-			case COMPLETED, COMPLETED_NO_VMS ->
-				recordToMap(new EmailTemplateModel.FeedbackApprovedPSC(
-					formatRequestNumber(requestId),
-					Optional.ofNullable(priorityClearanceNumber).orElse("Pending"),
-					Optional.ofNullable(pscClearanceNumber).orElse("Pending")
-				));
-			case CANCELLED ->
-				recordToMap(new EmailTemplateModel.RequestCancelled(formatRequestNumber(requestId)));
-		};
-
-		final var emailContent = emailTemplateService.processEmailTemplate(templateName, Locale.of(language), model);
-		final var templateId = applicationProperties.gcnotify().genericTemplateId();
+		final var emailContent = processRequestTemplate(requestId, requestEvent, language, priorityClearanceNumber, pscClearanceNumber);
+		log.trace("Request to send request notification email=[{}], subject=[{}]", email, emailContent.subject());
 
-		final var personalization = Map.of(
-			"email_subject", emailContent.subject(),
-			"email_body", emailContent.body()
-		);
-
-		log.trace("Request to send request notification email=[{}], parameters=[{}]", email, personalization);
-
-		final var request = Map.of(
-			"email_address", email,
-			"template_id", templateId,
-			"personalisation", personalization
-		);
-
-		final var notificationReceipt = restTemplate.postForObject("/email", request, NotificationReceipt.class);
-		log.debug("Notification sent to email [{}] using template [{}]", email, templateId);
-
-		return notificationReceipt;
+		return sendEmail(email, emailContent, NotificationSubject.ofRequest(requestId));
 	}
 
 	/**
 	 * Sends a request notification to multiple email addresses.
-	 * Notifications are sent in parallel for efficiency, and each email address receives the same notification content.
+	 * The notification content is rendered once and sent through the GC Notify bulk API.
 	 *
-	 * @param emails the list of recipient email addresses; must not be empty or null, and individual emails must not be blank
+	 * @param emails the list of recipient email addresses; must not be empty or null, blank emails are ignored
 	 * @param requestId the ID of the request; must not be null
 	 * @param requestTitle the title of the request; must not be blank or null
 	 * @param requestEvent the event that triggered the notification
 	 * @param language the language code for the notification (e.g., "en", "fr")
-	 * @return a list of notification receipts, one for each successfully sent email
+	 * @return a list of bulk notification receipts, one for each chunk sent
 	 */
 	@Counted("service.notification.sendRequestNotificationMultiple.count")
-	public List<NotificationReceipt> sendRequestNotification(List<String> emails, Long requestId, String requestTitle, RequestEvent requestEvent, String language) {
+	public List<BulkNotificationReceipt> sendRequestNotification(List<String> emails, Long requestId, String requestTitle, RequestEvent requestEvent, String language) {
 		return sendRequestNotification(emails, requestId, requestTitle, requestEvent, language, null, null);
 	}
 
 	/**
 	 * Sends a request notification to multiple email addresses.
-	 * Notifications are sent in parallel for efficiency, and each email address receives the same notification content.
+	 * The notification content is rendered once and sent through the GC Notify bulk API, in as many chunks as
+	 * required by {@code application.gcnotify.bulk-chunk-size}.
 	 *
-	 * @param emails the list of recipient email addresses; must not be empty or null, and individual emails must not be blank
+	 * @param emails the list of recipient email addresses; must not be empty or null, blank emails are ignored
 	 * @param requestId the ID of the request; must not be null
 	 * @param requestTitle the title of the request; must not be blank or null
 	 * @param requestEvent the event that triggered the notification
 	 * @param language the language code for the notification (e.g., "en", "fr")
 	 * @param priorityClearanceNumber "Departmental" priority number (optional)
 	 * @param pscClearanceNumber the PSC clearance number (optional)
-	 * @return a list of notification receipts, one for each successfully sent email
+	 * @return a list of bulk notification receipts, one for each chunk sent
 	 */
 	@Counted("service.notification.sendRequestNotificationMultiple.count")
-	public List<NotificationReceipt> sendRequestNotification(List<String> emails, Long requestId, String requestTitle, RequestEvent requestEvent, String language, String priorityClearanceNumber, String pscClearanceNumber) {
+	public List<BulkNotificationReceipt> sendRequestNotification(List<String> emails, Long requestId, String requestTitle, RequestEvent requestEvent, String language, String priorityClearanceNumber, String pscClearanceNumber) {
 		Assert.notEmpty(emails, "emails is required; it must not be empty or null");
 		Assert.notNull(requestId, "requestId is required; it must not be null");
 		Assert.hasText(requestTitle, "requestTitle is required; it must not be blank or null");
 		Assert.hasText(language, "language is required; it must not be blank or null");
 
-		return emails.stream()
-			.filter(StringUtils::hasText)
-			.map(email -> sendRequestNotification(email, requestId, requestTitle, requestEvent, language, priorityClearanceNumber, pscClearanceNumber))
-			.toList();
-	}
+		final var emailContent = processRequestTemplate(requestId, requestEvent, language, priorityClearanceNumber, pscClearanceNumber);
+		final var jobName = "Request %s Notification - %d".formatted(requestEvent, requestId);
 
+		return sendBulkEmail(jobName, emails, emailContent, NotificationSubject.ofRequest(requestId));
+	}
 
 	/**
-	 * Sends job opportunity notifications to multiple recipients in a single bulk API call.
+	 * Sends job opportunity notifications to multiple recipients through the GC Notify bulk API.
+	 * Recipients are split into as many bulk calls as required by {@code application.gcnotify.bulk-chunk-size}.
 	 *
 	 * @param recipientEmails List of recipient email addresses
 	 * @param requestId the ID of the request
 	 * @param requestTitle the title of the request
 	 * @param jobModel the job opportunity model containing the data for the notification
 	 * @param language the language code for the notification (e.g., "en", "fr")
-	 * @return the notification receipt from GC Notify containing details about the sent emails
+	 * @return a list of bulk notification receipts, one for each chunk sent
 	 */
 	@Counted("service.notification.sendBulkJobOpportunityNotification.count")
-	public NotificationReceipt sendBulkJobOpportunityNotification(
+	public List<BulkNotificationReceipt> sendBulkJobOpportunityNotification(
 			List<String> recipientEmails,
 			Long requestId,
 			String requestTitle,
@@ -358,36 +313,10 @@ public class NotificationService {
 		Assert.notNull(jobModel, "jobModel is required; it must not be null");
 		Assert.hasText(language, "language is required; it must not be blank or null");
 
-		final var templateName = "jobOpportunity.ftl";
-		final var model = recordToMap(jobModel);
-
-		// Process the email template to get subject and body using the provided language
-		final var emailContent = emailTemplateService.processEmailTemplate(templateName, Locale.of(language), model);
-		final var templateId = applicationProperties.gcnotify().genericTemplateId();
-
-		// Create the rows array for bulk sending
-		// First row is the header with column names
-		List<List<String>> rows = new ArrayList<>();
-		rows.add(List.of("email address", "email_body", "email_subject"));
-
-		for (String email : recipientEmails) {
-			rows.add(List.of(email, emailContent.body(), emailContent.subject()));
-		}
-
-		final var bulkRequest = Map.of(
-			"name", "Job Opportunity Notification - " + requestId,
-			"template_id", templateId,
-			"rows", rows
-		);
-
-		log.trace("Request to send bulk job opportunity notifications to {} recipients for request ID: [{}]",
-			recipientEmails.size(), requestId);
-
-		final var notificationReceipt = restTemplate.postForObject("/bulk", bulkRequest, NotificationReceipt.class);
-		log.debug("Bulk job opportunity notifications sent to {} recipients using template [{}]",
-			recipientEmails.size(), templateId);
+		final var emailContent = renderEmail("jobOpportunity.ftl", language, EmailTemplateModel.toMap(jobModel), NotificationSubject.ofRequest(requestId));
+		final var jobName = "Job Opportunity Notification - " + requestId;
 
-		return notificationReceipt;
+		return sendBulkEmail(jobName, recipientEmails, emailContent, NotificationSubject.ofRequest(requestId));
 	}
 
 	/**
@@ -405,71 +334,231 @@ public class NotificationService {
 		Assert.notNull(jobOpportunityHR, "jobOpportunityHR is required; it must not be null");
 		Assert.hasText(language, "language is required; it must not be blank or null");
 
-		final var templateName = "jobOpportunityHR.ftl";
-		final var model = recordToMap(jobOpportunityHR);
+		final var emailContent = renderEmail("jobOpportunityHR.ftl", language, EmailTemplateModel.toMap(jobOpportunityHR), NotificationSubject.NONE);
+		log.trace("Request to send job opportunity HR notification email=[{}], subject=[{}]", email, emailContent.subject());
 
-		final var emailContent = emailTemplateService.processEmailTemplate(templateName, Locale.of(language), model);
-		final var templateId = applicationProperties.gcnotify().genericTemplateId();
+		return sendEmail(email, emailContent, NotificationSubject.NONE);
+	}
+
+	/**
+	 * Sends a job opportunity HR notification to multiple email addresses.
+	 * The notification content is rendered once and sent through the GC Notify bulk API.
+	 *
+	 * @param emails the list of recipient email addresses; must not be empty or null, blank emails are ignored
+	 * @param jobOpportunityHR the job opportunity HR model containing the data for the notification
+	 * @param language the language code for the notification (e.g., "en", "fr")
+	 * @return a list of bulk notification receipts, one for each chunk sent
+	 */
+	@Counted("service.notification.sendJobOpportunityHRNotificationMultiple.count")
+	public List<BulkNotificationReceipt> sendJobOpportunityHRNotification(List<String> emails, EmailTemplateModel.JobOpportunityHR jobOpportunityHR, String language) {
+		Assert.notEmpty(emails, "emails is required; it must not be empty or null");
+		Assert.notNull(jobOpportunityHR, "jobOpportunityHR is required; it must not be null");
+		Assert.hasText(language, "language is required; it must not be blank or null");
+
+		final var emailContent = renderEmail("jobOpportunityHR.ftl", language, EmailTemplateModel.toMap(jobOpportunityHR), NotificationSubject.NONE);
+		final var jobName = "Job Opportunity HR Notification - " + jobOpportunityHR.requestNumber();
+
+		return sendBulkEmail(jobName, emails, emailContent, NotificationSubject.NONE);
+	}
 
-		final var personalization = Map.of(
-			"email_subject", emailContent.subject(),
-			"email_body", emailContent.body()
+	/**
+	 * Renders the profile notification template for the given profile status.
+	 */
+	private EmailContent processProfileTemplate(String profileId, String username, String language, ProfileStatus profileStatus) {
+		final var templateName = switch (profileStatus) {
+			case APPROVED -> "vmsProfileActivation.ftl";
+			case PENDING -> "approvalRequired.ftl";
+			case ARCHIVED -> "vmsProfileClosed.ftl";
+		};
+
+		final var model = Map.<String, String>of(
+			"employeeName", username,
+			"profileId", profileId
 		);
 
-		log.trace("Request to send job opportunity HR notification email=[{}], parameters=[{}]", email, personalization);
+		return renderEmail(templateName, language, model, NotificationSubject.ofProfile(profileId));
+	}
+
+	/**
+	 * Renders the request notification template for the given request event.
+	 */
+	private EmailContent processRequestTemplate(Long requestId, RequestEvent requestEvent, String language, String priorityClearanceNumber, String pscClearanceNumber) {
+		final var templateName = switch (requestEvent) {
+			case VMS_NOT_REQUIRED, HR_REVIEW -> "requestAssigned.ftl";
+			case SUBMITTED -> "requestSubmitted.ftl";
+			case PSC_REQUIRED -> "pscClearanceRequired.ftl";
+			case FEEDBACK_PENDING -> "prioritiesIdentified.ftl";
+			case FEEDBACK_COMPLETED -> "pendingFeedbackApprovalHR.ftl";
+			case PSC_NOT_REQUIRED -> "pscClearanceNotRequired.ftl";
+			case COMPLETED -> "feedbackApprovedPSC.ftl";
+			case COMPLETED_NO_VMS -> "feedbackApprovedPscNoVms.ftl";
+			case CANCELLED -> "requestCancelled.ftl";
+		};
+
+		// Create the appropriate model based on the request event
+		final var model = switch (requestEvent) {
+			case SUBMITTED ->
+				EmailTemplateModel.toMap(new EmailTemplateModel.RequestSubmitted(
+					formatRequestNumber(requestId),
+					"%s/%s/%s/%d".formatted(
+						applicationProperties.frontend().baseUrl(),
+						language.toLowerCase(),
+						"fr".equalsIgnoreCase(language) ? "conseiller-rh/demande" : "hr-advisor/request",
+						requestId
+					)
+				));
+			case VMS_NOT_REQUIRED, HR_REVIEW ->
+				EmailTemplateModel.toMap(new EmailTemplateModel.RequestAssigned(
+					formatRequestNumber(requestId),
+					"%s/%s/%s/%d".formatted(
+						applicationProperties.frontend().baseUrl(),
+						language.toLowerCase(),
+						"fr".equalsIgnoreCase(language) ? "conseiller-rh/demande" : "hr-advisor/request",
+						requestId
+					)
+				));
+			case PSC_REQUIRED ->
+				EmailTemplateModel.toMap(new EmailTemplateModel.PscClearanceRequired(formatRequestNumber(requestId)));
+			case FEEDBACK_PENDING ->
+				EmailTemplateModel.toMap(new EmailTemplateModel.PrioritiesIdentified(
+					formatRequestNumber(requestId),
+					"%s/%s/%s/%d/%s".formatted(
+						applicationProperties.frontend().baseUrl(),
+						language.toLowerCase(),
+						"fr".equalsIgnoreCase(language) ? "gestionnaire-embauche/demande" : "hiring-manager/request",
+						requestId,
+						"fr".equalsIgnoreCase(language) ? "correspondances" : "matches"
+					)
+				));
+			case FEEDBACK_COMPLETED ->
+				EmailTemplateModel.toMap(new EmailTemplateModel.PendingFeedbackApprovalHR(formatRequestNumber(requestId)));
+			case PSC_NOT_REQUIRED ->
+				EmailTemplateModel.toMap(new EmailTemplateModel.FeedbackApproved(formatRequestNumber(requestId), Optional.ofNullable(priorityClearanceNumber).orElse("")));
+			case COMPLETED, COMPLETED_NO_VMS ->
+				EmailTemplateModel.toMap(new EmailTemplateModel.FeedbackApprovedPSC(
+					formatRequestNumber(requestId),
+					Optional.ofNullable(priorityClearanceNumber).orElse("Pending"),
+					Optional.ofNullable(pscClearanceNumber).orElse("Pending")
+				));
+			case CANCELLED ->
+				EmailTemplateModel.toMap(new EmailTemplateModel.RequestCancelled(formatRequestNumber(requestId)));
+		};
+
+		return renderEmail(templateName, language, model, NotificationSubject.ofRequest(requestId));
+	}
+
+	/**
+	 * Renders an email template, recording an {@link EmailRenderingEvent} JFR event (with its duration).
+	 */
+	private EmailContent renderEmail(String templateName, String language, Map<String, ?> model, NotificationSubject notificationSubject) {
+		final var emailRenderingEvent = new EmailRenderingEvent();
+		emailRenderingEvent.templateName = templateName;
+		emailRenderingEvent.language = language;
+		emailRenderingEvent.requestId = notificationSubject.requestId();
+		emailRenderingEvent.profileId = notificationSubject.profileId();
+		emailRenderingEvent.begin();
+
+		try {
+			return emailTemplateService.processEmailTemplate(templateName, Locale.of(language), model);
+		}
+		finally {
+			emailRenderingEvent.commit();
+		}
+	}
+
+	/**
+	 * Calls a GC Notify endpoint, recording a {@link GcNotifyCallEvent} JFR event (with its duration).
+	 */
+	private <T> T callGcNotify(String endpoint, Object request, Class<T> responseType, int recipientCount, NotificationSubject notificationSubject) {
+		final var gcNotifyCallEvent = new GcNotifyCallEvent();
+		gcNotifyCallEvent.endpoint = endpoint;
+		gcNotifyCallEvent.recipientCount = recipientCount;
+		gcNotifyCallEvent.requestId = notificationSubject.requestId();
+		gcNotifyCallEvent.profileId = notificationSubject.profileId();
+		gcNotifyCallEvent.begin();
+
+		try {
+			final var response = restTemplate.postForObject(endpoint, request, responseType);
+			gcNotifyCallEvent.succeeded = true;
+			return response;
+		}
+		finally {
+			gcNotifyCallEvent.commit();
+		}
+	}
+
+	/**
+	 * Sends already-rendered email content to a single recipient using the GC Notify {@code /email} endpoint.
+	 */
+	private NotificationReceipt sendEmail(String email, EmailContent emailContent, NotificationSubject notificationSubject) {
+		final var templateId = applicationProperties.gcnotify().genericTemplateId();
 
 		final var request = Map.of(
 			"email_address", email,
 			"template_id", templateId,
-			"personalisation", personalization
+			"personalisation", Map.of(
+				"email_subject", emailContent.subject(),
+				"email_body", emailContent.body()
+			)
 		);
 
-		final var notificationReceipt = restTemplate.postForObject("/email", request, NotificationReceipt.class);
-		log.debug("Job opportunity HR notification sent to email [{}] using template [{}]", email, templateId);
+		final var notificationReceipt = callGcNotify("/email", request, NotificationReceipt.class, 1, notificationSubject);
+		log.debug("Notification sent to email [{}] using template [{}]", email, templateId);
 
 		return notificationReceipt;
 	}
 
 	/**
-	 * Sends a job opportunity HR notification to multiple email addresses.
-	 * Notifications are sent in parallel for efficiency, and each email address receives the same notification content.
+	 * Sends already-rendered email content to many recipients using the GC Notify {@code /bulk} endpoint.
+	 * Blank and duplicate addresses are dropped, and the remaining recipients are split into chunks of at most
+	 * {@code application.gcnotify.bulk-chunk-size} rows, each sent as its own bulk job.
 	 *
-	 * @param emails the list of recipient email addresses; must not be empty or null, and individual emails must not be blank
-	 * @param jobOpportunityHR the job opportunity HR model containing the data for the notification
-	 * @param language the language code for the notification (e.g., "en", "fr")
-	 * @return a list of notification receipts, one for each successfully sent email
+	 * @param jobName the bulk job name shown in GC Notify; a part suffix is added when more than one chunk is sent
+	 * @param emails the recipient email addresses
+	 * @param emailContent the rendered email content sent to every recipient
+	 * @param notificationSubject the request or profile that the notification is about
+	 * @return the bulk notification receipts, one per chunk, in send order
 	 */
-	@Counted("service.notification.sendJobOpportunityHRNotificationMultiple.count")
-	public List<NotificationReceipt> sendJobOpportunityHRNotification(List<String> emails, EmailTemplateModel.JobOpportunityHR jobOpportunityHR, String language) {
-		Assert.notEmpty(emails, "emails is required; it must not be empty or null");
-		Assert.notNull(jobOpportunityHR, "jobOpportunityHR is required; it must not be null");
-		Assert.hasText(language, "language is required; it must not be blank or null");
-
-		return emails.stream()
+	private List<BulkNotificationReceipt> sendBulkEmail(String jobName, List<String> emails, EmailContent emailContent, NotificationSubject notificationSubject) {
+		final var recipients = emails.stream()
 			.filter(StringUtils::hasText)
-			.map(email -> sendJobOpportunityHRNotification(email, jobOpportunityHR, language))
+			.distinct()
 			.toList();
-	}
 
-	/**
-	 * Converts a record to a Map that can be used with the email template service.
-	 *
-	 * @param record The record to convert
-	 * @return A Map containing the record's fields
-	 */
-	private Map<String, Object> recordToMap(Record record) {
-		Map<String, Object> map = new HashMap<>();
-		for (RecordComponent component : record.getClass().getRecordComponents()) {
-			try {
-				final var name = component.getName();
-				final var value = component.getAccessor().invoke(record);
-				if (value != null) {
-					map.put(name, value);
-				}
-			} catch (Exception e) {
-				log.warn("Failed to get record component value", e);
-			}
+		if (recipients.isEmpty()) {
+			log.warn("No valid recipients for bulk notification [{}]; nothing sent", jobName);
+			return List.of();
+		}
+
+		final var templateId = applicationProperties.gcnotify().genericTemplateId();
+		final var chunkSize = applicationProperties.gcnotify().bulkChunkSize();
+		final var chunkCount = (recipients.size() + chunkSize - 1) / chunkSize;
+
+		final var receipts = new ArrayList<BulkNotificationReceipt>(chunkCount);
+
+		for (var chunk = 0; chunk < chunkCount; chunk++) {
+			final var chunkRecipients = recipients.subList(chunk * chunkSize, Math.min(recipients.size(), (chunk + 1) * chunkSize));
+
+			final var rows = new ArrayList<List<String>>(chunkRecipients.size() + 1);
+			rows.add(BULK_HEADER_ROW);
+			chunkRecipients.forEach(email -> rows.add(List.of(email, emailContent.body(), emailContent.subject())));
+
+			final var chunkName = (chunkCount > 1) ? "%s (%d/%d)".formatted(jobName, chunk + 1, chunkCount) : jobName;
+
+			final var bulkRequest = Map.of(
+				"name", chunkName,
+				"template_id", templateId,
+				"rows", rows
+			);
+
+			log.trace("Request to send bulk notification [{}] to {} recipients", chunkName, chunkRecipients.size());
+
+			final var receipt = callGcNotify("/bulk", bulkRequest, BulkNotificationReceipt.class, chunkRecipients.size(), notificationSubject);
+			log.debug("Bulk notification [{}] sent to {} recipients using template [{}]", chunkName, chunkRecipients.size(), templateId);
+
+			receipts.add(receipt);
 		}
-		return map;
+
+		return receipts;
 	}
 }
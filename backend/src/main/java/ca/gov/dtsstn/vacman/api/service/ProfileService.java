@@ -11,10 +11,15 @@ import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.toList;
 import static org.springframework.data.jpa.domain.Specification.not;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.mapstruct.factory.Mappers;
 import org.springframework.context.ApplicationEventPublisher;
@@ -23,6 +28,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes;
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes.ProfileStatuses;
@@ -42,15 +48,20 @@ import ca.gov.dtsstn.vacman.api.event.ProfileCreateEvent;
 import ca.gov.dtsstn.vacman.api.event.ProfileReadEvent;
 import ca.gov.dtsstn.vacman.api.event.ProfileStatusChangeEvent;
 import ca.gov.dtsstn.vacman.api.event.ProfileUpdatedEvent;
+import ca.gov.dtsstn.vacman.api.jfr.EventDtoMappingEvent;
 import ca.gov.dtsstn.vacman.api.security.SecurityUtils;
+import ca.gov.dtsstn.vacman.api.service.dto.ProfileEventDto;
 import ca.gov.dtsstn.vacman.api.service.dto.ProfileQuery;
 import ca.gov.dtsstn.vacman.api.service.mapper.ProfileEntityEventMapper;
 import ca.gov.dtsstn.vacman.api.service.mapper.ProfileEntityMapper;
 import ca.gov.dtsstn.vacman.api.web.exception.ResourceNotFoundException;
 import ca.gov.dtsstn.vacman.api.web.model.ProfilePutModel;
 import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 
 @Service
+@Timed("service.profile")
 public class ProfileService {
 
 	/** A collection of active profile status codes. */
@@ -59,6 +70,19 @@ public class ProfileService {
 	/** A collection of inactive profile status codes. */
 	public static final Set<String> INACTIVE_PROFILE_STATUS = Set.of("ARCHIVED");
 
+	/**
+	 * The associations that are fetched (joined) along with each streamed profile, to avoid N+1 selects.
+	 */
+	private static final List<String> PROFILE_STREAM_FETCH_GRAPH = List.of(
+		"hrAdvisor",
+		"profileStatus",
+		"substantiveCity",
+		"substantiveClassification",
+		"substantiveWorkUnit",
+		"user",
+		"wfaStatus"
+	);
+
 	private final ProfileEntityMapper profileEntityMapper = Mappers.getMapper(ProfileEntityMapper.class);
 
 	private final ProfileEntityEventMapper profileEntityEventMapper = Mappers.getMapper(ProfileEntityEventMapper.class);
@@ -89,6 +113,8 @@ public class ProfileService {
 
 	private final ProfileStatuses profileStatuses;
 
+	private final EntityManager entityManager;
+
 	// Keys are tied to the potential values of getProfilesByStatusAndHrId parameter isActive.
 	private static final Map<Boolean, Set<String>> profileStatusSets = Map.of(
 		Boolean.TRUE, ACTIVE_PROFILE_STATUS,
@@ -107,10 +133,12 @@ public class ProfileService {
 			WorkUnitRepository workUnitRepository,
 			ApplicationEventPublisher eventPublisher,
 			LanguageReferralTypeRepository languageReferralTypeRepository,
-			LookupCodes lookupCodes) {
+			LookupCodes lookupCodes,
+			EntityManager entityManager) {
 		this.cityRepository = cityRepository;
 		this.classificationRepository = classificationRepository;
 		this.employmentOpportunityRepository = employmentOpportunityRepository;
+		this.entityManager = entityManager;
 		this.eventPublisher = eventPublisher;
 		this.languageReferralTypeRepository = languageReferralTypeRepository;
 		this.languageRepository = languageRepository;
@@ -231,7 +259,7 @@ public class ProfileService {
 				.profileStatus(incompleteStatus)
 				.build());
 
-		eventPublisher.publishEvent(new ProfileCreateEvent(profileEntityEventMapper.toEventDto(savedProfile)));
+		eventPublisher.publishEvent(new ProfileCreateEvent(toEventDto(savedProfile)));
 
 		return savedProfile;
 	}
@@ -239,6 +267,41 @@ public class ProfileService {
 	@Transactional(readOnly = true)
 	@Counted("service.profile.findProfiles.count")
 	public Page<ProfileEntity> findProfiles(Pageable pageable, ProfileQuery profileQuery) {
+		return profileRepository.findAll(toSpecification(profileQuery), pageable);
+	}
+
+	/**
+	 * Get all profiles, fetching only the associations named in {@code fetchGraph}; any other
+	 * associations are loaded lazily (if at all).
+	 */
+	@Transactional(readOnly = true)
+	@Counted("service.profile.findProfiles.count")
+	public Page<ProfileEntity> findProfiles(Pageable pageable, ProfileQuery profileQuery, Collection<String> fetchGraph) {
+		return profileRepository.findBy(toSpecification(profileQuery), fluentQuery -> fluentQuery.project(fetchGraph).page(pageable));
+	}
+
+	/**
+	 * Streams all profiles matching the query (ignoring pagination) through {@code mapper} and hands
+	 * the mapped results to {@code consumer}, all within a single read-only transaction.
+	 * <p>
+	 * Profiles are read from a database cursor rather than a fully-materialized list, and the
+	 * persistence context is cleared periodically, so memory usage stays constant regardless
+	 * of the number of profiles. Because profiles are detached once they have been mapped,
+	 * {@code mapper} is the only place where lazy associations can be navigated.
+	 *
+	 * @param profileQuery the profile query
+	 * @param mapper maps each (attached) profile entity to a result
+	 * @param consumer consumes the stream of mapped results; the stream is only valid for the duration of this call
+	 */
+	@Transactional(readOnly = true)
+	@Counted("service.profile.streamProfiles.count")
+	public <T> void streamProfiles(ProfileQuery profileQuery, Function<ProfileEntity, T> mapper, Consumer<Stream<T>> consumer) {
+		try (final var profiles = profileRepository.findBy(toSpecification(profileQuery), fluentQuery -> fluentQuery.project(PROFILE_STREAM_FETCH_GRAPH).stream())) {
+			consumer.accept(EntityStreams.mapAndClear(profiles, mapper, entityManager));
+		}
+	}
+
+	private Specification<ProfileEntity> toSpecification(ProfileQuery profileQuery) {
 		final var hasHrAdvisorId = ProfileRepository.hasHrAdvisorIdIn(profileQuery.hrAdvisorIds());
 		final var hasStatusId = ProfileRepository.hasProfileStatusIdIn(profileQuery.statusIds());
 
@@ -247,7 +310,7 @@ public class ProfileService {
 			.or(ProfileRepository.hasMiddleNameContaining(profileQuery.employeeName()))
 			.or(ProfileRepository.hasLastNameContaining(profileQuery.employeeName()));
 
-		return profileRepository.findAll(Specification.allOf(hasHrAdvisorId, hasStatusId, nameSpecification), pageable);
+		return Specification.allOf(hasHrAdvisorId, hasStatusId, nameSpecification);
 	}
 
 	/**
@@ -265,7 +328,7 @@ public class ProfileService {
 
 		existingProfile.setProfileStatus(newStatus);
 		final var updatedProfile = profileRepository.save(existingProfile);
-		eventPublisher.publishEvent(new ProfileStatusChangeEvent(profileEntityEventMapper.toEventDto(updatedProfile), previousStatusId, newStatus.getId()));
+		eventPublisher.publishEvent(new ProfileStatusChangeEvent(toEventDto(updatedProfile), previousStatusId, newStatus.getId()));
 	}
 
 	/**
@@ -280,6 +343,30 @@ public class ProfileService {
 	@Transactional(readOnly = false)
 	@Counted("service.profile.updateProfile.count")
 	public ProfileEntity updateProfile(ProfilePutModel updateModel, ProfileEntity profile) {
+		return updateProfile(updateModel, profile, field -> true);
+	}
+
+	/**
+	 * Partially update a profile (ie: with a JSON Merge Patch).
+	 * <p>
+	 * {@code patchedModel} is expected to be the profile's current state with the patch already applied, so any
+	 * field not named in {@code patchedFields} already holds its current value. The HR advisor is only looked up,
+	 * and the preferences are only replaced, if they were patched.
+	 *
+	 * @param patchedModel The patched profile model.
+	 * @param profile The profile entity to be updated.
+	 * @param patchedFields The names of the {@link ProfilePutModel} fields that were patched.
+	 * @return The updated profile entity.
+	 * @throws ResourceNotFoundException When any given ID does not exist within the DB.
+	 */
+	@Transactional(readOnly = false)
+	@Counted("service.profile.patchProfile.count")
+	public ProfileEntity patchProfile(ProfilePutModel patchedModel, ProfileEntity profile, Set<String> patchedFields) {
+		Assert.notNull(patchedFields, "patchedFields is required; it must not be null");
+		return updateProfile(patchedModel, profile, patchedFields::contains);
+	}
+
+	private ProfileEntity updateProfile(ProfilePutModel updateModel, ProfileEntity profile, Predicate<String> isUpdated) {
 		profile.setWfaStartDate(updateModel.wfaStartDate());
 		profile.setWfaEndDate(updateModel.wfaEndDate());
 		profile.setPersonalPhoneNumber(updateModel.personalPhoneNumber());
@@ -289,27 +376,39 @@ public class ProfileService {
 		profile.setHasConsentedToPrivacyTerms(updateModel.hasConsentedToPrivacyTerms());
 		profile.setAdditionalComment(updateModel.additionalComment());
 
-		Optional.ofNullable(updateModel.hrAdvisorId()).ifPresent(id -> {
+		Optional.ofNullable(updateModel.hrAdvisorId()).filter(id -> isUpdated.test("hrAdvisorId")).ifPresent(id -> {
 			profile.setHrAdvisor(userService.getUserById(id)
 				.filter(user -> userTypeCodes.hrAdvisor().equals(user.getUserType().getCode()))
 				.orElseThrow(asResourceConflictException("HR Advisor", id)));
 		});
 
-		profile.setPreferredCities(updateModel.preferredCities().stream()
-			.map(cityRepository::getReferenceById)
-			.toList());
+		if (isUpdated.test("preferredCities")) {
+			profile.setPreferredCities(Optional.ofNullable(updateModel.preferredCities()).stream()
+				.flatMap(Collection::stream)
+				.map(cityRepository::getReferenceById)
+				.toList());
+		}
 
-		profile.setPreferredClassifications(updateModel.preferredClassification().stream()
-			.map(classificationRepository::getReferenceById)
-			.toList());
+		if (isUpdated.test("preferredClassification")) {
+			profile.setPreferredClassifications(Optional.ofNullable(updateModel.preferredClassification()).stream()
+				.flatMap(Collection::stream)
+				.map(classificationRepository::getReferenceById)
+				.toList());
+		}
 
-		profile.setPreferredEmploymentOpportunities(updateModel.preferredEmploymentOpportunities().stream()
-			.map(employmentOpportunityRepository::getReferenceById)
-			.toList());
+		if (isUpdated.test("preferredEmploymentOpportunities")) {
+			profile.setPreferredEmploymentOpportunities(Optional.ofNullable(updateModel.preferredEmploymentOpportunities()).stream()
+				.flatMap(Collection::stream)
+				.map(employmentOpportunityRepository::getReferenceById)
+				.toList());
+		}
 
-		profile.setPreferredLanguages(updateModel.preferredLanguages().stream()
-			.map(languageReferralTypeRepository::getReferenceById)
-			.toList());
+		if (isUpdated.test("preferredLanguages")) {
+			profile.setPreferredLanguages(Optional.ofNullable(updateModel.preferredLanguages()).stream()
+				.flatMap(Collection::stream)
+				.map(languageReferralTypeRepository::getReferenceById)
+				.toList());
+		}
 
 		Optional.ofNullable(updateModel.languageOfCorrespondenceId())
 			.map(languageRepository::getReferenceById)
@@ -332,9 +431,16 @@ public class ProfileService {
 			.ifPresent(profile::setWfaStatus);
 
 		final var updatedEntity = profileRepository.save(profile);
-		eventPublisher.publishEvent(new ProfileUpdatedEvent(profileEntityEventMapper.toEventDto(updatedEntity)));
+		eventPublisher.publishEvent(new ProfileUpdatedEvent(toEventDto(updatedEntity)));
 
 		return updatedEntity;
 	}
 
+	/**
+	 * Maps an entity to the DTO carried by its application events, recording an {@link EventDtoMappingEvent} JFR event.
+	 */
+	private ProfileEventDto toEventDto(ProfileEntity profile) {
+		return EventDtoMappingEvent.record("profile", profile.getId(), () -> profileEntityEventMapper.toEventDto(profile));
+	}
+
 }
@@ -18,6 +18,7 @@ import java.util.Comparator;
 import java.util.HashSet;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.Supplier;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -40,13 +41,51 @@ import ca.gov.dtsstn.vacman.api.data.repository.MatchRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.MatchStatusRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.ProfileRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.RequestRepository;
+import ca.gov.dtsstn.vacman.api.jfr.RequestMatchingEvent;
+import ca.gov.dtsstn.vacman.api.jfr.RequestMatchingPhaseEvent;
 import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 
 @Service
+@Timed("service.requestmatching")
 public class RequestMatchingService {
 
 	private static final Logger log = LoggerFactory.getLogger(RequestMatchingService.class);
 
+	/**
+	 * The timer that records the latency of {@link #performRequestMatching(long, int)}, tagged with
+	 * the outcome and the size class of the candidate pool (see {@link #candidatePoolSizeClass(int)}).
+	 */
+	static final String PERFORM_REQUEST_MATCHING_TIMER = "service.requestmatching.performRequestMatching.candidates";
+
+	/**
+	 * The timer that records the latency of each phase of request matching, tagged with the phase.
+	 */
+	static final String PHASE_TIMER = "service.requestmatching.phase";
+
+	static final String PHASE_LOAD_REQUEST = "load-request";
+
+	static final String PHASE_CANDIDATE_QUERY = "candidate-query";
+
+	static final String PHASE_RANK = "rank";
+
+	static final String PHASE_MATCH_INSERT = "match-insert";
+
+	//
+	// note: the distribution summaries and counters below are deliberately not named service.* so that
+	//       the latency SLO buckets configured for the service timers (see application.yaml) do not apply
+	//
+
+	static final String CANDIDATE_POOL_SIZE_SUMMARY = "requestmatching.candidate.pool.size";
+
+	static final String SELECTED_MATCHES_SUMMARY = "requestmatching.selected.matches";
+
+	static final String EMPTY_MATCHES_COUNTER = "requestmatching.empty.count";
+
 	private final LanguageReferralTypes languageReferralTypes;
 
 	private final LanguageRequirements languageRequirements;
@@ -57,6 +96,12 @@ public class RequestMatchingService {
 
 	private final MatchStatusRepository matchStatusRepository;
 
+	private final MeterRegistry meterRegistry;
+
+	private final DistributionSummary candidatePoolSizeSummary;
+
+	private final DistributionSummary selectedMatchesSummary;
+
 	private final ProfileRepository profileRepository;
 
 	private final RequestMatchingProperties requestMatchingProperties;
@@ -70,12 +115,14 @@ public class RequestMatchingService {
 			LookupCodes lookupCodes,
 			MatchRepository matchRepository,
 			MatchStatusRepository matchStatusRepository,
+			MeterRegistry meterRegistry,
 			ProfileRepository profileRepository,
 			RequestRepository requestRepository) {
 		Assert.notNull(applicationProperties, "applicationProperties is required; it must not be null");
 		Assert.notNull(lookupCodes, "lookupCodes is required; it must not be null");
 		Assert.notNull(matchRepository, "matchRepository is required; it must not be null");
 		Assert.notNull(matchStatusRepository, "matchStatusRepository is required; it must not be null");
+		Assert.notNull(meterRegistry, "meterRegistry is required; it must not be null");
 		Assert.notNull(profileRepository, "profileRepository is required; it must not be null");
 		Assert.notNull(requestRepository, "requestRepository is required; it must not be null");
 
@@ -87,6 +134,19 @@ public class RequestMatchingService {
 
 		this.matchRepository = matchRepository;
 		this.matchStatusRepository = matchStatusRepository;
+		this.meterRegistry = meterRegistry;
+
+		this.candidatePoolSizeSummary = DistributionSummary.builder(CANDIDATE_POOL_SIZE_SUMMARY)
+			.description("Number of profiles that meet all of a request's criteria")
+			.baseUnit("profiles")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
+
+		this.selectedMatchesSummary = DistributionSummary.builder(SELECTED_MATCHES_SUMMARY)
+			.description("Number of matches saved for a request")
+			.baseUnit("matches")
+			.publishPercentileHistogram()
+			.register(meterRegistry);
 		this.profileRepository = profileRepository;
 		this.requestRepository = requestRepository;
 	}
@@ -123,71 +183,153 @@ public class RequestMatchingService {
 	public List<MatchEntity> performRequestMatching(long requestId, int max) {
 		Assert.isTrue(max > 0, "max must be positive");
 
-		log.info("Finding maximum {} matches for request ID: {}", max, requestId);
-
-		final var request = requestRepository.findById(requestId)
-			.orElseThrow(() -> new IllegalArgumentException("Invalid request ID: " + requestId));
-
-		// Extract the matching criteria from the request -- these criteria will be used to filter the candidate pool of profiles
-		final var approvedStatus = profileStatuses.approved();
-		final var cities = request.getCities().stream().map(AbstractCodeEntity::getCode).toList();
-		final var classification = request.getClassification().getCode();
-		final var languageRequirementCodes = request.getLanguageRequirements().stream().map(AbstractCodeEntity::getCode).toList();
-		final var today = LocalDate.now();
-
-		log.debug("Request {} found -- classification: {}; language requirements: {}; eligible cities: {}", requestId, classification, languageRequirementCodes, cities);
-
-		// Map the language requirement to the matching profile language referral types
-		final var preferredLanguages = getMatchingLanguageReferralTypeCodes(languageRequirementCodes);
-		log.debug("Language requirements {} mapped to referral types: {}", languageRequirementCodes, preferredLanguages);
-
-		// Query for profiles that satisfy ALL of the request's criteria
-		// This uses JPA Specifications to build a dynamic query with AND logic
-		// A profile must match every single criterion to be included in the results
-		final var matchingProfiles = profileRepository.findAll(allOf(
-			isAvailableForReferral(true),                   // Profile is marked as available
-			hasPreferredLanguageCodeIn(preferredLanguages), // Language preference compatible with request
-			hasPreferredClassificationCode(classification), // Classification matches request
-			hasPreferredCityCodeIn(cities),                 // Preferred location matches one of request's cities
-			hasProfileStatusCode(approvedStatus),           // Profile status is approved
-			hasWfaStartDateNullOrBefore(today),             // WFA has started or no start date set
-			hasWfaEndDateNullOrAfter(today)                 // WFA has not ended or no end date set
-		));
-
-		log.debug("Found {} matching profiles before prioritization", matchingProfiles.size());
-		log.trace("Matching profile ids: {}", matchingProfiles.stream().map(AbstractBaseEntity::getId).toList());
-
-		// Apply two-stage sorting followed by limiting:
-		//   1. Random shuffle: establishes baseline fairness
-		//   2. Stable priority sort: orders by WFA status and urgency, preserving random order for ties
-		//   3. Limit: take only the top 'max' profiles from the prioritized list
-
-		log.debug("Shuffling profiles to ensure selection fairness");
-		final var shuffledProfiles = shuffle(matchingProfiles);
-		log.trace("Shuffled profile ids: {}", shuffledProfiles.stream().map(AbstractBaseEntity::getId).toList());
-
-		final var prioritizedProfiles = shuffledProfiles.stream()
-			// Sort by WFA status, then urgency
-			// this is a stable sort that will ensure profiles with identical
-			// sort order AND urgency retain their relative shuffled order
-			.sorted(byPriority(today))
-			// Select top 'max' profiles
-			.limit(max).toList();
-
-		log.info("Returning {} prioritized matches for request ID: [{}]", prioritizedProfiles.size(), requestId);
-		log.trace("Final prioritized profile ids: {}", prioritizedProfiles.stream().map(AbstractBaseEntity::getId).toList());
-
-		final var pendingMatchStatus = matchStatusRepository.findByCode(matchStatuses.pendingApproval())
-			.orElseThrow(() -> new IllegalStateException("Match status 'pending approval' not found"));
-
-		return matchRepository.saveAll(
-			prioritizedProfiles.stream()
-				.map(profile -> MatchEntity.builder()
-					.matchStatus(pendingMatchStatus)
-					.profile(profile)
-					.request(request)
-					.build())
-				.toList());
+		// the timed aspect records the overall latency of this method, but matching latency depends mostly
+		// on how many profiles meet the request's criteria, so it is also recorded per candidate pool size
+		final var sample = Timer.start(meterRegistry);
+		var candidatePoolSize = "unknown";
+		var outcome = "ERROR";
+
+		final var requestMatchingEvent = new RequestMatchingEvent();
+		requestMatchingEvent.requestId = requestId;
+		requestMatchingEvent.begin();
+
+		try {
+			log.info("Finding maximum {} matches for request ID: {}", max, requestId);
+
+			final var request = recordPhase(PHASE_LOAD_REQUEST, requestId, () -> requestRepository.findById(requestId)
+				.orElseThrow(() -> new IllegalArgumentException("Invalid request ID: " + requestId)));
+
+			// Extract the matching criteria from the request -- these criteria will be used to filter the candidate pool of profiles
+			final var approvedStatus = profileStatuses.approved();
+			final var cities = request.getCities().stream().map(AbstractCodeEntity::getCode).toList();
+			final var classification = request.getClassification().getCode();
+			final var languageRequirementCodes = request.getLanguageRequirements().stream().map(AbstractCodeEntity::getCode).toList();
+			final var today = LocalDate.now();
+
+			requestMatchingEvent.classification = classification;
+
+			log.debug("Request {} found -- classification: {}; language requirements: {}; eligible cities: {}", requestId, classification, languageRequirementCodes, cities);
+
+			// Map the language requirement to the matching profile language referral types
+			final var preferredLanguages = getMatchingLanguageReferralTypeCodes(languageRequirementCodes);
+			log.debug("Language requirements {} mapped to referral types: {}", languageRequirementCodes, preferredLanguages);
+
+			// Query for profiles that satisfy ALL of the request's criteria
+			// This uses JPA Specifications to build a dynamic query with AND logic
+			// A profile must match every single criterion to be included in the results
+			final var matchingProfiles = recordPhase(PHASE_CANDIDATE_QUERY, requestId, () -> profileRepository.findAll(allOf(
+				isAvailableForReferral(true),                   // Profile is marked as available
+				hasPreferredLanguageCodeIn(preferredLanguages), // Language preference compatible with request
+				hasPreferredClassificationCode(classification), // Classification matches request
+				hasPreferredCityCodeIn(cities),                 // Preferred location matches one of request's cities
+				hasProfileStatusCode(approvedStatus),           // Profile status is approved
+				hasWfaStartDateNullOrBefore(today),             // WFA has started or no start date set
+				hasWfaEndDateNullOrAfter(today)                 // WFA has not ended or no end date set
+			)));
+
+			log.debug("Found {} matching profiles before prioritization", matchingProfiles.size());
+			log.trace("Matching profile ids: {}", matchingProfiles.stream().map(AbstractBaseEntity::getId).toList());
+
+			candidatePoolSize = candidatePoolSizeClass(matchingProfiles.size());
+			requestMatchingEvent.candidatePoolSize = matchingProfiles.size();
+			candidatePoolSizeSummary.record(matchingProfiles.size());
+
+			// Apply two-stage sorting followed by limiting:
+			//   1. Random shuffle: establishes baseline fairness
+			//   2. Stable priority sort: orders by WFA status and urgency, preserving random order for ties
+			//   3. Limit: take only the top 'max' profiles from the prioritized list
+
+			final var prioritizedProfiles = recordPhase(PHASE_RANK, requestId, () -> {
+				log.debug("Shuffling profiles to ensure selection fairness");
+				final var shuffledProfiles = shuffle(matchingProfiles);
+				log.trace("Shuffled profile ids: {}", shuffledProfiles.stream().map(AbstractBaseEntity::getId).toList());
+
+				return shuffledProfiles.stream()
+					// Sort by WFA status, then urgency
+					// this is a stable sort that will ensure profiles with identical
+					// sort order AND urgency retain their relative shuffled order
+					.sorted(byPriority(today))
+					// Select top 'max' profiles
+					.limit(max).toList();
+			});
+
+			log.info("Returning {} prioritized matches for request ID: [{}]", prioritizedProfiles.size(), requestId);
+			log.trace("Final prioritized profile ids: {}", prioritizedProfiles.stream().map(AbstractBaseEntity::getId).toList());
+
+			final var matches = recordPhase(PHASE_MATCH_INSERT, requestId, () -> {
+				final var pendingMatchStatus = matchStatusRepository.findByCode(matchStatuses.pendingApproval())
+					.orElseThrow(() -> new IllegalStateException("Match status 'pending approval' not found"));
+
+				return matchRepository.saveAll(
+					prioritizedProfiles.stream()
+						.map(profile -> MatchEntity.builder()
+							.matchStatus(pendingMatchStatus)
+							.profile(profile)
+							.request(request)
+							.build())
+						.toList());
+			});
+
+			requestMatchingEvent.matchCount = matches.size();
+			selectedMatchesSummary.record(matches.size());
+
+			if (matches.isEmpty()) {
+				Counter.builder(EMPTY_MATCHES_COUNTER)
+					.description("Number of requests for which matching found no profiles")
+					.tag("classification", classification)
+					.register(meterRegistry)
+					.increment();
+			}
+
+			outcome = "SUCCESS";
+			return matches;
+		}
+		finally {
+			requestMatchingEvent.commit();
+
+			sample.stop(Timer.builder(PERFORM_REQUEST_MATCHING_TIMER)
+				.description("Latency of request matching by candidate pool size")
+				.tag("candidate.pool.size", candidatePoolSize)
+				.tag("outcome", outcome)
+				.register(meterRegistry));
+		}
+	}
+
+	/**
+	 * Buckets the number of profiles that meet a request's criteria into a small, fixed set of
+	 * values, so that it can be used as a (low cardinality) metric tag.
+	 */
+	static String candidatePoolSizeClass(int candidatePoolSize) {
+		if (candidatePoolSize == 0) { return "empty"; }
+		if (candidatePoolSize <= 100) { return "small"; }
+		if (candidatePoolSize <= 1_000) { return "medium"; }
+		if (candidatePoolSize <= 10_000) { return "large"; }
+		return "xlarge";
+	}
+
+	/**
+	 * Runs a single phase of request matching, recording its latency as both a Micrometer
+	 * timer (tagged with the phase) and a {@link RequestMatchingPhaseEvent} JFR event.
+	 */
+	private <T> T recordPhase(String phase, long requestId, Supplier<T> supplier) {
+		final var requestMatchingPhaseEvent = new RequestMatchingPhaseEvent();
+		requestMatchingPhaseEvent.requestId = requestId;
+		requestMatchingPhaseEvent.phase = phase;
+		requestMatchingPhaseEvent.begin();
+
+		final var sample = Timer.start(meterRegistry);
+
+		try {
+			return supplier.get();
+		}
+		finally {
+			requestMatchingPhaseEvent.commit();
+
+			sample.stop(Timer.builder(PHASE_TIMER)
+				.description("Latency of each phase of request matching")
+				.tag("phase", phase)
+				.register(meterRegistry));
+		}
 	}
 
 	/**
@@ -20,10 +20,16 @@ import static ca.gov.dtsstn.vacman.api.web.exception.ResourceNotFoundException.a
 import static org.springframework.data.jpa.domain.Specification.allOf;
 import static org.springframework.data.jpa.domain.Specification.anyOf;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.apache.commons.lang3.RandomStringUtils;
 import org.mapstruct.factory.Mappers;
@@ -32,8 +38,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.Assert;
 import org.springframework.util.StringUtils;
 
 import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
@@ -70,8 +80,10 @@ import ca.gov.dtsstn.vacman.api.event.RequestHrAdvisorUpdatedEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestStatusChangeEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestSubmittedEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestUpdatedEvent;
+import ca.gov.dtsstn.vacman.api.jfr.EventDtoMappingEvent;
 import ca.gov.dtsstn.vacman.api.security.SecurityUtils;
 import ca.gov.dtsstn.vacman.api.service.dto.MatchQuery;
+import ca.gov.dtsstn.vacman.api.service.dto.RequestEventDto;
 import ca.gov.dtsstn.vacman.api.service.dto.RequestQuery;
 import ca.gov.dtsstn.vacman.api.service.mapper.RequestEntityMapper;
 import ca.gov.dtsstn.vacman.api.web.exception.ResourceConflictException;
@@ -80,12 +92,40 @@ import ca.gov.dtsstn.vacman.api.web.exception.UnauthorizedException;
 import ca.gov.dtsstn.vacman.api.web.model.RequestUpdateModel;
 import ca.gov.dtsstn.vacman.api.web.model.mapper.RequestModelMapper;
 import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 
 @Service
+@Timed("service.request")
 public class RequestService {
 
 	private static final Logger log = LoggerFactory.getLogger(RequestService.class);
 
+	/**
+	 * The associations that are fetched (joined) along with each streamed match, to avoid N+1 selects.
+	 */
+	private static final List<String> MATCH_STREAM_FETCH_GRAPH = List.of(
+		"matchFeedback",
+		"matchStatus",
+		"profile.user",
+		"profile.wfaStatus",
+		"request.hiringManager",
+		"request.hrAdvisor",
+		"request.requestStatus"
+	);
+
+	/**
+	 * The associations that are fetched (joined) along with each streamed request, to avoid N+1 selects.
+	 */
+	private static final List<String> REQUEST_STREAM_FETCH_GRAPH = List.of(
+		"classification",
+		"hiringManager",
+		"hrAdvisor",
+		"requestStatus",
+		"submitter",
+		"workUnit"
+	);
+
 	private final ApplicationEventPublisher eventPublisher;
 
 	private final ApplicationProperties applicationProperties;
@@ -98,6 +138,8 @@ public class RequestService {
 
 	private final EmploymentTenureRepository employmentTenureRepository;
 
+	private final EntityManager entityManager;
+
 	private final LanguageRepository languageRepository;
 
 	private final LanguageRequirementRepository languageRequirementRepository;
@@ -141,6 +183,7 @@ public class RequestService {
 			ClassificationRepository classificationRepository,
 			EmploymentEquityRepository employmentEquityRepository,
 			EmploymentTenureRepository employmentTenureRepository,
+			EntityManager entityManager,
 			LanguageRepository languageRepository,
 			LanguageRequirementRepository languageRequirementRepository,
 			LookupCodes lookupCodes,
@@ -161,6 +204,7 @@ public class RequestService {
 		this.classificationRepository = classificationRepository;
 		this.employmentEquityRepository = employmentEquityRepository;
 		this.employmentTenureRepository = employmentTenureRepository;
+		this.entityManager = entityManager;
 		this.eventPublisher = eventPublisher;
 		this.languageRepository = languageRepository;
 		this.languageRequirementRepository = languageRequirementRepository;
@@ -194,7 +238,7 @@ public class RequestService {
 			.requestStatus(draftStatus)
 			.build());
 
-		eventPublisher.publishEvent(new RequestCreatedEvent(requestEntityMapper.toEventDto(request)));
+		eventPublisher.publishEvent(new RequestCreatedEvent(toEventDto(request)));
 
 		return request;
 	}
@@ -239,10 +283,59 @@ public class RequestService {
 		return matchRepository.exists(hasRequestId(requestId));
 	}
 
+	/**
+	 * Computes a version for a request's matches that changes whenever the request or any of its matches is
+	 * modified, or whenever a match is added or removed. Suitable for keying cached exports of the matches.
+	 *
+	 * @param request The request
+	 * @return an opaque version string
+	 */
+	@Transactional(readOnly = true)
+	@Counted("service.request.getMatchesVersion.count")
+	public String getMatchesVersion(RequestEntity request) {
+		final var latestMatchModifiedDate = matchRepository.findBy(hasRequestId(request.getId()), fluentQuery -> fluentQuery
+				.sortBy(Sort.by(Direction.DESC, "lastModifiedDate"))
+				.first())
+			.map(MatchEntity::getLastModifiedDate);
+
+		// the match count catches deleted matches, which would otherwise not change the latest modified date
+		final var matchCount = matchRepository.count(hasRequestId(request.getId()));
+
+		return "%d-%d-%d".formatted(
+			Optional.ofNullable(request.getLastModifiedDate()).map(Instant::toEpochMilli).orElse(0L),
+			latestMatchModifiedDate.map(Instant::toEpochMilli).orElse(0L),
+			matchCount);
+	}
+
 	@Transactional(readOnly = true)
 	@Counted("service.request.getMatchesByRequestId.count")
 	public Page<MatchEntity> getMatchesByRequestId(Pageable pageable, MatchQuery query) {
-		final var specification = allOf(
+		return matchRepository.findAll(toSpecification(query), pageable);
+	}
+
+	/**
+	 * Streams all matches for a request (ignoring pagination) through {@code mapper} and hands
+	 * the mapped results to {@code consumer}, all within a single read-only transaction.
+	 * <p>
+	 * Matches are read from a database cursor rather than a fully-materialized list, and the
+	 * persistence context is cleared periodically, so memory usage stays constant regardless
+	 * of the number of matches. Because matches are detached once they have been mapped,
+	 * {@code mapper} is the only place where lazy associations can be navigated.
+	 *
+	 * @param query the match query
+	 * @param mapper maps each (attached) match entity to a result
+	 * @param consumer consumes the stream of mapped results; the stream is only valid for the duration of this call
+	 */
+	@Transactional(readOnly = true)
+	@Counted("service.request.streamMatchesByRequestId.count")
+	public <T> void streamMatchesByRequestId(MatchQuery query, Function<MatchEntity, T> mapper, Consumer<Stream<T>> consumer) {
+		try (final var matches = matchRepository.findBy(toSpecification(query), fluentQuery -> fluentQuery.project(MATCH_STREAM_FETCH_GRAPH).stream())) {
+			consumer.accept(EntityStreams.mapAndClear(matches, mapper, entityManager));
+		}
+	}
+
+	private Specification<MatchEntity> toSpecification(MatchQuery query) {
+		return allOf(
 			hasRequestId(query.requestId()),
 			anyOf(
 				// match specifications
@@ -254,8 +347,6 @@ public class RequestService {
 				hasProfileLastNameContaining(query.profileEmployeeName())
 			)
 		);
-
-		return matchRepository.findAll(specification, pageable);
 	}
 
 	/**
@@ -291,15 +382,47 @@ public class RequestService {
 	@Transactional(readOnly = true)
 	@Counted("service.request.findRequests.count")
 	public Page<RequestEntity> findRequests(Pageable pageable, RequestQuery query) {
-		final var specification = allOf(
+		return requestRepository.findAll(toSpecification(query), pageable);
+	}
+
+	/**
+	 * Get all requests, fetching only the associations named in {@code fetchGraph}.
+	 * <p>
+	 * Associations that are not part of the fetch graph are loaded lazily (if at all), which keeps
+	 * the query narrow when the caller only needs a subset of each request (ie: a sparse fieldset).
+	 *
+	 * @param pageable      Pagination information
+	 * @param query         Query parameters for filtering requests
+	 * @param fetchGraph    The request attributes to fetch
+	 */
+	@Transactional(readOnly = true)
+	@Counted("service.request.findRequests.count")
+	public Page<RequestEntity> findRequests(Pageable pageable, RequestQuery query, Collection<String> fetchGraph) {
+		return requestRepository.findBy(toSpecification(query), fluentQuery -> fluentQuery.project(fetchGraph).page(pageable));
+	}
+
+	/**
+	 * Streams all requests matching the query (ignoring pagination) through {@code mapper} and hands
+	 * the mapped results to {@code consumer}, all within a single read-only transaction.
+	 *
+	 * @see #streamMatchesByRequestId(MatchQuery, Function, Consumer)
+	 */
+	@Transactional(readOnly = true)
+	@Counted("service.request.streamRequests.count")
+	public <T> void streamRequests(RequestQuery query, Function<RequestEntity, T> mapper, Consumer<Stream<T>> consumer) {
+		try (final var requests = requestRepository.findBy(toSpecification(query), fluentQuery -> fluentQuery.project(REQUEST_STREAM_FETCH_GRAPH).stream())) {
+			consumer.accept(EntityStreams.mapAndClear(requests, mapper, entityManager));
+		}
+	}
+
+	private Specification<RequestEntity> toSpecification(RequestQuery query) {
+		return allOf(
 			RequestRepository.hasId(query.requestId()),
 			hasHrAdvisorIdIn(query.hrAdvisorIds()),
 			hasRequestStatusIdIn(query.statusIds()),
 			hasWorkUnitIdIn(query.workUnitIds()),
 			hasClassificationIdIn(query.classificationIds())
 		);
-
-		return requestRepository.findAll(specification, pageable);
 	}
 
 	/**
@@ -339,7 +462,7 @@ public class RequestService {
 
 	private RequestEntity updateRequest(RequestEntity request, Long previousHrAdvisorId, boolean notifyOnHrAdvisorChange) {
 		final var updatedRequest = requestRepository.save(request);
-		final var eventDto = requestEntityMapper.toEventDto(updatedRequest);
+		final var eventDto = toEventDto(updatedRequest);
 
 		eventPublisher.publishEvent(new RequestUpdatedEvent(eventDto));
 
@@ -359,6 +482,29 @@ public class RequestService {
 	@Transactional(readOnly = true)
 	@Counted("service.request.prepareRequestForUpdate.count")
 	public RequestEntity prepareRequestForUpdate(RequestUpdateModel updateModel, RequestEntity request) {
+		return prepareRequestForUpdate(updateModel, request, field -> true);
+	}
+
+	/**
+	 * Prepares a request for a partial update (ie: a JSON Merge Patch).
+	 * <p>
+	 * {@code patchedModel} is expected to be the request's current state with the patch already applied,
+	 * so any field not named in {@code patchedFields} already holds its current value. Users are only
+	 * looked up, and collections are only replaced, if they were patched; this avoids needless queries
+	 * and stops Hibernate from deleting and reinserting join table rows that have not changed.
+	 *
+	 * @param patchedModel the patched request model
+	 * @param request the request entity to update
+	 * @param patchedFields the names of the {@link RequestUpdateModel} fields that were patched
+	 */
+	@Transactional(readOnly = true)
+	@Counted("service.request.prepareRequestForPatch.count")
+	public RequestEntity prepareRequestForPatch(RequestUpdateModel patchedModel, RequestEntity request, Set<String> patchedFields) {
+		Assert.notNull(patchedFields, "patchedFields is required; it must not be null");
+		return prepareRequestForUpdate(patchedModel, request, patchedFields::contains);
+	}
+
+	private RequestEntity prepareRequestForUpdate(RequestUpdateModel updateModel, RequestEntity request, Predicate<String> isUpdated) {
 		requestModelMapper.updateEntityFromModel(updateModel, request);
 
 		if (StringUtils.hasText(updateModel.positionNumbers())) {
@@ -403,29 +549,35 @@ public class RequestService {
 			request.setWorkUnit(workUnitRepository.getReferenceById(updateModel.workUnitId()));
 		}
 
-		request.setEmploymentEquities(Optional.ofNullable(updateModel.employmentEquityIds()).stream()
-			.flatMap(Collection::stream)
-			.map(RequestUpdateModel.EmploymentEquityId::value)
-			.map(employmentEquityRepository::getReferenceById)
-			.toList());
+		if (isUpdated.test("employmentEquityIds")) {
+			request.setEmploymentEquities(Optional.ofNullable(updateModel.employmentEquityIds()).stream()
+				.flatMap(Collection::stream)
+				.map(RequestUpdateModel.EmploymentEquityId::value)
+				.map(employmentEquityRepository::getReferenceById)
+				.toList());
+		}
 
-		request.setCities(Optional.ofNullable(updateModel.cityIds()).stream()
-			.flatMap(Collection::stream)
-			.map(RequestUpdateModel.CityId::value)
-			.map(cityRepository::getReferenceById)
-			.toList());
+		if (isUpdated.test("cityIds")) {
+			request.setCities(Optional.ofNullable(updateModel.cityIds()).stream()
+				.flatMap(Collection::stream)
+				.map(RequestUpdateModel.CityId::value)
+				.map(cityRepository::getReferenceById)
+				.toList());
+		}
 
-		request.setLanguageRequirements(Optional.ofNullable(updateModel.languageRequirementIds()).stream()
-			.flatMap(Collection::stream)
-			.map(RequestUpdateModel.LanguageRequirementId::value)
-			.map(languageRequirementRepository::getReferenceById)
-			.toList());
+		if (isUpdated.test("languageRequirementIds")) {
+			request.setLanguageRequirements(Optional.ofNullable(updateModel.languageRequirementIds()).stream()
+				.flatMap(Collection::stream)
+				.map(RequestUpdateModel.LanguageRequirementId::value)
+				.map(languageRequirementRepository::getReferenceById)
+				.toList());
+		}
 
-		request.setAdditionalContact(resolveUser(updateModel.additionalContactId()));
-		request.setHiringManager(resolveUser(updateModel.hiringManagerId()));
-		request.setHrAdvisor(resolveUser(updateModel.hrAdvisorId()));
-		request.setSubDelegatedManager(resolveUser(updateModel.subDelegatedManagerId()));
-		request.setSubmitter(resolveUser(updateModel.submitterId()));
+		if (isUpdated.test("additionalContactId")) { request.setAdditionalContact(resolveUser(updateModel.additionalContactId())); }
+		if (isUpdated.test("hiringManagerId")) { request.setHiringManager(resolveUser(updateModel.hiringManagerId())); }
+		if (isUpdated.test("hrAdvisorId")) { request.setHrAdvisor(resolveUser(updateModel.hrAdvisorId())); }
+		if (isUpdated.test("subDelegatedManagerId")) { request.setSubDelegatedManager(resolveUser(updateModel.subDelegatedManagerId())); }
+		if (isUpdated.test("submitterId")) { request.setSubmitter(resolveUser(updateModel.submitterId())); }
 
 		Optional.ofNullable(updateModel.statusId())
 			.map(requestStatusRepository::getReferenceById)
@@ -505,7 +657,7 @@ public class RequestService {
 		request.setRequestStatus(getRequestStatusByCode(requestStatuses.submitted()));
 
 		// Send notification
-		eventPublisher.publishEvent(new RequestSubmittedEvent(requestEntityMapper.toEventDto(request), requestStatuses.draft(), requestStatuses.submitted()));
+		eventPublisher.publishEvent(new RequestSubmittedEvent(toEventDto(request), requestStatuses.draft(), requestStatuses.submitted()));
 
 		return request;
 	}
@@ -547,7 +699,7 @@ public class RequestService {
 		// Set status to HR_REVIEW
 		request.setRequestStatus(getRequestStatusByCode(requestStatuses.hrReview()));
 
-		eventPublisher.publishEvent(new RequestStatusChangeEvent(requestEntityMapper.toEventDto(request), currentStatus, requestStatuses.hrReview()));
+		eventPublisher.publishEvent(new RequestStatusChangeEvent(toEventDto(request), currentStatus, requestStatuses.hrReview()));
 
 		return request;
 	}
@@ -572,7 +724,7 @@ public class RequestService {
 		// Set status to PENDING_PSC_NO_VMS
 		request.setRequestStatus(getRequestStatusByCode(requestStatuses.pendingPscClearanceNoVms()));
 
-		eventPublisher.publishEvent(new RequestStatusChangeEvent(requestEntityMapper.toEventDto(request), requestStatuses.hrReview(), requestStatuses.pendingPscClearanceNoVms()));
+		eventPublisher.publishEvent(new RequestStatusChangeEvent(toEventDto(request), requestStatuses.hrReview(), requestStatuses.pendingPscClearanceNoVms()));
 
 		return request;
 	}
@@ -610,7 +762,7 @@ public class RequestService {
 		 * }
 		 */
 
-		eventPublisher.publishEvent(new RequestFeedbackCompletedEvent(requestEntityMapper.toEventDto(request)));
+		eventPublisher.publishEvent(new RequestFeedbackCompletedEvent(toEventDto(request)));
 
 		return request;
 	}
@@ -642,7 +794,7 @@ public class RequestService {
 		final var clearanceNumber = RandomStringUtils.insecure().nextAlphanumeric(16).toUpperCase();
 		request.setPscClearanceNumber(clearanceNumber);
 
-		eventPublisher.publishEvent(new RequestStatusChangeEvent(requestEntityMapper.toEventDto(request), currentStatus, requestStatuses.clearanceGranted()));
+		eventPublisher.publishEvent(new RequestStatusChangeEvent(toEventDto(request), currentStatus, requestStatuses.clearanceGranted()));
 
 		return request;
 	}
@@ -678,7 +830,7 @@ public class RequestService {
 		request.setPscClearanceNumber(clearanceNumber);
 
 		// Publish a RequestStatusChangeEvent
-		eventPublisher.publishEvent(new RequestStatusChangeEvent(requestEntityMapper.toEventDto(request), previousStatusCode, requestStatuses.pendingPscClearance()));
+		eventPublisher.publishEvent(new RequestStatusChangeEvent(toEventDto(request), previousStatusCode, requestStatuses.pendingPscClearance()));
 
 		return request;
 	}
@@ -706,7 +858,7 @@ public class RequestService {
 
 
 		request.setRequestStatus(getRequestStatusByCode(newStatusCode));
-		eventPublisher.publishEvent(new RequestCompletedEvent(requestEntityMapper.toEventDto(request), newStatusCode));
+		eventPublisher.publishEvent(new RequestCompletedEvent(toEventDto(request), newStatusCode));
 
 		return request;
 	}
@@ -727,7 +879,7 @@ public class RequestService {
 		request.setRequestStatus(getRequestStatusByCode(requestStatuses.cancelled()));
 		final var updatedRequest = updateRequest(request);
 
-		eventPublisher.publishEvent(new RequestStatusChangeEvent(requestEntityMapper.toEventDto(updatedRequest), previousStatusCode, requestStatuses.cancelled()));
+		eventPublisher.publishEvent(new RequestStatusChangeEvent(toEventDto(updatedRequest), previousStatusCode, requestStatuses.cancelled()));
 
 		return updatedRequest;
 	}
@@ -815,7 +967,7 @@ public class RequestService {
 		request.setRequestStatus(getRequestStatusByCode(newStatus));
 		final var updatedRequest = updateRequest(request);
 
-		eventPublisher.publishEvent(new RequestStatusChangeEvent(requestEntityMapper.toEventDto(updatedRequest), currentStatus, newStatus));
+		eventPublisher.publishEvent(new RequestStatusChangeEvent(toEventDto(updatedRequest), currentStatus, newStatus));
 
 		return updatedRequest;
 	}
@@ -855,7 +1007,7 @@ public class RequestService {
 		if (!matches.isEmpty()) {
 			// Set status to FDBK_PENDING and send notification to the owner and matched users.
 			request.setRequestStatus(getRequestStatusByCode(requestStatuses.feedbackPending()));
-			eventPublisher.publishEvent(new RequestFeedbackPendingEvent(requestEntityMapper.toEventDto(request)));
+			eventPublisher.publishEvent(new RequestFeedbackPendingEvent(toEventDto(request)));
 		}
 		else {
 			// Set status to NO_MATCH_HR_REVIEW
@@ -879,4 +1031,12 @@ public class RequestService {
 
 		return requestMatchingService.performRequestMatching(request.getId(), maxMatches);
 	}
+
+	/**
+	 * Maps an entity to the DTO carried by its application events, recording an {@link EventDtoMappingEvent} JFR event.
+	 */
+	private RequestEventDto toEventDto(RequestEntity request) {
+		return EventDtoMappingEvent.record("request", request.getId(), () -> requestEntityMapper.toEventDto(request));
+	}
+
 }
@@ -24,12 +24,16 @@ import ca.gov.dtsstn.vacman.api.event.UserCreatedEvent;
 import ca.gov.dtsstn.vacman.api.event.UserDeletedEvent;
 import ca.gov.dtsstn.vacman.api.event.UserReadEvent;
 import ca.gov.dtsstn.vacman.api.event.UserUpdatedEvent;
+import ca.gov.dtsstn.vacman.api.jfr.EventDtoMappingEvent;
 import ca.gov.dtsstn.vacman.api.security.SecurityUtils;
+import ca.gov.dtsstn.vacman.api.service.dto.UserEventDto;
 import ca.gov.dtsstn.vacman.api.service.mapper.UserEntityEventMapper;
 import ca.gov.dtsstn.vacman.api.service.mapper.UserEntityMapper;
 import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 
 @Service
+@Timed("service.user")
 public class UserService {
 
 	private static final Logger log = LoggerFactory.getLogger(UserService.class);
@@ -78,7 +82,7 @@ public class UserService {
 		final var createdUser = userRepository.save(user);
 
 		// Publish created event
-		eventPublisher.publishEvent(new UserCreatedEvent(userEntityEventMapper.toEventDto(createdUser)));
+		eventPublisher.publishEvent(new UserCreatedEvent(toEventDto(createdUser)));
 		log.info("User created with ID: {}", createdUser.getId());
 
 		return createdUser;
@@ -88,7 +92,7 @@ public class UserService {
 	@Counted("service.user.getUserById.count")
 	public Optional<UserEntity> getUserById(long id) {
 		return userRepository.findById(id).map(user -> {
-			eventPublisher.publishEvent(new UserReadEvent(userEntityEventMapper.toEventDto(user)));
+			eventPublisher.publishEvent(new UserReadEvent(toEventDto(user)));
 			return user;
 		});
 	}
@@ -112,7 +116,7 @@ public class UserService {
 	@Counted("service.user.getUsers.count")
 	public Page<UserEntity> getUsers(Pageable pageable) {
 		final var users = userRepository.findAll(pageable);
-		users.forEach(user -> eventPublisher.publishEvent(new UserReadEvent(userEntityEventMapper.toEventDto(user))));
+		users.forEach(user -> eventPublisher.publishEvent(new UserReadEvent(toEventDto(user))));
 		return users;
 	}
 
@@ -130,7 +134,7 @@ public class UserService {
 	@Counted("service.user.findUsers.count")
 	public Page<UserEntity> findUsers(UserEntity example, Pageable pageable) {
 		final var users = userRepository.findAll(Example.of(example), pageable);
-		users.forEach(user -> eventPublisher.publishEvent(new UserReadEvent(userEntityEventMapper.toEventDto(user))));
+		users.forEach(user -> eventPublisher.publishEvent(new UserReadEvent(toEventDto(user))));
 		return users;
 	}
 
@@ -140,7 +144,7 @@ public class UserService {
 		final var existingUser = userRepository.findById(id).orElseThrow();
 		userEntityMapper.overwrite(updates, existingUser);
 		final var updatedUser = userRepository.save(existingUser);
-		eventPublisher.publishEvent(new UserUpdatedEvent(userEntityEventMapper.toEventDto(updatedUser)));
+		eventPublisher.publishEvent(new UserUpdatedEvent(toEventDto(updatedUser)));
 		log.info("User updated with ID: {}", updatedUser.getId());
 		return updatedUser;
 	}
@@ -151,7 +155,7 @@ public class UserService {
 		final var existingUser = userRepository.findById(id).orElseThrow();
 		userEntityMapper.update(updates, existingUser);
 		final var updatedUser = userRepository.save(existingUser);
-		eventPublisher.publishEvent(new UserUpdatedEvent(userEntityEventMapper.toEventDto(updatedUser)));
+		eventPublisher.publishEvent(new UserUpdatedEvent(toEventDto(updatedUser)));
 		log.info("User updated with ID: {}", updatedUser.getId());
 		return updatedUser;
 	}
@@ -161,9 +165,16 @@ public class UserService {
 	public void deleteUser(long id) {
 		userRepository.findById(id).ifPresent(user -> {
 			userRepository.deleteById(id);
-			eventPublisher.publishEvent(new UserDeletedEvent(userEntityEventMapper.toEventDto(user)));
+			eventPublisher.publishEvent(new UserDeletedEvent(toEventDto(user)));
 			log.info("User deleted with ID: {}", id);
 		});
 	}
 
+	/**
+	 * Maps an entity to the DTO carried by its application events, recording an {@link EventDtoMappingEvent} JFR event.
+	 */
+	private UserEventDto toEventDto(UserEntity user) {
+		return EventDtoMappingEvent.record("user", user.getId(), () -> userEntityEventMapper.toEventDto(user));
+	}
+
 }
@@ -0,0 +1,34 @@
+package ca.gov.dtsstn.vacman.api.service.dto;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import io.soabase.recordbuilder.core.RecordBuilder;
+
+/**
+ * An asynchronous export of some resource (ie: the matches of a request) to a file.
+ *
+ * @param resourceKey identifies what was exported (ie: {@code request/1/matches})
+ * @param version the version of the resource at the time it was exported; exports of the same resource
+ *                and version are interchangeable, so repeat exports can be served from an existing file
+ */
+@RecordBuilder
+public record ExportJob(
+	UUID id,
+	String resourceKey,
+	String version,
+	String filename,
+	String contentType,
+	Status status,
+	Instant createdDate,
+	Instant completedDate,
+	Instant expiryDate
+) {
+
+	public enum Status { IN_PROGRESS, COMPLETED, FAILED }
+
+	public static ExportJobBuilder builder() {
+		return ExportJobBuilder.builder();
+	}
+
+}
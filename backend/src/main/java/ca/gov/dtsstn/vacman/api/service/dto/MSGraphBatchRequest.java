@@ -0,0 +1,17 @@
+package ca.gov.dtsstn.vacman.api.service.dto;
+
+import java.util.List;
+
+/**
+ * The body of an MSGraph JSON {@code $batch} call.
+ *
+ * @see <a href="https://learn.microsoft.com/en-us/graph/json-batching">Combine multiple HTTP requests using JSON batching</a>
+ */
+public record MSGraphBatchRequest(List<Request> requests) {
+
+	/**
+	 * A single request in the batch; {@code url} is relative to the MSGraph version root (ie: {@code /users/{id}}).
+	 */
+	public record Request(String id, String method, String url) {}
+
+}
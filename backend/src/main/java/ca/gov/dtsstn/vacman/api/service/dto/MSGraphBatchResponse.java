@@ -0,0 +1,22 @@
+package ca.gov.dtsstn.vacman.api.service.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import tools.jackson.databind.JsonNode;
+
+/**
+ * The body returned by an MSGraph JSON {@code $batch} call. Responses are not guaranteed to be in request order, so
+ * they must be matched to their request by {@code id}.
+ *
+ * @see MSGraphBatchRequest
+ */
+public record MSGraphBatchResponse(List<Response> responses) {
+
+	/**
+	 * A single response in the batch. The body is kept as JSON, since it is only a user when {@code status} is
+	 * {@code 2xx} (and an MSGraph error otherwise).
+	 */
+	public record Response(String id, int status, Map<String, String> headers, JsonNode body) {}
+
+}
@@ -0,0 +1,22 @@
+package ca.gov.dtsstn.vacman.api.service.dto;
+
+import io.soabase.recordbuilder.core.RecordBuilder;
+import jakarta.annotation.Nullable;
+
+/**
+ * A single match's changes within a bulk match update. Any {@code null} value is left unchanged.
+ */
+@RecordBuilder
+public record MatchBulkUpdate(
+	Long matchId,
+	@Nullable String matchStatusCode,
+	@Nullable Long matchFeedbackId,
+	@Nullable String hiringManagerComment,
+	@Nullable String hrAdvisorComment
+) {
+
+	public static MatchBulkUpdateBuilder builder() {
+		return MatchBulkUpdateBuilder.builder();
+	}
+
+}
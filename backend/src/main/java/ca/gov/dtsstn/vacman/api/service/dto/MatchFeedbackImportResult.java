@@ -0,0 +1,25 @@
+package ca.gov.dtsstn.vacman.api.service.dto;
+
+import java.util.List;
+
+import ca.gov.dtsstn.vacman.api.data.entity.MatchEntity;
+
+/**
+ * The outcome of a match feedback spreadsheet import. Matches are only updated if no row has errors.
+ *
+ * @param rowCount the number of rows that were read
+ * @param updatedMatches the matches that were updated
+ * @param errors the row-level validation errors, ordered by row number
+ */
+public record MatchFeedbackImportResult(int rowCount, List<MatchEntity> updatedMatches, List<RowError> errors) {
+
+	public boolean hasErrors() {
+		return !errors.isEmpty();
+	}
+
+	/**
+	 * A validation error on a single row (and field) of the spreadsheet.
+	 */
+	public record RowError(long rowNumber, String field, String message) {}
+
+}
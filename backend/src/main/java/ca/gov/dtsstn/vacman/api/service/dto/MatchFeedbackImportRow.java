@@ -0,0 +1,23 @@
+package ca.gov.dtsstn.vacman.api.service.dto;
+
+import io.soabase.recordbuilder.core.RecordBuilder;
+import jakarta.annotation.Nullable;
+
+/**
+ * A (raw, unvalidated) row of a match feedback spreadsheet import.
+ *
+ * @param rowNumber the (1-based) spreadsheet row number, used when reporting errors
+ */
+@RecordBuilder
+public record MatchFeedbackImportRow(
+	long rowNumber,
+	@Nullable String matchId,
+	@Nullable String matchFeedback,
+	@Nullable String hiringManagerComment
+) {
+
+	public static MatchFeedbackImportRowBuilder builder() {
+		return MatchFeedbackImportRowBuilder.builder();
+	}
+
+}
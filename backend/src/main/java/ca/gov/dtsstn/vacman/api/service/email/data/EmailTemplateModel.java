@@ -1,8 +1,84 @@
 package ca.gov.dtsstn.vacman.api.service.email.data;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 public final class EmailTemplateModel {
 	private EmailTemplateModel() {}
 
+	/**
+	 * A precomputed accessor for a single record component.
+	 */
+	private record ComponentAccessor(String name, MethodHandle accessor) {}
+
+	/**
+	 * The component accessors of each record type, resolved once (on first use) per type.
+	 */
+	private static final ClassValue<List<ComponentAccessor>> COMPONENT_ACCESSORS = new ClassValue<>() {
+
+		@Override
+		protected List<ComponentAccessor> computeValue(Class<?> type) {
+			final var lookup = MethodHandles.publicLookup();
+			final var accessorType = MethodType.methodType(Object.class, Object.class);
+
+			return Arrays.stream(type.getRecordComponents())
+				.map(component -> {
+					try {
+						return new ComponentAccessor(component.getName(), lookup.unreflect(component.getAccessor()).asType(accessorType));
+					}
+					catch (final IllegalAccessException exception) {
+						throw new IllegalStateException("Record component " + type.getName() + "." + component.getName() + " is not accessible", exception);
+					}
+				})
+				.toList();
+		}
+
+	};
+
+	static {
+		// resolve the accessors of every template model up front so that the first emails sent do not pay for it
+		Arrays.stream(EmailTemplateModel.class.getDeclaredClasses())
+			.filter(type -> type.isRecord() && Modifier.isPublic(type.getModifiers()))
+			.forEach(COMPONENT_ACCESSORS::get);
+	}
+
+	/**
+	 * Converts a template model record to a FreeMarker data model, keyed by record component name.
+	 * Components with a {@code null} value are omitted.
+	 *
+	 * @param model the template model record
+	 * @return a mutable map of the record's non-null components
+	 */
+	public static Map<String, Object> toMap(Record model) {
+		final var componentAccessors = COMPONENT_ACCESSORS.get(model.getClass());
+		final var map = HashMap.<String, Object>newHashMap(componentAccessors.size());
+
+		for (final var componentAccessor : componentAccessors) {
+			final var value = invoke(componentAccessor.accessor(), model);
+
+			if (value != null) {
+				map.put(componentAccessor.name(), value);
+			}
+		}
+
+		return map;
+	}
+
+	private static Object invoke(MethodHandle accessor, Record model) {
+		try {
+			return accessor.invokeExact((Object) model);
+		}
+		catch (final Throwable throwable) {
+			throw new IllegalStateException("Failed to read template model component", throwable);
+		}
+	}
+
 	public record ApprovalRequired(
 		String employeeName
 	) {}
@@ -0,0 +1,96 @@
+package ca.gov.dtsstn.vacman.api.service.http;
+
+import java.io.IOException;
+
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.util.Assert;
+import org.springframework.web.client.HttpServerErrorException;
+
+import ca.gov.dtsstn.vacman.api.config.properties.CircuitBreakerProperties;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig.SlidingWindowType;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+/**
+ * Guards an outbound integration with a circuit breaker.
+ * <p>
+ * I/O errors and {@code 5xx} responses count as failures; all other responses (including {@code 4xx}) count as
+ * successes, since they show that the remote service is up. While the breaker is open, calls fail immediately with a
+ * {@link CallNotPermittedException} instead of waiting for a connect or read timeout.
+ */
+public class CircuitBreakerInterceptor implements ClientHttpRequestInterceptor {
+
+	private final CircuitBreaker circuitBreaker;
+
+	private final boolean enabled;
+
+	CircuitBreakerInterceptor(CircuitBreaker circuitBreaker, boolean enabled) {
+		this.circuitBreaker = circuitBreaker;
+		this.enabled = enabled;
+	}
+
+	/**
+	 * Creates an interceptor backed by the (possibly existing) breaker with the given name.
+	 *
+	 * @param circuitBreakerRegistry the registry that owns the breaker (and publishes its metrics)
+	 * @param name the name of the integration
+	 * @param circuitBreakerProperties the breaker settings
+	 */
+	public static CircuitBreakerInterceptor create(CircuitBreakerRegistry circuitBreakerRegistry, String name, CircuitBreakerProperties circuitBreakerProperties) {
+		Assert.notNull(circuitBreakerRegistry, "circuitBreakerRegistry is required; it must not be null");
+		Assert.hasText(name, "name is required; it must not be blank or null");
+		Assert.notNull(circuitBreakerProperties, "circuitBreakerProperties is required; it must not be null");
+
+		final var circuitBreakerConfig = CircuitBreakerConfig.custom()
+			.failureRateThreshold(circuitBreakerProperties.failureRateThreshold())
+			.slowCallRateThreshold(circuitBreakerProperties.slowCallRateThreshold())
+			.slowCallDurationThreshold(circuitBreakerProperties.slowCallDurationThreshold())
+			.slidingWindowType(SlidingWindowType.COUNT_BASED)
+			.slidingWindowSize(circuitBreakerProperties.slidingWindowSize())
+			.minimumNumberOfCalls(circuitBreakerProperties.minimumNumberOfCalls())
+			.waitDurationInOpenState(circuitBreakerProperties.waitDurationInOpenState())
+			.permittedNumberOfCallsInHalfOpenState(circuitBreakerProperties.permittedCallsInHalfOpenState())
+			.automaticTransitionFromOpenToHalfOpenEnabled(true)
+			.build();
+
+		return new CircuitBreakerInterceptor(circuitBreakerRegistry.circuitBreaker(name, circuitBreakerConfig), circuitBreakerProperties.enabled());
+	}
+
+	public CircuitBreaker getCircuitBreaker() {
+		return circuitBreaker;
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		if (!enabled) {
+			return execution.execute(request, body);
+		}
+
+		circuitBreaker.acquirePermission();
+		final var start = circuitBreaker.getCurrentTimestamp();
+
+		try {
+			final var response = execution.execute(request, body);
+			final var duration = circuitBreaker.getCurrentTimestamp() - start;
+
+			if (response.getStatusCode().is5xxServerError()) {
+				circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(), HttpServerErrorException.create(response.getStatusCode(), response.getStatusText(), response.getHeaders(), null, null));
+			}
+			else {
+				circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+			}
+
+			return response;
+		}
+		catch (final IOException | RuntimeException exception) {
+			circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), exception);
+			throw exception;
+		}
+	}
+
+}
@@ -0,0 +1,130 @@
+package ca.gov.dtsstn.vacman.api.service.http;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.jspecify.annotations.Nullable;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.InterceptingClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.util.Assert;
+
+import ca.gov.dtsstn.vacman.api.config.properties.ConnectionPoolProperties;
+import ca.gov.dtsstn.vacman.api.web.timing.ServerTimings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+/**
+ * Creates pooled, keep-alive {@link ClientHttpRequestFactory}s for outbound integrations.
+ * <p>
+ * Each integration gets its own connection pool (so a slow integration cannot starve another one of connections),
+ * sized from its {@link ConnectionPoolProperties}. Pool usage is published as
+ * {@code httpcomponents.httpclient.pool.*} meters, tagged with {@code httpclient=<name>}.
+ */
+@Component
+public class PooledHttpClientFactory implements DisposableBean {
+
+	private static final Logger log = LoggerFactory.getLogger(PooledHttpClientFactory.class);
+
+	/**
+	 * How long a pooled connection can be idle before it is checked for staleness when leased.
+	 */
+	private static final TimeValue VALIDATE_AFTER_INACTIVITY = TimeValue.ofSeconds(2);
+
+	private final MeterRegistry meterRegistry;
+
+	private final List<CloseableHttpClient> httpClients = new CopyOnWriteArrayList<>();
+
+	public PooledHttpClientFactory(MeterRegistry meterRegistry) {
+		this.meterRegistry = meterRegistry;
+	}
+
+	/**
+	 * Creates a request factory backed by a new connection pool.
+	 *
+	 * @param name the name of the integration, used to tag the pool metrics
+	 * @param connectionPoolProperties the pool settings
+	 * @param connectTimeout how long to wait for a connection to be established, or {@code null} for HttpClient's default
+	 * @param readTimeout how long to wait for data once connected, or {@code null} for HttpClient's default
+	 */
+	public ClientHttpRequestFactory createRequestFactory(String name, ConnectionPoolProperties connectionPoolProperties, @Nullable Duration connectTimeout, @Nullable Duration readTimeout) {
+		Assert.hasText(name, "name is required; it must not be blank or null");
+		Assert.notNull(connectionPoolProperties, "connectionPoolProperties is required; it must not be null");
+
+		log.info("Creating [{}] connection pool: maxConnections=[{}], maxConnectionsPerRoute=[{}]", name, connectionPoolProperties.maxConnections(), connectionPoolProperties.maxConnectionsPerRoute());
+
+		// timeouts are set on the pool itself: HttpComponentsClientHttpRequestFactory cannot be configured by RestTemplateBuilder
+		final var connectionConfigBuilder = ConnectionConfig.custom()
+			.setTimeToLive(TimeValue.ofMilliseconds(connectionPoolProperties.timeToLive().toMillis()))
+			.setValidateAfterInactivity(VALIDATE_AFTER_INACTIVITY);
+
+		if (connectTimeout != null) { connectionConfigBuilder.setConnectTimeout(Timeout.ofMilliseconds(connectTimeout.toMillis())); }
+		if (readTimeout != null) { connectionConfigBuilder.setSocketTimeout(Timeout.ofMilliseconds(readTimeout.toMillis())); }
+
+		final var connectionConfig = connectionConfigBuilder.build();
+
+		final var requestConfig = RequestConfig.custom()
+			.setConnectionRequestTimeout(Timeout.ofMilliseconds(connectionPoolProperties.connectionRequestTimeout().toMillis()))
+			.build();
+
+		final var connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+			.setMaxConnTotal(connectionPoolProperties.maxConnections())
+			.setMaxConnPerRoute(connectionPoolProperties.maxConnectionsPerRoute())
+			.setDefaultConnectionConfig(connectionConfig)
+			.setPoolConcurrencyPolicy(PoolConcurrencyPolicy.STRICT)
+			// reuse the most recently released connection first so surplus connections go idle and get evicted
+			.setConnPoolPolicy(PoolReusePolicy.LIFO)
+			.build();
+
+		final var httpClient = HttpClients.custom()
+			.setConnectionManager(connectionManager)
+			.setDefaultRequestConfig(requestConfig)
+			.disableCookieManagement()
+			// retries (ie: of 429 Too Many Requests responses) are the integration's decision, not the client's
+			.disableAutomaticRetries()
+			.evictExpiredConnections()
+			.evictIdleConnections(TimeValue.ofMilliseconds(connectionPoolProperties.idleTimeout().toMillis()))
+			.build();
+
+		new PoolingHttpClientConnectionManagerMetricsBinder(connectionManager, name).bindTo(meterRegistry);
+		httpClients.add(httpClient);
+
+		// time each exchange (up to the response headers) against the current request's server timings
+		final ClientHttpRequestInterceptor serverTimingInterceptor = (request, body, execution) -> {
+			final var startTime = System.nanoTime();
+
+			try {
+				return execution.execute(request, body);
+			}
+			finally {
+				ServerTimings.recordExternalCall(name, System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+			}
+		};
+
+		return new InterceptingClientHttpRequestFactory(new HttpComponentsClientHttpRequestFactory(httpClient), List.of(serverTimingInterceptor));
+	}
+
+	@Override
+	public void destroy() {
+		httpClients.forEach(httpClient -> httpClient.close(CloseMode.GRACEFUL));
+		httpClients.clear();
+	}
+
+}
@@ -0,0 +1,51 @@
+package ca.gov.dtsstn.vacman.api.service.notify;
+
+import java.io.Serializable;
+
+import org.immutables.value.Value.Immutable;
+import org.immutables.value.Value.Style;
+import org.immutables.value.Value.Style.ValidationMethod;
+import org.jspecify.annotations.Nullable;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import tools.jackson.databind.annotation.JsonDeserialize;
+import tools.jackson.databind.annotation.JsonSerialize;
+
+/**
+ * The receipt returned by GC Notify's {@code /bulk} endpoint. One receipt is returned per bulk job (ie: per chunk of
+ * recipients sent).
+ */
+@Immutable
+@Style(validationMethod = ValidationMethod.NONE)
+@JsonSerialize(as = ImmutableBulkNotificationReceipt.class)
+@JsonDeserialize(as = ImmutableBulkNotificationReceipt.class)
+public interface BulkNotificationReceipt {
+
+	@JsonProperty("data")
+	BulkNotificationReceiptData getData();
+
+	@Immutable
+	@Style(validationMethod = ValidationMethod.NONE)
+	@JsonSerialize(as = ImmutableBulkNotificationReceiptData.class)
+	@JsonDeserialize(as = ImmutableBulkNotificationReceiptData.class)
+	public interface BulkNotificationReceiptData extends Serializable {
+
+		@JsonProperty("id")
+		String getId();
+
+		@Nullable
+		@JsonProperty("job_status")
+		String getJobStatus();
+
+		@Nullable
+		@JsonProperty("notification_count")
+		Integer getNotificationCount();
+
+		@Nullable
+		@JsonProperty("original_file_name")
+		String getOriginalFileName();
+
+	}
+
+}
@@ -0,0 +1,231 @@
+package ca.gov.dtsstn.vacman.api.service.notify;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.GcNotifyProperties.RateLimitProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * An adaptive token-bucket rate limiter for outbound GC Notify calls.
+ * <p>
+ * Every call must acquire a permit before it is executed; callers that arrive faster than the current rate wait
+ * (in arrival order) until a permit becomes available, which smooths out notification bursts instead of letting them
+ * hit GC Notify's own rate limits.
+ * <p>
+ * When GC Notify responds with {@code 429 Too Many Requests} the limiter halves its rate, pauses all callers until
+ * the {@code Retry-After} time has passed and retries the call (up to {@code max-retries} times). Each successful
+ * ({@code 2xx}) call then additively increases the rate back towards the configured maximum.
+ *
+ * @see RateLimitProperties
+ */
+@Component
+public class GcNotifyRateLimiter implements ClientHttpRequestInterceptor {
+
+	private static final Logger log = LoggerFactory.getLogger(GcNotifyRateLimiter.class);
+
+	private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
+	/**
+	 * The fraction of the configured rate that is restored after every successful call.
+	 */
+	private static final double RATE_RECOVERY_STEP = 0.05;
+
+	private final RateLimitProperties rateLimitProperties;
+
+	private final Timer waitTimer;
+
+	private final Counter throttledCounter;
+
+	private final Counter retriesCounter;
+
+	private double permitsPerSecond;
+
+	private double storedPermits;
+
+	private long lastRefillNanos;
+
+	private long pausedUntilNanos;
+
+	public GcNotifyRateLimiter(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+		this.rateLimitProperties = applicationProperties.gcnotify().rateLimit();
+
+		this.permitsPerSecond = rateLimitProperties.permitsPerSecond();
+		this.storedPermits = rateLimitProperties.burstCapacity();
+		this.lastRefillNanos = System.nanoTime();
+		this.pausedUntilNanos = lastRefillNanos;
+
+		this.waitTimer = Timer.builder("gcnotify.ratelimiter.wait")
+			.description("Time spent waiting for a GC Notify rate limiter permit")
+			.publishPercentiles(0.5, 0.95, 0.99)
+			.register(meterRegistry);
+
+		this.throttledCounter = Counter.builder("gcnotify.ratelimiter.throttled")
+			.description("Number of 429 Too Many Requests responses received from GC Notify")
+			.register(meterRegistry);
+
+		this.retriesCounter = Counter.builder("gcnotify.ratelimiter.retries")
+			.description("Number of GC Notify calls retried after a 429 Too Many Requests response")
+			.register(meterRegistry);
+
+		Gauge.builder("gcnotify.ratelimiter.rate", this, GcNotifyRateLimiter::getPermitsPerSecond)
+			.description("Current GC Notify rate limit, in permits per second")
+			.register(meterRegistry);
+	}
+
+	@Override
+	public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+		if (!rateLimitProperties.enabled()) {
+			return execution.execute(request, body);
+		}
+
+		for (var attempt = 0; ; attempt++) {
+			acquire();
+
+			final var response = execution.execute(request, body);
+
+			if (!HttpStatus.TOO_MANY_REQUESTS.isSameCodeAs(response.getStatusCode())) {
+				// errors (ie: a 5xx from an overloaded GC Notify) say nothing about whether a higher rate is welcome
+				if (response.getStatusCode().is2xxSuccessful()) { onSuccess(); }
+				return response;
+			}
+
+			final var retryAfter = getRetryAfter(response.getHeaders());
+			onThrottled(retryAfter);
+
+			if (attempt >= rateLimitProperties.maxRetries()) {
+				log.warn("GC Notify call [{} {}] still throttled after {} retries; giving up", request.getMethod(), request.getURI().getPath(), attempt);
+				return response;
+			}
+
+			log.info("GC Notify call [{} {}] throttled; retrying after [{}] at [{}] permits/s", request.getMethod(), request.getURI().getPath(), retryAfter, getPermitsPerSecond());
+			retriesCounter.increment();
+			response.close();
+		}
+	}
+
+	/**
+	 * The current (possibly reduced) rate, in permits per second.
+	 */
+	public synchronized double getPermitsPerSecond() {
+		return permitsPerSecond;
+	}
+
+	/**
+	 * Blocks until a permit is available.
+	 */
+	void acquire() throws IOException {
+		final var waitNanos = reserve();
+		waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+
+		if (waitNanos > 0) {
+			log.trace("Waiting [{}] ms for a GC Notify rate limiter permit", TimeUnit.NANOSECONDS.toMillis(waitNanos));
+
+			try {
+				TimeUnit.NANOSECONDS.sleep(waitNanos);
+			}
+			catch (final InterruptedException exception) {
+				Thread.currentThread().interrupt();
+				throw new IOException("Interrupted while waiting for a GC Notify rate limiter permit", exception);
+			}
+		}
+	}
+
+	/**
+	 * Takes a permit from the bucket and returns how long the caller must wait before using it.
+	 * The bucket is allowed to go into debt so that concurrent callers queue up behind each other.
+	 */
+	synchronized long reserve() {
+		final var now = System.nanoTime();
+		refill(now);
+
+		storedPermits -= 1;
+
+		final var debtNanos = (storedPermits < 0) ? (long) (-storedPermits * TimeUnit.SECONDS.toNanos(1) / permitsPerSecond) : 0L;
+		final var pausedNanos = Math.max(0L, pausedUntilNanos - now);
+
+		return Math.max(debtNanos, pausedNanos);
+	}
+
+	/**
+	 * Additively restores the rate towards the configured maximum.
+	 */
+	synchronized void onSuccess() {
+		final var maxPermitsPerSecond = rateLimitProperties.permitsPerSecond();
+
+		if (permitsPerSecond < maxPermitsPerSecond) {
+			permitsPerSecond = Math.min(maxPermitsPerSecond, permitsPerSecond + (maxPermitsPerSecond * RATE_RECOVERY_STEP));
+		}
+	}
+
+	/**
+	 * Multiplicatively reduces the rate, drains any stored burst and pauses all callers for {@code retryAfter}.
+	 */
+	synchronized void onThrottled(Duration retryAfter) {
+		throttledCounter.increment();
+
+		final var now = System.nanoTime();
+		refill(now);
+
+		permitsPerSecond = Math.max(rateLimitProperties.minPermitsPerSecond(), permitsPerSecond / 2);
+		storedPermits = Math.min(storedPermits, 0);
+		pausedUntilNanos = Math.max(pausedUntilNanos, now + retryAfter.toNanos());
+	}
+
+	private void refill(long now) {
+		final var elapsedNanos = now - lastRefillNanos;
+
+		if (elapsedNanos > 0) {
+			final var refilled = (elapsedNanos * permitsPerSecond) / TimeUnit.SECONDS.toNanos(1);
+			storedPermits = Math.min(rateLimitProperties.burstCapacity(), storedPermits + refilled);
+			lastRefillNanos = now;
+		}
+	}
+
+	/**
+	 * Parses the {@code Retry-After} header, which can be either a number of seconds or an HTTP date.
+	 */
+	static Duration getRetryAfter(HttpHeaders headers) {
+		return Optional.ofNullable(headers.getFirst(HttpHeaders.RETRY_AFTER))
+			.map(String::trim)
+			.flatMap(GcNotifyRateLimiter::parseRetryAfter)
+			.filter(retryAfter -> !retryAfter.isNegative())
+			.orElse(DEFAULT_RETRY_AFTER);
+	}
+
+	private static Optional<Duration> parseRetryAfter(String retryAfter) {
+		try {
+			return Optional.of(Duration.ofSeconds(Long.parseLong(retryAfter)));
+		}
+		catch (final NumberFormatException numberFormatException) {
+			try {
+				final var retryAt = ZonedDateTime.parse(retryAfter, DateTimeFormatter.RFC_1123_DATE_TIME);
+				return Optional.of(Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt));
+			}
+			catch (final DateTimeParseException dateTimeParseException) {
+				log.warn("Could not parse GC Notify Retry-After header [{}]", retryAfter);
+				return Optional.empty();
+			}
+		}
+	}
+
+}
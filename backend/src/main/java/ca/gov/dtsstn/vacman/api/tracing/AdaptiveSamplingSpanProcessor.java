@@ -0,0 +1,255 @@
+package ca.gov.dtsstn.vacman.api.tracing;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.springframework.util.AntPathMatcher;
+import org.springframework.util.Assert;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+/**
+ * A {@link SpanProcessor} that decides which traces are exported once their (local) root span has ended, so that
+ * the decision can take the outcome of the whole request into account. A trace is exported if:
+ * <ol>
+ * <li>{@code parent}: the caller sampled it</li>
+ * <li>{@code error}: any of its spans failed (or it ended with a 5xx status)</li>
+ * <li>{@code latency}: its root span took at least {@code latencyThreshold}</li>
+ * <li>{@code route}: its root span is for one of the {@code alwaysSampleRoutes} (ie: run-matches, or exports)</li>
+ * <li>{@code probability}: its trace id falls within {@code baseProbability} (the same trace id based ratio used by
+ * OpenTelemetry's {@code TraceIdRatioBased} sampler, so that services that share a base probability agree)</li>
+ * </ol>
+ * Otherwise, it is {@code dropped}. Each decision is counted (tagged with the rule that made it) by the
+ * {@code tracing.sampling.decisions} counter.
+ * <p>
+ * Spans that end before their root span are held (in memory) until the decision is made; spans that end after it
+ * (ie: spans of {@code @Async} listeners) follow the decision that was already made for their trace. The number of
+ * pending traces is bounded, and traces that are evicted before their root span ends are dropped (and counted with
+ * the {@code evicted} rule).
+ * <p>
+ * Since every span must be recorded for this to work, this processor is paired with an always-on sampler.
+ */
+public class AdaptiveSamplingSpanProcessor implements SpanProcessor {
+
+	public static final String DECISIONS_COUNTER = "tracing.sampling.decisions";
+
+	static final AttributeKey<String> EXCEPTION = AttributeKey.stringKey("exception");
+
+	static final AttributeKey<String> ERROR_TYPE = AttributeKey.stringKey("error.type");
+
+	static final AttributeKey<String> OUTCOME = AttributeKey.stringKey("outcome");
+
+	static final AttributeKey<String> URI = AttributeKey.stringKey("uri");
+
+	static final AttributeKey<String> HTTP_ROUTE = AttributeKey.stringKey("http.route");
+
+	/**
+	 * How long a trace's decision is remembered, for spans that end after their root span.
+	 */
+	private static final Duration DECISION_TTL = Duration.ofMinutes(1);
+
+	/**
+	 * How long a pending trace's spans are held while waiting for its root span to end.
+	 */
+	private static final Duration PENDING_TRACE_TTL = Duration.ofMinutes(5);
+
+	private final SpanProcessor delegate;
+
+	private final long probabilityUpperBound;
+
+	private final long latencyThresholdNanos;
+
+	private final List<String> alwaysSampleRoutes;
+
+	private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+
+	private final MeterRegistry meterRegistry;
+
+	private final Cache<String, Boolean> decisions;
+
+	private final Cache<String, List<ReadableSpan>> pendingSpans;
+
+	/**
+	 * @param delegate the span processor that exports the sampled spans
+	 * @param baseProbability the probability that a trace that matches no other rule is exported
+	 * @param latencyThreshold traces whose root span takes at least this long are always exported
+	 * @param alwaysSampleRoutes route patterns ({@code AntPathMatcher} syntax) whose traces are always exported
+	 * @param maxPendingTraces the maximum number of traces that can be waiting for their root span to end
+	 * @param meterRegistry the registry of the per-rule decision counters
+	 */
+	public AdaptiveSamplingSpanProcessor(SpanProcessor delegate, double baseProbability, Duration latencyThreshold, List<String> alwaysSampleRoutes, int maxPendingTraces, MeterRegistry meterRegistry) {
+		Assert.notNull(delegate, "delegate is required; it must not be null");
+		Assert.isTrue(baseProbability >= 0.0 && baseProbability <= 1.0, "baseProbability must be between 0.0 and 1.0");
+		Assert.notNull(latencyThreshold, "latencyThreshold is required; it must not be null");
+		Assert.notNull(alwaysSampleRoutes, "alwaysSampleRoutes is required; it must not be null");
+		Assert.notNull(meterRegistry, "meterRegistry is required; it must not be null");
+
+		this.delegate = delegate;
+		this.probabilityUpperBound = (baseProbability >= 1.0) ? Long.MAX_VALUE : (long) (baseProbability * Long.MAX_VALUE);
+		this.latencyThresholdNanos = latencyThreshold.toNanos();
+		this.alwaysSampleRoutes = List.copyOf(alwaysSampleRoutes);
+		this.meterRegistry = meterRegistry;
+
+		this.decisions = Caffeine.newBuilder()
+			.expireAfterWrite(DECISION_TTL)
+			.maximumSize(maxPendingTraces * 10L)
+			.build();
+
+		this.pendingSpans = Caffeine.newBuilder()
+			.expireAfterWrite(PENDING_TRACE_TTL)
+			.maximumSize(maxPendingTraces)
+			.<String, List<ReadableSpan>>removalListener((traceId, spans, removalCause) -> {
+				if (removalCause != RemovalCause.EXPLICIT) { countDecision("evicted"); }
+			})
+			.build();
+	}
+
+	@Override
+	public void onStart(Context parentContext, ReadWriteSpan span) {
+		// nothing to do; decisions are made when spans end
+	}
+
+	@Override
+	public boolean isStartRequired() {
+		return false;
+	}
+
+	@Override
+	public void onEnd(ReadableSpan span) {
+		final var traceId = span.getSpanContext().getTraceId();
+		final var decision = decisions.getIfPresent(traceId);
+
+		if (decision != null) {
+			if (decision) { delegate.onEnd(span); }
+			return;
+		}
+
+		if (!isLocalRoot(span)) {
+			final var pending = new AtomicBoolean();
+
+			// a span is only held if no decision has been made for its trace yet; checking the decision while holding
+			// the trace's entry means that the root span cannot take the trace's spans between the check and the add
+			pendingSpans.asMap().compute(traceId, (key, spans) -> {
+				if (decisions.getIfPresent(key) != null) { return spans; }
+
+				final var traceSpans = Optional.ofNullable(spans).orElseGet(ArrayList::new);
+				traceSpans.add(span);
+				pending.set(true);
+				return traceSpans;
+			});
+
+			if (!pending.get() && Boolean.TRUE.equals(decisions.getIfPresent(traceId))) { delegate.onEnd(span); }
+			return;
+		}
+
+		final var traceSpans = Optional.ofNullable(pendingSpans.asMap().remove(traceId)).orElseGet(List::of);
+
+		final var rule = sample(span, traceSpans);
+		final var sampled = !"dropped".equals(rule);
+
+		decisions.put(traceId, sampled);
+		countDecision(rule);
+
+		// spans that were held while the decision was being made are not covered by traceSpans; spans that end from
+		// now on see the decision, and are never held
+		final var lateSpans = Optional.ofNullable(pendingSpans.asMap().remove(traceId)).orElseGet(List::of);
+
+		if (sampled) {
+			traceSpans.forEach(delegate::onEnd);
+			delegate.onEnd(span);
+			lateSpans.forEach(delegate::onEnd);
+		}
+	}
+
+	@Override
+	public boolean isEndRequired() {
+		return true;
+	}
+
+	@Override
+	public CompletableResultCode shutdown() {
+		return delegate.shutdown();
+	}
+
+	@Override
+	public CompletableResultCode forceFlush() {
+		return delegate.forceFlush();
+	}
+
+	/**
+	 * Applies the sampling rules, in order, to a trace whose root span has ended.
+	 *
+	 * @return the rule that decided to export the trace, or {@code dropped}
+	 */
+	String sample(ReadableSpan rootSpan, List<ReadableSpan> spans) {
+		final var parentSpanContext = rootSpan.getParentSpanContext();
+		if (parentSpanContext.isRemote() && parentSpanContext.isSampled()) { return "parent"; }
+
+		if (Stream.concat(Stream.of(rootSpan), spans.stream()).anyMatch(AdaptiveSamplingSpanProcessor::isError)) { return "error"; }
+
+		if (rootSpan.getLatencyNanos() >= latencyThresholdNanos) { return "latency"; }
+
+		final var route = Optional.ofNullable(rootSpan.getAttribute(HTTP_ROUTE)).or(() -> Optional.ofNullable(rootSpan.getAttribute(URI)));
+		if (route.filter(this::isAlwaysSampleRoute).isPresent()) { return "route"; }
+
+		if (isWithinProbability(rootSpan.getSpanContext().getTraceId())) { return "probability"; }
+
+		return "dropped";
+	}
+
+	private boolean isAlwaysSampleRoute(String route) {
+		return alwaysSampleRoutes.stream().anyMatch(pattern -> antPathMatcher.match(pattern, route));
+	}
+
+	/**
+	 * Compares the random part of the trace id (its last 16 hex digits) to the base probability, the same way
+	 * OpenTelemetry's {@code TraceIdRatioBased} sampler does.
+	 */
+	private boolean isWithinProbability(String traceId) {
+		if (probabilityUpperBound == Long.MAX_VALUE) { return true; }
+		final var randomPart = Long.parseUnsignedLong(traceId.substring(traceId.length() - 16), 16);
+		return Math.abs(randomPart) < probabilityUpperBound;
+	}
+
+	private static boolean isError(ReadableSpan span) {
+		if (span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR) { return true; }
+		if ("SERVER_ERROR".equals(span.getAttribute(OUTCOME))) { return true; }
+		if (span.getAttribute(ERROR_TYPE) != null) { return true; }
+
+		final var exception = span.getAttribute(EXCEPTION);
+		return exception != null && !"none".equalsIgnoreCase(exception);
+	}
+
+	/**
+	 * A span is a local root if it has no parent, or if its parent is in another service.
+	 */
+	private static boolean isLocalRoot(ReadableSpan span) {
+		final var parentSpanContext = span.getParentSpanContext();
+		return !parentSpanContext.isValid() || parentSpanContext.isRemote();
+	}
+
+	private void countDecision(String rule) {
+		Counter.builder(DECISIONS_COUNTER)
+			.description("Number of trace sampling decisions, by the rule that made them")
+			.tag("rule", rule)
+			.register(meterRegistry)
+			.increment();
+	}
+
+}
@@ -26,6 +26,7 @@ import ca.gov.dtsstn.vacman.api.web.exception.ForbiddenException;
 import ca.gov.dtsstn.vacman.api.web.exception.ResourceConflictException;
 import ca.gov.dtsstn.vacman.api.web.exception.ResourceNotFoundException;
 import ca.gov.dtsstn.vacman.api.web.exception.UnauthorizedException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.micrometer.core.annotation.Counted;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.ConstraintViolationException;
@@ -47,6 +48,19 @@ public class ApiErrorHandler extends ResponseEntityExceptionHandler {
 		return super.handleExceptionInternal(exception, problemDetail, new HttpHeaders(), HttpStatus.FORBIDDEN, request);
 	}
 
+	@ExceptionHandler({ CallNotPermittedException.class })
+	@Counted(value = "errors.handled", extraTags = { "type", "service_unavailable", "status", "503" })
+	public ResponseEntity<Object> handleCallNotPermittedException(CallNotPermittedException exception, WebRequest request) {
+		final var correlationId = generateCorrelationId();
+		log.warn("[correlationId: {}] Request processing failed; a downstream service is unavailable: {}", correlationId, exception.getMessage());
+
+		final var problemDetail = ProblemDetail.forStatusAndDetail(HttpStatus.SERVICE_UNAVAILABLE, "A downstream service is temporarily unavailable; please try again later.");
+		problemDetail.setProperty("correlationId", correlationId);
+		problemDetail.setProperty("errorCode", "API-0503");
+
+		return super.handleExceptionInternal(exception, problemDetail, new HttpHeaders(), HttpStatus.SERVICE_UNAVAILABLE, request);
+	}
+
 	@ExceptionHandler({ ConstraintViolationException.class })
 	@Counted(value = "errors.handled", extraTags = { "type", "validation", "status", "400" })
 	public ResponseEntity<Object> handleConstraintViolationException(ConstraintViolationException exception, WebRequest request) {
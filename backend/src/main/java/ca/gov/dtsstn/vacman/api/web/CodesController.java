@@ -35,6 +35,7 @@ import ca.gov.dtsstn.vacman.api.web.model.WorkScheduleReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.WorkUnitReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.mapper.CodeModelMapper;
 import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
@@ -43,6 +44,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 @Tag(name = "Codes")
 @ApiResponses.InternalServerError
 @RequestMapping({ "/api/v1/codes" })
+@Timed("controller.codes")
 public class CodesController {
 
 	private final CodeModelMapper codeMapper = Mappers.getMapper(CodeModelMapper.class);
@@ -14,14 +14,18 @@ import org.mapstruct.factory.Mappers;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PagedModel;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.AuthorityUtils;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
@@ -29,6 +33,8 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import ca.gov.dtsstn.vacman.api.config.SpringDocConfig;
 import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
@@ -37,21 +43,31 @@ import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes;
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes.ProfileStatuses;
 import ca.gov.dtsstn.vacman.api.data.entity.AbstractBaseEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.ProfileEntity;
+import ca.gov.dtsstn.vacman.api.json.JsonPatchMediaTypes;
+import ca.gov.dtsstn.vacman.api.json.JsonPatchProcessor;
 import ca.gov.dtsstn.vacman.api.security.SecurityUtils;
 import ca.gov.dtsstn.vacman.api.service.ProfileService;
 import ca.gov.dtsstn.vacman.api.service.UserService;
 import ca.gov.dtsstn.vacman.api.web.exception.ResourceConflictException;
+import ca.gov.dtsstn.vacman.api.web.export.SpreadsheetFormat;
+import ca.gov.dtsstn.vacman.api.web.export.SpreadsheetMediaTypes;
 import ca.gov.dtsstn.vacman.api.web.model.CollectionModel;
 import ca.gov.dtsstn.vacman.api.web.model.ProfilePutModel;
 import ca.gov.dtsstn.vacman.api.web.model.ProfileReadFilterModel;
 import ca.gov.dtsstn.vacman.api.web.model.ProfileReadFilterModelBuilder;
 import ca.gov.dtsstn.vacman.api.web.model.ProfileReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.ProfileStatusUpdateModel;
+import ca.gov.dtsstn.vacman.api.web.model.SparseFieldsetModel;
 import ca.gov.dtsstn.vacman.api.web.model.mapper.ProfileModelMapper;
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.json.JsonMergePatch;
 import jakarta.validation.Valid;
 
 @RestController
@@ -59,6 +75,7 @@ import jakarta.validation.Valid;
 @ApiResponses.InternalServerError
 @RequestMapping({ "/api/v1/profiles" })
 @SecurityRequirement(name = SpringDocConfig.AZURE_AD)
+@Timed("controller.profiles")
 public class ProfilesController {
 
 	private static final Logger log = LoggerFactory.getLogger(ProfilesController.class);
@@ -67,6 +84,8 @@ public class ProfilesController {
 
 	private static final String FOUND_PROFILE_LOG_MSG = "Found profile: [{}]";
 
+	private final JsonPatchProcessor jsonPatchProcessor;
+
 	private final ProfileService profileService;
 
 	private final ProfileStatuses profileStatusCodes;
@@ -79,22 +98,32 @@ public class ProfilesController {
 
 	public ProfilesController(
 			ApplicationProperties applicationProperties,
+			JsonPatchProcessor jsonPatchProcessor,
 			LookupCodes lookupCodes,
 			ProfileService profileService,
 			UserService userService) {
 		this.roles = applicationProperties.entraId().roles();
+		this.jsonPatchProcessor = jsonPatchProcessor;
 		this.profileService = profileService;
 		this.profileStatusCodes = lookupCodes.profileStatuses();
 		this.userService = userService;
 	}
 
-	@GetMapping
-	@ApiResponses.Ok
 	@ApiResponses.AccessDeniedError
 	@ApiResponses.AuthenticationError
 	@PreAuthorize("hasAuthority('hr-advisor')")
-	@Operation(summary = "Retrieve a list of profiles with optional filters on active profiles, inactive profiles, and HR advisor assocation.")
-	public ResponseEntity<PagedModel<ProfileReadModel>> getProfiles(@ParameterObject Pageable pageable, @ParameterObject ProfileReadFilterModel filter) {
+	@ApiResponse(responseCode = "200", description = "Returned if the request has succeeded.", content = {
+		@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = ProfilePagedModel.class)),
+		@Content(mediaType = SpreadsheetMediaTypes.CSV_VALUE, schema = @Schema(format = "binary")),
+		@Content(mediaType = SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET_VALUE, schema = @Schema(format = "binary")),
+		@Content(mediaType = SpreadsheetMediaTypes.XLSX_VALUE, schema = @Schema(format = "binary"))
+	})
+	@Operation(summary = "Retrieve (or download) a list of profiles with optional filters on active profiles, inactive profiles, and HR advisor assocation. Note that pagination is ignored when downloading a spreadsheet.")
+	@GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, SpreadsheetMediaTypes.CSV_VALUE, SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET_VALUE, SpreadsheetMediaTypes.XLSX_VALUE })
+	public ResponseEntity<?> getProfiles(@ParameterObject Pageable pageable, @ParameterObject ProfileReadFilterModel filter, @ParameterObject SparseFieldsetModel fieldset) {
+		final var requestAttributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+		final var acceptHeader = requestAttributes.getRequest().getHeader(HttpHeaders.ACCEPT);
+
 		final var profileQuery = profileModelMapper.toProfileQuery(
 			ProfileReadFilterModelBuilder.builder(filter)
 				// ?hrAdvisorId=me is a valid filter, so we must replace any instance
@@ -102,8 +131,22 @@ public class ProfilesController {
 				.hrAdvisorId(resolveMeKeyword(filter.hrAdvisorId()))
 				.build());
 
-		final var profiles = profileService.findProfiles(pageable, profileQuery)
-			.map(profileModelMapper::toModel);
+		final var spreadsheetFormat = SpreadsheetFormat.fromAcceptHeader(acceptHeader);
+
+		if (spreadsheetFormat.isPresent()) {
+			log.info("Received request to download profiles; Accept: [{}]", acceptHeader);
+
+			// if the client requested a spreadsheet, we ignore pagination and stream all results
+			// straight from a database cursor into the response, one row at a time
+			return spreadsheetFormat.get().toResponseEntity("profiles", "Profiles", profileModelMapper.toSpreadsheetColumns(),
+				rowConsumer -> profileService.streamProfiles(profileQuery, profileModelMapper::toModel, rowConsumer));
+		}
+
+		// when a sparse fieldset is requested, only the requested associations are fetched (and mapped)
+		final var profiles = (fieldset.isSparse()
+				? profileService.findProfiles(pageable, profileQuery, profileModelMapper.toFetchGraph(fieldset))
+				: profileService.findProfiles(pageable, profileQuery))
+			.map(profile -> profileModelMapper.toModel(profile, fieldset));
 
 		return ResponseEntity.ok(new PagedModel<>(profiles));
 	}
@@ -117,12 +160,13 @@ public class ProfilesController {
 	public ResponseEntity<CollectionModel<ProfileReadModel>> getProfileMe(
 			@RequestParam(name = "active", required = false)
 			@Parameter(name = "active", description = "Return only active or inactive profiles")
-			Boolean isActive) {
+			Boolean isActive,
+			@ParameterObject SparseFieldsetModel fieldset) {
 		final var entraId = SecurityUtils.getCurrentUserEntraId()
 			.orElseThrow(asEntraIdUnauthorizedException());
 
 		final var profiles = profileService.getProfilesByEntraId(entraId, isActive).stream()
-			.map(profileModelMapper::toModel)
+			.map(profile -> profileModelMapper.toModel(profile, fieldset))
 			.collect(toCollectionModel());
 
 		return ResponseEntity.ok(profiles);
@@ -135,11 +179,11 @@ public class ProfilesController {
 	@ApiResponses.ResourceNotFoundError
 	@PreAuthorize("hasAuthority('hr-advisor') || hasPermission(#id, 'PROFILE', 'READ')")
 	@Operation(summary = "Retrieve the profile specified by ID that is associated with the authenticated user.")
-	public ResponseEntity<ProfileReadModel> getProfileById(@PathVariable Long id) {
+	public ResponseEntity<ProfileReadModel> getProfileById(@PathVariable Long id, @ParameterObject SparseFieldsetModel fieldset) {
 		log.info("Received request to get profile; ID: [{}]", id);
 
 		final var profile = profileService.getProfileById(id)
-			.map(profileModelMapper::toModel)
+			.map(entity -> profileModelMapper.toModel(entity, fieldset))
 			.orElseThrow(asResourceNotFoundException(PROFILE, id));
 
 		log.trace(FOUND_PROFILE_LOG_MSG, profile);
@@ -199,6 +243,31 @@ public class ProfilesController {
 		return ResponseEntity.ok(profileModelMapper.toModel(updatedEntity));
 	}
 
+	@ApiResponses.Ok
+	@ApiResponses.AccessDeniedError
+	@ApiResponses.AuthenticationError
+	@ApiResponses.ResourceNotFoundError
+	@Operation(summary = "Partially update an existing profile specified by ID using a JSON Merge Patch.")
+	@PatchMapping(path = { "/{id}" }, consumes = { JsonPatchMediaTypes.JSON_MERGE_PATCH_VALUE })
+	@PreAuthorize("hasAuthority('hr-advisor') || hasPermission(#id, 'PROFILE', 'UPDATE')")
+	public ResponseEntity<ProfileReadModel> patchProfileById(@PathVariable Long id, @RequestBody JsonMergePatch mergePatch) {
+		log.info("Received request to patch profile; ID: [{}]", id);
+
+		final var foundProfile = profileService.getProfileById(id)
+			.orElseThrow(asResourceNotFoundException(PROFILE, id));
+
+		log.trace(FOUND_PROFILE_LOG_MSG, foundProfile);
+
+		final var patchedModel = jsonPatchProcessor.patch(profileModelMapper.toPutModel(foundProfile), mergePatch);
+		final var patchedFields = jsonPatchProcessor.getPatchedFields(mergePatch);
+
+		log.debug("Patching profile fields: {}", patchedFields);
+
+		final var updatedEntity = profileService.patchProfile(patchedModel, foundProfile, patchedFields);
+
+		return ResponseEntity.ok(profileModelMapper.toModel(updatedEntity));
+	}
+
 	@ApiResponses.Accepted
 	@PutMapping({ "/{id}/status" })
 	@ApiResponses.AccessDeniedError
@@ -293,4 +362,18 @@ public class ProfilesController {
 		profileService.updateProfileStatus(profile, targetStatus);
 	}
 
+	/**
+	 * This class only is used to provide a type for the Swagger documentation for the
+	 * {@link #getProfiles(Pageable, ProfileReadFilterModel, SparseFieldsetModel)} method.
+	 * <p>
+	 * Because PagedModel is a generic class, Swagger has difficulty determining the actual
+	 * type returned by that method. By creating this subclass, we can provide a concrete
+	 * type that Swagger can use for documentation purposes.
+	 */
+	private static class ProfilePagedModel extends PagedModel<ProfileReadModel> {
+		public ProfilePagedModel(Page<ProfileReadModel> page) {
+			super(page);
+		}
+	}
+
 }
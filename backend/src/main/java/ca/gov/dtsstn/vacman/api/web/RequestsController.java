@@ -5,12 +5,19 @@ import static ca.gov.dtsstn.vacman.api.data.entity.AbstractCodeEntity.byCode;
 import static ca.gov.dtsstn.vacman.api.web.exception.ResourceNotFoundException.asResourceNotFoundException;
 import static ca.gov.dtsstn.vacman.api.web.exception.ResourceNotFoundException.asUserResourceNotFoundException;
 import static ca.gov.dtsstn.vacman.api.web.exception.UnauthorizedException.asEntraIdUnauthorizedException;
-import static java.util.Comparator.comparingDouble;
+import static ca.gov.dtsstn.vacman.api.web.model.CollectionModel.toCollectionModel;
+import static java.util.function.Predicate.not;
 import static org.springframework.data.domain.Pageable.unpaged;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
 
 import org.mapstruct.factory.Mappers;
 import org.slf4j.Logger;
@@ -18,18 +25,27 @@ import org.slf4j.LoggerFactory;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.Resource;
 import org.springframework.data.web.PagedModel;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.util.StringUtils;
+import org.springframework.web.HttpMediaTypeNotSupportedException;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -37,34 +53,52 @@ import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import ca.gov.dtsstn.vacman.api.config.SpringDocConfig;
 import ca.gov.dtsstn.vacman.api.data.entity.AbstractBaseEntity;
+import ca.gov.dtsstn.vacman.api.data.entity.RequestEntity;
+import ca.gov.dtsstn.vacman.api.json.JsonPatchMediaTypes;
+import ca.gov.dtsstn.vacman.api.json.JsonPatchProcessor;
 import ca.gov.dtsstn.vacman.api.security.SecurityUtils;
 import ca.gov.dtsstn.vacman.api.service.CodeService;
+import ca.gov.dtsstn.vacman.api.service.ExportService;
 import ca.gov.dtsstn.vacman.api.service.MatchService;
 import ca.gov.dtsstn.vacman.api.service.RequestService;
 import ca.gov.dtsstn.vacman.api.service.UserService;
+import ca.gov.dtsstn.vacman.api.service.dto.ExportJob;
+import ca.gov.dtsstn.vacman.api.service.dto.MatchFeedbackImportRow;
 import ca.gov.dtsstn.vacman.api.service.dto.MatchQuery;
 import ca.gov.dtsstn.vacman.api.service.dto.MatchQueryBuilder;
+import ca.gov.dtsstn.vacman.api.web.exception.ResourceConflictException;
 import ca.gov.dtsstn.vacman.api.web.exception.ResourceNotFoundException;
+import ca.gov.dtsstn.vacman.api.web.export.SpreadsheetFormat;
+import ca.gov.dtsstn.vacman.api.web.export.SpreadsheetMediaTypes;
+import ca.gov.dtsstn.vacman.api.web.model.CollectionModel;
+import ca.gov.dtsstn.vacman.api.web.model.ExportJobReadModel;
+import ca.gov.dtsstn.vacman.api.web.model.MatchFeedbackImportReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.MatchReadFilterModel;
 import ca.gov.dtsstn.vacman.api.web.model.MatchReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.MatchStatusUpdateModel;
 import ca.gov.dtsstn.vacman.api.web.model.MatchSummaryReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.MatchUpdateModel;
+import ca.gov.dtsstn.vacman.api.web.model.MatchesBulkUpdateModel;
 import ca.gov.dtsstn.vacman.api.web.model.ProfileReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.RequestReadFilterModel;
 import ca.gov.dtsstn.vacman.api.web.model.RequestReadFilterModelBuilder;
 import ca.gov.dtsstn.vacman.api.web.model.RequestReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.RequestStatusUpdateModel;
 import ca.gov.dtsstn.vacman.api.web.model.RequestUpdateModel;
+import ca.gov.dtsstn.vacman.api.web.model.SparseFieldsetModel;
+import ca.gov.dtsstn.vacman.api.web.model.mapper.ExportJobModelMapper;
 import ca.gov.dtsstn.vacman.api.web.model.mapper.MatchModelMapper;
 import ca.gov.dtsstn.vacman.api.web.model.mapper.ProfileModelMapper;
 import ca.gov.dtsstn.vacman.api.web.model.mapper.RequestModelMapper;
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.annotation.Nullable;
+import jakarta.json.JsonMergePatch;
 import jakarta.validation.Valid;
 
 @RestController
@@ -74,13 +108,17 @@ import jakarta.validation.Valid;
 @RequestMapping({ "/api/v1/requests" })
 @SecurityRequirement(name = SpringDocConfig.AZURE_AD)
 @Tag(name = "Requests", description = "Hiring manager requests for departmental clearance.")
+@Timed("controller.requests")
 public class RequestsController {
 
-	public static final String OPENDOCUMENT_SPREADSHEET_MEDIA_TYPE_VALUE = "application/vnd.oasis.opendocument.spreadsheet";
+	private static final Logger log = LoggerFactory.getLogger(RequestsController.class);
 
-	public static final MediaType OPENDOCUMENT_SPREADSHEET_MEDIA_TYPE = MediaType.valueOf(OPENDOCUMENT_SPREADSHEET_MEDIA_TYPE_VALUE);
+	/**
+	 * The maximum number of data rows in a match feedback import.
+	 */
+	static final int MAX_FEEDBACK_IMPORT_ROWS = 10_000;
 
-	private static final Logger log = LoggerFactory.getLogger(RequestsController.class);
+	private final ExportJobModelMapper exportJobModelMapper = Mappers.getMapper(ExportJobModelMapper.class);
 
 	private final MatchModelMapper matchModelMapper = Mappers.getMapper(MatchModelMapper.class);
 
@@ -90,6 +128,10 @@ public class RequestsController {
 
 	private final CodeService codeService;
 
+	private final ExportService exportService;
+
+	private final JsonPatchProcessor jsonPatchProcessor;
+
 	private final MatchService matchService;
 
 	private final RequestService requestService;
@@ -98,22 +140,34 @@ public class RequestsController {
 
 	public RequestsController(
 			CodeService codeService,
+			ExportService exportService,
+			JsonPatchProcessor jsonPatchProcessor,
 			MatchService matchService,
 			RequestService requestService,
 			UserService userService) {
 		this.codeService = codeService;
+		this.exportService = exportService;
+		this.jsonPatchProcessor = jsonPatchProcessor;
 		this.matchService = matchService;
 		this.requestService = requestService;
 		this.userService = userService;
 	}
 
-	@GetMapping
-	@ApiResponses.Ok
 	@ApiResponses.BadRequestError
 	@PreAuthorize("hasAuthority('hr-advisor')")
-	@Operation(summary = "Get hiring requests with pagination.")
-	public ResponseEntity<PagedModel<RequestReadModel>> getAllRequests(@ParameterObject Pageable pageable, @ParameterObject RequestReadFilterModel filter) {
-		log.info("Received request to get all hiring requests");
+	@ApiResponse(responseCode = "200", description = "Returned if the request has succeeded.", content = {
+		@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = RequestPagedModel.class)),
+		@Content(mediaType = SpreadsheetMediaTypes.CSV_VALUE, schema = @Schema(format = "binary")),
+		@Content(mediaType = SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET_VALUE, schema = @Schema(format = "binary")),
+		@Content(mediaType = SpreadsheetMediaTypes.XLSX_VALUE, schema = @Schema(format = "binary"))
+	})
+	@Operation(summary = "Get or Download hiring requests. Note that pagination is ignored when downloading a spreadsheet.")
+	@GetMapping(produces = { MediaType.APPLICATION_JSON_VALUE, SpreadsheetMediaTypes.CSV_VALUE, SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET_VALUE, SpreadsheetMediaTypes.XLSX_VALUE })
+	public ResponseEntity<?> getAllRequests(@ParameterObject Pageable pageable, @ParameterObject RequestReadFilterModel filter, @ParameterObject SparseFieldsetModel fieldset) {
+		final var requestAttributes = (ServletRequestAttributes) RequestContextHolder.currentRequestAttributes();
+		final var acceptHeader = requestAttributes.getRequest().getHeader(HttpHeaders.ACCEPT);
+
+		log.info("Received request to get all hiring requests; Accept: [{}]", acceptHeader);
 		log.debug("Pageable: {}, Filter: {}", pageable, filter);
 
 		final var requestQuery = requestModelMapper.toRequestQuery(RequestReadFilterModelBuilder.builder(filter)
@@ -122,10 +176,20 @@ public class RequestsController {
 			.hrAdvisorId(resolveMeKeyword(filter.hrAdvisorId()))
 			.build());
 
-		final var requests = requestService.findRequests(pageable, requestQuery)
-			.map(entity -> requestModelMapper.toModel(entity, requestService.hasMatches(entity.getId())));
+		final var spreadsheetFormat = SpreadsheetFormat.fromAcceptHeader(acceptHeader);
 
-		return ResponseEntity.ok(new PagedModel<>(requests));
+		if (spreadsheetFormat.isPresent()) {
+			// the export does not include the hasMatches flag, since it would cost an extra query per request
+			return spreadsheetFormat.get().toResponseEntity("requests", "Requests", requestModelMapper.toSpreadsheetColumns(),
+				rowConsumer -> requestService.streamRequests(requestQuery, entity -> requestModelMapper.toModel(entity, null), rowConsumer));
+		}
+
+		// when a sparse fieldset is requested, only the requested associations are fetched (and mapped)
+		final var requests = fieldset.isSparse()
+			? requestService.findRequests(pageable, requestQuery, requestModelMapper.toFetchGraph(fieldset))
+			: requestService.findRequests(pageable, requestQuery);
+
+		return ResponseEntity.ok(new PagedModel<>(requests.map(entity -> toModel(entity, fieldset))));
 	}
 
 	@ApiResponses.Ok
@@ -133,7 +197,7 @@ public class RequestsController {
 	@PreAuthorize("isAuthenticated()")
 	@ApiResponses.ResourceNotFoundError
 	@Operation(summary = "Get all hiring requests for the current user.")
-	public ResponseEntity<PagedModel<RequestReadModel>> getCurrentUserRequests(@ParameterObject Pageable pageable, @ParameterObject RequestReadFilterModel filter) {
+	public ResponseEntity<PagedModel<RequestReadModel>> getCurrentUserRequests(@ParameterObject Pageable pageable, @ParameterObject RequestReadFilterModel filter, @ParameterObject SparseFieldsetModel fieldset) {
 		log.info("Received request to get all hiring requests for current user");
 		log.debug("Pageable: {}, Filter: {}", pageable, filter);
 
@@ -150,7 +214,7 @@ public class RequestsController {
 			.build());
 
 		final var requests = requestService.getAllRequestsAssociatedWithUser(pageable, user.getId(), requestQuery)
-			.map(entity -> requestModelMapper.toModel(entity, requestService.hasMatches(entity.getId())));
+			.map(entity -> toModel(entity, fieldset));
 
 		return ResponseEntity.ok(new PagedModel<>(requests));
 	}
@@ -199,11 +263,11 @@ public class RequestsController {
 	@ApiResponses.ResourceNotFoundError
 	@Operation(summary = "Get a request by ID.")
 	@PreAuthorize("hasAuthority('hr-advisor') || hasPermission(#id, 'REQUEST', 'READ')")
-	public ResponseEntity<RequestReadModel> getRequestById(@PathVariable Long id) {
+	public ResponseEntity<RequestReadModel> getRequestById(@PathVariable Long id, @ParameterObject SparseFieldsetModel fieldset) {
 		final var request = requestService.getRequestById(id)
 			.orElseThrow(asResourceNotFoundException("request", id));
 
-		return ResponseEntity.ok(requestModelMapper.toModel(request, requestService.hasMatches(request.getId())));
+		return ResponseEntity.ok(toModel(request, fieldset));
 	}
 
 
@@ -233,6 +297,37 @@ public class RequestsController {
 		return ResponseEntity.ok(requestModelMapper.toModel(updatedEntity, requestService.hasMatches(updatedEntity.getId())));
 	}
 
+	@ApiResponses.Ok
+	@ApiResponses.BadRequestError
+	@ApiResponses.ResourceNotFoundError
+	@ApiResponses.UnprocessableEntityError
+	@Operation(summary = "Partially update a request by ID using a JSON Merge Patch.")
+	@PatchMapping(path = { "/{id}" }, consumes = { JsonPatchMediaTypes.JSON_MERGE_PATCH_VALUE })
+	@PreAuthorize("hasAuthority('hr-advisor') || hasPermission(#id, 'REQUEST', 'UPDATE')")
+	public ResponseEntity<RequestReadModel> patchRequest(@PathVariable Long id, @RequestBody JsonMergePatch mergePatch) {
+		log.info("Received request to patch request; ID: [{}]", id);
+
+		final var request = requestService.getRequestById(id)
+			.orElseThrow(asResourceNotFoundException("request", id));
+
+		log.trace("Found request: [{}]", request);
+
+		final var previousHrAdvisorId = Optional.ofNullable(request.getHrAdvisor())
+			.map(AbstractBaseEntity::getId)
+			.orElse(null);
+
+		final var patchedModel = jsonPatchProcessor.patch(requestModelMapper.requestEntityToRequestUpdateModel(request), mergePatch);
+		final var patchedFields = jsonPatchProcessor.getPatchedFields(mergePatch);
+
+		log.debug("Patching request fields: {}", patchedFields);
+
+		final var preparedEntity = requestService.prepareRequestForPatch(patchedModel, request, patchedFields);
+
+		final var updatedEntity = requestService.updateRequest(preparedEntity, previousHrAdvisorId);
+
+		return ResponseEntity.ok(requestModelMapper.toModel(updatedEntity, requestService.hasMatches(updatedEntity.getId())));
+	}
+
 	@ApiResponses.Ok
 	@ApiResponses.BadRequestError
 	@ApiResponses.ResourceNotFoundError
@@ -320,10 +415,12 @@ public class RequestsController {
 	@PreAuthorize("hasAuthority('hr-advisor') || hasPermission(#requestId, 'REQUEST', 'READ')")
 	@ApiResponse(responseCode = "200", description = "Returned if the request has succeeded.", content = {
 		@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = MatchSummaryPagedModel.class)),
-		@Content(mediaType = OPENDOCUMENT_SPREADSHEET_MEDIA_TYPE_VALUE, schema = @Schema(format = "binary"))
+		@Content(mediaType = SpreadsheetMediaTypes.CSV_VALUE, schema = @Schema(format = "binary")),
+		@Content(mediaType = SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET_VALUE, schema = @Schema(format = "binary")),
+		@Content(mediaType = SpreadsheetMediaTypes.XLSX_VALUE, schema = @Schema(format = "binary"))
 	})
 	@Operation(summary = "Get or Download matches for a request. Note that pagination is ignored when downloading a spreadsheet.")
-	@GetMapping(value = "/{requestId}/matches", produces = { MediaType.APPLICATION_JSON_VALUE, OPENDOCUMENT_SPREADSHEET_MEDIA_TYPE_VALUE })
+	@GetMapping(value = "/{requestId}/matches", produces = { MediaType.APPLICATION_JSON_VALUE, SpreadsheetMediaTypes.CSV_VALUE, SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET_VALUE, SpreadsheetMediaTypes.XLSX_VALUE })
 	public ResponseEntity<?> getAllRequestMatches(
 			@PathVariable Long requestId,
 			@ParameterObject Pageable pageable,
@@ -338,31 +435,92 @@ public class RequestsController {
 
 		log.trace("Found request: [{}]", request);
 
-		final var matchQueryBuilder = MatchQuery.builder()
-			.requestId(requestId)
-			.matchFeedbackIds(filter.matchFeedbackId());
+		final var matchQuery = toMatchQuery(requestId, filter);
+		final var spreadsheetFormat = SpreadsheetFormat.fromAcceptHeader(acceptHeader);
 
-		Optional.ofNullable(filter.profile()).ifPresent(profile -> {
-			matchQueryBuilder.profileEmployeeName(profile.employeeName());
-			matchQueryBuilder.profileWfaStatusIds(profile.wfaStatusId());
-		});
+		if (spreadsheetFormat.isPresent()) {
+			// if the client requested a spreadsheet, we ignore pagination and stream all results
+			// straight from a database cursor into the response, one row at a time
+			return spreadsheetFormat.get().toResponseEntity("req-%03d-matches".formatted(requestId), "Matches", matchModelMapper.toSpreadsheetColumns(),
+				rowConsumer -> requestService.streamMatchesByRequestId(matchQuery, matchModelMapper::toSummaryModel, rowConsumer));
+		}
+
+		final var matches = requestService.getMatchesByRequestId(pageable, matchQuery).map(matchModelMapper::toSummaryModel);
+		return ResponseEntity.ok(new PagedModel<>(matches));
+	}
+
+	@ApiResponses.BadRequestError
+	@ApiResponses.ResourceNotFoundError
+	@PostMapping({ "/{requestId}/matches/exports" })
+	@ApiResponse(responseCode = "202", description = "Returned if the export has been started (or an export of the same unchanged matches already exists).")
+	@Operation(summary = "Export the (optionally filtered) matches for a request in the background. Poll the returned export until it has completed, then download it.")
+	@PreAuthorize("hasAuthority('hr-advisor') || hasPermission(#requestId, 'REQUEST', 'UPDATE')")
+	public ResponseEntity<ExportJobReadModel> createRequestMatchesExport(
+			@PathVariable Long requestId,
+			@RequestParam(defaultValue = "XLSX") SpreadsheetFormat format,
+			@ParameterObject MatchReadFilterModel filter) {
+		final var request = requestService.getRequestById(requestId)
+			.orElseThrow(asResourceNotFoundException("request", requestId));
+
+		final var matchQuery = toMatchQuery(requestId, filter);
 
-		// Since accept headers can be qualified with weights, we need to parse them
-		// and determine if the client prefers a spreadsheet response.
-		final var requestedSpreadsheet = MediaType.parseMediaTypes(acceptHeader).stream()
-			.max(comparingDouble(MediaType::getQualityValue))
-			.map(mediaType -> mediaType.equalsTypeAndSubtype(OPENDOCUMENT_SPREADSHEET_MEDIA_TYPE))
-			.orElse(false);
+		// the version changes whenever the request, its matches or the filters change, so repeat
+		// exports of unchanged matches are served from the existing file (and filtered exports are not)
+		final var version = requestService.getMatchesVersion(request) + toFilterVersion(matchQuery);
+		final var filename = "req-%03d-matches.%s".formatted(requestId, format.getFileExtension());
 
-		// if the client requested a spreadsheet, we ignore pagination and return all results
-		final var pageableToUse = requestedSpreadsheet ?  Pageable.unpaged() : pageable;
-		final var matches = requestService.getMatchesByRequestId(pageableToUse, matchQueryBuilder.build()).map(matchModelMapper::toSummaryModel);
+		final var exportJob = exportService.submitExport(matchesResourceKey(requestId), version, filename, format.getMediaType().toString(),
+			outputStream -> format.write(outputStream, "Matches", matchModelMapper.toSpreadsheetColumns(),
+				rowConsumer -> requestService.streamMatchesByRequestId(matchQuery, matchModelMapper::toSummaryModel, rowConsumer)));
 
-		return requestedSpreadsheet
-			? ResponseEntity.ok()
-				.header(HttpHeaders.CONTENT_DISPOSITION, String.format("attachment; filename=req-%03d-matches.ods", requestId))
-				.body(matchModelMapper.toOds(matches.getContent()))
-			: ResponseEntity.ok(new PagedModel<>(matches));
+		final var location = ServletUriComponentsBuilder.fromCurrentContextPath()
+			.path("/api/v1/requests/{requestId}/matches/exports/{exportId}")
+			.buildAndExpand(requestId, exportJob.id()).toUri();
+
+		return ResponseEntity.accepted()
+			.location(location)
+			.body(toExportJobModel(requestId, exportJob));
+	}
+
+	@ApiResponses.Ok
+	@ApiResponses.BadRequestError
+	@ApiResponses.ResourceNotFoundError
+	@GetMapping({ "/{requestId}/matches/exports/{exportId}" })
+	@Operation(summary = "Get the status of a request matches export.")
+	@PreAuthorize("hasAuthority('hr-advisor') || hasPermission(#requestId, 'REQUEST', 'READ')")
+	public ResponseEntity<ExportJobReadModel> getRequestMatchesExport(@PathVariable Long requestId, @PathVariable UUID exportId) {
+		return ResponseEntity.ok(toExportJobModel(requestId, getMatchesExportJob(requestId, exportId)));
+	}
+
+	@ApiResponses.BadRequestError
+	@ApiResponses.ResourceNotFoundError
+	@ApiResponse(responseCode = "200", description = "Returned if the request has succeeded.", content = {
+		@Content(mediaType = SpreadsheetMediaTypes.CSV_VALUE, schema = @Schema(format = "binary")),
+		@Content(mediaType = SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET_VALUE, schema = @Schema(format = "binary")),
+		@Content(mediaType = SpreadsheetMediaTypes.XLSX_VALUE, schema = @Schema(format = "binary"))
+	})
+	@ApiResponse(responseCode = "409", description = "Returned if the export has not completed.")
+	@GetMapping({ "/{requestId}/matches/exports/{exportId}/content" })
+	@Operation(summary = "Download a completed request matches export.")
+	@PreAuthorize("hasAuthority('hr-advisor') || hasPermission(#requestId, 'REQUEST', 'READ')")
+	public ResponseEntity<Resource> getRequestMatchesExportContent(@PathVariable Long requestId, @PathVariable UUID exportId) {
+		final var exportJob = getMatchesExportJob(requestId, exportId);
+
+		if (exportJob.status() != ExportJob.Status.COMPLETED) {
+			throw new ResourceConflictException("Export with id=[" + exportId + "] has not completed; status=[" + exportJob.status() + "]");
+		}
+
+		final var exportFile = exportService.getExportFile(exportJob)
+			.orElseThrow(() -> new ResourceNotFoundException("Export with id=[" + exportId + "] has expired"));
+
+		final var contentDisposition = ContentDisposition.attachment()
+			.filename(exportJob.filename())
+			.build();
+
+		return ResponseEntity.ok()
+			.contentType(MediaType.parseMediaType(exportJob.contentType()))
+			.header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+			.body(new FileSystemResource(exportFile));
 	}
 
 	@ApiResponses.Ok
@@ -452,6 +610,95 @@ public class RequestsController {
 		return ResponseEntity.ok(matchSummary);
 	}
 
+	@ApiResponses.Ok
+	@ApiResponses.BadRequestError
+	@ApiResponses.ResourceNotFoundError
+	@PostMapping({ "/{id}/matches/bulk-update" })
+	@Operation(summary = "Update the status, feedback and/or comments of several matches for a request at once.")
+	@PreAuthorize("hasAuthority('hr-advisor') || hasPermission(#id, 'REQUEST', 'UPDATE')")
+	public ResponseEntity<CollectionModel<MatchSummaryReadModel>> updateRequestMatches(@PathVariable Long id, @Valid @RequestBody MatchesBulkUpdateModel updateModel) {
+		log.info("Received request to bulk update matches for request; Request ID: [{}], Matches: [{}]", id, updateModel.matches().size());
+
+		final var updates = updateModel.matches().stream()
+			.map(matchModelMapper::toBulkUpdate)
+			.toList();
+
+		// authorization is checked once for the request; the service only updates matches that belong to it
+		final var matches = matchService.updateMatches(id, updates).stream()
+			.map(matchModelMapper::toSummaryModel)
+			.collect(toCollectionModel());
+
+		return ResponseEntity.ok(matches);
+	}
+
+	@ApiResponses.Ok
+	@ApiResponses.BadRequestError
+	@ApiResponses.ResourceNotFoundError
+	@ApiResponse(responseCode = "422", description = "Returned if one or more rows of the spreadsheet are invalid; no matches are updated.", content = {
+		@Content(mediaType = MediaType.APPLICATION_JSON_VALUE, schema = @Schema(implementation = MatchFeedbackImportReadModel.class))
+	})
+	@PostMapping(path = { "/{id}/matches/feedback-import" }, consumes = { SpreadsheetMediaTypes.CSV_VALUE, SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET_VALUE })
+	@Operation(summary = "Import match feedback (and hiring manager comments) from a previously exported CSV or ODS match spreadsheet.")
+	@PreAuthorize("hasAuthority('hr-advisor') || hasPermission(#id, 'REQUEST', 'UPDATE')")
+	public ResponseEntity<MatchFeedbackImportReadModel> importRequestMatchFeedback(@PathVariable Long id, @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream inputStream) throws HttpMediaTypeNotSupportedException {
+		log.info("Received request to import match feedback for request; Request ID: [{}], Content-Type: [{}]", id, contentType);
+
+		requestService.getRequestById(id)
+			.orElseThrow(asResourceNotFoundException("request", id));
+
+		final var spreadsheetFormat = SpreadsheetFormat.fromContentType(contentType)
+			.orElseThrow(() -> new HttpMediaTypeNotSupportedException("Unsupported spreadsheet content type: " + contentType));
+
+		// the spreadsheet is parsed one row at a time as it is uploaded; only the (small) raw rows are kept
+		final var rows = new ArrayList<MatchFeedbackImportRow>();
+
+		// the (1-based) number of the last row that was read, used to report where a malformed spreadsheet failed
+		var lastRowNumber = 1L;
+
+		try (final var spreadsheetReader = spreadsheetFormat.newReader(inputStream)
+				.orElseThrow(() -> new HttpMediaTypeNotSupportedException("Unsupported spreadsheet content type: " + contentType))) {
+			final var headers = spreadsheetReader.getHeaders();
+			final var matchIdColumn = headers.indexOf(MatchModelMapper.MATCH_ID_HEADER);
+			final var matchFeedbackColumn = headers.indexOf(MatchModelMapper.MATCH_FEEDBACK_HEADER);
+			final var hiringManagerCommentColumn = headers.indexOf(MatchModelMapper.HIRING_MANAGER_COMMENT_HEADER);
+
+			if (matchIdColumn < 0 || matchFeedbackColumn < 0) {
+				final var message = "The spreadsheet must have [%s] and [%s] columns".formatted(MatchModelMapper.MATCH_ID_HEADER, MatchModelMapper.MATCH_FEEDBACK_HEADER);
+				return ResponseEntity.status(HttpStatus.UNPROCESSABLE_CONTENT).body(new MatchFeedbackImportReadModel(0, 0, List.of(new MatchFeedbackImportReadModel.RowError(1L, "headers", message))));
+			}
+
+			for (var row = spreadsheetReader.readRow(); row != null; row = spreadsheetReader.readRow()) {
+				lastRowNumber = spreadsheetReader.getRowNumber();
+
+				if (row.stream().allMatch(String::isBlank)) { continue; }
+
+				if (rows.size() == MAX_FEEDBACK_IMPORT_ROWS) {
+					final var message = "The spreadsheet must have at most %d data rows".formatted(MAX_FEEDBACK_IMPORT_ROWS);
+					return ResponseEntity.status(HttpStatus.UNPROCESSABLE_CONTENT).body(new MatchFeedbackImportReadModel(rows.size(), 0, List.of(new MatchFeedbackImportReadModel.RowError(spreadsheetReader.getRowNumber(), "rows", message))));
+				}
+
+				rows.add(MatchFeedbackImportRow.builder()
+					.rowNumber(spreadsheetReader.getRowNumber())
+					.matchId(getCell(row, matchIdColumn))
+					.matchFeedback(getCell(row, matchFeedbackColumn))
+					.hiringManagerComment(getCell(row, hiringManagerCommentColumn))
+					.build());
+			}
+		}
+		catch (final IOException exception) {
+			log.debug("Failed to read match feedback spreadsheet for request; Request ID: [{}]", id, exception);
+			final var message = "The spreadsheet could not be read: " + exception.getMessage();
+			return ResponseEntity.status(HttpStatus.UNPROCESSABLE_CONTENT).body(new MatchFeedbackImportReadModel(rows.size(), 0, List.of(new MatchFeedbackImportReadModel.RowError(lastRowNumber + 1, "spreadsheet", message))));
+		}
+
+		final var result = matchService.importMatchFeedback(id, rows);
+		final var importModel = matchModelMapper.toImportModel(result);
+
+		return result.hasErrors()
+			? ResponseEntity.status(HttpStatus.UNPROCESSABLE_CONTENT).body(importModel)
+			: ResponseEntity.ok(importModel);
+	}
+
 	//
 	//
 	// --- /requests/.../profiles endpoints
@@ -484,6 +731,71 @@ public class RequestsController {
 		return ResponseEntity.ok(profileModelMapper.toModel(profileEntity));
 	}
 
+	/**
+	 * Maps a request to a read model that only includes the fields in {@code fieldset}.
+	 * The (relatively expensive) hasMatches lookup is skipped unless it was requested.
+	 */
+	private RequestReadModel toModel(RequestEntity request, SparseFieldsetModel fieldset) {
+		final var hasMatches = fieldset.includes("hasMatches") ? requestService.hasMatches(request.getId()) : null;
+		return requestModelMapper.toModel(request, hasMatches, fieldset);
+	}
+
+	private static @Nullable String getCell(List<String> row, int column) {
+		return column >= 0 && column < row.size() ? row.get(column) : null;
+	}
+
+	private static MatchQuery toMatchQuery(Long requestId, MatchReadFilterModel filter) {
+		final var matchQueryBuilder = MatchQuery.builder()
+			.requestId(requestId)
+			.matchFeedbackIds(filter.matchFeedbackId());
+
+		Optional.ofNullable(filter.profile()).ifPresent(profile -> {
+			matchQueryBuilder.profileEmployeeName(profile.employeeName());
+			matchQueryBuilder.profileWfaStatusIds(profile.wfaStatusId());
+		});
+
+		return matchQueryBuilder.build();
+	}
+
+	/**
+	 * Describes a match query's filters in a stable form (ie: with sorted ids), to be appended to the version
+	 * of a matches export. Returns an empty string if the query is unfiltered.
+	 */
+	private static String toFilterVersion(MatchQuery matchQuery) {
+		final var filters = new ArrayList<String>();
+
+		Optional.ofNullable(matchQuery.matchFeedbackIds()).filter(not(Set::isEmpty))
+			.ifPresent(ids -> filters.add("matchFeedbackId=" + new TreeSet<>(ids)));
+		Optional.ofNullable(matchQuery.profileEmployeeName()).filter(StringUtils::hasText)
+			.ifPresent(employeeName -> filters.add("employeeName=" + employeeName));
+		Optional.ofNullable(matchQuery.profileWfaStatusIds()).filter(not(Set::isEmpty))
+			.ifPresent(ids -> filters.add("wfaStatusId=" + new TreeSet<>(ids)));
+
+		return filters.isEmpty() ? "" : "-" + String.join("&", filters);
+	}
+
+	private static String matchesResourceKey(Long requestId) {
+		return "request/%d/matches".formatted(requestId);
+	}
+
+	/**
+	 * Gets an export of a request's matches, throwing a 404 if it doesn't exist (or has expired) or
+	 * if it belongs to a different request, so as to not leak the existence of other requests' exports.
+	 */
+	private ExportJob getMatchesExportJob(Long requestId, UUID exportId) {
+		return exportService.getExportJob(exportId)
+			.filter(exportJob -> exportJob.resourceKey().equals(matchesResourceKey(requestId)))
+			.orElseThrow(() -> new ResourceNotFoundException("An export with id=[" + exportId + "] does not exist"));
+	}
+
+	private ExportJobReadModel toExportJobModel(Long requestId, ExportJob exportJob) {
+		final var downloadUri = ServletUriComponentsBuilder.fromCurrentContextPath()
+			.path("/api/v1/requests/{requestId}/matches/exports/{exportId}/content")
+			.buildAndExpand(requestId, exportJob.id()).toUriString();
+
+		return exportJobModelMapper.toModel(exportJob, downloadUri);
+	}
+
 	/**
 	 * Replaces the "me" keyword in a list of IDs with the current authenticated user's ID.
 	 */
@@ -516,4 +828,15 @@ public class RequestsController {
 		}
 	}
 
+	/**
+	 * Concrete type for the Swagger documentation of the {@link #getAllRequests(Pageable, RequestReadFilterModel, SparseFieldsetModel)} method.
+	 *
+	 * @see MatchSummaryPagedModel
+	 */
+	private static class RequestPagedModel extends PagedModel<RequestReadModel> {
+		public RequestPagedModel(Page<RequestReadModel> page) {
+			super(page);
+		}
+	}
+
 }
@@ -0,0 +1,90 @@
+package ca.gov.dtsstn.vacman.api.web;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.data.web.PagedModel;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import ca.gov.dtsstn.vacman.api.web.model.CollectionModel;
+import ca.gov.dtsstn.vacman.api.web.model.SparseFieldsetModel;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Trims JSON responses down to the sparse fieldset requested via the {@code ?fields=} query parameter.
+ * <p>
+ * Fields are applied to the top level of the response body, or to each item of a paged or collection response. Only
+ * {@code GET} responses are trimmed; the response to a write (ie: {@code PUT} or {@code PATCH}) is always complete.
+ * <p>
+ * Trimming a response this way serializes it twice (once to a tree, and once to the client), so it is only done for
+ * endpoints that do not trim their own models. Endpoints that declare a {@link SparseFieldsetModel} parameter (ie:
+ * requests and profiles) map only the requested fields, and are left alone.
+ *
+ * @see SparseFieldsetModel
+ */
+@RestControllerAdvice(assignableTypes = { ProfilesController.class, RequestsController.class, UsersController.class })
+public class SparseFieldsetResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+	private final ObjectMapper objectMapper;
+
+	public SparseFieldsetResponseBodyAdvice(ObjectMapper objectMapper) {
+		this.objectMapper = objectMapper;
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		final var requestMapping = AnnotatedElementUtils.findMergedAnnotation(returnType.getExecutable(), RequestMapping.class);
+		final var isGetMapping = requestMapping != null && Arrays.asList(requestMapping.method()).contains(RequestMethod.GET);
+
+		return isGetMapping && Arrays.stream(returnType.getExecutable().getParameterTypes()).noneMatch(SparseFieldsetModel.class::equals);
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+		if (body == null || !MediaType.APPLICATION_JSON.isCompatibleWith(selectedContentType)) { return body; }
+		if (!(request instanceof final ServletServerHttpRequest servletRequest)) { return body; }
+
+		final var fieldsParameter = servletRequest.getServletRequest().getParameterValues(SparseFieldsetModel.FIELDS_PARAMETER);
+		if (fieldsParameter == null) { return body; }
+
+		final var fieldset = SparseFieldsetModel.parse(StringUtils.arrayToCommaDelimitedString(fieldsParameter));
+		if (!fieldset.isSparse()) { return body; }
+
+		final JsonNode jsonNode = objectMapper.valueToTree(body);
+
+		if (body instanceof PagedModel || body instanceof CollectionModel) {
+			jsonNode.path("content").forEach(item -> retainFields(item, fieldset));
+		}
+		else if (body instanceof Collection) {
+			jsonNode.forEach(item -> retainFields(item, fieldset));
+		}
+		else {
+			retainFields(jsonNode, fieldset);
+		}
+
+		return jsonNode;
+	}
+
+	private void retainFields(JsonNode jsonNode, SparseFieldsetModel fieldset) {
+		if (jsonNode instanceof final ObjectNode objectNode) {
+			final var retainedFields = new HashSet<>(fieldset.fields());
+			retainedFields.add(SparseFieldsetModel.ID_FIELD);
+			objectNode.retain(retainedFields);
+		}
+	}
+
+}
@@ -49,6 +49,7 @@ import ca.gov.dtsstn.vacman.api.web.model.UserReadFilterModel;
 import ca.gov.dtsstn.vacman.api.web.model.UserReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.mapper.ProfileModelMapper;
 import ca.gov.dtsstn.vacman.api.web.model.mapper.UserModelMapper;
+import io.micrometer.core.annotation.Timed;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -59,6 +60,7 @@ import jakarta.validation.Valid;
 @ApiResponses.InternalServerError
 @RequestMapping({ "/api/v1/users" })
 @SecurityRequirement(name = SpringDocConfig.AZURE_AD)
+@Timed("controller.users")
 public class UsersController {
 
 	private static final Logger log = LoggerFactory.getLogger(UsersController.class);
@@ -0,0 +1,155 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A {@link SpreadsheetReader} for comma-separated values, as described by RFC 4180.
+ * <p>
+ * Files are expected to be UTF-8 encoded; a leading byte order mark is ignored. Both {@code CRLF} and {@code LF}
+ * line endings are accepted, and quoted values can span several lines. The single quote that
+ * {@link CsvSpreadsheetWriter} prefixes to formula-like values is removed.
+ * <p>
+ * Since the file is untrusted input, columns past the first {@value #MAX_COLUMN_COUNT} are ignored, and values
+ * longer than {@value #MAX_VALUE_LENGTH} characters are rejected.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc4180">RFC 4180</a>
+ */
+public class CsvSpreadsheetReader implements SpreadsheetReader {
+
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+	private static final int END_OF_FILE = -1;
+
+	static final int MAX_COLUMN_COUNT = 1024;
+
+	/**
+	 * The maximum length of a single value, which is also the maximum length of a spreadsheet cell in Excel.
+	 */
+	static final int MAX_VALUE_LENGTH = 32_767;
+
+	private final Reader reader;
+
+	private final List<String> headers;
+
+	private long rowNumber;
+
+	private boolean closed;
+
+	/**
+	 * Starts reading a CSV file and reads its header row.
+	 *
+	 * @param inputStream the stream to read the file from
+	 */
+	public CsvSpreadsheetReader(InputStream inputStream) throws IOException {
+		Assert.notNull(inputStream, "inputStream is required; it must not be null");
+
+		this.reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+
+		reader.mark(1);
+		if (reader.read() != BYTE_ORDER_MARK) { reader.reset(); }
+
+		final var headerRow = readRow();
+		this.headers = headerRow != null ? List.copyOf(headerRow) : List.of();
+	}
+
+	@Override
+	public List<String> getHeaders() {
+		return headers;
+	}
+
+	@Override
+	public long getRowNumber() {
+		return rowNumber;
+	}
+
+	@Override
+	public @Nullable List<String> readRow() throws IOException {
+		Assert.state(!closed, "The CSV file has already been closed");
+
+		var ch = reader.read();
+		if (ch == END_OF_FILE) { return null; }
+
+		final var values = new ArrayList<String>();
+		final var value = new StringBuilder();
+		var quoted = false;
+
+		while (true) {
+			if (quoted) {
+				if (ch == END_OF_FILE) { throw new IOException("Unterminated quoted value in CSV row " + (rowNumber + 1)); }
+
+				if (ch == '"') {
+					reader.mark(1);
+					if (reader.read() == '"') { append(value, '"'); }
+					else { reader.reset(); quoted = false; }
+				}
+				else {
+					append(value, (char) ch);
+				}
+			}
+			else if (ch == '"' && value.isEmpty()) {
+				quoted = true;
+			}
+			else if (ch == ',') {
+				addValue(values, value);
+				value.setLength(0);
+			}
+			else if (ch == '\r' || ch == '\n' || ch == END_OF_FILE) {
+				if (ch == '\r') {
+					reader.mark(1);
+					if (reader.read() != '\n') { reader.reset(); }
+				}
+
+				addValue(values, value);
+				rowNumber++;
+				return values;
+			}
+			else {
+				append(value, (char) ch);
+			}
+
+			ch = reader.read();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		// do not close the underlying input stream
+		closed = true;
+	}
+
+	private void append(StringBuilder value, char ch) throws IOException {
+		if (value.length() == MAX_VALUE_LENGTH) {
+			throw new IOException("CSV row %d has a value longer than %d characters".formatted(rowNumber + 1, MAX_VALUE_LENGTH));
+		}
+
+		value.append(ch);
+	}
+
+	private static void addValue(List<String> values, StringBuilder value) {
+		if (values.size() < MAX_COLUMN_COUNT) { values.add(unescape(value.toString())); }
+	}
+
+	/**
+	 * Removes the single quote that {@link CsvSpreadsheetWriter} prefixes to values that look like formulas.
+	 */
+	private static String unescape(String value) {
+		if (value.length() < 2 || value.charAt(0) != '\'') { return value; }
+
+		return switch (value.charAt(1)) {
+			case '=', '+', '-', '@', '\t', '\r' -> value.substring(1);
+			default -> value;
+		};
+	}
+
+}
@@ -0,0 +1,110 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SpreadsheetWriter} for comma-separated values, as described by RFC 4180.
+ * <p>
+ * Files are UTF-8 encoded with a leading byte order mark (so that Excel detects the encoding and
+ * renders accented characters correctly) and use {@code CRLF} line endings. Values that look like
+ * spreadsheet formulas are prefixed with a single quote to prevent CSV (formula) injection.
+ *
+ * @see <a href="https://www.rfc-editor.org/rfc/rfc4180">RFC 4180</a>
+ * @see <a href="https://owasp.org/www-community/attacks/CSV_Injection">OWASP: CSV Injection</a>
+ */
+public class CsvSpreadsheetWriter implements SpreadsheetWriter {
+
+	private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+	private static final String LINE_SEPARATOR = "\r\n";
+
+	private final Writer writer;
+
+	private final int columnCount;
+
+	private boolean closed;
+
+	/**
+	 * Starts a new CSV file and writes its header row.
+	 *
+	 * @param outputStream the stream to write the file to
+	 * @param headers the column headers
+	 */
+	public CsvSpreadsheetWriter(OutputStream outputStream, List<String> headers) throws IOException {
+		Assert.notNull(outputStream, "outputStream is required; it must not be null");
+		Assert.notEmpty(headers, "headers is required; it must not be empty or null");
+
+		this.columnCount = headers.size();
+		this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+		writer.write(BYTE_ORDER_MARK);
+		writeLine(headers);
+	}
+
+	@Override
+	public void writeRow(List<String> values) throws IOException {
+		Assert.state(!closed, "The CSV file has already been closed");
+		Assert.isTrue(values.size() == columnCount, "Expected %d values but got %d".formatted(columnCount, values.size()));
+		writeLine(values);
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) { return; }
+		closed = true;
+
+		// flush, but do not close the underlying output stream
+		writer.flush();
+	}
+
+	private void writeLine(List<String> values) throws IOException {
+		for (var i = 0; i < values.size(); i++) {
+			if (i > 0) { writer.write(','); }
+			writeValue(values.get(i));
+		}
+
+		writer.write(LINE_SEPARATOR);
+	}
+
+	private void writeValue(String value) throws IOException {
+		if (value == null || value.isEmpty()) { return; }
+
+		final var escapedValue = isFormula(value) ? "'" + value : value;
+
+		if (requiresQuoting(escapedValue)) {
+			writer.write('"');
+			writer.write(escapedValue.replace("\"", "\"\""));
+			writer.write('"');
+		}
+		else {
+			writer.write(escapedValue);
+		}
+	}
+
+	private static boolean isFormula(String value) {
+		return switch (value.charAt(0)) {
+			case '=', '+', '-', '@', '\t', '\r' -> true;
+			default -> false;
+		};
+	}
+
+	private static boolean requiresQuoting(String value) {
+		for (var i = 0; i < value.length(); i++) {
+			switch (value.charAt(i)) {
+				case ',', '"', '\r', '\n': return true;
+				default: break;
+			}
+		}
+
+		return false;
+	}
+
+}
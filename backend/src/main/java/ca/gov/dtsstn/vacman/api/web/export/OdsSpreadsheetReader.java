@@ -0,0 +1,264 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.ZipInputStream;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.springframework.util.Assert;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A {@link SpreadsheetReader} for OpenDocument spreadsheets (ODS).
+ * <p>
+ * Rows are pulled straight out of the {@code content.xml} entry of the zip stream with a StAX reader as they are
+ * requested; only the first sheet is read. Repeated rows and cells (which office suites use to compress runs of
+ * identical or empty cells) are expanded, except for runs of empty cells at the end of a row and blank rows, which
+ * are skipped. The number of columns per row is capped, so that a maliciously repeated cell cannot exhaust memory.
+ *
+ * @see <a href="https://docs.oasis-open.org/office/OpenDocument/v1.3/">OpenDocument v1.3</a>
+ */
+public class OdsSpreadsheetReader implements SpreadsheetReader {
+
+	private static final String OFFICE_NS = "urn:oasis:names:tc:opendocument:xmlns:office:1.0";
+
+	private static final String TABLE_NS = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+
+	private static final String TEXT_NS = "urn:oasis:names:tc:opendocument:xmlns:text:1.0";
+
+	private static final int MAX_COLUMN_COUNT = 1024;
+
+	private static final XMLInputFactory xmlInputFactory = newXmlInputFactory();
+
+	private final XMLStreamReader contentReader;
+
+	private final List<String> headers;
+
+	private long rowNumber;
+
+	private @Nullable List<String> repeatedRow;
+
+	private long repeatedRowCount;
+
+	private boolean finished;
+
+	private boolean closed;
+
+	/**
+	 * Starts reading a spreadsheet and reads the header row of its first sheet.
+	 *
+	 * @param inputStream the stream to read the document from
+	 */
+	public OdsSpreadsheetReader(InputStream inputStream) throws IOException {
+		Assert.notNull(inputStream, "inputStream is required; it must not be null");
+
+		final var zipInputStream = new ZipInputStream(inputStream);
+
+		try {
+			var zipEntry = zipInputStream.getNextEntry();
+			while (zipEntry != null && !"content.xml".equals(zipEntry.getName())) { zipEntry = zipInputStream.getNextEntry(); }
+			if (zipEntry == null) { throw new IOException("Invalid ODS document; content.xml not found"); }
+
+			this.contentReader = xmlInputFactory.createXMLStreamReader(zipInputStream);
+
+			if (!advanceToFirstTable()) { finished = true; }
+
+			final var headerRow = readRow();
+			this.headers = headerRow != null ? List.copyOf(headerRow) : List.of();
+		}
+		catch (final XMLStreamException exception) {
+			throw new IOException("Failed to read ODS document", exception);
+		}
+	}
+
+	@Override
+	public List<String> getHeaders() {
+		return headers;
+	}
+
+	@Override
+	public long getRowNumber() {
+		return rowNumber;
+	}
+
+	@Override
+	public @Nullable List<String> readRow() throws IOException {
+		Assert.state(!closed, "The ODS document has already been closed");
+
+		if (repeatedRowCount > 0) {
+			repeatedRowCount--;
+			rowNumber++;
+			return repeatedRow;
+		}
+
+		try {
+			while (!finished && contentReader.hasNext()) {
+				final var event = contentReader.next();
+
+				if (event == XMLStreamConstants.END_ELEMENT && isElement(TABLE_NS, "table")) {
+					finished = true;
+				}
+				else if (event == XMLStreamConstants.START_ELEMENT && isElement(TABLE_NS, "table-row")) {
+					final var rowsRepeated = getRepeatAttribute("number-rows-repeated");
+					final var row = readCells();
+
+					if (row.isEmpty()) {
+						// blank rows are skipped, but still counted
+						rowNumber += rowsRepeated;
+						continue;
+					}
+
+					rowNumber++;
+					repeatedRow = List.copyOf(row);
+					repeatedRowCount = rowsRepeated - 1;
+					return repeatedRow;
+				}
+			}
+
+			finished = true;
+			return null;
+		}
+		catch (final XMLStreamException exception) {
+			throw new IOException("Failed to read ODS row", exception);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) { return; }
+		closed = true;
+
+		try {
+			// do not close the underlying input stream
+			contentReader.close();
+		}
+		catch (final XMLStreamException exception) {
+			throw new IOException("Failed to close ODS document", exception);
+		}
+	}
+
+	private boolean advanceToFirstTable() throws XMLStreamException {
+		while (contentReader.hasNext()) {
+			if (contentReader.next() == XMLStreamConstants.START_ELEMENT && isElement(TABLE_NS, "table")) { return true; }
+		}
+
+		return false;
+	}
+
+	/**
+	 * Reads the cells of the current {@code table:table-row}; returns an empty list if every cell is empty.
+	 */
+	private List<String> readCells() throws XMLStreamException {
+		final var values = new ArrayList<String>();
+		var pendingEmptyCells = 0L;
+
+		while (contentReader.hasNext()) {
+			final var event = contentReader.next();
+
+			if (event == XMLStreamConstants.END_ELEMENT && isElement(TABLE_NS, "table-row")) { break; }
+			if (event != XMLStreamConstants.START_ELEMENT) { continue; }
+			if (!isElement(TABLE_NS, "table-cell") && !isElement(TABLE_NS, "covered-table-cell")) { continue; }
+
+			final var columnsRepeated = getRepeatAttribute("number-columns-repeated");
+			final var value = readCellValue();
+
+			if (value.isEmpty()) {
+				// empty cells are only added once a non-empty cell follows them
+				pendingEmptyCells += columnsRepeated;
+				continue;
+			}
+
+			addCells(values, "", pendingEmptyCells);
+			addCells(values, value, columnsRepeated);
+			pendingEmptyCells = 0;
+		}
+
+		return values;
+	}
+
+	private static void addCells(List<String> values, String value, long count) {
+		values.addAll(Collections.nCopies((int) Math.min(count, MAX_COLUMN_COUNT - values.size()), value));
+	}
+
+	/**
+	 * Reads the text of the current cell, with paragraphs and line breaks joined by newlines.
+	 * Falls back to the {@code office:value} attribute for cells that have a value but no text.
+	 */
+	private String readCellValue() throws XMLStreamException {
+		final var officeValue = Optional.ofNullable(contentReader.getAttributeValue(OFFICE_NS, "value")).orElse("");
+		final var cellValue = new StringBuilder();
+		var paragraphCount = 0;
+		var paragraphDepth = 0;
+		var depth = 1;
+
+		while (depth > 0 && contentReader.hasNext()) {
+			final var event = contentReader.next();
+
+			switch (event) {
+				case XMLStreamConstants.START_ELEMENT -> {
+					depth++;
+
+					if (isElement(TEXT_NS, "p")) {
+						if (paragraphCount++ > 0) { cellValue.append('\n'); }
+						paragraphDepth++;
+					}
+					else if (isElement(TEXT_NS, "line-break")) { cellValue.append('\n'); }
+					else if (isElement(TEXT_NS, "tab")) { cellValue.append('\t'); }
+					else if (isElement(TEXT_NS, "s")) { cellValue.append(" ".repeat((int) Math.min(getCountAttribute(), MAX_COLUMN_COUNT))); }
+				}
+				case XMLStreamConstants.END_ELEMENT -> {
+					depth--;
+					if (isElement(TEXT_NS, "p")) { paragraphDepth--; }
+				}
+				case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE -> {
+					if (paragraphDepth > 0) { cellValue.append(contentReader.getText()); }
+				}
+				default -> { /* ignore comments, processing instructions, etc */ }
+			}
+		}
+
+		return cellValue.isEmpty() ? officeValue : cellValue.toString();
+	}
+
+	private boolean isElement(String namespaceUri, String localName) {
+		return namespaceUri.equals(contentReader.getNamespaceURI()) && localName.equals(contentReader.getLocalName());
+	}
+
+	private long getRepeatAttribute(String localName) {
+		return parsePositiveLong(contentReader.getAttributeValue(TABLE_NS, localName));
+	}
+
+	private long getCountAttribute() {
+		return parsePositiveLong(contentReader.getAttributeValue(TEXT_NS, "c"));
+	}
+
+	private static long parsePositiveLong(@Nullable String value) {
+		try {
+			return value != null ? Math.max(1, Long.parseLong(value)) : 1;
+		}
+		catch (final NumberFormatException exception) {
+			return 1;
+		}
+	}
+
+	/**
+	 * Creates an XML input factory that does not resolve DTDs or external entities (ie: that is not vulnerable to XXE).
+	 */
+	private static XMLInputFactory newXmlInputFactory() {
+		final var xmlInputFactory = XMLInputFactory.newFactory();
+		xmlInputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+		xmlInputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+		xmlInputFactory.setProperty(XMLInputFactory.IS_COALESCING, true);
+		return xmlInputFactory;
+	}
+
+}
@@ -0,0 +1,244 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SpreadsheetWriter} for OpenDocument spreadsheets (ODS).
+ * <p>
+ * Unlike a DOM-based document, rows are written straight into the {@code content.xml} entry of
+ * the zip stream as they are received. The header row is styled bold.
+ *
+ * @see <a href="https://docs.oasis-open.org/office/OpenDocument/v1.3/">OpenDocument v1.3</a>
+ */
+public class OdsSpreadsheetWriter implements SpreadsheetWriter {
+
+	private static final String MANIFEST_NS = "urn:oasis:names:tc:opendocument:xmlns:manifest:1.0";
+
+	private static final String OFFICE_NS = "urn:oasis:names:tc:opendocument:xmlns:office:1.0";
+
+	private static final String STYLE_NS = "urn:oasis:names:tc:opendocument:xmlns:style:1.0";
+
+	private static final String TABLE_NS = "urn:oasis:names:tc:opendocument:xmlns:table:1.0";
+
+	private static final String TEXT_NS = "urn:oasis:names:tc:opendocument:xmlns:text:1.0";
+
+	private static final String FO_NS = "urn:oasis:names:tc:opendocument:xmlns:xsl-fo-compatible:1.0";
+
+	private static final String ODF_VERSION = "1.3";
+
+	private static final String DEFAULT_COLUMN_WIDTH = "2.5in";
+
+	private static final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+
+	private final ZipOutputStream zipOutputStream;
+
+	private final XMLStreamWriter contentWriter;
+
+	private final int columnCount;
+
+	private boolean closed;
+
+	/**
+	 * Starts a new spreadsheet and writes its header row.
+	 *
+	 * @param outputStream the stream to write the document to
+	 * @param sheetName the name of the (only) sheet in the document
+	 * @param headers the column headers
+	 */
+	public OdsSpreadsheetWriter(OutputStream outputStream, String sheetName, List<String> headers) throws IOException {
+		Assert.notNull(outputStream, "outputStream is required; it must not be null");
+		Assert.hasText(sheetName, "sheetName is required; it must not be blank or null");
+		Assert.notEmpty(headers, "headers is required; it must not be empty or null");
+
+		this.columnCount = headers.size();
+		this.zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+
+		try {
+			writeMimetype();
+			writeManifest();
+
+			zipOutputStream.putNextEntry(new ZipEntry("content.xml"));
+			this.contentWriter = xmlOutputFactory.createXMLStreamWriter(zipOutputStream, StandardCharsets.UTF_8.name());
+			startContent(sheetName);
+			writeRow(headers, "ce-header");
+		}
+		catch (final XMLStreamException exception) {
+			throw new IOException("Failed to start ODS document", exception);
+		}
+	}
+
+	@Override
+	public void writeRow(List<String> values) throws IOException {
+		Assert.state(!closed, "The ODS document has already been closed");
+		Assert.isTrue(values.size() == columnCount, "Expected %d values but got %d".formatted(columnCount, values.size()));
+
+		try {
+			writeRow(values, "ce-data");
+		}
+		catch (final XMLStreamException exception) {
+			throw new IOException("Failed to write ODS row", exception);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) { return; }
+		closed = true;
+
+		try {
+			contentWriter.writeEndElement(); // table:table
+			contentWriter.writeEndElement(); // office:spreadsheet
+			contentWriter.writeEndElement(); // office:body
+			contentWriter.writeEndElement(); // office:document-content
+			contentWriter.writeEndDocument();
+			contentWriter.close();
+		}
+		catch (final XMLStreamException exception) {
+			throw new IOException("Failed to complete ODS document", exception);
+		}
+
+		zipOutputStream.closeEntry();
+		zipOutputStream.finish();
+	}
+
+	/**
+	 * The {@code mimetype} entry must be the first entry in the archive, and it must be stored uncompressed.
+	 */
+	private void writeMimetype() throws IOException {
+		final var mimetype = SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET_VALUE.getBytes(StandardCharsets.US_ASCII);
+
+		final var crc32 = new CRC32();
+		crc32.update(mimetype);
+
+		final var zipEntry = new ZipEntry("mimetype");
+		zipEntry.setMethod(ZipEntry.STORED);
+		zipEntry.setSize(mimetype.length);
+		zipEntry.setCompressedSize(mimetype.length);
+		zipEntry.setCrc(crc32.getValue());
+
+		zipOutputStream.putNextEntry(zipEntry);
+		zipOutputStream.write(mimetype);
+		zipOutputStream.closeEntry();
+	}
+
+	private void writeManifest() throws IOException, XMLStreamException {
+		zipOutputStream.putNextEntry(new ZipEntry("META-INF/manifest.xml"));
+
+		final var manifestWriter = xmlOutputFactory.createXMLStreamWriter(zipOutputStream, StandardCharsets.UTF_8.name());
+		manifestWriter.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+		manifestWriter.setPrefix("manifest", MANIFEST_NS);
+		manifestWriter.writeStartElement(MANIFEST_NS, "manifest");
+		manifestWriter.writeNamespace("manifest", MANIFEST_NS);
+		manifestWriter.writeAttribute(MANIFEST_NS, "version", ODF_VERSION);
+
+		manifestWriter.writeEmptyElement(MANIFEST_NS, "file-entry");
+		manifestWriter.writeAttribute(MANIFEST_NS, "full-path", "/");
+		manifestWriter.writeAttribute(MANIFEST_NS, "version", ODF_VERSION);
+		manifestWriter.writeAttribute(MANIFEST_NS, "media-type", SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET_VALUE);
+
+		manifestWriter.writeEmptyElement(MANIFEST_NS, "file-entry");
+		manifestWriter.writeAttribute(MANIFEST_NS, "full-path", "content.xml");
+		manifestWriter.writeAttribute(MANIFEST_NS, "media-type", "text/xml");
+
+		manifestWriter.writeEndElement();
+		manifestWriter.writeEndDocument();
+		manifestWriter.close();
+
+		zipOutputStream.closeEntry();
+	}
+
+	/**
+	 * Writes everything in {@code content.xml} that precedes the first row of the sheet.
+	 */
+	private void startContent(String sheetName) throws XMLStreamException {
+		contentWriter.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+		contentWriter.setPrefix("office", OFFICE_NS);
+		contentWriter.setPrefix("style", STYLE_NS);
+		contentWriter.setPrefix("table", TABLE_NS);
+		contentWriter.setPrefix("text", TEXT_NS);
+		contentWriter.setPrefix("fo", FO_NS);
+
+		contentWriter.writeStartElement(OFFICE_NS, "document-content");
+		contentWriter.writeNamespace("office", OFFICE_NS);
+		contentWriter.writeNamespace("style", STYLE_NS);
+		contentWriter.writeNamespace("table", TABLE_NS);
+		contentWriter.writeNamespace("text", TEXT_NS);
+		contentWriter.writeNamespace("fo", FO_NS);
+		contentWriter.writeAttribute(OFFICE_NS, "version", ODF_VERSION);
+
+		contentWriter.writeStartElement(OFFICE_NS, "automatic-styles");
+		writeColumnStyle("co-default", DEFAULT_COLUMN_WIDTH);
+		writeCellStyle("ce-header", "bold");
+		writeCellStyle("ce-data", "normal");
+		contentWriter.writeEndElement();
+
+		contentWriter.writeStartElement(OFFICE_NS, "body");
+		contentWriter.writeStartElement(OFFICE_NS, "spreadsheet");
+		contentWriter.writeStartElement(TABLE_NS, "table");
+		contentWriter.writeAttribute(TABLE_NS, "name", sheetName);
+
+		contentWriter.writeEmptyElement(TABLE_NS, "table-column");
+		contentWriter.writeAttribute(TABLE_NS, "style-name", "co-default");
+		contentWriter.writeAttribute(TABLE_NS, "number-columns-repeated", String.valueOf(columnCount));
+	}
+
+	private void writeColumnStyle(String name, String columnWidth) throws XMLStreamException {
+		contentWriter.writeStartElement(STYLE_NS, "style");
+		contentWriter.writeAttribute(STYLE_NS, "name", name);
+		contentWriter.writeAttribute(STYLE_NS, "family", "table-column");
+		contentWriter.writeEmptyElement(STYLE_NS, "table-column-properties");
+		contentWriter.writeAttribute(STYLE_NS, "column-width", columnWidth);
+		contentWriter.writeEndElement();
+	}
+
+	private void writeCellStyle(String name, String fontWeight) throws XMLStreamException {
+		contentWriter.writeStartElement(STYLE_NS, "style");
+		contentWriter.writeAttribute(STYLE_NS, "name", name);
+		contentWriter.writeAttribute(STYLE_NS, "family", "table-cell");
+		contentWriter.writeEmptyElement(STYLE_NS, "text-properties");
+		contentWriter.writeAttribute(FO_NS, "font-weight", fontWeight);
+		contentWriter.writeEndElement();
+	}
+
+	private void writeRow(List<String> values, String cellStyleName) throws XMLStreamException {
+		contentWriter.writeStartElement(TABLE_NS, "table-row");
+
+		for (final var value : values) {
+			contentWriter.writeStartElement(TABLE_NS, "table-cell");
+			contentWriter.writeAttribute(TABLE_NS, "style-name", cellStyleName);
+
+			if (value != null && !value.isEmpty()) {
+				contentWriter.writeAttribute(OFFICE_NS, "value-type", "string");
+				writeParagraphs(value);
+			}
+
+			contentWriter.writeEndElement();
+		}
+
+		contentWriter.writeEndElement();
+	}
+
+	/**
+	 * Writes a cell value as one {@code text:p} per line, which is how ODS represents multi-line text.
+	 */
+	private void writeParagraphs(String value) throws XMLStreamException {
+		for (final var line : value.split("\\R", -1)) {
+			contentWriter.writeStartElement(TEXT_NS, "p");
+			contentWriter.writeCharacters(XmlCharacters.stripInvalidChars(line));
+			contentWriter.writeEndElement();
+		}
+	}
+
+}
@@ -0,0 +1,10 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import java.util.function.Function;
+
+/**
+ * A spreadsheet column: its header, and how to extract its (string) value from a row.
+ *
+ * @param <T> the type of the rows being exported
+ */
+public record SpreadsheetColumn<T>(String header, Function<T, String> valueExtractor) {}
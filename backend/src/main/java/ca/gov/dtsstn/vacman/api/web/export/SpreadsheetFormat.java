@@ -0,0 +1,205 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import static java.util.Comparator.comparingDouble;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import ca.gov.dtsstn.vacman.api.jfr.SpreadsheetExportEvent;
+
+/**
+ * The spreadsheet formats that list endpoints can be exported as, selected via the {@code Accept} header.
+ */
+public enum SpreadsheetFormat {
+
+	CSV(SpreadsheetMediaTypes.CSV, "csv"),
+
+	ODS(SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET, "ods"),
+
+	XLSX(SpreadsheetMediaTypes.XLSX, "xlsx");
+
+	/**
+	 * A source of rows that can only be consumed within a callback (ie: a database cursor that
+	 * is only open for the duration of a read-only transaction).
+	 */
+	@FunctionalInterface
+	public interface RowSource<T> {
+
+		void stream(Consumer<Stream<T>> rowConsumer);
+
+	}
+
+	private final MediaType mediaType;
+
+	private final String fileExtension;
+
+	SpreadsheetFormat(MediaType mediaType, String fileExtension) {
+		this.mediaType = mediaType;
+		this.fileExtension = fileExtension;
+	}
+
+	public MediaType getMediaType() {
+		return mediaType;
+	}
+
+	public String getFileExtension() {
+		return fileExtension;
+	}
+
+	/**
+	 * Determines if the client prefers a spreadsheet response, and if so, which format.
+	 * <p>
+	 * Since accept headers can be qualified with weights, the header is parsed and
+	 * only the highest-weighted media type is considered.
+	 *
+	 * @return the preferred spreadsheet format, or empty if the client prefers something else (ie: JSON)
+	 */
+	public static Optional<SpreadsheetFormat> fromAcceptHeader(String acceptHeader) {
+		if (!StringUtils.hasText(acceptHeader)) { return Optional.empty(); }
+
+		try {
+			return MediaType.parseMediaTypes(acceptHeader).stream()
+				.max(comparingDouble(MediaType::getQualityValue))
+				.flatMap(SpreadsheetFormat::fromMediaType);
+		}
+		catch (final InvalidMediaTypeException exception) {
+			// let Spring's content negotiation deal with malformed accept headers
+			return Optional.empty();
+		}
+	}
+
+	/**
+	 * Determines the spreadsheet format of an uploaded document from its {@code Content-Type} header.
+	 *
+	 * @return the spreadsheet format, or empty if the content type is not a spreadsheet format
+	 */
+	public static Optional<SpreadsheetFormat> fromContentType(String contentType) {
+		if (!StringUtils.hasText(contentType)) { return Optional.empty(); }
+
+		try {
+			return fromMediaType(MediaType.parseMediaType(contentType));
+		}
+		catch (final InvalidMediaTypeException exception) {
+			return Optional.empty();
+		}
+	}
+
+	private static Optional<SpreadsheetFormat> fromMediaType(MediaType mediaType) {
+		return Arrays.stream(values())
+			.filter(format -> format.mediaType.equalsTypeAndSubtype(mediaType))
+			.findFirst();
+	}
+
+	/**
+	 * Starts a new single-sheet document in this format and writes its header row.
+	 */
+	public SpreadsheetWriter newWriter(OutputStream outputStream, String sheetName, List<String> headers) throws IOException {
+		return switch (this) {
+			case CSV -> new CsvSpreadsheetWriter(outputStream, headers);
+			case ODS -> new OdsSpreadsheetWriter(outputStream, sheetName, headers);
+			case XLSX -> new XlsxSpreadsheetWriter(outputStream, sheetName, headers);
+		};
+	}
+
+	/**
+	 * Starts reading a (single-sheet) document in this format and reads its header row.
+	 *
+	 * @return the reader, or empty if documents in this format cannot be read (ie: XLSX)
+	 */
+	public Optional<SpreadsheetReader> newReader(InputStream inputStream) throws IOException {
+		return switch (this) {
+			case CSV -> Optional.of(new CsvSpreadsheetReader(inputStream));
+			case ODS -> Optional.of(new OdsSpreadsheetReader(inputStream));
+			case XLSX -> Optional.empty();
+		};
+	}
+
+	/**
+	 * Writes a complete single-sheet document in this format, one row per element of {@code rows}.
+	 * <p>
+	 * Rows are written as they are pulled from the stream, so the caller controls
+	 * how many rows are held in memory at any one time.
+	 * <p>
+	 * Every export is recorded as a {@link SpreadsheetExportEvent} JFR event (with its duration).
+	 */
+	public <T> void write(OutputStream outputStream, String sheetName, List<SpreadsheetColumn<T>> columns, Stream<T> rows) throws IOException {
+		final var headers = columns.stream().map(SpreadsheetColumn::header).toList();
+
+		final var spreadsheetExportEvent = new SpreadsheetExportEvent();
+		spreadsheetExportEvent.format = name();
+		spreadsheetExportEvent.sheetName = sheetName;
+		spreadsheetExportEvent.begin();
+
+		try (final var spreadsheetWriter = newWriter(outputStream, sheetName, headers)) {
+			final var iterator = rows.iterator();
+
+			while (iterator.hasNext()) {
+				final var row = iterator.next();
+				spreadsheetWriter.writeRow(columns.stream().map(column -> column.valueExtractor().apply(row)).toList());
+				spreadsheetExportEvent.rowCount++;
+			}
+		}
+		finally {
+			spreadsheetExportEvent.commit();
+		}
+	}
+
+	/**
+	 * Writes a complete single-sheet document in this format, one row per element streamed by {@code rowSource}.
+	 */
+	public <T> void write(OutputStream outputStream, String sheetName, List<SpreadsheetColumn<T>> columns, RowSource<T> rowSource) throws IOException {
+		try {
+			rowSource.stream(rows -> {
+				try {
+					write(outputStream, sheetName, columns, rows);
+				}
+				catch (final IOException exception) {
+					throw new UncheckedIOException(exception);
+				}
+			});
+		}
+		catch (final UncheckedIOException exception) {
+			throw exception.getCause();
+		}
+	}
+
+	/**
+	 * Creates a response that streams a spreadsheet in this format to the client as an attachment.
+	 * <p>
+	 * Nothing is read from {@code rowSource} until the response body is written, which happens
+	 * asynchronously (and outside of any request-scoped transaction), one row at a time.
+	 *
+	 * @param filename the attachment filename, without its extension
+	 * @param sheetName the name of the (only) sheet in the document
+	 * @param columns the spreadsheet columns
+	 * @param rowSource the source of the spreadsheet rows
+	 */
+	public <T> ResponseEntity<StreamingResponseBody> toResponseEntity(String filename, String sheetName, List<SpreadsheetColumn<T>> columns, RowSource<T> rowSource) {
+		final StreamingResponseBody responseBody = outputStream -> write(outputStream, sheetName, columns, rowSource);
+
+		final var contentDisposition = ContentDisposition.attachment()
+			.filename("%s.%s".formatted(filename, fileExtension))
+			.build();
+
+		return ResponseEntity.ok()
+			.contentType(mediaType)
+			.header(HttpHeaders.CONTENT_DISPOSITION, contentDisposition.toString())
+			.body(responseBody);
+	}
+
+}
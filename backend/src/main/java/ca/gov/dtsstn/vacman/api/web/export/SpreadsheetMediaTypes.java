@@ -0,0 +1,24 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Defines media type constants for the spreadsheet formats that list endpoints can be exported as.
+ *
+ * @see SpreadsheetFormat
+ */
+public class SpreadsheetMediaTypes {
+
+	public static final String CSV_VALUE = "text/csv";
+
+	public static final MediaType CSV = MediaType.valueOf(CSV_VALUE);
+
+	public static final String OPENDOCUMENT_SPREADSHEET_VALUE = "application/vnd.oasis.opendocument.spreadsheet";
+
+	public static final MediaType OPENDOCUMENT_SPREADSHEET = MediaType.valueOf(OPENDOCUMENT_SPREADSHEET_VALUE);
+
+	public static final String XLSX_VALUE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+
+	public static final MediaType XLSX = MediaType.valueOf(XLSX_VALUE);
+
+}
@@ -0,0 +1,38 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import java.io.IOException;
+import java.util.List;
+
+import jakarta.annotation.Nullable;
+
+/**
+ * A forward-only reader for single-sheet spreadsheets; the counterpart of {@link SpreadsheetWriter}.
+ * <p>
+ * Implementations parse each row from the underlying input stream as it is requested (ie: they never
+ * build an in-memory document), so memory usage does not grow with the number of rows. The header row
+ * is read when the reader is created. Closing the reader does <b>not</b> close the underlying input stream.
+ *
+ * @see SpreadsheetFormat#newReader(java.io.InputStream)
+ */
+public interface SpreadsheetReader extends AutoCloseable {
+
+	/**
+	 * Returns the column headers (ie: the values of the first row of the sheet).
+	 */
+	List<String> getHeaders();
+
+	/**
+	 * Reads the next data row, or returns {@code null} if there are no more rows. Empty cells are returned
+	 * as empty strings; rows may be shorter (but never longer) than the header row if trailing cells are empty.
+	 */
+	@Nullable List<String> readRow() throws IOException;
+
+	/**
+	 * Returns the (1-based) spreadsheet row number of the row that was last read; the header row is row 1.
+	 */
+	long getRowNumber();
+
+	@Override
+	void close() throws IOException;
+
+}
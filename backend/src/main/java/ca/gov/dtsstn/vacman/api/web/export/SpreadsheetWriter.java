@@ -0,0 +1,29 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A forward-only writer for single-sheet spreadsheets.
+ * <p>
+ * Implementations write each row to the underlying output stream as it is received (ie: they never
+ * build an in-memory document), so memory usage does not grow with the number of rows. The header
+ * row is written when the writer is created. The writer must be closed to complete the document;
+ * closing the writer does <b>not</b> close the underlying output stream.
+ *
+ * @see SpreadsheetFormat#newWriter(java.io.OutputStream, String, List)
+ */
+public interface SpreadsheetWriter extends AutoCloseable {
+
+	/**
+	 * Appends a data row to the sheet. {@code null} values are written as empty cells.
+	 */
+	void writeRow(List<String> values) throws IOException;
+
+	/**
+	 * Completes the document.
+	 */
+	@Override
+	void close() throws IOException;
+
+}
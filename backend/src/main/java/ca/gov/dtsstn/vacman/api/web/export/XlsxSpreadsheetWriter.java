@@ -0,0 +1,332 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SpreadsheetWriter} for Office Open XML workbooks (XLSX).
+ * <p>
+ * The static parts of the package (content types, relationships, workbook and styles) are written
+ * up front; rows are then written straight into the {@code xl/worksheets/sheet1.xml} entry of the
+ * zip stream as they are received. Cell values are written as inline strings, which avoids having
+ * to build (and hold on to) a shared strings table. The header row is styled bold.
+ *
+ * @see <a href="https://ecma-international.org/publications-and-standards/standards/ecma-376/">ECMA-376: Office Open XML</a>
+ */
+public class XlsxSpreadsheetWriter implements SpreadsheetWriter {
+
+	private static final String CONTENT_TYPES_NS = "http://schemas.openxmlformats.org/package/2006/content-types";
+
+	private static final String PACKAGE_RELATIONSHIPS_NS = "http://schemas.openxmlformats.org/package/2006/relationships";
+
+	private static final String RELATIONSHIPS_NS = "http://schemas.openxmlformats.org/officeDocument/2006/relationships";
+
+	private static final String SPREADSHEETML_NS = "http://schemas.openxmlformats.org/spreadsheetml/2006/main";
+
+	private static final String XML_NS = "http://www.w3.org/XML/1998/namespace";
+
+	/**
+	 * Excel refuses to open workbooks with cells longer than this.
+	 */
+	private static final int MAX_CELL_LENGTH = 32_767;
+
+	private static final String DEFAULT_COLUMN_WIDTH = "36";
+
+	private static final String HEADER_STYLE_INDEX = "1";
+
+	private static final XMLOutputFactory xmlOutputFactory = XMLOutputFactory.newFactory();
+
+	private final ZipOutputStream zipOutputStream;
+
+	private final XMLStreamWriter sheetWriter;
+
+	private final int columnCount;
+
+	private int rowCount;
+
+	private boolean closed;
+
+	/**
+	 * Starts a new workbook and writes its header row.
+	 *
+	 * @param outputStream the stream to write the workbook to
+	 * @param sheetName the name of the (only) sheet in the workbook
+	 * @param headers the column headers
+	 */
+	public XlsxSpreadsheetWriter(OutputStream outputStream, String sheetName, List<String> headers) throws IOException {
+		Assert.notNull(outputStream, "outputStream is required; it must not be null");
+		Assert.hasText(sheetName, "sheetName is required; it must not be blank or null");
+		Assert.notEmpty(headers, "headers is required; it must not be empty or null");
+
+		this.columnCount = headers.size();
+		this.zipOutputStream = new ZipOutputStream(outputStream, StandardCharsets.UTF_8);
+
+		try {
+			writeContentTypes();
+			writePackageRelationships();
+			writeWorkbook(sheetName);
+			writeWorkbookRelationships();
+			writeStyles();
+
+			zipOutputStream.putNextEntry(new ZipEntry("xl/worksheets/sheet1.xml"));
+			this.sheetWriter = xmlOutputFactory.createXMLStreamWriter(zipOutputStream, StandardCharsets.UTF_8.name());
+			startSheet();
+			writeRow(headers, HEADER_STYLE_INDEX);
+		}
+		catch (final XMLStreamException exception) {
+			throw new IOException("Failed to start XLSX document", exception);
+		}
+	}
+
+	@Override
+	public void writeRow(List<String> values) throws IOException {
+		Assert.state(!closed, "The XLSX document has already been closed");
+		Assert.isTrue(values.size() == columnCount, "Expected %d values but got %d".formatted(columnCount, values.size()));
+
+		try {
+			writeRow(values, null);
+		}
+		catch (final XMLStreamException exception) {
+			throw new IOException("Failed to write XLSX row", exception);
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (closed) { return; }
+		closed = true;
+
+		try {
+			sheetWriter.writeEndElement(); // sheetData
+			sheetWriter.writeEndElement(); // worksheet
+			sheetWriter.writeEndDocument();
+			sheetWriter.close();
+		}
+		catch (final XMLStreamException exception) {
+			throw new IOException("Failed to complete XLSX document", exception);
+		}
+
+		zipOutputStream.closeEntry();
+		zipOutputStream.finish();
+	}
+
+	private void writeContentTypes() throws IOException, XMLStreamException {
+		final var xmlWriter = startEntry("[Content_Types].xml", CONTENT_TYPES_NS, "Types");
+
+		xmlWriter.writeEmptyElement("Default");
+		xmlWriter.writeAttribute("Extension", "rels");
+		xmlWriter.writeAttribute("ContentType", "application/vnd.openxmlformats-package.relationships+xml");
+
+		xmlWriter.writeEmptyElement("Default");
+		xmlWriter.writeAttribute("Extension", "xml");
+		xmlWriter.writeAttribute("ContentType", "application/xml");
+
+		xmlWriter.writeEmptyElement("Override");
+		xmlWriter.writeAttribute("PartName", "/xl/workbook.xml");
+		xmlWriter.writeAttribute("ContentType", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet.main+xml");
+
+		xmlWriter.writeEmptyElement("Override");
+		xmlWriter.writeAttribute("PartName", "/xl/worksheets/sheet1.xml");
+		xmlWriter.writeAttribute("ContentType", "application/vnd.openxmlformats-officedocument.spreadsheetml.worksheet+xml");
+
+		xmlWriter.writeEmptyElement("Override");
+		xmlWriter.writeAttribute("PartName", "/xl/styles.xml");
+		xmlWriter.writeAttribute("ContentType", "application/vnd.openxmlformats-officedocument.spreadsheetml.styles+xml");
+
+		endEntry(xmlWriter);
+	}
+
+	private void writePackageRelationships() throws IOException, XMLStreamException {
+		final var xmlWriter = startEntry("_rels/.rels", PACKAGE_RELATIONSHIPS_NS, "Relationships");
+		writeRelationship(xmlWriter, "rId1", "http://schemas.openxmlformats.org/officeDocument/2006/relationships/officeDocument", "xl/workbook.xml");
+		endEntry(xmlWriter);
+	}
+
+	private void writeWorkbook(String sheetName) throws IOException, XMLStreamException {
+		final var xmlWriter = startEntry("xl/workbook.xml", SPREADSHEETML_NS, "workbook");
+		xmlWriter.writeNamespace("r", RELATIONSHIPS_NS);
+
+		xmlWriter.writeStartElement("sheets");
+		xmlWriter.writeEmptyElement("sheet");
+		xmlWriter.writeAttribute("name", sheetName);
+		xmlWriter.writeAttribute("sheetId", "1");
+		xmlWriter.writeAttribute(RELATIONSHIPS_NS, "id", "rId1");
+		xmlWriter.writeEndElement();
+
+		endEntry(xmlWriter);
+	}
+
+	private void writeWorkbookRelationships() throws IOException, XMLStreamException {
+		final var xmlWriter = startEntry("xl/_rels/workbook.xml.rels", PACKAGE_RELATIONSHIPS_NS, "Relationships");
+		writeRelationship(xmlWriter, "rId1", "http://schemas.openxmlformats.org/officeDocument/2006/relationships/worksheet", "worksheets/sheet1.xml");
+		writeRelationship(xmlWriter, "rId2", "http://schemas.openxmlformats.org/officeDocument/2006/relationships/styles", "styles.xml");
+		endEntry(xmlWriter);
+	}
+
+	/**
+	 * Writes a minimal stylesheet with two cell formats: {@code 0} (normal) and {@code 1} (bold).
+	 */
+	private void writeStyles() throws IOException, XMLStreamException {
+		final var xmlWriter = startEntry("xl/styles.xml", SPREADSHEETML_NS, "styleSheet");
+
+		xmlWriter.writeStartElement("fonts");
+		xmlWriter.writeAttribute("count", "2");
+		writeFont(xmlWriter, false);
+		writeFont(xmlWriter, true);
+		xmlWriter.writeEndElement();
+
+		xmlWriter.writeStartElement("fills");
+		xmlWriter.writeAttribute("count", "1");
+		xmlWriter.writeStartElement("fill");
+		xmlWriter.writeEmptyElement("patternFill");
+		xmlWriter.writeAttribute("patternType", "none");
+		xmlWriter.writeEndElement();
+		xmlWriter.writeEndElement();
+
+		xmlWriter.writeStartElement("borders");
+		xmlWriter.writeAttribute("count", "1");
+		xmlWriter.writeEmptyElement("border");
+		xmlWriter.writeEndElement();
+
+		xmlWriter.writeStartElement("cellStyleXfs");
+		xmlWriter.writeAttribute("count", "1");
+		xmlWriter.writeEmptyElement("xf");
+		xmlWriter.writeEndElement();
+
+		xmlWriter.writeStartElement("cellXfs");
+		xmlWriter.writeAttribute("count", "2");
+		xmlWriter.writeEmptyElement("xf");
+		xmlWriter.writeEmptyElement("xf");
+		xmlWriter.writeAttribute("fontId", "1");
+		xmlWriter.writeAttribute("applyFont", "1");
+		xmlWriter.writeEndElement();
+
+		endEntry(xmlWriter);
+	}
+
+	private static void writeFont(XMLStreamWriter xmlWriter, boolean bold) throws XMLStreamException {
+		xmlWriter.writeStartElement("font");
+		if (bold) { xmlWriter.writeEmptyElement("b"); }
+		xmlWriter.writeEmptyElement("sz");
+		xmlWriter.writeAttribute("val", "11");
+		xmlWriter.writeEmptyElement("name");
+		xmlWriter.writeAttribute("val", "Calibri");
+		xmlWriter.writeEndElement();
+	}
+
+	/**
+	 * Writes everything in the worksheet that precedes the first row.
+	 */
+	private void startSheet() throws XMLStreamException {
+		sheetWriter.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+		sheetWriter.setDefaultNamespace(SPREADSHEETML_NS);
+		sheetWriter.writeStartElement(SPREADSHEETML_NS, "worksheet");
+		sheetWriter.writeDefaultNamespace(SPREADSHEETML_NS);
+
+		// freeze the header row
+		sheetWriter.writeStartElement("sheetViews");
+		sheetWriter.writeStartElement("sheetView");
+		sheetWriter.writeAttribute("workbookViewId", "0");
+		sheetWriter.writeEmptyElement("pane");
+		sheetWriter.writeAttribute("ySplit", "1");
+		sheetWriter.writeAttribute("topLeftCell", "A2");
+		sheetWriter.writeAttribute("state", "frozen");
+		sheetWriter.writeEndElement();
+		sheetWriter.writeEndElement();
+
+		sheetWriter.writeStartElement("cols");
+		sheetWriter.writeEmptyElement("col");
+		sheetWriter.writeAttribute("min", "1");
+		sheetWriter.writeAttribute("max", String.valueOf(columnCount));
+		sheetWriter.writeAttribute("width", DEFAULT_COLUMN_WIDTH);
+		sheetWriter.writeAttribute("customWidth", "1");
+		sheetWriter.writeEndElement();
+
+		sheetWriter.writeStartElement("sheetData");
+	}
+
+	private void writeRow(List<String> values, String styleIndex) throws XMLStreamException {
+		rowCount++;
+
+		sheetWriter.writeStartElement("row");
+		sheetWriter.writeAttribute("r", String.valueOf(rowCount));
+
+		for (var i = 0; i < values.size(); i++) {
+			final var value = values.get(i);
+
+			sheetWriter.writeStartElement("c");
+			sheetWriter.writeAttribute("r", columnName(i) + rowCount);
+			if (styleIndex != null) { sheetWriter.writeAttribute("s", styleIndex); }
+
+			if (value != null && !value.isEmpty()) {
+				sheetWriter.writeAttribute("t", "inlineStr");
+				sheetWriter.writeStartElement("is");
+				sheetWriter.writeStartElement("t");
+				sheetWriter.writeAttribute("xml", XML_NS, "space", "preserve");
+				sheetWriter.writeCharacters(truncate(XmlCharacters.stripInvalidChars(value)));
+				sheetWriter.writeEndElement();
+				sheetWriter.writeEndElement();
+			}
+
+			sheetWriter.writeEndElement();
+		}
+
+		sheetWriter.writeEndElement();
+	}
+
+	private XMLStreamWriter startEntry(String name, String namespace, String rootElement) throws IOException, XMLStreamException {
+		zipOutputStream.putNextEntry(new ZipEntry(name));
+
+		final var xmlWriter = xmlOutputFactory.createXMLStreamWriter(zipOutputStream, StandardCharsets.UTF_8.name());
+		xmlWriter.writeStartDocument(StandardCharsets.UTF_8.name(), "1.0");
+		xmlWriter.setDefaultNamespace(namespace);
+		xmlWriter.setPrefix("r", RELATIONSHIPS_NS);
+		xmlWriter.writeStartElement(namespace, rootElement);
+		xmlWriter.writeDefaultNamespace(namespace);
+
+		return xmlWriter;
+	}
+
+	private void endEntry(XMLStreamWriter xmlWriter) throws IOException, XMLStreamException {
+		xmlWriter.writeEndElement();
+		xmlWriter.writeEndDocument();
+		xmlWriter.close();
+
+		zipOutputStream.closeEntry();
+	}
+
+	private static void writeRelationship(XMLStreamWriter xmlWriter, String id, String type, String target) throws XMLStreamException {
+		xmlWriter.writeEmptyElement("Relationship");
+		xmlWriter.writeAttribute("Id", id);
+		xmlWriter.writeAttribute("Type", type);
+		xmlWriter.writeAttribute("Target", target);
+	}
+
+	/**
+	 * Converts a zero-based column index into its spreadsheet name (ie: {@code 0 → A}, {@code 26 → AA}).
+	 */
+	static String columnName(int columnIndex) {
+		final var stringBuilder = new StringBuilder();
+
+		for (var i = columnIndex + 1; i > 0; i = (i - 1) / 26) {
+			stringBuilder.insert(0, (char) ('A' + (i - 1) % 26));
+		}
+
+		return stringBuilder.toString();
+	}
+
+	private static String truncate(String value) {
+		return value.length() > MAX_CELL_LENGTH ? value.substring(0, MAX_CELL_LENGTH) : value;
+	}
+
+}
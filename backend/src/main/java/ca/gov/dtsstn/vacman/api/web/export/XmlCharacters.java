@@ -0,0 +1,34 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+/**
+ * XML text helpers shared by the XML-based spreadsheet writers.
+ */
+final class XmlCharacters {
+
+	private XmlCharacters() {}
+
+	/**
+	 * Removes control characters that cannot be represented in XML 1.0 (and would otherwise corrupt the document).
+	 * Tabs, line feeds and carriage returns are kept.
+	 */
+	static String stripInvalidChars(String value) {
+		for (var i = 0; i < value.length(); i++) {
+			if (isInvalid(value.charAt(i))) {
+				final var stringBuilder = new StringBuilder(value.length());
+
+				value.chars()
+					.filter(ch -> !isInvalid((char) ch))
+					.forEach(ch -> stringBuilder.append((char) ch));
+
+				return stringBuilder.toString();
+			}
+		}
+
+		return value;
+	}
+
+	private static boolean isInvalid(char c) {
+		return c < 0x20 && c != '\t' && c != '\n' && c != '\r';
+	}
+
+}
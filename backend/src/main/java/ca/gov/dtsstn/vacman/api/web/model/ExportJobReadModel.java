@@ -0,0 +1,31 @@
+package ca.gov.dtsstn.vacman.api.web.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.media.Schema.AccessMode;
+
+@Schema(name = "ExportJob", description = "Standard representation of an asynchronous export.")
+public record ExportJobReadModel(
+	@Schema(accessMode = AccessMode.READ_ONLY, description = "The unique identifier for this export.", example = "00000000-0000-0000-0000-000000000000")
+	UUID id,
+
+	@Schema(description = "The status of this export.", allowableValues = { "IN_PROGRESS", "COMPLETED", "FAILED" })
+	String status,
+
+	@Schema(description = "The filename of the exported document.", example = "req-001-matches.xlsx")
+	String filename,
+
+	@Schema(description = "The URI from which the exported document can be downloaded once this export has completed.")
+	String downloadUri,
+
+	@Schema(description = "The time this export was created.")
+	Instant createdDate,
+
+	@Schema(description = "The time this export completed (or failed).")
+	Instant completedDate,
+
+	@Schema(description = "The time after which this export will no longer be available for download.")
+	Instant expiryDate
+) {}
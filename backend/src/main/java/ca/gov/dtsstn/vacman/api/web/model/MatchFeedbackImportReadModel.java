@@ -0,0 +1,36 @@
+package ca.gov.dtsstn.vacman.api.web.model;
+
+import java.util.List;
+
+import io.soabase.recordbuilder.core.RecordBuilder;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Read model for the outcome of a match feedback spreadsheet import.
+ */
+@RecordBuilder
+@Schema(name = "MatchFeedbackImport")
+public record MatchFeedbackImportReadModel(
+	@Schema(description = "The number of (non-blank) data rows that were read from the spreadsheet.", example = "200")
+	Integer rowCount,
+
+	@Schema(description = "The number of matches that were updated; always 0 if there are errors.", example = "200")
+	Integer updatedCount,
+
+	@Schema(description = "The row-level errors; if there are any, no matches are updated.")
+	List<RowError> errors
+) {
+
+	@Schema(name = "MatchFeedbackImport.RowError")
+	public record RowError(
+		@Schema(description = "The spreadsheet row number (the header row is row 1).", example = "2")
+		Long rowNumber,
+
+		@Schema(description = "The field that is in error.", example = "matchFeedback")
+		String field,
+
+		@Schema(description = "A description of the error.", example = "Match feedback [Maybe] does not exist")
+		String message
+	) {}
+
+}
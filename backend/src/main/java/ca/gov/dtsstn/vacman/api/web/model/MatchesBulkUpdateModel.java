@@ -0,0 +1,49 @@
+package ca.gov.dtsstn.vacman.api.web.model;
+
+import java.util.List;
+
+import io.soabase.recordbuilder.core.RecordBuilder;
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Update model for updating several of a request's matches at once.
+ * <p>
+ * Unlike {@link MatchUpdateModel}, any field that is omitted (or {@code null}) is left unchanged.
+ * Status and feedback codes are validated once for the whole update, rather than per match.
+ */
+@RecordBuilder
+@Schema(name = "MatchesBulkUpdate")
+public record MatchesBulkUpdateModel(
+	@NotEmpty
+	@Size(max = 1000)
+	@Schema(description = "The matches to update, along with their changes.")
+	List<@Valid @NotNull MatchUpdate> matches
+) {
+
+	@RecordBuilder
+	@Schema(name = "MatchesBulkUpdate.MatchUpdate")
+	public record MatchUpdate(
+		@NotNull
+		@Schema(description = "The ID of the match to update.", example = "1")
+		Long id,
+
+		@Schema(description = "The status code to set the match to.", allowableValues = { "IP-EC", "PA-EAA", "A-A" })
+		String statusCode,
+
+		@Schema(description = "The ID of the feedback for this match.", example = "1")
+		Long matchFeedbackId,
+
+		@Size(max = 100)
+		@Schema(description = "Comment from the hiring manager.", example = "Candidate meets all requirements.")
+		String hiringManagerComment,
+
+		@Size(max = 100)
+		@Schema(description = "Comment from the HR advisor.", example = "Candidate meets all requirements.")
+		String hrAdvisorComment
+	) {}
+
+}
@@ -0,0 +1,59 @@
+package ca.gov.dtsstn.vacman.api.web.model;
+
+import static java.util.stream.Collectors.toUnmodifiableSet;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+
+import org.springframework.util.StringUtils;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.annotation.Nullable;
+
+/**
+ * A sparse fieldset: the top-level fields of a resource that the client wants returned (ie: {@code ?fields=englishTitle,status}).
+ * <p>
+ * An empty fieldset means that every field should be returned. The {@code id} field is always returned.
+ */
+public record SparseFieldsetModel(
+	@Schema(description = "The fields to return, as a comma-separated list; all fields are returned if omitted.", example = "englishTitle,status")
+	Collection<String> fields
+) {
+
+	public static final String FIELDS_PARAMETER = "fields";
+
+	public static final String ID_FIELD = "id";
+
+	/**
+	 * Constructor to strip blank field names and prevent null collections being returned
+	 */
+	public SparseFieldsetModel(Collection<String> fields) {
+		this.fields = Objects.requireNonNullElse(fields, Set.<String>of()).stream()
+			.filter(StringUtils::hasText)
+			.map(String::strip)
+			.collect(toUnmodifiableSet());
+	}
+
+	/**
+	 * Parses a comma-separated list of fields (ie: the raw value of the {@code fields} query parameter).
+	 */
+	public static SparseFieldsetModel parse(@Nullable String fields) {
+		return new SparseFieldsetModel(StringUtils.commaDelimitedListToSet(fields));
+	}
+
+	/**
+	 * Returns {@code true} if the client asked for a subset of the resource's fields.
+	 */
+	public boolean isSparse() {
+		return !fields.isEmpty();
+	}
+
+	/**
+	 * Returns {@code true} if {@code field} should be returned to the client.
+	 */
+	public boolean includes(String field) {
+		return !isSparse() || ID_FIELD.equals(field) || fields.contains(field);
+	}
+
+}
@@ -0,0 +1,14 @@
+package ca.gov.dtsstn.vacman.api.web.model.mapper;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.ReportingPolicy;
+
+import ca.gov.dtsstn.vacman.api.service.dto.ExportJob;
+import ca.gov.dtsstn.vacman.api.web.model.ExportJobReadModel;
+
+@Mapper(unmappedTargetPolicy = ReportingPolicy.ERROR)
+public interface ExportJobModelMapper {
+
+	ExportJobReadModel toModel(ExportJob exportJob, String downloadUri);
+
+}
@@ -1,28 +1,136 @@
 package ca.gov.dtsstn.vacman.api.web.model.mapper;
 
+import static java.util.stream.Collectors.toSet;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.mapstruct.Condition;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import org.mapstruct.TargetPropertyName;
+import org.mapstruct.factory.Mappers;
 
+import ca.gov.dtsstn.vacman.api.data.entity.AbstractBaseEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.ClassificationProfileEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.ProfileCityEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.ProfileEmploymentOpportunityEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.ProfileEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.ProfileLanguageReferralTypeEntity;
 import ca.gov.dtsstn.vacman.api.service.dto.ProfileQuery;
+import ca.gov.dtsstn.vacman.api.web.export.SpreadsheetColumn;
 import ca.gov.dtsstn.vacman.api.web.model.CityReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.ClassificationReadModel;
+import ca.gov.dtsstn.vacman.api.web.model.CodeReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.EmploymentOpportunityReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.LanguageReferralTypeReadModel;
+import ca.gov.dtsstn.vacman.api.web.model.ProfilePutModel;
 import ca.gov.dtsstn.vacman.api.web.model.ProfileReadFilterModel;
 import ca.gov.dtsstn.vacman.api.web.model.ProfileReadModel;
+import ca.gov.dtsstn.vacman.api.web.model.ProfileReadModelBuilder;
+import ca.gov.dtsstn.vacman.api.web.model.SparseFieldsetModel;
+import ca.gov.dtsstn.vacman.api.web.model.UserReadModel;
 
 @Mapper(uses = { CodeModelMapper.class })
 public interface ProfileModelMapper {
 
+	/**
+	 * The to-one associations of a profile, keyed by their read model field name.
+	 */
+	Map<String, String> PROFILE_FETCH_GRAPH_ATTRIBUTES = Map.ofEntries(
+		Map.entry("profileUser", "user"),
+		Map.entry("substantiveCity", "substantiveCity"),
+		Map.entry("languageOfCorrespondence", "languageOfCorrespondence"),
+		Map.entry("substantiveClassification", "substantiveClassification"),
+		Map.entry("substantiveWorkUnit", "substantiveWorkUnit"),
+		Map.entry("profileStatus", "profileStatus"),
+		Map.entry("wfaStatus", "wfaStatus")
+	);
+
 	@Mapping(source = "user", target = "profileUser")
 	@Mapping(source = "hrAdvisor.id", target = "hrAdvisorId")
 	ProfileReadModel toModel(ProfileEntity entity);
 
+	@Named("toModelWithoutAssociations")
+	@Mapping(source = "hrAdvisor.id", target = "hrAdvisorId")
+	@Mapping(target = "profileUser", ignore = true)
+	@Mapping(target = "substantiveCity", ignore = true)
+	@Mapping(target = "languageOfCorrespondence", ignore = true)
+	@Mapping(target = "substantiveClassification", ignore = true)
+	@Mapping(target = "substantiveWorkUnit", ignore = true)
+	@Mapping(target = "profileStatus", ignore = true)
+	@Mapping(target = "wfaStatus", ignore = true)
+	@Mapping(target = "preferredCities", ignore = true)
+	@Mapping(target = "preferredClassifications", ignore = true)
+	@Mapping(target = "preferredEmploymentOpportunities", ignore = true)
+	@Mapping(target = "preferredLanguages", ignore = true)
+	ProfileReadModel toModelWithoutAssociations(ProfileEntity entity, @Context SparseFieldsetModel fieldset);
+
+	/**
+	 * Only maps the fields in {@code fieldset} when a fieldset is in context (ie: in {@code toModelWithoutAssociations}).
+	 */
+	@Condition
+	default boolean isInFieldset(@TargetPropertyName String propertyName, @Context SparseFieldsetModel fieldset) {
+		return fieldset.includes(propertyName);
+	}
+
+	/**
+	 * Maps a profile to a read model that only includes the associations in {@code fieldset}.
+	 * <p>
+	 * Associations that were not requested are never navigated, so they are never lazily loaded, and scalar fields
+	 * that were not requested are left {@code null}, so they are not serialized.
+	 *
+	 * @see #toFetchGraph(SparseFieldsetModel)
+	 */
+	default ProfileReadModel toModel(ProfileEntity entity, SparseFieldsetModel fieldset) {
+		if (!fieldset.isSparse()) { return toModel(entity); }
+
+		final var codeModelMapper = Mappers.getMapper(CodeModelMapper.class);
+		final var builder = ProfileReadModelBuilder.builder(toModelWithoutAssociations(entity, fieldset));
+
+		if (fieldset.includes("profileUser")) { builder.profileUser(Mappers.getMapper(UserModelMapper.class).toModel(entity.getUser())); }
+		if (fieldset.includes("substantiveCity")) { builder.substantiveCity(codeModelMapper.map(entity.getSubstantiveCity())); }
+		if (fieldset.includes("languageOfCorrespondence")) { builder.languageOfCorrespondence(codeModelMapper.map(entity.getLanguageOfCorrespondence())); }
+		if (fieldset.includes("substantiveClassification")) { builder.substantiveClassification(codeModelMapper.map(entity.getSubstantiveClassification())); }
+		if (fieldset.includes("substantiveWorkUnit")) { builder.substantiveWorkUnit(codeModelMapper.map(entity.getSubstantiveWorkUnit())); }
+		if (fieldset.includes("profileStatus")) { builder.profileStatus(codeModelMapper.map(entity.getProfileStatus())); }
+		if (fieldset.includes("wfaStatus")) { builder.wfaStatus(codeModelMapper.map(entity.getWfaStatus())); }
+		if (fieldset.includes("preferredCities")) { builder.preferredCities(entity.getPreferredCities().stream().map(codeModelMapper::map).collect(toSet())); }
+		if (fieldset.includes("preferredClassifications")) { builder.preferredClassifications(entity.getPreferredClassifications().stream().map(codeModelMapper::map).collect(toSet())); }
+		if (fieldset.includes("preferredEmploymentOpportunities")) { builder.preferredEmploymentOpportunities(entity.getPreferredEmploymentOpportunities().stream().map(codeModelMapper::map).collect(toSet())); }
+		if (fieldset.includes("preferredLanguages")) { builder.preferredLanguages(entity.getPreferredLanguages().stream().map(codeModelMapper::map).collect(toSet())); }
+
+		return builder.build();
+	}
+
+	/**
+	 * Returns the profile entity attributes that should be fetched (joined) to satisfy {@code fieldset}.
+	 * <p>
+	 * Only to-one associations are included, since fetching collections would force in-memory pagination;
+	 * requested collections are lazily (batch) loaded instead. The id is always included, so that the
+	 * resulting fetch graph is never empty (an empty graph would fall back to fetching every eager association).
+	 */
+	default List<String> toFetchGraph(SparseFieldsetModel fieldset) {
+		return Stream.concat(Stream.of("id"), PROFILE_FETCH_GRAPH_ATTRIBUTES.entrySet().stream()
+				.filter(entry -> fieldset.includes(entry.getKey()))
+				.map(Map.Entry::getValue))
+			.toList();
+	}
+
+	@Mapping(source = "hrAdvisor.id", target = "hrAdvisorId")
+	@Mapping(source = "languageOfCorrespondence.id", target = "languageOfCorrespondenceId")
+	@Mapping(source = "substantiveClassification.id", target = "classificationId")
+	@Mapping(source = "substantiveCity.id", target = "cityId")
+	@Mapping(source = "substantiveWorkUnit.id", target = "workUnitId")
+	@Mapping(source = "wfaStatus.id", target = "wfaStatusId")
+	@Mapping(source = "preferredClassifications", target = "preferredClassification")
+	ProfilePutModel toPutModel(ProfileEntity entity);
+
 	@Mapping(source = "city", target = ".")
 	CityReadModel toCityReadModel(ProfileCityEntity entity);
 
@@ -38,4 +146,31 @@ public interface ProfileModelMapper {
 	@Mapping(source = "statusId", target = "statusIds")
 	@Mapping(source = "hrAdvisorId", target = "hrAdvisorIds")
 	ProfileQuery toProfileQuery(ProfileReadFilterModel filter);
+
+	default Long toId(AbstractBaseEntity entity) {
+		return entity == null ? null : entity.getId();
+	}
+
+	/**
+	 * The columns of a profile spreadsheet export.
+	 */
+	default List<SpreadsheetColumn<ProfileReadModel>> toSpreadsheetColumns() {
+		return List.of(
+			new SpreadsheetColumn<>("Profile ID", profile -> Objects.toString(profile.id(), null)),
+			new SpreadsheetColumn<>("First Name", profile -> Optional.ofNullable(profile.profileUser()).map(UserReadModel::firstName).orElse(null)),
+			new SpreadsheetColumn<>("Last Name", profile -> Optional.ofNullable(profile.profileUser()).map(UserReadModel::lastName).orElse(null)),
+			new SpreadsheetColumn<>("Email", profile -> Optional.ofNullable(profile.profileUser()).map(UserReadModel::businessEmailAddress).orElse(null)),
+			new SpreadsheetColumn<>("Personal Email", ProfileReadModel::personalEmailAddress),
+			new SpreadsheetColumn<>("Profile Status", profile -> Optional.ofNullable(profile.profileStatus()).map(CodeReadModel::getNameEn).orElse(null)),
+			new SpreadsheetColumn<>("WFA Status", profile -> Optional.ofNullable(profile.wfaStatus()).map(CodeReadModel::getNameEn).orElse(null)),
+			new SpreadsheetColumn<>("WFA Start Date", profile -> Objects.toString(profile.wfaStartDate(), null)),
+			new SpreadsheetColumn<>("WFA End Date", profile -> Objects.toString(profile.wfaEndDate(), null)),
+			new SpreadsheetColumn<>("Substantive Classification", profile -> Optional.ofNullable(profile.substantiveClassification()).map(CodeReadModel::getNameEn).orElse(null)),
+			new SpreadsheetColumn<>("Substantive Work Unit", profile -> Optional.ofNullable(profile.substantiveWorkUnit()).map(CodeReadModel::getNameEn).orElse(null)),
+			new SpreadsheetColumn<>("Substantive City", profile -> Optional.ofNullable(profile.substantiveCity()).map(CodeReadModel::getNameEn).orElse(null)),
+			new SpreadsheetColumn<>("HR Advisor ID", profile -> Objects.toString(profile.hrAdvisorId(), null)),
+			new SpreadsheetColumn<>("Last Modified Date", profile -> Objects.toString(profile.lastModifiedDate(), null))
+		);
+	}
+
 }
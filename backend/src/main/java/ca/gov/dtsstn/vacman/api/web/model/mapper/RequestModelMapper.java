@@ -1,27 +1,63 @@
 package ca.gov.dtsstn.vacman.api.web.model.mapper;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
 import org.mapstruct.CollectionMappingStrategy;
+import org.mapstruct.Condition;
+import org.mapstruct.Context;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingTarget;
 import org.mapstruct.ReportingPolicy;
+import org.mapstruct.TargetPropertyName;
+import org.mapstruct.factory.Mappers;
 
 import ca.gov.dtsstn.vacman.api.data.entity.CityEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.EmploymentEquityEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.LanguageRequirementEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.RequestEntity;
 import ca.gov.dtsstn.vacman.api.service.dto.RequestQuery;
+import ca.gov.dtsstn.vacman.api.web.export.SpreadsheetColumn;
+import ca.gov.dtsstn.vacman.api.web.model.CodeReadModel;
 import ca.gov.dtsstn.vacman.api.web.model.RequestReadFilterModel;
 import ca.gov.dtsstn.vacman.api.web.model.RequestReadModel;
+import ca.gov.dtsstn.vacman.api.web.model.RequestReadModelBuilder;
 import ca.gov.dtsstn.vacman.api.web.model.RequestUpdateModel;
 import ca.gov.dtsstn.vacman.api.web.model.RequestUpdateModel.CityId;
 import ca.gov.dtsstn.vacman.api.web.model.RequestUpdateModel.EmploymentEquityId;
 import ca.gov.dtsstn.vacman.api.web.model.RequestUpdateModel.LanguageRequirementId;
+import ca.gov.dtsstn.vacman.api.web.model.SparseFieldsetModel;
+import ca.gov.dtsstn.vacman.api.web.model.UserReadModel;
 
 @Mapper(uses = { CodeModelMapper.class,
 		UserModelMapper.class }, unmappedTargetPolicy = ReportingPolicy.ERROR, collectionMappingStrategy = CollectionMappingStrategy.ADDER_PREFERRED)
 public interface RequestModelMapper {
 
+	/**
+	 * The to-one associations of a request, keyed by their read model field name.
+	 */
+	Map<String, String> REQUEST_FETCH_GRAPH_ATTRIBUTES = Map.ofEntries(
+		Map.entry("additionalContact", "additionalContact"),
+		Map.entry("appointmentNonAdvertised", "appointmentNonAdvertised"),
+		Map.entry("classification", "classification"),
+		Map.entry("employmentTenure", "employmentTenure"),
+		Map.entry("hiringManager", "hiringManager"),
+		Map.entry("hrAdvisor", "hrAdvisor"),
+		Map.entry("languageOfCorrespondence", "language"),
+		Map.entry("securityClearance", "securityClearance"),
+		Map.entry("selectionProcessType", "selectionProcessType"),
+		Map.entry("status", "requestStatus"),
+		Map.entry("subDelegatedManager", "subDelegatedManager"),
+		Map.entry("submitter", "submitter"),
+		Map.entry("workSchedule", "workSchedule"),
+		Map.entry("workUnit", "workUnit")
+	);
+
 	@Mapping(target = "englishLanguageProfile", source = "entity.languageProfileEn")
 	@Mapping(target = "englishStatementOfMerit", source = "entity.somcAndConditionEmploymentEn")
 	@Mapping(target = "englishTitle", source = "entity.nameEn")
@@ -36,6 +72,93 @@ public interface RequestModelMapper {
 	@Mapping(target = "hasMatches", source = "hasMatches")
 	RequestReadModel toModel(RequestEntity entity, Boolean hasMatches);
 
+	@Mapping(target = "englishLanguageProfile", source = "entity.languageProfileEn")
+	@Mapping(target = "englishStatementOfMerit", source = "entity.somcAndConditionEmploymentEn")
+	@Mapping(target = "englishTitle", source = "entity.nameEn")
+	@Mapping(target = "equityNeeded", source = "entity.employmentEquityNeedIdentifiedIndicator")
+	@Mapping(target = "frenchLanguageProfile", source = "entity.languageProfileFr")
+	@Mapping(target = "frenchStatementOfMerit", source = "entity.somcAndConditionEmploymentFr")
+	@Mapping(target = "frenchTitle", source = "entity.nameFr")
+	@Mapping(target = "projectedEndDate", source = "entity.endDate")
+	@Mapping(target = "projectedStartDate", source = "entity.startDate")
+	@Mapping(target = "hasMatches", source = "hasMatches")
+	@Mapping(target = "additionalContact", ignore = true)
+	@Mapping(target = "appointmentNonAdvertised", ignore = true)
+	@Mapping(target = "cities", ignore = true)
+	@Mapping(target = "classification", ignore = true)
+	@Mapping(target = "employmentEquities", ignore = true)
+	@Mapping(target = "employmentTenure", ignore = true)
+	@Mapping(target = "hiringManager", ignore = true)
+	@Mapping(target = "hrAdvisor", ignore = true)
+	@Mapping(target = "languageOfCorrespondence", ignore = true)
+	@Mapping(target = "languageRequirements", ignore = true)
+	@Mapping(target = "securityClearance", ignore = true)
+	@Mapping(target = "selectionProcessType", ignore = true)
+	@Mapping(target = "status", ignore = true)
+	@Mapping(target = "subDelegatedManager", ignore = true)
+	@Mapping(target = "submitter", ignore = true)
+	@Mapping(target = "workSchedule", ignore = true)
+	@Mapping(target = "workUnit", ignore = true)
+	RequestReadModel toModelWithoutAssociations(RequestEntity entity, Boolean hasMatches, @Context SparseFieldsetModel fieldset);
+
+	/**
+	 * Only maps the fields in {@code fieldset} when a fieldset is in context (ie: in {@code toModelWithoutAssociations}).
+	 */
+	@Condition
+	default boolean isInFieldset(@TargetPropertyName String propertyName, @Context SparseFieldsetModel fieldset) {
+		return fieldset.includes(propertyName);
+	}
+
+	/**
+	 * Maps a request to a read model that only includes the associations in {@code fieldset}.
+	 * <p>
+	 * Associations that were not requested are never navigated, so they are never lazily loaded, and scalar fields
+	 * that were not requested are left {@code null}, so they are not serialized.
+	 *
+	 * @see #toFetchGraph(SparseFieldsetModel)
+	 */
+	default RequestReadModel toModel(RequestEntity entity, Boolean hasMatches, SparseFieldsetModel fieldset) {
+		if (!fieldset.isSparse()) { return toModel(entity, hasMatches); }
+
+		final var codeModelMapper = Mappers.getMapper(CodeModelMapper.class);
+		final var userModelMapper = Mappers.getMapper(UserModelMapper.class);
+		final var builder = RequestReadModelBuilder.builder(toModelWithoutAssociations(entity, hasMatches, fieldset));
+
+		if (fieldset.includes("additionalContact")) { builder.additionalContact(userModelMapper.toModel(entity.getAdditionalContact())); }
+		if (fieldset.includes("appointmentNonAdvertised")) { builder.appointmentNonAdvertised(codeModelMapper.map(entity.getAppointmentNonAdvertised())); }
+		if (fieldset.includes("cities")) { builder.cities(entity.getCities().stream().map(codeModelMapper::map).toList()); }
+		if (fieldset.includes("classification")) { builder.classification(codeModelMapper.map(entity.getClassification())); }
+		if (fieldset.includes("employmentEquities")) { builder.employmentEquities(entity.getEmploymentEquities().stream().map(codeModelMapper::map).toList()); }
+		if (fieldset.includes("employmentTenure")) { builder.employmentTenure(codeModelMapper.map(entity.getEmploymentTenure())); }
+		if (fieldset.includes("hiringManager")) { builder.hiringManager(userModelMapper.toModel(entity.getHiringManager())); }
+		if (fieldset.includes("hrAdvisor")) { builder.hrAdvisor(userModelMapper.toModel(entity.getHrAdvisor())); }
+		if (fieldset.includes("languageOfCorrespondence")) { builder.languageOfCorrespondence(codeModelMapper.map(entity.getLanguage())); }
+		if (fieldset.includes("languageRequirements")) { builder.languageRequirements(entity.getLanguageRequirements().stream().map(codeModelMapper::map).toList()); }
+		if (fieldset.includes("securityClearance")) { builder.securityClearance(codeModelMapper.map(entity.getSecurityClearance())); }
+		if (fieldset.includes("selectionProcessType")) { builder.selectionProcessType(codeModelMapper.map(entity.getSelectionProcessType())); }
+		if (fieldset.includes("status")) { builder.status(codeModelMapper.map(entity.getRequestStatus())); }
+		if (fieldset.includes("subDelegatedManager")) { builder.subDelegatedManager(userModelMapper.toModel(entity.getSubDelegatedManager())); }
+		if (fieldset.includes("submitter")) { builder.submitter(userModelMapper.toModel(entity.getSubmitter())); }
+		if (fieldset.includes("workSchedule")) { builder.workSchedule(codeModelMapper.map(entity.getWorkSchedule())); }
+		if (fieldset.includes("workUnit")) { builder.workUnit(codeModelMapper.map(entity.getWorkUnit())); }
+
+		return builder.build();
+	}
+
+	/**
+	 * Returns the request entity attributes that should be fetched (joined) to satisfy {@code fieldset}.
+	 * <p>
+	 * Only to-one associations are included, since fetching collections would force in-memory pagination;
+	 * requested collections are lazily (batch) loaded instead. The id is always included, so that the
+	 * resulting fetch graph is never empty (an empty graph would fall back to fetching every eager association).
+	 */
+	default List<String> toFetchGraph(SparseFieldsetModel fieldset) {
+		return Stream.concat(Stream.of("id"), REQUEST_FETCH_GRAPH_ATTRIBUTES.entrySet().stream()
+				.filter(entry -> fieldset.includes(entry.getKey()))
+				.map(Map.Entry::getValue))
+			.toList();
+	}
+
 	@Mapping(target = "selectionProcessNumber", source = "selectionProcessNumber")
 	@Mapping(target = "workforceMgmtApprovalRecvd", source = "workforceMgmtApprovalRecvd")
 	@Mapping(target = "priorityEntitlement", source = "priorityEntitlement")
@@ -151,6 +274,32 @@ public interface RequestModelMapper {
 	@Mapping(source = "requestId", target = "requestId")
 	RequestQuery toRequestQuery(RequestReadFilterModel filter);
 
+	/**
+	 * The columns of a request spreadsheet export.
+	 */
+	default List<SpreadsheetColumn<RequestReadModel>> toSpreadsheetColumns() {
+		final Function<UserReadModel, String> fullName = user -> user == null ? null : "%s %s".formatted(user.firstName(), user.lastName());
+
+		return List.of(
+			new SpreadsheetColumn<>("Request ID", request -> Objects.toString(request.id(), null)),
+			new SpreadsheetColumn<>("Request Number", RequestReadModel::requestNumber),
+			new SpreadsheetColumn<>("English Title", RequestReadModel::englishTitle),
+			new SpreadsheetColumn<>("French Title", RequestReadModel::frenchTitle),
+			new SpreadsheetColumn<>("Status", request -> Optional.ofNullable(request.status()).map(CodeReadModel::getNameEn).orElse(null)),
+			new SpreadsheetColumn<>("Classification", request -> Optional.ofNullable(request.classification()).map(CodeReadModel::getNameEn).orElse(null)),
+			new SpreadsheetColumn<>("Work Unit", request -> Optional.ofNullable(request.workUnit()).map(CodeReadModel::getNameEn).orElse(null)),
+			new SpreadsheetColumn<>("Position Number", RequestReadModel::positionNumber),
+			new SpreadsheetColumn<>("Selection Process Number", RequestReadModel::selectionProcessNumber),
+			new SpreadsheetColumn<>("Hiring Manager", request -> fullName.apply(request.hiringManager())),
+			new SpreadsheetColumn<>("HR Advisor", request -> fullName.apply(request.hrAdvisor())),
+			new SpreadsheetColumn<>("Submitter", request -> fullName.apply(request.submitter())),
+			new SpreadsheetColumn<>("Projected Start Date", request -> Objects.toString(request.projectedStartDate(), null)),
+			new SpreadsheetColumn<>("Projected End Date", request -> Objects.toString(request.projectedEndDate(), null)),
+			new SpreadsheetColumn<>("Created Date", request -> Objects.toString(request.createdDate(), null)),
+			new SpreadsheetColumn<>("Last Modified Date", request -> Objects.toString(request.lastModifiedDate(), null))
+		);
+	}
+
 	default Long cityIdToLong(CityId cityId) {
 		return cityId == null ? null : cityId.value();
 	}
@@ -0,0 +1,44 @@
+package ca.gov.dtsstn.vacman.api.web.timing;
+
+import java.io.IOException;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.filter.ServerHttpObservationFilter;
+
+import io.micrometer.common.KeyValue;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Times each request (see {@link ServerTimings}), and adds the timings to the request's observation when it completes.
+ * The timings are added as high cardinality key values, so they are recorded as attributes of the request's trace span
+ * (but not as metric tags). The request's span is not necessarily the current span at this point, since Spring
+ * Security observes its own filter chain.
+ * <p>
+ * The {@code Server-Timing} header itself is added by {@link ServerTimingResponseBodyAdvice}, since the response
+ * is usually committed by the time this filter regains control.
+ */
+@Component
+@ConditionalOnProperty(name = { "application.metrics.server-timing.enabled" })
+public class ServerTimingFilter extends OncePerRequestFilter {
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+		final var serverTimings = ServerTimings.start();
+
+		try {
+			filterChain.doFilter(request, response);
+		}
+		finally {
+			ServerTimings.stop();
+
+			ServerHttpObservationFilter.findObservationContext(request).ifPresent(observationContext ->
+				serverTimings.toSpanAttributes().forEach((key, value) -> observationContext.addHighCardinalityKeyValue(KeyValue.of(key, value))));
+		}
+	}
+
+}
@@ -0,0 +1,47 @@
+package ca.gov.dtsstn.vacman.api.web.timing;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.security.SecurityUtils;
+
+/**
+ * Adds the {@code Server-Timing} header to responses sent to users with one of the configured authorities, just
+ * before the response body is written (ie: after the handler has done all of its database and external calls).
+ * <p>
+ * Responses without a message-converted body (ie: streamed spreadsheet exports) do not get the header.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = { "application.metrics.server-timing.enabled" })
+public class ServerTimingResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+	public static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+	private final String[] authorities;
+
+	public ServerTimingResponseBodyAdvice(ApplicationProperties applicationProperties) {
+		this.authorities = applicationProperties.metrics().serverTiming().authorities().toArray(String[]::new);
+	}
+
+	@Override
+	public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+		return true;
+	}
+
+	@Override
+	public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType, Class<? extends HttpMessageConverter<?>> selectedConverterType, ServerHttpRequest request, ServerHttpResponse response) {
+		if (!SecurityUtils.hasAnyAuthorities(authorities)) { return body; }
+
+		ServerTimings.current().ifPresent(serverTimings -> response.getHeaders().set(SERVER_TIMING_HEADER, serverTimings.toHeaderValue()));
+
+		return body;
+	}
+
+}
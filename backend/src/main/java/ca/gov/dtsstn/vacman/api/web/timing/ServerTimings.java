@@ -0,0 +1,147 @@
+package ca.gov.dtsstn.vacman.api.web.timing;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accumulates where the time of the current request went: JDBC statements, database connection acquisition,
+ * cache lookups and calls to external services (ie: GC Notify, MS Graph).
+ * <p>
+ * An instance is bound to the request thread by {@link ServerTimingFilter} for the duration of the request. The
+ * static {@code record*()} methods are called by the instrumented infrastructure (the datasource proxy, the caches
+ * and the pooled HTTP clients), and do nothing when no request is being timed (ie: on {@code @Async} threads).
+ * Work done on other threads is never attributed to the request.
+ */
+public class ServerTimings {
+
+	private static final ThreadLocal<ServerTimings> current = new ThreadLocal<>();
+
+	private static class ExternalCalls {
+
+		int count;
+
+		long elapsedNanos;
+
+	}
+
+	private final long startTime = System.nanoTime();
+
+	private int jdbcStatementCount;
+
+	private long jdbcElapsedNanos;
+
+	private int connectionCount;
+
+	private long connectionAcquireElapsedNanos;
+
+	private int cacheHitCount;
+
+	private int cacheMissCount;
+
+	private final Map<String, ExternalCalls> externalCalls = new TreeMap<>();
+
+	/**
+	 * Starts timing a request on the current thread.
+	 */
+	static ServerTimings start() {
+		final var serverTimings = new ServerTimings();
+		current.set(serverTimings);
+		return serverTimings;
+	}
+
+	/**
+	 * Stops timing the request on the current thread.
+	 */
+	static void stop() {
+		current.remove();
+	}
+
+	/**
+	 * Returns the timings of the request being handled by the current thread, if any.
+	 */
+	public static Optional<ServerTimings> current() {
+		return Optional.ofNullable(current.get());
+	}
+
+	public static void recordJdbcStatements(int count, long elapsedTime, TimeUnit timeUnit) {
+		current().ifPresent(serverTimings -> {
+			serverTimings.jdbcStatementCount += count;
+			serverTimings.jdbcElapsedNanos += timeUnit.toNanos(elapsedTime);
+		});
+	}
+
+	public static void recordConnectionAcquired(long elapsedTime, TimeUnit timeUnit) {
+		current().ifPresent(serverTimings -> {
+			serverTimings.connectionCount++;
+			serverTimings.connectionAcquireElapsedNanos += timeUnit.toNanos(elapsedTime);
+		});
+	}
+
+	public static void recordCacheLookup(boolean hit) {
+		current().ifPresent(serverTimings -> {
+			if (hit) { serverTimings.cacheHitCount++; }
+			else { serverTimings.cacheMissCount++; }
+		});
+	}
+
+	public static void recordExternalCall(String name, long elapsedTime, TimeUnit timeUnit) {
+		current().ifPresent(serverTimings -> {
+			final var calls = serverTimings.externalCalls.computeIfAbsent(name, key -> new ExternalCalls());
+			calls.count++;
+			calls.elapsedNanos += timeUnit.toNanos(elapsedTime);
+		});
+	}
+
+	/**
+	 * Formats the timings as a {@code Server-Timing} header value
+	 * (ie: {@code db;dur=12.5;desc="4 statements", cache;desc="3 hits, 1 misses", app;dur=48.1}).
+	 */
+	public String toHeaderValue() {
+		final var headerValue = new StringJoiner(", ");
+
+		headerValue.add("db;dur=%s;desc=\"%d statements\"".formatted(toMillis(jdbcElapsedNanos), jdbcStatementCount));
+		headerValue.add("db-connection;dur=%s;desc=\"%d connections\"".formatted(toMillis(connectionAcquireElapsedNanos), connectionCount));
+
+		if (cacheHitCount + cacheMissCount > 0) {
+			headerValue.add("cache;desc=\"%d hits, %d misses\"".formatted(cacheHitCount, cacheMissCount));
+		}
+
+		externalCalls.forEach((name, calls) -> headerValue.add("%s;dur=%s;desc=\"%d calls\"".formatted(name, toMillis(calls.elapsedNanos), calls.count)));
+
+		headerValue.add("app;dur=%s".formatted(toMillis(System.nanoTime() - startTime)));
+
+		return headerValue.toString();
+	}
+
+	/**
+	 * Returns the timings as trace span attributes.
+	 */
+	public Map<String, String> toSpanAttributes() {
+		final var spanAttributes = new LinkedHashMap<String, String>();
+
+		spanAttributes.put("db.statement.count", String.valueOf(jdbcStatementCount));
+		spanAttributes.put("db.duration.ms", toMillis(jdbcElapsedNanos));
+		spanAttributes.put("db.connection.count", String.valueOf(connectionCount));
+		spanAttributes.put("db.connection.acquire.duration.ms", toMillis(connectionAcquireElapsedNanos));
+		spanAttributes.put("cache.hit.count", String.valueOf(cacheHitCount));
+		spanAttributes.put("cache.miss.count", String.valueOf(cacheMissCount));
+
+		externalCalls.forEach((name, calls) -> {
+			spanAttributes.put("external.%s.call.count".formatted(name), String.valueOf(calls.count));
+			spanAttributes.put("external.%s.duration.ms".formatted(name), toMillis(calls.elapsedNanos));
+		});
+
+		return spanAttributes;
+	}
+
+	private static String toMillis(long nanos) {
+		// always use a '.' decimal separator, regardless of the server's default locale
+		return String.format(Locale.ROOT, "%.1f", nanos / 1_000_000.0);
+	}
+
+}
@@ -0,0 +1,78 @@
+package ca.gov.dtsstn.vacman.api.actuate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithAnonymousUser;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({ "test" })
+@DisplayName("Actuator endpoint security")
+class ActuatorSecurityTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Test
+	@WithAnonymousUser
+	@DisplayName("GET /actuator/health - Should return 200 OK to anonymous users")
+	void getHealth_anonymous_shouldReturnOk() throws Exception {
+		mockMvc.perform(get("/actuator/health"))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	@WithAnonymousUser
+	@DisplayName("GET /actuator/cachestats - Should return 401 Unauthorized to anonymous users")
+	void getCacheStats_anonymous_shouldReturnUnauthorized() throws Exception {
+		mockMvc.perform(get("/actuator/cachestats"))
+			.andExpect(status().isUnauthorized());
+	}
+
+	@Test
+	@WithMockUser(authorities = { "hr-advisor" })
+	@DisplayName("GET /actuator/cachestats - Should return 403 Forbidden to non-admin users")
+	void getCacheStats_nonAdmin_shouldReturnForbidden() throws Exception {
+		mockMvc.perform(get("/actuator/cachestats"))
+			.andExpect(status().isForbidden());
+	}
+
+	@Test
+	@WithMockUser(authorities = { "admin" })
+	@DisplayName("GET /actuator/cachestats - Should return 200 OK to admin users")
+	void getCacheStats_admin_shouldReturnOk() throws Exception {
+		mockMvc.perform(get("/actuator/cachestats"))
+			.andExpect(status().isOk());
+	}
+
+	@Test
+	@WithMockUser(authorities = { "hr-advisor" })
+	@DisplayName("POST /actuator/flightrecording - Should return 403 Forbidden to non-admin users")
+	void startFlightRecording_nonAdmin_shouldReturnForbidden() throws Exception {
+		mockMvc.perform(post("/actuator/flightrecording"))
+			.andExpect(status().isForbidden());
+	}
+
+	@Test
+	@WithMockUser(authorities = { "admin" })
+	@DisplayName("POST, DELETE /actuator/flightrecording - Should start and download a recording for admin users")
+	void startAndStopFlightRecording_admin_shouldReturnOk() throws Exception {
+		mockMvc.perform(post("/actuator/flightrecording"))
+			.andExpect(status().isOk());
+
+		mockMvc.perform(delete("/actuator/flightrecording"))
+			.andExpect(status().isOk());
+	}
+
+}
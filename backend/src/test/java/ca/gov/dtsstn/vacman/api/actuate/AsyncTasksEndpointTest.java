@@ -0,0 +1,82 @@
+package ca.gov.dtsstn.vacman.api.actuate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("AsyncTasksEndpoint tests")
+class AsyncTasksEndpointTest {
+
+	SimpleMeterRegistry meterRegistry;
+
+	AsyncTaskTracker asyncTaskTracker;
+
+	AsyncTasksEndpoint asyncTasksEndpoint;
+
+	@BeforeEach
+	void setUp() {
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.asyncTaskTracker = new AsyncTaskTracker(meterRegistry);
+		this.asyncTasksEndpoint = new AsyncTasksEndpoint(asyncTaskTracker);
+	}
+
+	@Test
+	@DisplayName("asyncTasks() should count queued and in-flight tasks by executor and event type")
+	void asyncTasks() throws InterruptedException {
+		final var taskDecorator = asyncTaskTracker.taskDecorator("notification");
+		final var taskStarted = new CountDownLatch(1);
+		final var finishTask = new CountDownLatch(1);
+
+		final var runningTask = new Runnable[1];
+		final var queuedTask = new Runnable[1];
+
+		AsyncTaskTracker.runWithEventType("RequestSubmittedEvent", () -> runningTask[0] = taskDecorator.decorate(() -> {
+			taskStarted.countDown();
+			awaitQuietly(finishTask);
+		}));
+
+		AsyncTaskTracker.runWithEventType("ProfileStatusChangeEvent", () -> queuedTask[0] = taskDecorator.decorate(() -> {}));
+
+		final var thread = Thread.ofVirtual().start(runningTask[0]);
+		taskStarted.await();
+
+		final var executorTasks = asyncTasksEndpoint.asyncTasks().executors().get("notification");
+
+		assertThat(executorTasks.inFlight()).isEqualTo(Map.of("RequestSubmittedEvent", 1L));
+		assertThat(executorTasks.queued()).isEqualTo(Map.of("ProfileStatusChangeEvent", 1L));
+		assertThat(executorTasks.oldestQueuedTaskAge()).isNotNull();
+
+		finishTask.countDown();
+		thread.join();
+		queuedTask[0].run();
+
+		assertThat(asyncTasksEndpoint.asyncTasks().executors()).isEmpty();
+		assertThat(meterRegistry.get(AsyncTaskTracker.TASK_WAIT_TIMER).tag("name", "notification").timers()).hasSize(2);
+	}
+
+	@Test
+	@DisplayName("Tasks submitted outside of an event listener should have an unknown event type")
+	void unknownEventType() {
+		asyncTaskTracker.taskDecorator("audit").decorate(() -> {});
+
+		assertThat(asyncTasksEndpoint.asyncTasks().executors().get("audit").queued())
+			.isEqualTo(Map.of("unknown", 1L));
+	}
+
+	static void awaitQuietly(CountDownLatch countDownLatch) {
+		try {
+			countDownLatch.await();
+		}
+		catch (final InterruptedException exception) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
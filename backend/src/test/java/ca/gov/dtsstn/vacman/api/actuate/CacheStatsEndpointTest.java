@@ -0,0 +1,70 @@
+package ca.gov.dtsstn.vacman.api.actuate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import ca.gov.dtsstn.vacman.api.actuate.CacheStatsEndpoint.CacheDescriptor;
+
+@DisplayName("CacheStatsEndpoint tests")
+class CacheStatsEndpointTest {
+
+	CaffeineCache cities;
+
+	CaffeineCache provinces;
+
+	CacheStatsEndpoint cacheStatsEndpoint;
+
+	@BeforeEach
+	void setUp() {
+		this.cities = new CaffeineCache("cities", Caffeine.from("recordStats").build());
+		this.provinces = new CaffeineCache("provinces", Caffeine.from("recordStats").build());
+
+		final var cacheManager = new SimpleCacheManager();
+		cacheManager.setCaches(List.of(provinces, cities));
+		cacheManager.afterPropertiesSet();
+
+		this.cacheStatsEndpoint = new CacheStatsEndpoint(cacheManager);
+	}
+
+	@Test
+	@DisplayName("caches() should list every cache, sorted by name, with its statistics")
+	void caches() {
+		cities.put("ON52", "Ottawa");
+		cities.get("ON52");
+		cities.get("QC40");
+
+		assertThat(cacheStatsEndpoint.caches().caches())
+			.extracting(CacheDescriptor::name, CacheDescriptor::estimatedSize, CacheDescriptor::hitCount, CacheDescriptor::missCount)
+			.containsExactly(
+				tuple("cities", 1L, 1L, 1L),
+				tuple("provinces", 0L, 0L, 0L));
+	}
+
+	@Test
+	@DisplayName("cache() should return null for an unknown cache")
+	void cacheNotFound() {
+		assertThat(cacheStatsEndpoint.cache("unknown")).isNull();
+	}
+
+	@Test
+	@DisplayName("evict() should only evict the selected cache")
+	void evict() {
+		cities.put("ON52", "Ottawa");
+		provinces.put("ON", "Ontario");
+
+		assertThat(cacheStatsEndpoint.evict("cities").estimatedSize()).isZero();
+		assertThat(cacheStatsEndpoint.cache("provinces").estimatedSize()).isOne();
+		assertThat(cacheStatsEndpoint.evict("unknown")).isNull();
+	}
+
+}
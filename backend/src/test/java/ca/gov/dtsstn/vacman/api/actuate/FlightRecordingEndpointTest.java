@@ -0,0 +1,70 @@
+package ca.gov.dtsstn.vacman.api.actuate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.http.HttpStatus;
+import org.springframework.util.unit.DataSize;
+
+import ca.gov.dtsstn.vacman.api.web.export.SpreadsheetColumn;
+import ca.gov.dtsstn.vacman.api.web.export.SpreadsheetFormat;
+import jdk.jfr.RecordingState;
+import jdk.jfr.consumer.RecordingFile;
+
+@DisplayName("FlightRecordingEndpoint tests")
+class FlightRecordingEndpointTest {
+
+	final FlightRecordingEndpoint flightRecordingEndpoint = new FlightRecordingEndpoint("default", Duration.ofMinutes(1), DataSize.ofMegabytes(10));
+
+	@Test
+	@DisplayName("recording() and stop() should return 404 when there is no recording")
+	void noRecording() throws Exception {
+		assertThat(flightRecordingEndpoint.recording().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+		assertThat(flightRecordingEndpoint.stop().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("stop() should return a recording that contains the application's JFR events")
+	void startAndStop() throws Exception {
+		final var started = flightRecordingEndpoint.start();
+		assertThat(started.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+		assertThat(started.getBody().state()).isEqualTo(RecordingState.RUNNING);
+
+		assertThat(flightRecordingEndpoint.start().getStatus()).isEqualTo(HttpStatus.CONFLICT.value());
+
+		SpreadsheetFormat.CSV.write(new ByteArrayOutputStream(), "Test", List.of(new SpreadsheetColumn<String>("value", value -> value)), Stream.of("a", "b"));
+
+		final var stopped = flightRecordingEndpoint.stop();
+		assertThat(stopped.getStatus()).isEqualTo(WebEndpointResponse.STATUS_OK);
+
+		final var recordingFile = Files.createTempFile("test-", ".jfr");
+
+		try {
+			try (final var inputStream = stopped.getBody().getInputStream()) {
+				Files.write(recordingFile, inputStream.readAllBytes());
+			}
+
+			assertThat(RecordingFile.readAllEvents(recordingFile))
+				.filteredOn(recordedEvent -> "ca.gov.dtsstn.vacman.SpreadsheetExport".equals(recordedEvent.getEventType().getName()))
+				.singleElement()
+				.satisfies(recordedEvent -> {
+					assertThat(recordedEvent.getString("format")).isEqualTo("CSV");
+					assertThat(recordedEvent.getLong("rowCount")).isEqualTo(2);
+				});
+		}
+		finally {
+			Files.deleteIfExists(recordingFile);
+		}
+
+		assertThat(flightRecordingEndpoint.recording().getStatus()).isEqualTo(WebEndpointResponse.STATUS_NOT_FOUND);
+	}
+
+}
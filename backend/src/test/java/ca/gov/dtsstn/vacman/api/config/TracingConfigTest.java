@@ -0,0 +1,71 @@
+package ca.gov.dtsstn.vacman.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import ca.gov.dtsstn.vacman.api.tracing.AdaptiveSamplingSpanProcessor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({ "test" })
+@DisplayName("TracingConfig tests")
+class TracingConfigTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	SpanProcessor spanProcessor;
+
+	@Autowired
+	Tracer tracer;
+
+	@Autowired
+	MeterRegistry meterRegistry;
+
+	@Test
+	@DisplayName("Should export spans through an adaptive sampling span processor")
+	void exportsThroughAdaptiveSamplingSpanProcessor() {
+		assertThat(spanProcessor).isInstanceOf(AdaptiveSamplingSpanProcessor.class);
+	}
+
+	@Test
+	@DisplayName("Should make a sampling decision for traces started through the Micrometer tracer")
+	void samplesMicrometerTraces() {
+		final var decisionsBefore = decisionCount();
+
+		tracer.nextSpan().name("test").start().end();
+
+		assertThat(decisionCount()).isEqualTo(decisionsBefore + 1.0);
+	}
+
+	@Test
+	@DisplayName("Should make a sampling decision for HTTP requests")
+	void samplesHttpRequests() throws Exception {
+		final var decisionsBefore = decisionCount();
+
+		mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+		assertThat(decisionCount()).isEqualTo(decisionsBefore + 1.0);
+	}
+
+	double decisionCount() {
+		return meterRegistry.find(AdaptiveSamplingSpanProcessor.DECISIONS_COUNTER).counters().stream()
+			.mapToDouble(Counter::count)
+			.sum();
+	}
+
+}
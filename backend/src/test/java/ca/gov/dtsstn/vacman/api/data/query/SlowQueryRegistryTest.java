@@ -0,0 +1,98 @@
+package ca.gov.dtsstn.vacman.api.data.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.lang.reflect.Method;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.data.jpa.domain.Specification;
+
+import ca.gov.dtsstn.vacman.api.data.entity.ProfileEntity;
+import ca.gov.dtsstn.vacman.api.data.query.SlowQueryRegistry.SlowQuery;
+import ca.gov.dtsstn.vacman.api.data.repository.ProfileRepository;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+
+@DisplayName("SlowQueryRegistry tests")
+class SlowQueryRegistryTest {
+
+	interface TestRepository {
+
+		List<String> findAll(Specification<ProfileEntity> specification);
+
+	}
+
+	@Test
+	@DisplayName("Statements should be attributed to the repository method and specifications that issued them")
+	void attributesStatementsToQueryOrigin() throws Exception {
+		final var slowQueryRegistry = new SlowQueryRegistry(Duration.ofSeconds(1), 10);
+		final var executeQuery = Statement.class.getMethod("executeQuery", String.class);
+
+		final var proxyFactory = new ProxyFactory((TestRepository) specification -> {
+			slowQueryRegistry.afterQuery(executionInfo(executeQuery, 25, null), List.of(new QueryInfo("select * from profile")));
+			return List.of("a", "b", "c");
+		});
+		proxyFactory.addInterface(TestRepository.class);
+		proxyFactory.addAdvice(QueryOrigin.interceptor(TestRepository.class));
+
+		final var testRepository = (TestRepository) proxyFactory.getProxy();
+		testRepository.findAll(ProfileRepository.hasHrAdvisorId(1L).and(ProfileRepository.hasPreferredCityCodeIn("ON52")));
+
+		assertThat(slowQueryRegistry.getSlowQueries()).singleElement().satisfies(slowQuery -> {
+			assertThat(slowQuery.sql()).isEqualTo("select * from profile");
+			assertThat(slowQuery.repositoryMethod()).isEqualTo("TestRepository.findAll");
+			assertThat(slowQuery.specifications()).containsExactly("ProfileRepository.hasHrAdvisorId", "ProfileRepository.hasPreferredCityCodeIn");
+			assertThat(slowQuery.count()).isEqualTo(1);
+			assertThat(slowQuery.maxElapsed()).isEqualTo(Duration.ofMillis(25));
+			assertThat(slowQuery.rowCount()).isEqualTo(3);
+		});
+
+		assertThat(QueryOrigin.current()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("A full registry should only admit statements that are slower than its fastest statement")
+	void evictsFastestStatement() throws Exception {
+		final var slowQueryRegistry = new SlowQueryRegistry(Duration.ofSeconds(1), 2);
+		final var executeUpdate = Statement.class.getMethod("executeUpdate", String.class);
+
+		slowQueryRegistry.afterQuery(executionInfo(executeUpdate, 10, 1), List.of(new QueryInfo("update a")));
+		slowQueryRegistry.afterQuery(executionInfo(executeUpdate, 30, 2), List.of(new QueryInfo("update b")));
+		slowQueryRegistry.afterQuery(executionInfo(executeUpdate, 5, 3), List.of(new QueryInfo("update c")));
+		slowQueryRegistry.afterQuery(executionInfo(executeUpdate, 20, 4), List.of(new QueryInfo("update d")));
+		slowQueryRegistry.afterQuery(executionInfo(executeUpdate, 1, 5), List.of(new QueryInfo("update b")));
+
+		assertThat(slowQueryRegistry.getSlowQueries())
+			.extracting(SlowQuery::sql, SlowQuery::count, SlowQuery::rowCount)
+			.containsExactly(
+				tuple("update b", 2L, 5L),
+				tuple("update d", 1L, 4L));
+
+		assertThat(slowQueryRegistry.getSlowQueries()).allSatisfy(slowQuery -> assertThat(slowQuery.repositoryMethod()).isNull());
+
+		slowQueryRegistry.reset();
+		assertThat(slowQueryRegistry.getSlowQueries()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("lambdaMethodName() should return the name of the method that declared the lambda")
+	void lambdaMethodName() {
+		assertThat(QueryOrigin.lambdaMethodName("lambda$hasPreferredCityCodeIn$3")).isEqualTo("hasPreferredCityCodeIn");
+		assertThat(QueryOrigin.lambdaMethodName("toPredicate")).isEqualTo("toPredicate");
+	}
+
+	static ExecutionInfo executionInfo(Method method, long elapsedMillis, Object result) {
+		final var executionInfo = new ExecutionInfo();
+		executionInfo.setMethod(method);
+		executionInfo.setElapsedTime(elapsedMillis);
+		executionInfo.setResult(result);
+		return executionInfo;
+	}
+
+}
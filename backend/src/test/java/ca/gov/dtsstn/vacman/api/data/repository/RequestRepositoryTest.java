@@ -43,6 +43,7 @@ import ca.gov.dtsstn.vacman.api.data.entity.RequestEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.RequestStatusEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.UserEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.WorkUnitEntity;
+import jakarta.persistence.EntityManager;
 
 @DataJpaTest
 @ActiveProfiles("test")
@@ -51,6 +52,12 @@ import ca.gov.dtsstn.vacman.api.data.entity.WorkUnitEntity;
 @AutoConfigureTestDatabase(replace = Replace.NONE)
 class RequestRepositoryTest {
 
+	@Autowired
+	CityRepository cityRepository;
+
+	@Autowired
+	EntityManager entityManager;
+
 	@Autowired
 	LanguageRepository languageRepository;
 
@@ -1234,4 +1241,61 @@ class RequestRepositoryTest {
 
 	}
 
+	@Nested
+	@DisplayName("Join Table Tests")
+	class JoinTableTests {
+
+		@Test
+		@DisplayName("setCities should only add and remove the cities that changed")
+		void testSetCitiesOnlyAppliesDifference() {
+			final var request = requestRepository.saveAndFlush(
+				RequestEntity.builder()
+					.submitter(submitter)
+					.requestStatus(statusDraft)
+					.cities(List.of(cityRepository.getReferenceById(1L), cityRepository.getReferenceById(2L)))
+					.build());
+
+			final var retainedJoinId = findCityJoinIds(request.getId(), 2L);
+
+			entityManager.clear();
+
+			// references (ie: proxies) must match the already-loaded cities by id
+			final var reloadedRequest = requestRepository.findById(request.getId()).orElseThrow();
+			reloadedRequest.setCities(List.of(cityRepository.getReferenceById(2L), cityRepository.getReferenceById(3L)));
+			requestRepository.saveAndFlush(reloadedRequest);
+
+			assertThat(findCityJoinIds(request.getId(), 1L)).isEmpty();
+			assertThat(findCityJoinIds(request.getId(), 2L)).isEqualTo(retainedJoinId);
+			assertThat(findCityJoinIds(request.getId(), 3L)).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("setCities should remove all cities when given null")
+		void testSetCitiesNull() {
+			final var request = requestRepository.saveAndFlush(
+				RequestEntity.builder()
+					.submitter(submitter)
+					.requestStatus(statusDraft)
+					.cities(List.of(cityRepository.getReferenceById(1L)))
+					.build());
+
+			entityManager.clear();
+
+			final var reloadedRequest = requestRepository.findById(request.getId()).orElseThrow();
+			reloadedRequest.setCities(null);
+			requestRepository.saveAndFlush(reloadedRequest);
+
+			assertThat(findCityJoinIds(request.getId(), 1L)).isEmpty();
+			assertThat(reloadedRequest.getCities()).isEmpty();
+		}
+
+		List<Long> findCityJoinIds(Long requestId, Long cityId) {
+			return entityManager.createQuery("select rc.id from RequestCity rc where rc.request.id = :requestId and rc.city.id = :cityId", Long.class)
+				.setParameter("requestId", requestId)
+				.setParameter("cityId", cityId)
+				.getResultList();
+		}
+
+	}
+
 }
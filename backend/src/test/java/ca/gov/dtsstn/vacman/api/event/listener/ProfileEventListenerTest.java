@@ -663,18 +663,9 @@ class ProfileEventListenerTest {
 
 			profileEventListener.handleProfileStatusChange(new ProfileStatusChangeEvent(profile, 1L, 2L));
 
-			// Verify notification sent to profile owner emails
+			// Verify a single notification sent to profile owner emails and HR advisor
 			verify(notificationService).sendProfileNotification(
-				eq(List.of("sarah.connor@example.com", "sarah.personal@example.com")),
-				eq("1313"),
-				eq("Sarah Connor"),
-				eq("EN"),
-				eq(ProfileStatus.ARCHIVED)
-			);
-
-			// Verify notification sent to HR advisor
-			verify(notificationService).sendProfileNotification(
-				eq("hradvisor@example.com"),
+				eq(List.of("sarah.connor@example.com", "sarah.personal@example.com", "hradvisor@example.com")),
 				eq("1313"),
 				eq("Sarah Connor"),
 				eq("EN"),
@@ -713,18 +704,9 @@ class ProfileEventListenerTest {
 
 			profileEventListener.handleProfileStatusChange(new ProfileStatusChangeEvent(profile, 1L, 2L));
 
-			// Verify notification sent to profile owner email
+			// Verify a single notification sent to profile owner email and HR advisor
 			verify(notificationService).sendProfileNotification(
-				eq(List.of("john.connor@example.com")),
-				eq("1414"),
-				eq("John Connor"),
-				eq("FR"),
-				eq(ProfileStatus.ARCHIVED)
-			);
-
-			// Verify notification sent to HR advisor
-			verify(notificationService).sendProfileNotification(
-				eq("hradvisor@example.com"),
+				eq(List.of("john.connor@example.com", "hradvisor@example.com")),
 				eq("1414"),
 				eq("John Connor"),
 				eq("FR"),
@@ -733,8 +715,8 @@ class ProfileEventListenerTest {
 		}
 
 		@Test
-		@DisplayName("Should not send archived notification to profile owner when no emails are available")
-		void shouldNotSendArchivedNotificationToOwnerWhenNoEmailsAvailable() throws Exception {
+		@DisplayName("Should send archived notification to HR advisor only when no owner emails are available")
+		void shouldSendArchivedNotificationToHrAdvisorOnlyWhenNoOwnerEmailsAvailable() throws Exception {
 			final var profile = ProfileEventDtoBuilder.builder()
 				.id(1515L)
 				.userFirstName("Kyle")
@@ -763,18 +745,9 @@ class ProfileEventListenerTest {
 
 			profileEventListener.handleProfileStatusChange(new ProfileStatusChangeEvent(profile, 1L, 2L));
 
-			// Verify no notification sent to profile owner (empty list)
-			verify(notificationService, never()).sendProfileNotification(
-				eq(List.of()),
-				any(String.class),
-				any(String.class),
-				any(String.class),
-				eq(ProfileStatus.ARCHIVED)
-			);
-
-			// But still verify notification sent to HR advisor
+			// Verify notification sent to HR advisor only
 			verify(notificationService).sendProfileNotification(
-				eq("hradvisor@example.com"),
+				eq(List.of("hradvisor@example.com")),
 				eq("1515"),
 				eq("Kyle Reese"),
 				eq("EN"),
@@ -822,9 +795,9 @@ class ProfileEventListenerTest {
 				eq(ProfileStatus.ARCHIVED)
 			);
 
-			// Verify no notification sent to HR advisor with null email (single string overload)
+			// Verify no notification sent through the single recipient overload
 			verify(notificationService, never()).sendProfileNotification(
-				eq((String) null),
+				any(String.class),
 				any(String.class),
 				any(String.class),
 				any(String.class),
@@ -865,15 +838,7 @@ class ProfileEventListenerTest {
 
 			// Verify notification sent with "Unknown User" as the name
 			verify(notificationService).sendProfileNotification(
-				eq(List.of("unknown@example.com")),
-				eq("1717"),
-				eq("Unknown User"),
-				eq("EN"),
-				eq(ProfileStatus.ARCHIVED)
-			);
-
-			verify(notificationService).sendProfileNotification(
-				eq("hradvisor@example.com"),
+				eq(List.of("unknown@example.com", "hradvisor@example.com")),
 				eq("1717"),
 				eq("Unknown User"),
 				eq("EN"),
@@ -3,6 +3,7 @@ package ca.gov.dtsstn.vacman.api.event.listener;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.never;
@@ -36,6 +37,9 @@ import ca.gov.dtsstn.vacman.api.data.entity.UserEntity;
 import ca.gov.dtsstn.vacman.api.data.repository.EventRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.MatchRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.RequestRepository;
+import ca.gov.dtsstn.vacman.api.event.MatchStatusChangeEvent;
+import ca.gov.dtsstn.vacman.api.event.MatchesBulkUpdatedEvent;
+import ca.gov.dtsstn.vacman.api.event.MatchesBulkUpdatedEvent.StatusChange;
 import ca.gov.dtsstn.vacman.api.event.RequestCreatedEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestFeedbackCompletedEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestFeedbackPendingEvent;
@@ -150,10 +154,13 @@ class RequestEventListenerTest {
 
 			requestEventListener.sendRequestFeedbackPendingNotification(new RequestFeedbackPendingEvent(request));
 
-			verify(notificationService).sendRequestNotification(eq("submitter@example.com"), eq(789L), eq("Feedback Pending Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
-			verify(notificationService).sendRequestNotification(eq("hiringmanager@example.com"), eq(789L), eq("Feedback Pending Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
-			verify(notificationService).sendRequestNotification(eq("hrdelegate@example.com"), eq(789L), eq("Feedback Pending Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
-			verify(notificationService).sendRequestNotification(eq("hr-inbox@example.com"), eq(789L), eq("Feedback Pending Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
+			verify(notificationService).sendRequestNotification(
+				eq(List.of("submitter@example.com", "hiringmanager@example.com", "hrdelegate@example.com", "hr-inbox@example.com")),
+				eq(789L),
+				eq("Feedback Pending Request"),
+				eq(RequestEvent.FEEDBACK_PENDING),
+				any()
+			);
 		}
 
 		@Test
@@ -170,7 +177,8 @@ class RequestEventListenerTest {
 
 			requestEventListener.sendRequestFeedbackPendingNotification(new RequestFeedbackPendingEvent(request));
 
-			verify(notificationService, times(7)).sendRequestNotification(any(String.class), eq(999L), eq("Multi Email Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
+			verify(notificationService).sendRequestNotification(argThat((List<String> emails) -> emails.size() == 7), eq(999L), eq("Multi Email Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
+			verify(notificationService, never()).sendRequestNotification(anyString(), any(), any(), any(), any());
 		}
 
 		@Test
@@ -187,9 +195,13 @@ class RequestEventListenerTest {
 
 			requestEventListener.sendRequestFeedbackPendingNotification(new RequestFeedbackPendingEvent(request));
 
-			verify(notificationService).sendRequestNotification(eq("hiringmanager@example.com"), eq(555L), eq("No Submitter Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
-			verify(notificationService).sendRequestNotification(eq("hrdelegate@example.com"), eq(555L), eq("No Submitter Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
-			verify(notificationService).sendRequestNotification(eq("hr-inbox@example.com"), eq(555L), eq("No Submitter Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
+			verify(notificationService).sendRequestNotification(
+				eq(List.of("hiringmanager@example.com", "hrdelegate@example.com", "hr-inbox@example.com")),
+				eq(555L),
+				eq("No Submitter Request"),
+				eq(RequestEvent.FEEDBACK_PENDING),
+				any()
+			);
 		}
 
 		@Test
@@ -207,7 +219,7 @@ class RequestEventListenerTest {
 			requestEventListener.sendRequestFeedbackPendingNotification(new RequestFeedbackPendingEvent(request));
 
 			verify(notificationService).sendRequestNotification(
-				eq("hr-inbox@example.com"),
+				eq(List.of("hr-inbox@example.com")),
 				eq(222L),
 				eq("No Emails Request"),
 				eq(RequestEvent.FEEDBACK_PENDING),
@@ -229,7 +241,7 @@ class RequestEventListenerTest {
 
 			requestEventListener.sendRequestFeedbackPendingNotification(new RequestFeedbackPendingEvent(request));
 
-			verify(notificationService, times(4)).sendRequestNotification(any(String.class), eq(333L), eq("Personal Email Only Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
+			verify(notificationService).sendRequestNotification(argThat((List<String> emails) -> emails.size() == 4), eq(333L), eq("Personal Email Only Request"), eq(RequestEvent.FEEDBACK_PENDING), any());
 		}
 
 	}
@@ -285,15 +297,7 @@ class RequestEventListenerTest {
 			requestEventListener.handleRequestHrAdvisorUpdated(new RequestHrAdvisorUpdatedEvent(request, 111L, 222L));
 
 			verify(notificationService).sendRequestNotification(
-				eq("hr-inbox@example.com"),
-				eq(321L),
-				eq("Advisor Assigned"),
-				eq(RequestEvent.HR_REVIEW),
-				eq("en")
-			);
-
-			verify(notificationService).sendRequestNotification(
-				eq("advisor@example.com"),
+				eq(List.of("hr-inbox@example.com", "advisor@example.com")),
 				eq(321L),
 				eq("Advisor Assigned"),
 				eq(RequestEvent.HR_REVIEW),
@@ -313,15 +317,7 @@ class RequestEventListenerTest {
 			requestEventListener.handleRequestHrAdvisorUpdated(new RequestHrAdvisorUpdatedEvent(request, 333L, null));
 
 			verify(notificationService).sendRequestNotification(
-				eq("hr-inbox@example.com"),
-				eq(654L),
-				eq("Advisor Removed"),
-				eq(RequestEvent.HR_REVIEW),
-				eq("en")
-			);
-
-			verify(notificationService, times(1)).sendRequestNotification(
-				anyString(),
+				eq(List.of("hr-inbox@example.com")),
 				eq(654L),
 				eq("Advisor Removed"),
 				eq(RequestEvent.HR_REVIEW),
@@ -360,7 +356,7 @@ class RequestEventListenerTest {
 
 			// Assert
 			verify(notificationService).sendRequestNotification(
-				eq(hrInboxEmail),
+				eq(List.of(hrInboxEmail)),
 				eq(1L),
 				eq("Test Request"),
 				eq(RequestEvent.COMPLETED_NO_VMS),
@@ -399,12 +395,13 @@ class RequestEventListenerTest {
 			requestEventListener.handleRequestStatusChange(event);
 
 			// Assert
-			verify(notificationService).sendRequestNotification(eq("additional@example.com"), eq(1L), eq("Test Request"), eq(RequestEvent.CANCELLED), eq("en"));
-			verify(notificationService).sendRequestNotification(eq("submitter@example.com"), eq(1L), eq("Test Request"), eq(RequestEvent.CANCELLED), eq("en"));
-			verify(notificationService).sendRequestNotification(eq("manager@example.com"), eq(1L), eq("Test Request"), eq(RequestEvent.CANCELLED), eq("en"));
-			verify(notificationService).sendRequestNotification(eq("delegate@example.com"), eq(1L), eq("Test Request"), eq(RequestEvent.CANCELLED), eq("en"));
-			verify(notificationService).sendRequestNotification(eq("advisor@example.com"), eq(1L), eq("Test Request"), eq(RequestEvent.CANCELLED), eq("en"));
-			verify(notificationService).sendRequestNotification(eq(hrInboxEmail), eq(1L), eq("Test Request"), eq(RequestEvent.CANCELLED), eq("en"));
+			verify(notificationService).sendRequestNotification(
+				eq(List.of("additional@example.com", "submitter@example.com", "manager@example.com", "delegate@example.com", "advisor@example.com", hrInboxEmail)),
+				eq(1L),
+				eq("Test Request"),
+				eq(RequestEvent.CANCELLED),
+				eq("en")
+			);
 		}
 
 		@Test
@@ -433,12 +430,15 @@ class RequestEventListenerTest {
 			requestEventListener.handleRequestStatusChange(event);
 
 			// Assert
-			verify(notificationService).sendRequestNotification(eq("additional@example.com"), eq(1L), eq("Test Request"), eq(RequestEvent.PSC_NOT_REQUIRED), eq("en"), eq("PRI-123"), eq("PSC-123"));
-			verify(notificationService).sendRequestNotification(eq("submitter@example.com"), eq(1L), eq("Test Request"), eq(RequestEvent.PSC_NOT_REQUIRED), eq("en"), eq("PRI-123"), eq("PSC-123"));
-			verify(notificationService).sendRequestNotification(eq("manager@example.com"), eq(1L), eq("Test Request"), eq(RequestEvent.PSC_NOT_REQUIRED), eq("en"), eq("PRI-123"), eq("PSC-123"));
-			verify(notificationService).sendRequestNotification(eq("delegate@example.com"), eq(1L), eq("Test Request"), eq(RequestEvent.PSC_NOT_REQUIRED), eq("en"), eq("PRI-123"), eq("PSC-123"));
-			verify(notificationService).sendRequestNotification(eq("advisor@example.com"), eq(1L), eq("Test Request"), eq(RequestEvent.PSC_NOT_REQUIRED), eq("en"), eq("PRI-123"), eq("PSC-123"));
-			verify(notificationService).sendRequestNotification(eq(hrInboxEmail), eq(1L), eq("Test Request"), eq(RequestEvent.PSC_NOT_REQUIRED), eq("en"), eq("PRI-123"), eq("PSC-123"));
+			verify(notificationService).sendRequestNotification(
+				eq(List.of("additional@example.com", "submitter@example.com", "manager@example.com", "delegate@example.com", "advisor@example.com", hrInboxEmail)),
+				eq(1L),
+				eq("Test Request"),
+				eq(RequestEvent.PSC_NOT_REQUIRED),
+				eq("en"),
+				eq("PRI-123"),
+				eq("PSC-123")
+			);
 		}
 	}
 
@@ -1080,4 +1080,77 @@ class RequestEventListenerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("match event notifications")
+	class MatchEventNotifications {
+
+		MatchEntity createApprovedMatch(Long id, String personalEmailAddress) {
+			return MatchEntity.builder()
+				.id(id)
+				.profile(ProfileEntity.builder()
+					.id(id)
+					.personalEmailAddress(personalEmailAddress)
+					.build())
+				.request(RequestEntity.builder()
+					.id(100L)
+					.nameEn("Test Position")
+					.nameFr("Poste de test")
+					.build())
+				.build();
+		}
+
+		@Test
+		@DisplayName("sendMatchStatusChangeNotification() should notify the profile owner when a match is approved")
+		void sendMatchStatusChangeNotificationWhenApproved() {
+			final var match = createApprovedMatch(1L, "profile@personal.com");
+
+			requestEventListener.sendMatchStatusChangeNotification(new MatchStatusChangeEvent(match, "MATCH_PENDING", "APPROVED"));
+
+			verify(notificationService).sendJobOpportunityHRNotification(
+				eq(List.of("profile@personal.com")),
+				any(EmailTemplateModel.JobOpportunityHR.class),
+				eq("en"));
+		}
+
+		@Test
+		@DisplayName("sendMatchStatusChangeNotification() should not notify for other status changes")
+		void sendMatchStatusChangeNotificationWhenNotApproved() {
+			final var match = createApprovedMatch(1L, "profile@personal.com");
+
+			requestEventListener.sendMatchStatusChangeNotification(new MatchStatusChangeEvent(match, "APPROVED", "MATCH_PENDING"));
+
+			verify(notificationService, never()).sendJobOpportunityHRNotification(anyList(), any(), anyString());
+		}
+
+		@Test
+		@DisplayName("sendMatchesBulkUpdatedNotifications() should only notify the owners of approved matches")
+		void sendMatchesBulkUpdatedNotifications() {
+			final var approvedMatch = createApprovedMatch(1L, "approved@personal.com");
+			final var otherMatch = createApprovedMatch(2L, "other@personal.com");
+
+			requestEventListener.sendMatchesBulkUpdatedNotifications(new MatchesBulkUpdatedEvent(100L, List.of(approvedMatch, otherMatch), List.of(
+				new StatusChange(1L, "MATCH_PENDING", "APPROVED"),
+				new StatusChange(2L, "IN_PROGRESS", "MATCH_PENDING"))));
+
+			verify(notificationService).sendJobOpportunityHRNotification(
+				eq(List.of("approved@personal.com")),
+				any(EmailTemplateModel.JobOpportunityHR.class),
+				eq("en"));
+			verify(notificationService, times(1)).sendJobOpportunityHRNotification(anyList(), any(), anyString());
+		}
+
+		@Test
+		@DisplayName("handleMatchesBulkUpdated() should save the event without sending notifications")
+		void handleMatchesBulkUpdatedOnlySavesEvent() {
+			final var approvedMatch = createApprovedMatch(1L, "approved@personal.com");
+
+			requestEventListener.handleMatchesBulkUpdated(new MatchesBulkUpdatedEvent(100L, List.of(approvedMatch), List.of(
+				new StatusChange(1L, "MATCH_PENDING", "APPROVED"))));
+
+			verify(eventRepository).save(any(EventEntity.class));
+			verify(notificationService, never()).sendJobOpportunityHRNotification(anyList(), any(), anyString());
+		}
+
+	}
+
 }
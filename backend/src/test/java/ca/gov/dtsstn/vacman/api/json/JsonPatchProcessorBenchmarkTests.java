@@ -0,0 +1,149 @@
+package ca.gov.dtsstn.vacman.api.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.io.StringReader;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.gov.dtsstn.vacman.api.web.model.UserPatchModel;
+import jakarta.json.Json;
+import jakarta.json.JsonMergePatch;
+import jakarta.json.JsonPatch;
+import jakarta.validation.Validator;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * A rough benchmark of {@link JsonPatchProcessor} against its previous implementation, which serialized the
+ * target to a string, parsed it with Johnzon, applied the patch, and then serialized and parsed the result again.
+ * <p>
+ * This is not a rigorous (ie: JMH) benchmark, but the difference is large enough that it doesn't need to be.
+ * It is disabled by default; run it with {@code mvn test -Dtest=JsonPatchProcessorBenchmarkTests -Dbenchmark=true}.
+ */
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class JsonPatchProcessorBenchmarkTests {
+
+	static final Logger log = LoggerFactory.getLogger(JsonPatchProcessorBenchmarkTests.class);
+
+	static final int WARMUP_ITERATIONS = 20_000;
+
+	static final int MEASURED_ITERATIONS = 100_000;
+
+	record Item(Long id, String code, String nameEn, String nameFr, List<String> tags) {}
+
+	record Document(Long id, String title, String description, List<Item> items) {}
+
+	// validation is the same for both implementations, so it is left out of the measurements
+	final JsonPatchProcessor jsonPatchProcessor = new JsonPatchProcessor(mock(Validator.class));
+
+	final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+	final UserPatchModel userPatchModel = UserPatchModel.builder()
+		.firstName("John")
+		.middleName("A")
+		.lastName("Doe")
+		.initials("JAD")
+		.personalRecordIdentifier("12345")
+		.businessPhone("555-123-4567")
+		.businessEmail("john.doe@example.com")
+		.languageId(1L)
+		.build();
+
+	final Document largeDocument = new Document(1L, "title", "description".repeat(20), IntStream.range(0, 250)
+		.mapToObj(i -> new Item((long) i, "CODE-" + i, "English name " + i, "Nom français " + i, List.of("one", "two", "three")))
+		.toList());
+
+	@Test
+	void benchmarkUserPatchModel() {
+		final var jsonPatch = readJsonPatch("[{ 'op': 'replace', 'path': '/firstName', 'value': 'Jane' }, { 'op': 'remove', 'path': '/middleName' }]");
+		final var jsonMergePatch = readJsonMergePatch("{ 'firstName': 'Jane', 'middleName': null }");
+
+		assertThat(jsonPatchProcessor.patch(userPatchModel, jsonPatch)).isEqualTo(legacyPatch(userPatchModel, jsonPatch));
+		assertThat(jsonPatchProcessor.patch(userPatchModel, jsonMergePatch)).isEqualTo(legacyPatch(userPatchModel, jsonMergePatch));
+
+		benchmark("UserPatchModel / JSON Patch", () -> legacyPatch(userPatchModel, jsonPatch), () -> jsonPatchProcessor.patch(userPatchModel, jsonPatch));
+		benchmark("UserPatchModel / JSON Merge Patch", () -> legacyPatch(userPatchModel, jsonMergePatch), () -> jsonPatchProcessor.patch(userPatchModel, jsonMergePatch));
+	}
+
+	@Test
+	void benchmarkLargeDocument() {
+		final var jsonPatch = readJsonPatch("[{ 'op': 'replace', 'path': '/title', 'value': 'updated' }, { 'op': 'remove', 'path': '/items/100' }, { 'op': 'add', 'path': '/items/0/tags/-', 'value': 'four' }]");
+		final var jsonMergePatch = readJsonMergePatch("{ 'title': 'updated', 'description': null }");
+
+		assertThat(jsonPatchProcessor.patch(largeDocument, jsonPatch)).isEqualTo(legacyPatch(largeDocument, jsonPatch));
+		assertThat(jsonPatchProcessor.patch(largeDocument, jsonMergePatch)).isEqualTo(legacyPatch(largeDocument, jsonMergePatch));
+
+		// the large document is ~100 times bigger, so it gets ~100 times fewer iterations
+		benchmark("Large document / JSON Patch", 100, () -> legacyPatch(largeDocument, jsonPatch), () -> jsonPatchProcessor.patch(largeDocument, jsonPatch));
+		benchmark("Large document / JSON Merge Patch", 100, () -> legacyPatch(largeDocument, jsonMergePatch), () -> jsonPatchProcessor.patch(largeDocument, jsonMergePatch));
+	}
+
+	void benchmark(String name, Supplier<?> legacy, Supplier<?> current) {
+		benchmark(name, 1, legacy, current);
+	}
+
+	void benchmark(String name, int divisor, Supplier<?> legacy, Supplier<?> current) {
+		final var legacyNanos = measure(WARMUP_ITERATIONS / divisor, MEASURED_ITERATIONS / divisor, legacy);
+		final var currentNanos = measure(WARMUP_ITERATIONS / divisor, MEASURED_ITERATIONS / divisor, current);
+
+		log.info("{}: string round trip: {} ns/op; tree: {} ns/op ({}x)", name, legacyNanos, currentNanos, "%.1f".formatted((double) legacyNanos / currentNanos));
+		assertThat(currentNanos).isLessThan(legacyNanos);
+	}
+
+	long measure(int warmupIterations, int measuredIterations, Supplier<?> supplier) {
+		var blackhole = 0;
+
+		for (var i = 0; i < warmupIterations; i++) { blackhole += supplier.get().hashCode(); }
+
+		final var start = System.nanoTime();
+		for (var i = 0; i < measuredIterations; i++) { blackhole += supplier.get().hashCode(); }
+		final var elapsed = System.nanoTime() - start;
+
+		log.trace("blackhole: {}", blackhole);
+		return elapsed / measuredIterations;
+	}
+
+	/**
+	 * The previous implementation of {@link JsonPatchProcessor#patch(Object, JsonPatch)}, minus validation.
+	 */
+	<T> T legacyPatch(T object, JsonPatch jsonPatch) {
+		try (final var jsonReader = Json.createReader(new StringReader(objectMapper.writeValueAsString(object)))) {
+			return legacyReadValue(jsonPatch.apply(jsonReader.read()).toString(), object);
+		}
+	}
+
+	/**
+	 * The previous implementation of {@link JsonPatchProcessor#patch(Object, JsonMergePatch)}, minus validation.
+	 */
+	<T> T legacyPatch(T object, JsonMergePatch jsonMergePatch) {
+		try (final var jsonReader = Json.createReader(new StringReader(objectMapper.writeValueAsString(object)))) {
+			return legacyReadValue(jsonMergePatch.apply(jsonReader.read()).toString(), object);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked" })
+	<T> T legacyReadValue(String json, T object) {
+		return (T) objectMapper.readValue(json, object.getClass());
+	}
+
+	JsonPatch readJsonPatch(String json) {
+		try (final var jsonReader = Json.createReader(new StringReader(json.replace('\'', '"')))) {
+			return Json.createPatch(jsonReader.readArray());
+		}
+	}
+
+	JsonMergePatch readJsonMergePatch(String json) {
+		try (final var jsonReader = Json.createReader(new StringReader(json.replace('\'', '"')))) {
+			return Json.createMergePatch(jsonReader.readValue());
+		}
+	}
+
+}
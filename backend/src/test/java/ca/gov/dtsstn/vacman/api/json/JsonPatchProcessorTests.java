@@ -54,6 +54,22 @@ class JsonPatchProcessorTests {
 			.withMessage("name: must not be blank");
 	}
 
+	@Test
+	void testGetPatchedFields() {
+		final var patchObject = Json.createObjectBuilder().add("name", "updated name").addNull("id").build();
+		final var jsonMergePatch = Json.createMergePatch(patchObject);
+
+		assertThat(jsonPatchProcessor.getPatchedFields(jsonMergePatch))
+			.containsExactlyInAnyOrder("id", "name");
+	}
+
+	@Test
+	void testGetPatchedFields_nonObjectPatch_returnsEmptySet() {
+		final var jsonMergePatch = Json.createMergePatch(Json.createValue("not an object"));
+
+		assertThat(jsonPatchProcessor.getPatchedFields(jsonMergePatch)).isEmpty();
+	}
+
 	@Test
 	void testPatchJsonPatch() {
 		final var entity = new MyEntity("id", "name");
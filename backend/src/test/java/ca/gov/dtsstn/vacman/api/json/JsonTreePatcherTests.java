@@ -0,0 +1,164 @@
+package ca.gov.dtsstn.vacman.api.json;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.io.StringReader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArray;
+import jakarta.json.JsonValue;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Tests for {@link JsonTreePatcher}.
+ * <p>
+ * Where possible, results are compared against Johnzon's implementation of the same patch, which is what
+ * the {@link JsonPatchProcessor} used before it switched to patching Jackson trees directly.
+ */
+class JsonTreePatcherTests {
+
+	static final String DOCUMENT = """
+		{ "id": 1, "name": "name", "a/b": "slash", "m~n": "tilde", "tags": [ "one", "two" ], "nested": { "x": 1, "y": [ 1, 2 ] } }
+		""";
+
+	final ObjectMapper objectMapper = JsonMapper.builder().build();
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+		"[{ 'op': 'add', 'path': '/description', 'value': 'new' }]",
+		"[{ 'op': 'add', 'path': '/tags/0', 'value': 'zero' }]",
+		"[{ 'op': 'add', 'path': '/tags/-', 'value': 'three' }]",
+		"[{ 'op': 'add', 'path': '/nested/z', 'value': { 'deep': [ true, false, null ] } }]",
+		"[{ 'op': 'remove', 'path': '/name' }]",
+		"[{ 'op': 'remove', 'path': '/tags/1' }]",
+		"[{ 'op': 'remove', 'path': '/a~1b' }]",
+		"[{ 'op': 'replace', 'path': '/m~0n', 'value': 'replaced' }]",
+		"[{ 'op': 'replace', 'path': '/nested/y/1', 'value': 'two' }]",
+		"[{ 'op': 'replace', 'path': '/id', 'value': 12345678901234 }]",
+		"[{ 'op': 'move', 'from': '/name', 'path': '/title' }]",
+		"[{ 'op': 'move', 'from': '/tags/0', 'path': '/tags/-' }]",
+		"[{ 'op': 'copy', 'from': '/nested', 'path': '/copy' }, { 'op': 'replace', 'path': '/copy/x', 'value': 2 }]",
+		"[{ 'op': 'test', 'path': '/nested', 'value': { 'y': [ 1, 2 ], 'x': 1 } }, { 'op': 'remove', 'path': '/nested/x' }]",
+	})
+	void testApplyPatchMatchesJohnzon(String patch) {
+		final var operations = readJsonArray(patch);
+
+		final var expected = objectMapper.readTree(Json.createPatch(operations).apply(readJsonValue(DOCUMENT).asJsonObject()).toString());
+		final var actual = JsonTreePatcher.applyPatch(objectMapper.readTree(DOCUMENT), operations);
+
+		assertThat(actual).isEqualTo(expected);
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+		"[{ 'op': 'add', 'path': '/missing/child', 'value': 1 }]",
+		"[{ 'op': 'add', 'path': '/tags/3', 'value': 'three' }]",
+		"[{ 'op': 'add', 'path': '/tags/01', 'value': 'one' }]",
+		"[{ 'op': 'add', 'path': 'name', 'value': 'no slash' }]",
+		"[{ 'op': 'add', 'path': '/name' }]",
+		"[{ 'op': 'remove', 'path': '/missing' }]",
+		"[{ 'op': 'remove', 'path': '/tags/2' }]",
+		"[{ 'op': 'replace', 'path': '/missing', 'value': 1 }]",
+		"[{ 'op': 'move', 'from': '/nested', 'path': '/nested/moved' }]",
+		"[{ 'op': 'test', 'path': '/name', 'value': 'other' }]",
+		"[{ 'op': 'unknown', 'path': '/name' }]",
+		"[{ 'path': '/name' }]",
+	})
+	void testApplyPatch_invalidPatch_throws(String patch) {
+		final var operations = readJsonArray(patch);
+		final var document = objectMapper.readTree(DOCUMENT);
+
+		assertThatExceptionOfType(JsonPatchException.class)
+			.isThrownBy(() -> JsonTreePatcher.applyPatch(document, operations));
+	}
+
+	@Test
+	void testApplyPatch_modifiesTargetInPlace() {
+		final var document = objectMapper.readTree(DOCUMENT);
+		final var patched = JsonTreePatcher.applyPatch(document, readJsonArray("[{ 'op': 'replace', 'path': '/name', 'value': 'updated' }]"));
+
+		assertThat(patched).isSameAs(document);
+		assertThat(patched.get("name")).isEqualTo(objectMapper.readTree("\"updated\""));
+	}
+
+	@Test
+	void testApplyPatch_replaceWholeDocument() {
+		final var patched = JsonTreePatcher.applyPatch(objectMapper.readTree(DOCUMENT), readJsonArray("[{ 'op': 'replace', 'path': '', 'value': { 'replaced': true } }]"));
+
+		assertThat(patched).isEqualTo(objectMapper.readTree("{ \"replaced\": true }"));
+	}
+
+	@Test
+	void testApplyPatch_testComparesNumbersNumerically() {
+		final var patched = JsonTreePatcher.applyPatch(objectMapper.readTree(DOCUMENT), readJsonArray("[{ 'op': 'test', 'path': '/nested/y', 'value': [ 1.0, 2.00 ] }]"));
+
+		assertThat(patched).isEqualTo(objectMapper.readTree(DOCUMENT));
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', quoteCharacter = '"', value = {
+		"{ 'name': 'updated' }",
+		"{ 'name': null, 'nested': { 'x': null, 'z': 'new' } }",
+		"{ 'tags': [ 'replaced' ], 'id': 2 }",
+		"{ 'nested': 'no longer an object' }",
+		"[ 'not', 'an', 'object' ]",
+	})
+	void testApplyMergePatchMatchesJohnzon(String mergePatch) {
+		final var mergePatchValue = readJsonValue(mergePatch);
+
+		final var expected = objectMapper.readTree(Json.createMergePatch(mergePatchValue).apply(readJsonValue(DOCUMENT)).toString());
+		final var actual = JsonTreePatcher.applyMergePatch(objectMapper.readTree(DOCUMENT), mergePatchValue);
+
+		assertThat(actual).isEqualTo(expected);
+	}
+
+	/**
+	 * Johnzon keeps the {@code null} members of objects that are added by a merge patch, but RFC 7396 removes them
+	 * (the merge patch is applied recursively to an empty object), so this case is not compared against Johnzon.
+	 */
+	@Test
+	void testApplyMergePatch_removesNullsFromAddedObjects() {
+		final var patched = JsonTreePatcher.applyMergePatch(objectMapper.readTree(DOCUMENT), readJsonValue("{ 'new': { 'deep': { 'deeper': null, 'value': true } } }"));
+
+		assertThat(patched.get("new")).isEqualTo(objectMapper.readTree("{ \"deep\": { \"value\": true } }"));
+	}
+
+	@Test
+	void testToJsonNode() {
+		final JsonNode jsonNode = JsonTreePatcher.toJsonNode(readJsonValue("{ 'int': 1, 'long': 12345678901234, 'decimal': 1.25, 'string': 'string', 'array': [ true, false, null ] }"));
+
+		assertThat(jsonNode.get("int").isInt()).isTrue();
+		assertThat(jsonNode.get("long").isLong()).isTrue();
+		assertThat(jsonNode.get("decimal").decimalValue()).isEqualByComparingTo("1.25");
+		assertThat(jsonNode.get("string")).isEqualTo(objectMapper.readTree("\"string\""));
+		assertThat(jsonNode.get("array").size()).isEqualTo(3);
+	}
+
+	@Test
+	void testParsePointer() {
+		assertThat(JsonTreePatcher.parsePointer("")).isEmpty();
+		assertThat(JsonTreePatcher.parsePointer("/")).containsExactly("");
+		assertThat(JsonTreePatcher.parsePointer("/a~1b/m~0n/~01")).containsExactly("a/b", "m~n", "~1");
+	}
+
+	JsonArray readJsonArray(String json) {
+		return readJsonValue(json).asJsonArray();
+	}
+
+	/**
+	 * Reads JSON that uses single quotes (which are easier to read in annotations).
+	 */
+	JsonValue readJsonValue(String json) {
+		try (final var jsonReader = Json.createReader(new StringReader(json.replace('\'', '"')))) {
+			return jsonReader.readValue();
+		}
+	}
+
+}
@@ -0,0 +1,136 @@
+package ca.gov.dtsstn.vacman.api.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.gen.RSAKeyGenerator;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * A minimal, in-process stand-in for Entra ID that issues self-signed access tokens.
+ * Serves OpenID Connect discovery ({@code /.well-known/openid-configuration}), the signing keys
+ * ({@code /discovery/keys}) and a client credentials token endpoint ({@code /oauth2/token}), so that
+ * both the resource server and the MS Graph OAuth client can be pointed at it via their {@code issuer-uri}.
+ */
+public class EntraIdStubServer implements AutoCloseable {
+
+	private static final Duration TOKEN_LIFETIME = Duration.ofHours(1);
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	private final HttpServer httpServer;
+
+	private final RSAKey signingKey;
+
+	public EntraIdStubServer() {
+		try {
+			this.signingKey = new RSAKeyGenerator(2048).keyID(UUID.randomUUID().toString()).generate();
+			this.httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			this.httpServer.createContext("/.well-known/openid-configuration", exchange -> respond(exchange, openidConfiguration()));
+			this.httpServer.createContext("/discovery/keys", exchange -> respond(exchange, new JWKSet(signingKey.toPublicJWK()).toString()));
+			this.httpServer.createContext("/oauth2/token", exchange -> respond(exchange, tokenResponse()));
+			this.httpServer.start();
+		}
+		catch (final JOSEException exception) {
+			throw new IllegalStateException(exception);
+		}
+		catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * The issuer of all tokens, suitable for {@code spring.security.oauth2.*.issuer-uri}.
+	 */
+	public String getIssuer() {
+		return "http://localhost:%d".formatted(httpServer.getAddress().getPort());
+	}
+
+	/**
+	 * Issues a signed access token for the user with the given Entra ID object id.
+	 *
+	 * @param audience the client id of the API the token is for
+	 * @param objectId the user's Entra ID object id (ie: the {@code oid} claim)
+	 * @param roles the user's application roles (ie: the {@code roles} claim)
+	 */
+	public String issueAccessToken(String audience, String objectId, List<String> roles) {
+		final var now = Instant.now();
+
+		final var claims = new JWTClaimsSet.Builder()
+			.issuer(getIssuer())
+			.audience(audience)
+			.subject(objectId)
+			.claim("oid", objectId)
+			.claim("name", "Load Test " + objectId)
+			.claim("roles", roles)
+			.issueTime(Date.from(now))
+			.expirationTime(Date.from(now.plus(TOKEN_LIFETIME)))
+			.jwtID(UUID.randomUUID().toString())
+			.build();
+
+		try {
+			final var signedJwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(signingKey.getKeyID()).build(), claims);
+			signedJwt.sign(new RSASSASigner(signingKey));
+			return signedJwt.serialize();
+		}
+		catch (final JOSEException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	@Override
+	public void close() {
+		httpServer.stop(0);
+	}
+
+	private String openidConfiguration() {
+		return jsonMapper.writeValueAsString(Map.of(
+			"issuer", getIssuer(),
+			"authorization_endpoint", getIssuer() + "/oauth2/authorize",
+			"token_endpoint", getIssuer() + "/oauth2/token",
+			"jwks_uri", getIssuer() + "/discovery/keys",
+			"grant_types_supported", List.of("client_credentials"),
+			"response_types_supported", List.of("code"),
+			"subject_types_supported", List.of("public"),
+			"id_token_signing_alg_values_supported", List.of("RS256"),
+			"token_endpoint_auth_methods_supported", List.of("client_secret_basic", "client_secret_post")));
+	}
+
+	private String tokenResponse() {
+		return jsonMapper.writeValueAsString(Map.of(
+			"access_token", issueAccessToken("https://graph.microsoft.com", "load-test-client", List.of()),
+			"token_type", "Bearer",
+			"expires_in", TOKEN_LIFETIME.toSeconds()));
+	}
+
+	private void respond(HttpExchange exchange, String responseBody) throws IOException {
+		try (exchange) {
+			exchange.getRequestBody().readAllBytes();
+
+			final var response = responseBody.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(200, response.length);
+			exchange.getResponseBody().write(response);
+		}
+	}
+
+}
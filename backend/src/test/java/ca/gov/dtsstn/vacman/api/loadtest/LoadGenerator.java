@@ -0,0 +1,182 @@
+package ca.gov.dtsstn.vacman.api.loadtest;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * A closed-model load generator: a fixed number of virtual users each send one request at a time, back to back,
+ * for a fixed duration. Every request comes from a weighted mix of scenarios, and its latency (including reading
+ * the whole response body) is recorded per scenario, so that throughput and latency percentiles can be reported
+ * per endpoint.
+ */
+public class LoadGenerator {
+
+	/**
+	 * A kind of request sent by the virtual users.
+	 *
+	 * @param name the name of the scenario, as reported (ie: {@code GET /requests})
+	 * @param weight how often the scenario is picked, relative to the other scenarios
+	 * @param requestFactory creates the next request, or returns empty if the scenario has nothing left to do
+	 */
+	public record Scenario(String name, int weight, Function<Random, Optional<HttpRequest>> requestFactory) {}
+
+	/**
+	 * The measurements of a single scenario.
+	 */
+	public record ScenarioResult(String name, long count, long errors, double throughput, double p50, double p95, double p99, double max) {}
+
+	private static final double[] PERCENTILES = { 0.50, 0.95, 0.99 };
+
+	private final HttpClient httpClient = HttpClient.newBuilder()
+		.version(HttpClient.Version.HTTP_1_1)
+		.connectTimeout(Duration.ofSeconds(10))
+		.build();
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	private final List<Scenario> scenarios;
+
+	private final int totalWeight;
+
+	public LoadGenerator(List<Scenario> scenarios) {
+		this.scenarios = List.copyOf(scenarios);
+		this.totalWeight = scenarios.stream().mapToInt(Scenario::weight).sum();
+	}
+
+	/**
+	 * Runs the scenarios with {@code virtualUsers} concurrent users. Nothing is recorded during the warmup, which
+	 * gives the JIT compiler, the caches and the connection pools time to settle.
+	 *
+	 * @return the measurements of each scenario, in the order the scenarios were given
+	 */
+	public List<ScenarioResult> run(int virtualUsers, Duration warmup, Duration duration) throws InterruptedException {
+		final var timers = scenarios.stream()
+			.map(scenario -> Timer.builder("loadtest.requests")
+				.tag("scenario", scenario.name())
+				.publishPercentiles(PERCENTILES)
+				.percentilePrecision(2)
+				// keep every sample of the run in a single histogram
+				.distributionStatisticExpiry(warmup.plus(duration).multipliedBy(2))
+				.distributionStatisticBufferLength(1)
+				.register(meterRegistry))
+			.toList();
+
+		final var errorCounters = scenarios.stream()
+			.map(scenario -> Counter.builder("loadtest.errors").tag("scenario", scenario.name()).register(meterRegistry))
+			.toList();
+
+		final var measureFrom = System.nanoTime() + warmup.toNanos();
+		final var measureUntil = measureFrom + duration.toNanos();
+
+		try (final var executor = Executors.newFixedThreadPool(virtualUsers)) {
+			final var futures = new ArrayList<Future<?>>();
+
+			for (var virtualUser = 0; virtualUser < virtualUsers; virtualUser++) {
+				final var random = new Random(virtualUser);
+
+				futures.add(executor.submit(() -> {
+					while (System.nanoTime() < measureUntil) {
+						final var scenarioIndex = nextScenarioIndex(random);
+						final var request = scenarios.get(scenarioIndex).requestFactory().apply(random);
+						if (request.isEmpty()) { continue; }
+
+						final var startTime = System.nanoTime();
+						final var successful = send(request.get());
+						final var endTime = System.nanoTime();
+
+						if (startTime >= measureFrom && endTime <= measureUntil) {
+							timers.get(scenarioIndex).record(endTime - startTime, TimeUnit.NANOSECONDS);
+							if (!successful) { errorCounters.get(scenarioIndex).increment(); }
+						}
+					}
+
+					return null;
+				}));
+			}
+
+			for (final var future : futures) {
+				try {
+					future.get();
+				}
+				catch (final ExecutionException exception) {
+					throw new IllegalStateException("Virtual user failed", exception.getCause());
+				}
+			}
+		}
+
+		final var seconds = duration.toNanos() / 1e9;
+
+		return scenarios.stream().map(scenario -> {
+			final var index = scenarios.indexOf(scenario);
+			final var snapshot = timers.get(index).takeSnapshot();
+			final var percentiles = Arrays.stream(snapshot.percentileValues())
+				.mapToDouble(percentile -> percentile.value(TimeUnit.MILLISECONDS))
+				.toArray();
+
+			return new ScenarioResult(scenario.name(), snapshot.count(), (long) errorCounters.get(index).count(),
+				snapshot.count() / seconds, percentiles[0], percentiles[1], percentiles[2], snapshot.max(TimeUnit.MILLISECONDS));
+		}).toList();
+	}
+
+	/**
+	 * Formats the results as a plain-text table.
+	 */
+	public static String formatReport(List<ScenarioResult> results) {
+		final var report = new StringBuilder("%n%-40s %10s %8s %10s %10s %10s %10s %10s%n"
+			.formatted("scenario", "requests", "errors", "req/s", "p50 (ms)", "p95 (ms)", "p99 (ms)", "max (ms)"));
+
+		results.forEach(result -> report.append("%-40s %10d %8d %10.1f %10.1f %10.1f %10.1f %10.1f%n"
+			.formatted(result.name(), result.count(), result.errors(), result.throughput(), result.p50(), result.p95(), result.p99(), result.max())));
+
+		report.append("%-40s %10d %8d %10.1f%n".formatted("total",
+			results.stream().mapToLong(ScenarioResult::count).sum(),
+			results.stream().mapToLong(ScenarioResult::errors).sum(),
+			results.stream().mapToDouble(ScenarioResult::throughput).sum()));
+
+		return report.toString();
+	}
+
+	private int nextScenarioIndex(Random random) {
+		var value = random.nextInt(totalWeight);
+
+		for (var i = 0; i < scenarios.size(); i++) {
+			value -= scenarios.get(i).weight();
+			if (value < 0) { return i; }
+		}
+
+		throw new IllegalStateException("Scenario weights must be positive");
+	}
+
+	/**
+	 * Sends a request and reads the whole response.
+	 *
+	 * @return {@code true} if the response was a 2xx response
+	 */
+	private boolean send(HttpRequest request) throws InterruptedException {
+		try {
+			final var response = httpClient.send(request, BodyHandlers.discarding());
+			return response.statusCode() >= 200 && response.statusCode() < 300;
+		}
+		catch (final IOException exception) {
+			return false;
+		}
+	}
+
+}
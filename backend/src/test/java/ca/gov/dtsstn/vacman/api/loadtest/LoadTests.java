@@ -0,0 +1,201 @@
+package ca.gov.dtsstn.vacman.api.loadtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.SpringBootTest.WebEnvironment;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import ca.gov.dtsstn.vacman.api.loadtest.LoadGenerator.Scenario;
+import ca.gov.dtsstn.vacman.api.service.MSGraphStubServer;
+import ca.gov.dtsstn.vacman.api.service.dto.MSGraphUserBuilder;
+import ca.gov.dtsstn.vacman.api.service.notify.GcNotifyStubServer;
+import ca.gov.dtsstn.vacman.api.web.export.SpreadsheetMediaTypes;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Load tests that boot the whole application (on an in-memory H2 database filled by the scaled data seeder) and
+ * drive a realistic mix of HR advisor and hiring manager traffic at it over real HTTP.
+ * <p>
+ * Nothing leaves the JVM: access tokens are self-signed by a local Entra ID stand-in, and GC Notify and MS Graph
+ * are replaced by local stub servers. Throughput and latency percentiles are logged per endpoint.
+ * <p>
+ * The load tests are disabled by default; run them with {@code mvn test -Dtest=LoadTests -Dloadtest=true}. The size
+ * of the dataset and the load can be changed with the {@code loadtest.profiles}, {@code loadtest.requests},
+ * {@code loadtest.virtual-users}, {@code loadtest.warmup} and {@code loadtest.duration} system properties
+ * (ie: {@code -Dloadtest.profiles=500000 -Dloadtest.duration=PT5M}).
+ */
+@ActiveProfiles({ "test" })
+@DisplayName("Load tests")
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+@SpringBootTest(webEnvironment = WebEnvironment.RANDOM_PORT)
+class LoadTests {
+
+	static final Logger log = LoggerFactory.getLogger(LoadTests.class);
+
+	static final int PROFILES = Integer.getInteger("loadtest.profiles", 20_000);
+
+	static final int REQUESTS = Integer.getInteger("loadtest.requests", 1_000);
+
+	static final int VIRTUAL_USERS = Integer.getInteger("loadtest.virtual-users", 16);
+
+	static final Duration WARMUP = Duration.parse(System.getProperty("loadtest.warmup", "PT15S"));
+
+	static final Duration DURATION = Duration.parse(System.getProperty("loadtest.duration", "PT1M"));
+
+	static final String HR_ADVISOR_ID = "LOADTEST-HR-ADVISOR";
+
+	// the stub servers must be running before the application context is
+	// created, so they are started by the @DynamicPropertySource method
+	static EntraIdStubServer entraIdStubServer;
+
+	static GcNotifyStubServer gcNotifyStubServer;
+
+	static MSGraphStubServer msGraphStubServer;
+
+	@DynamicPropertySource
+	static void dynamicProperties(DynamicPropertyRegistry registry) {
+		entraIdStubServer = new EntraIdStubServer();
+		gcNotifyStubServer = new GcNotifyStubServer();
+		msGraphStubServer = new MSGraphStubServer().withUser(MSGraphUserBuilder.builder()
+			.id(HR_ADVISOR_ID)
+			.givenName("Load")
+			.surname("Test")
+			.mail("load.test@example.com")
+			.build());
+
+		// a database of its own, so that other test contexts in the same JVM are not affected
+		registry.add("spring.datasource.url", () -> "jdbc:h2:mem:loadtest;MODE=MSSQLServer;DATABASE_TO_UPPER=false;CASE_INSENSITIVE_IDENTIFIERS=true;DB_CLOSE_DELAY=-1;");
+		registry.add("spring.datasource.hikari.maximum-pool-size", () -> VIRTUAL_USERS + 4);
+		registry.add("spring.security.oauth2.resourceserver.jwt.issuer-uri", entraIdStubServer::getIssuer);
+		registry.add("spring.security.oauth2.client.provider.esdc-edsc.issuer-uri", entraIdStubServer::getIssuer);
+		registry.add("spring.security.oauth2.client.registration.ms-graph.client-secret", () -> "load-test");
+		registry.add("application.gcnotify.base-url", gcNotifyStubServer::getBaseUrl);
+		registry.add("application.ms-graph.base-url", msGraphStubServer::getBaseUrl);
+		registry.add("application.data-seeder.enabled", () -> true);
+		registry.add("application.data-seeder.scale.profiles", () -> PROFILES);
+		registry.add("application.data-seeder.scale.requests", () -> REQUESTS);
+		registry.add("logging.level.ca.gov.dtsstn.vacman", () -> "warn");
+	}
+
+	@AfterAll
+	static void afterAll() {
+		entraIdStubServer.close();
+		gcNotifyStubServer.close();
+		msGraphStubServer.close();
+	}
+
+	@Value("${local.server.port}")
+	int port;
+
+	@Value("${application.entra-id.client-id}")
+	String clientId;
+
+	@Autowired
+	JdbcTemplate jdbcTemplate;
+
+	final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	final Map<String, String> accessTokens = new ConcurrentHashMap<>();
+
+	@Test
+	@DisplayName("Mixed HR advisor and hiring manager workload")
+	void mixedWorkload() throws InterruptedException {
+		final var requestIds = jdbcTemplate.queryForList("SELECT DISTINCT REQUEST_ID FROM [MATCH]", Long.class);
+		final var matchFeedbackIds = jdbcTemplate.queryForList("SELECT ID FROM CD_MATCH_FEEDBACK", Long.class);
+
+		// matches can only be run once per request, so each request in HR review can only be picked once
+		final var requestsInHrReview = new ConcurrentLinkedQueue<>(jdbcTemplate.queryForList("""
+			SELECT R.ID FROM REQUEST R
+			JOIN CD_REQUEST_STATUS RS ON RS.ID = R.REQUEST_STATUS_ID
+			WHERE RS.CODE = 'HR_REVIEW'""", Long.class));
+
+		assertThat(requestIds).as("seeded requests with matches").isNotEmpty();
+
+		final var loadGenerator = new LoadGenerator(List.of(
+			new Scenario("GET /requests (HR dashboard)", 35, random ->
+				Optional.of(get("/api/v1/requests?page=%d&size=20&sort=id,desc".formatted(random.nextInt(10) + 1), HR_ADVISOR_ID, List.of("hr-advisor")))),
+
+			new Scenario("GET /requests/me", 15, random ->
+				Optional.of(get("/api/v1/requests/me", "SEEDED-%010d".formatted(random.nextInt(PROFILES)), List.of()))),
+
+			new Scenario("GET /requests/{id}/matches", 20, random ->
+				Optional.of(get("/api/v1/requests/%d/matches?size=50".formatted(randomElement(random, requestIds)), HR_ADVISOR_ID, List.of("hr-advisor")))),
+
+			new Scenario("POST /requests/{id}/matches/bulk-update", 15, random ->
+				Optional.of(bulkUpdateMatchFeedback(random, randomElement(random, requestIds), matchFeedbackIds))),
+
+			new Scenario("GET /requests/{id}/matches (CSV export)", 5, random ->
+				Optional.of(request("/api/v1/requests/%d/matches".formatted(randomElement(random, requestIds)), HR_ADVISOR_ID, List.of("hr-advisor"))
+					.header(HttpHeaders.ACCEPT, SpreadsheetMediaTypes.CSV_VALUE)
+					.GET().build())),
+
+			new Scenario("POST /requests/{id}/run-matches", 5, random ->
+				Optional.ofNullable(requestsInHrReview.poll())
+					.map(requestId -> request("/api/v1/requests/%d/run-matches".formatted(requestId), HR_ADVISOR_ID, List.of("hr-advisor"))
+						.POST(BodyPublishers.noBody()).build()))));
+
+		final var results = loadGenerator.run(VIRTUAL_USERS, WARMUP, DURATION);
+
+		log.info("Load test results ([{}] profiles, [{}] requests, [{}] virtual users, {}):{}", PROFILES, REQUESTS, VIRTUAL_USERS, DURATION, LoadGenerator.formatReport(results));
+
+		assertThat(results).allSatisfy(result -> assertThat(result.errors()).as("errors for %s", result.name()).isZero());
+	}
+
+	HttpRequest bulkUpdateMatchFeedback(Random random, Long requestId, List<Long> matchFeedbackIds) {
+		final var matchIds = jdbcTemplate.queryForList("SELECT ID FROM [MATCH] WHERE REQUEST_ID = ?", Long.class, requestId);
+
+		final var matches = matchIds.stream()
+			.limit(10)
+			.map(matchId -> Map.of("id", matchId, "matchFeedbackId", randomElement(random, matchFeedbackIds)))
+			.toList();
+
+		return request("/api/v1/requests/%d/matches/bulk-update".formatted(requestId), HR_ADVISOR_ID, List.of("hr-advisor"))
+			.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+			.POST(BodyPublishers.ofString(jsonMapper.writeValueAsString(Map.of("matches", matches))))
+			.build();
+	}
+
+	HttpRequest get(String path, String objectId, List<String> roles) {
+		return request(path, objectId, roles)
+			.header(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+			.GET().build();
+	}
+
+	HttpRequest.Builder request(String path, String objectId, List<String> roles) {
+		final var accessToken = accessTokens.computeIfAbsent(objectId, key -> entraIdStubServer.issueAccessToken(clientId, objectId, roles));
+
+		return HttpRequest.newBuilder(URI.create("http://localhost:%d%s".formatted(port, path)))
+			.timeout(Duration.ofSeconds(30))
+			.header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken);
+	}
+
+	static <T> T randomElement(Random random, List<T> list) {
+		return list.get(random.nextInt(list.size()));
+	}
+
+}
@@ -5,9 +5,13 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
 
@@ -156,6 +160,47 @@ class EmailTemplateServiceTest {
 			assertThat(emailContent).extracting(EmailContent::body).asString().isEmpty();
 		}
 
+		@Test
+		@DisplayName("Should render identical requests only once within a rendering batch")
+		void shouldMemoizeRenderedContentWithinBatch() throws Exception {
+			final var templateContent = """
+				<#assign emailSubject>Hello ${name}</#assign>
+				Body for ${name}.""";
+
+			mockTemplate("testTemplate", "en", templateContent);
+
+			final var model = new HashMap<String, Object>(Map.of("name", "John"));
+			final var renderedContent = new ArrayList<EmailContent>();
+
+			EmailTemplateService.runInRenderingBatch(() -> {
+				renderedContent.add(emailTemplateService.processEmailTemplate("testTemplate", Locale.ENGLISH, model));
+				renderedContent.add(emailTemplateService.processEmailTemplate("testTemplate", Locale.ENGLISH, Map.of("name", "John")));
+
+				// changing the caller's model must not alias the content rendered for the old model
+				model.put("name", "Jane");
+				renderedContent.add(emailTemplateService.processEmailTemplate("testTemplate", Locale.ENGLISH, model));
+			});
+
+			assertThat(renderedContent.get(1)).isSameAs(renderedContent.get(0));
+			assertThat(renderedContent.get(2).subject()).isEqualTo("Hello Jane");
+			verify(freemarkerConfig, times(2)).getTemplate("email/testTemplate", Locale.ENGLISH);
+		}
+
+		@Test
+		@DisplayName("Should render every request outside of a rendering batch")
+		void shouldNotMemoizeRenderedContentOutsideBatch() throws Exception {
+			final var templateContent = """
+				<#assign emailSubject>Hello ${name}</#assign>
+				Body for ${name}.""";
+
+			mockTemplate("testTemplate", "en", templateContent);
+
+			EmailTemplateService.runInRenderingBatch(() -> emailTemplateService.processEmailTemplate("testTemplate", Locale.ENGLISH, Map.of("name", "John")));
+			emailTemplateService.processEmailTemplate("testTemplate", Locale.ENGLISH, Map.of("name", "John"));
+
+			verify(freemarkerConfig, times(2)).getTemplate("email/testTemplate", Locale.ENGLISH);
+		}
+
 		// Helper method to mock FreeMarker template
 		void mockTemplate(String templateName, String language, String content) throws Exception {
 			final var mockTemplate = mock(Template.class);
@@ -177,4 +222,26 @@ class EmailTemplateServiceTest {
 
 	}
 
+	@Nested
+	@DisplayName("precompileTemplates()")
+	class PrecompileTemplates {
+
+		@Test
+		@DisplayName("Should parse every email template and render from the precompiled templates")
+		void shouldPrecompileEveryEmailTemplate() throws Exception {
+			final var configuration = new Configuration(Configuration.VERSION_2_3_32);
+			configuration.setClassForTemplateLoading(EmailTemplateServiceTest.class, "/templates");
+			configuration.setDefaultEncoding("UTF-8");
+
+			final var precompilingEmailTemplateService = new EmailTemplateService(configuration);
+			precompilingEmailTemplateService.precompileTemplates();
+
+			final var emailContent = precompilingEmailTemplateService.processEmailTemplate("requestCancelled.ftl", Locale.FRENCH, Map.of("requestNumber", "0000-0001-23"));
+
+			assertThat(emailContent.subject()).contains("0000-0001-23");
+			assertThat(emailContent.body()).isNotBlank();
+		}
+
+	}
+
 }
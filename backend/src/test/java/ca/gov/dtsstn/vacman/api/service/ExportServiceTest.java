@@ -0,0 +1,147 @@
+package ca.gov.dtsstn.vacman.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.ExportProperties;
+import ca.gov.dtsstn.vacman.api.service.ExportService.ExportWriter;
+import ca.gov.dtsstn.vacman.api.service.dto.ExportJob.Status;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ExportService tests")
+class ExportServiceTest {
+
+	@Mock ApplicationProperties applicationProperties;
+
+	@TempDir Path exportDirectory;
+
+	final AtomicInteger writeCount = new AtomicInteger();
+
+	final ExportWriter exportWriter = outputStream -> {
+		writeCount.incrementAndGet();
+		outputStream.write("a,b\r\n".getBytes(StandardCharsets.UTF_8));
+	};
+
+	ExportService exportService;
+
+	@BeforeEach
+	void beforeEach() {
+		createExportService(Duration.ofHours(1));
+	}
+
+	void createExportService(Duration timeToLive) {
+		when(applicationProperties.exports()).thenReturn(new ExportProperties(exportDirectory, timeToLive, Duration.ofMinutes(5)));
+		exportService = new ExportService(applicationProperties, new SyncTaskExecutor());
+	}
+
+	@Test
+	@DisplayName("Should run an export and store its content")
+	void submitExport() throws IOException {
+		final var exportJob = exportService.submitExport("request/1/matches", "v1", "req-001-matches.csv", "text/csv", exportWriter);
+
+		final var completedJob = exportService.getExportJob(exportJob.id()).orElseThrow();
+		assertThat(completedJob.status()).isEqualTo(Status.COMPLETED);
+		assertThat(completedJob.completedDate()).isNotNull();
+		assertThat(completedJob.expiryDate()).isAfter(completedJob.completedDate());
+
+		final var exportFile = exportService.getExportFile(completedJob).orElseThrow();
+		assertThat(Files.readString(exportFile)).isEqualTo("a,b\r\n");
+	}
+
+	@Test
+	@DisplayName("Should reuse a completed export when the resource version has not changed")
+	void submitExportReusesUnchangedVersion() {
+		final var firstJob = exportService.submitExport("request/1/matches", "v1", "req-001-matches.csv", "text/csv", exportWriter);
+		final var secondJob = exportService.submitExport("request/1/matches", "v1", "req-001-matches.csv", "text/csv", exportWriter);
+
+		assertThat(secondJob.id()).isEqualTo(firstJob.id());
+		assertThat(writeCount).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("Should run a new export when the resource version or filename has changed")
+	void submitExportRerunsChangedVersion() {
+		final var firstJob = exportService.submitExport("request/1/matches", "v1", "req-001-matches.csv", "text/csv", exportWriter);
+		final var secondJob = exportService.submitExport("request/1/matches", "v2", "req-001-matches.csv", "text/csv", exportWriter);
+		final var thirdJob = exportService.submitExport("request/1/matches", "v2", "req-001-matches.xlsx", "text/csv", exportWriter);
+
+		assertThat(secondJob.id()).isNotEqualTo(firstJob.id());
+		assertThat(thirdJob.id()).isNotEqualTo(secondJob.id());
+		assertThat(writeCount).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("Should mark failed exports as failed and retry them on the next submission")
+	void submitExportFailure() {
+		final ExportWriter failingWriter = outputStream -> { throw new IOException("boom"); };
+
+		final var failedJob = exportService.submitExport("request/1/matches", "v1", "req-001-matches.csv", "text/csv", failingWriter);
+
+		assertThat(exportService.getExportJob(failedJob.id())).hasValueSatisfying(exportJob -> {
+			assertThat(exportJob.status()).isEqualTo(Status.FAILED);
+			assertThat(exportService.getExportFile(exportJob)).isEmpty();
+		});
+
+		final var retriedJob = exportService.submitExport("request/1/matches", "v1", "req-001-matches.csv", "text/csv", exportWriter);
+
+		assertThat(retriedJob.id()).isNotEqualTo(failedJob.id());
+		assertThat(exportService.getExportJob(failedJob.id())).isEmpty();
+		assertThat(exportService.getExportJob(retriedJob.id())).hasValueSatisfying(exportJob -> assertThat(exportJob.status()).isEqualTo(Status.COMPLETED));
+	}
+
+	@Test
+	@DisplayName("Should mark rejected exports as failed and retry them on the next submission")
+	void submitExportRejected() {
+		final var rejectNextTask = new AtomicBoolean(true);
+
+		exportService = new ExportService(applicationProperties, task -> {
+			if (rejectNextTask.getAndSet(false)) { throw new TaskRejectedException("Executor is shutting down"); }
+			task.run();
+		});
+
+		assertThatExceptionOfType(TaskRejectedException.class)
+			.isThrownBy(() -> exportService.submitExport("request/1/matches", "v1", "req-001-matches.csv", "text/csv", exportWriter));
+
+		final var retriedJob = exportService.submitExport("request/1/matches", "v1", "req-001-matches.csv", "text/csv", exportWriter);
+
+		assertThat(exportService.getExportJob(retriedJob.id())).hasValueSatisfying(exportJob -> assertThat(exportJob.status()).isEqualTo(Status.COMPLETED));
+	}
+
+	@Test
+	@DisplayName("Should sweep expired exports and orphaned files")
+	void sweepExpiredExports() throws IOException {
+		createExportService(Duration.ZERO);
+
+		final var exportJob = exportService.submitExport("request/1/matches", "v1", "req-001-matches.csv", "text/csv", exportWriter);
+		final var orphanedFile = Files.writeString(exportDirectory.resolve("orphan.export"), "orphan");
+		Files.setLastModifiedTime(orphanedFile, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+
+		exportService.sweepExpiredExports();
+
+		assertThat(exportService.getExportJob(exportJob.id())).isEmpty();
+		assertThat(exportDirectory).isEmptyDirectory();
+	}
+
+}
@@ -0,0 +1,134 @@
+package ca.gov.dtsstn.vacman.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.restclient.RestTemplateBuilder;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClient;
+import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
+import org.springframework.security.oauth2.core.OAuth2AccessToken;
+import org.springframework.security.oauth2.core.OAuth2AccessToken.TokenType;
+
+import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.CircuitBreakerProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.ConnectionPoolProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.MSGraphProperties;
+import ca.gov.dtsstn.vacman.api.service.dto.MSGraphUserBuilder;
+import ca.gov.dtsstn.vacman.api.service.http.PooledHttpClientFactory;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Exercises {@link MSGraphService} over real HTTP against a local MSGraph stand-in that records every call.
+ */
+@ExtendWith({ MockitoExtension.class })
+@DisplayName("MSGraphService stub server tests")
+class MSGraphServiceStubServerTest {
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	ApplicationProperties applicationProperties;
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	MSGraphProperties msGraphProperties;
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	OAuth2AuthorizedClientManager oauth2AuthorizedClientManager;
+
+	MSGraphStubServer msGraphStubServer;
+
+	PooledHttpClientFactory httpClientFactory;
+
+	MSGraphService msGraphService;
+
+	@BeforeEach
+	void beforeEach() {
+		this.msGraphStubServer = new MSGraphStubServer();
+
+		IntStream.range(0, 30).forEach(i -> msGraphStubServer.withUser(MSGraphUserBuilder.builder()
+			.id("00000000-0000-0000-0000-%012d".formatted(i))
+			.mail("user%d@example.com".formatted(i))
+			.givenName("User")
+			.surname(String.valueOf(i))
+			.build()));
+
+		final var accessToken = new OAuth2AccessToken(TokenType.BEARER, "test-access-token", Instant.now(), Instant.now().plusSeconds(3600));
+		final var authorizedClient = mock(OAuth2AuthorizedClient.class);
+		when(authorizedClient.getAccessToken()).thenReturn(accessToken);
+		when(oauth2AuthorizedClientManager.authorize(any())).thenReturn(authorizedClient);
+
+		when(applicationProperties.msGraph()).thenReturn(msGraphProperties);
+		when(msGraphProperties.baseUrl()).thenReturn(msGraphStubServer.getBaseUrl());
+		when(msGraphProperties.connectTimeout()).thenReturn(Duration.ofSeconds(5));
+		when(msGraphProperties.readTimeout()).thenReturn(Duration.ofSeconds(5));
+		when(msGraphProperties.circuitBreaker()).thenReturn(new CircuitBreakerProperties(true, 50f, 80f, Duration.ofSeconds(5), 20, 10, Duration.ofSeconds(30), 3));
+		when(msGraphProperties.connectionPool()).thenReturn(new ConnectionPoolProperties(10, 10, Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofSeconds(5)));
+		when(msGraphProperties.userCacheSpec()).thenReturn("maximumSize=100");
+		when(msGraphProperties.userNotFoundCacheSpec()).thenReturn("maximumSize=100");
+		when(msGraphProperties.userFallbackCacheSpec()).thenReturn("maximumSize=100");
+
+		this.httpClientFactory = new PooledHttpClientFactory(new SimpleMeterRegistry());
+		this.msGraphService = new MSGraphService(applicationProperties, oauth2AuthorizedClientManager, new RestTemplateBuilder(), httpClientFactory, CircuitBreakerRegistry.ofDefaults(), new SimpleMeterRegistry());
+	}
+
+	@AfterEach
+	void afterEach() {
+		httpClientFactory.destroy();
+		msGraphStubServer.close();
+	}
+
+	@Test
+	@DisplayName("Should fetch a single user once and then serve it from the cache")
+	void getUserByIdCached() {
+		final var user = msGraphService.getUserById("00000000-0000-0000-0000-000000000001");
+		msGraphService.getUserById("00000000-0000-0000-0000-000000000001");
+		msGraphService.getUserByEmail("USER1@example.com");
+
+		assertThat(user).hasValueSatisfying(msGraphUser -> assertThat(msGraphUser.mail()).isEqualTo("user1@example.com"));
+		assertThat(msGraphStubServer.getRecordedCalls()).singleElement().satisfies(call -> {
+			assertThat(call.path()).isEqualTo("/users/00000000-0000-0000-0000-000000000001");
+			assertThat(call.authorization()).isEqualTo("Bearer test-access-token");
+		});
+	}
+
+	@Test
+	@DisplayName("Should cache users that were not found")
+	void getUserByEmailNotFoundCached() {
+		assertThat(msGraphService.getUserByEmail("nobody@example.com")).isEmpty();
+		assertThat(msGraphService.getUserByEmail("nobody@example.com")).isEmpty();
+
+		assertThat(msGraphStubServer.getRecordedCalls()).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("Should resolve many users with $batch calls")
+	void getUsersByEmailsBatched() {
+		final var emails = IntStream.range(0, 25).mapToObj("user%d@example.com"::formatted).toList();
+
+		final var users = msGraphService.getUsersByEmails(List.of(emails, List.of("nobody@example.com")).stream().flatMap(List::stream).toList());
+
+		assertThat(users).hasSize(25).doesNotContainKey("nobody@example.com");
+		assertThat(users.get("user7@example.com").surname()).isEqualTo("7");
+		assertThat(msGraphStubServer.getRecordedCalls())
+			.hasSize(2)
+			.allSatisfy(call -> assertThat(call.path()).isEqualTo("/$batch"));
+
+		// users fetched in a batch are also cached for single lookups
+		assertThat(msGraphService.getUserById("00000000-0000-0000-0000-000000000007")).isPresent();
+		assertThat(msGraphStubServer.getRecordedCalls()).hasSize(2);
+	}
+
+}
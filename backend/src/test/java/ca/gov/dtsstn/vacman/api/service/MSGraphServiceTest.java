@@ -1,17 +1,26 @@
 package ca.gov.dtsstn.vacman.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.restclient.RestTemplateBuilder;
@@ -20,11 +29,20 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.security.oauth2.client.OAuth2AuthorizedClientManager;
 import org.springframework.web.client.HttpClientErrorException.NotFound;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.CircuitBreakerProperties;
 import ca.gov.dtsstn.vacman.api.config.properties.MSGraphProperties;
+import ca.gov.dtsstn.vacman.api.service.dto.MSGraphBatchRequest;
+import ca.gov.dtsstn.vacman.api.service.dto.MSGraphBatchResponse;
 import ca.gov.dtsstn.vacman.api.service.dto.MSGraphUserBuilder;
+import ca.gov.dtsstn.vacman.api.service.http.PooledHttpClientFactory;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 
 @DisplayName("MSGraphService tests")
 @ExtendWith({ MockitoExtension.class })
@@ -33,24 +51,37 @@ class MSGraphServiceTest {
 	@Mock
 	RestTemplate restTemplate;
 
+	@Mock
+	ApplicationProperties applicationProperties;
+
+	@Mock
+	RestTemplateBuilder restTemplateBuilder;
+
 	MSGraphService msGraphService;
 
+	final ObjectMapper objectMapper = JsonMapper.builder().build();
+
 	@BeforeEach
 	void beforeEach() {
-		final var applicationProperties = mock(ApplicationProperties.class);
 		when(applicationProperties.msGraph()).thenReturn(mock(MSGraphProperties.class));
 		when(applicationProperties.msGraph().baseUrl()).thenReturn("https://graph.microsoft.com/v1.0");
 		when(applicationProperties.msGraph().connectTimeout()).thenReturn(Duration.ofSeconds(10));
 		when(applicationProperties.msGraph().readTimeout()).thenReturn(Duration.ofSeconds(10));
+		when(applicationProperties.msGraph().userCacheSpec()).thenReturn("maximumSize=100");
+		when(applicationProperties.msGraph().userNotFoundCacheSpec()).thenReturn("maximumSize=100");
+		when(applicationProperties.msGraph().userFallbackCacheSpec()).thenReturn("maximumSize=100");
+		when(applicationProperties.msGraph().circuitBreaker()).thenReturn(new CircuitBreakerProperties(true, 50f, 80f, Duration.ofSeconds(5), 20, 10, Duration.ofSeconds(30), 3));
 
-		final var restTemplateBuilder = mock(RestTemplateBuilder.class);
+		when(restTemplateBuilder.requestFactory(any(Supplier.class))).thenReturn(restTemplateBuilder);
 		when(restTemplateBuilder.rootUri(anyString())).thenReturn(restTemplateBuilder);
-		when(restTemplateBuilder.connectTimeout(any(Duration.class))).thenReturn(restTemplateBuilder);
-		when(restTemplateBuilder.readTimeout(any(Duration.class))).thenReturn(restTemplateBuilder);
-		when(restTemplateBuilder.interceptors(any(ClientHttpRequestInterceptor.class))).thenReturn(restTemplateBuilder);
+		when(restTemplateBuilder.interceptors(any(ClientHttpRequestInterceptor.class), any(ClientHttpRequestInterceptor.class))).thenReturn(restTemplateBuilder);
 		when(restTemplateBuilder.build()).thenReturn(restTemplate);
 
-		this.msGraphService = new MSGraphService(applicationProperties, mock(OAuth2AuthorizedClientManager.class), restTemplateBuilder);
+		this.msGraphService = createMSGraphService();
+	}
+
+	MSGraphService createMSGraphService() {
+		return new MSGraphService(applicationProperties, mock(OAuth2AuthorizedClientManager.class), restTemplateBuilder, mock(PooledHttpClientFactory.class), CircuitBreakerRegistry.ofDefaults(), new SimpleMeterRegistry());
 	}
 
 	@Test
@@ -80,4 +111,141 @@ class MSGraphServiceTest {
 		assertThat(result).isEmpty();
 	}
 
+	@Test
+	@DisplayName("Test getUser() serves repeated lookups from the cache")
+	void getUserById_cached() {
+		final var msGraphUser = MSGraphUserBuilder.builder()
+			.id("00000000-0000-0000-0000-000000000000")
+			.mail("test.user@example.com")
+			.build();
+
+		final var response = new ResponseEntity<Object>(msGraphUser, HttpStatus.OK);
+		when(restTemplate.getForEntity(anyString(), any(), anyString(), anyString())).thenReturn(response);
+
+		msGraphService.getUserById("00000000-0000-0000-0000-000000000000");
+
+		assertThat(msGraphService.getUserById("00000000-0000-0000-0000-000000000000")).contains(msGraphUser);
+		assertThat(msGraphService.getUserByEmail("Test.User@example.com")).contains(msGraphUser);
+		verify(restTemplate, times(1)).getForEntity(anyString(), any(), anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("Test getUser() does not repeat a lookup that was recently not found")
+	void getUserById_notFoundCached() {
+		when(restTemplate.getForEntity(anyString(), any(), anyString(), anyString())).thenThrow(NotFound.class);
+
+		msGraphService.getUserById("00000000-0000-0000-0000-000000000000");
+
+		assertThat(msGraphService.getUserById("00000000-0000-0000-0000-000000000000")).isEmpty();
+		verify(restTemplate, times(1)).getForEntity(anyString(), any(), anyString(), anyString());
+	}
+
+	@Test
+	@DisplayName("Test getUser() serves the cached user while MSGraph is unavailable")
+	void getUserById_unavailable_servesCachedUser() {
+		// expire fresh entries immediately so that the second lookup goes to MSGraph
+		when(applicationProperties.msGraph().userCacheSpec()).thenReturn("expireAfterWrite=0s");
+		this.msGraphService = createMSGraphService();
+
+		final var msGraphUser = MSGraphUserBuilder.builder()
+			.id("00000000-0000-0000-0000-000000000000")
+			.givenName("Test")
+			.surname("User")
+			.build();
+
+		when(restTemplate.getForEntity(anyString(), any(), anyString(), anyString()))
+			.thenReturn(new ResponseEntity<Object>(msGraphUser, HttpStatus.OK))
+			.thenThrow(new ResourceAccessException("Read timed out"));
+
+		msGraphService.getUserById("00000000-0000-0000-0000-000000000000");
+		final var result = msGraphService.getUserById("00000000-0000-0000-0000-000000000000");
+
+		assertThat(result)
+			.isPresent()
+			.contains(msGraphUser);
+	}
+
+	@Test
+	@DisplayName("Test getUser() rethrows when MSGraph is unavailable and the user is not cached")
+	void getUserById_unavailable_notCached() {
+		when(restTemplate.getForEntity(anyString(), any(), anyString(), anyString())).thenThrow(new ResourceAccessException("Read timed out"));
+
+		assertThatExceptionOfType(ResourceAccessException.class)
+			.isThrownBy(() -> msGraphService.getUserById("00000000-0000-0000-0000-000000000000"));
+	}
+
+	@Test
+	@DisplayName("Test getUsersByIds() fetches uncached users in batches of 20")
+	void getUsersByIds_batches() {
+		final var ids = IntStream.range(0, 25).mapToObj("id-%d"::formatted).toList();
+
+		when(restTemplate.postForObject(eq("/$batch"), any(MSGraphBatchRequest.class), eq(MSGraphBatchResponse.class))).thenAnswer(invocation -> {
+			final var batchRequest = invocation.getArgument(1, MSGraphBatchRequest.class);
+
+			// every user is found, except for the first one in each batch
+			final var responses = batchRequest.requests().stream()
+				.map(request -> request.id().equals("0")
+					? new MSGraphBatchResponse.Response(request.id(), 404, Map.of(), null)
+					: new MSGraphBatchResponse.Response(request.id(), 200, Map.of(), objectMapper.valueToTree(MSGraphUserBuilder.builder().id(request.url()).build())))
+				.toList();
+
+			return new MSGraphBatchResponse(responses);
+		});
+
+		final var result = msGraphService.getUsersByIds(ids);
+
+		assertThat(result).hasSize(23).doesNotContainKeys("id-0", "id-20");
+		assertThat(result.get("id-1").id()).startsWith("/users/id-1?$select=");
+
+		final var batchRequestCaptor = ArgumentCaptor.forClass(MSGraphBatchRequest.class);
+		verify(restTemplate, times(2)).postForObject(eq("/$batch"), batchRequestCaptor.capture(), eq(MSGraphBatchResponse.class));
+		assertThat(batchRequestCaptor.getAllValues()).extracting(batchRequest -> batchRequest.requests().size()).containsExactly(20, 5);
+
+		// a second lookup is served entirely from the (positive and negative) caches
+		assertThat(msGraphService.getUsersByIds(ids)).hasSize(23);
+		verify(restTemplate, times(2)).postForObject(eq("/$batch"), any(MSGraphBatchRequest.class), eq(MSGraphBatchResponse.class));
+	}
+
+	@Test
+	@DisplayName("Test getUsersByIds() only returns users for 2xx batch responses")
+	void getUsersByIds_ignoresFailedResponses() {
+		final var ids = List.of("found", "not-found", "throttled", "no-body");
+
+		final var throttledBody = objectMapper.readTree("""
+			{ "error": { "code": "TooManyRequests", "message": "Too many requests" } }
+			""");
+
+		when(restTemplate.postForObject(eq("/$batch"), any(MSGraphBatchRequest.class), eq(MSGraphBatchResponse.class))).thenReturn(new MSGraphBatchResponse(List.of(
+			new MSGraphBatchResponse.Response("0", 200, Map.of(), objectMapper.valueToTree(MSGraphUserBuilder.builder().id("found").build())),
+			new MSGraphBatchResponse.Response("1", 404, Map.of(), null),
+			new MSGraphBatchResponse.Response("2", 429, Map.of(), throttledBody),
+			new MSGraphBatchResponse.Response("3", 200, Map.of(), null))))
+			.thenReturn(new MSGraphBatchResponse(List.of()));
+
+		final var result = msGraphService.getUsersByIds(ids);
+
+		assertThat(result).containsOnlyKeys("found");
+		assertThat(result.get("found").id()).isEqualTo("found");
+
+		// only the 404 is cached as not found; the throttled and empty responses are retried
+		msGraphService.getUsersByIds(ids);
+
+		final var batchRequestCaptor = ArgumentCaptor.forClass(MSGraphBatchRequest.class);
+		verify(restTemplate, times(2)).postForObject(eq("/$batch"), batchRequestCaptor.capture(), eq(MSGraphBatchResponse.class));
+		assertThat(batchRequestCaptor.getAllValues().get(1).requests()).extracting(MSGraphBatchRequest.Request::url)
+			.allSatisfy(url -> assertThat(url).containsAnyOf("/users/throttled?", "/users/no-body?"))
+			.hasSize(2);
+	}
+
+	@Test
+	@DisplayName("Test getUsersByIds() returns no users for an empty batch response")
+	void getUsersByIds_emptyBatchResponse() {
+		when(restTemplate.postForObject(eq("/$batch"), any(MSGraphBatchRequest.class), eq(MSGraphBatchResponse.class)))
+			.thenReturn(null)
+			.thenReturn(new MSGraphBatchResponse(null));
+
+		assertThat(msGraphService.getUsersByIds(List.of("id-1"))).isEmpty();
+		assertThat(msGraphService.getUsersByIds(List.of("id-1"))).isEmpty();
+	}
+
 }
@@ -0,0 +1,133 @@
+package ca.gov.dtsstn.vacman.api.service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.StreamSupport;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import ca.gov.dtsstn.vacman.api.service.dto.MSGraphUser;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * A minimal, in-process stand-in for the MSGraph API that records every call it receives.
+ * Serves {@code GET /users/{id|email}} and JSON {@code POST /$batch} lookups from a set of registered users.
+ */
+public class MSGraphStubServer implements AutoCloseable {
+
+	/**
+	 * A call recorded by the stub server.
+	 */
+	public record RecordedCall(String method, String path, String authorization, String body) {}
+
+	private final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	private final HttpServer httpServer;
+
+	private final List<RecordedCall> recordedCalls = new CopyOnWriteArrayList<>();
+
+	private final Map<String, MSGraphUser> users = new ConcurrentHashMap<>();
+
+	public MSGraphStubServer() {
+		try {
+			this.httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			this.httpServer.createContext("/users/", this::handleGetUser);
+			this.httpServer.createContext("/$batch", this::handleBatch);
+			this.httpServer.start();
+		}
+		catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * Registers a user that can be looked up by its id or (case-insensitively) by its email.
+	 */
+	public MSGraphStubServer withUser(MSGraphUser user) {
+		users.put(user.id(), user);
+		Optional.ofNullable(user.mail()).ifPresent(mail -> users.put(mail.toLowerCase(Locale.ROOT), user));
+		return this;
+	}
+
+	/**
+	 * The base URL of the stub server, suitable for {@code application.ms-graph.base-url}.
+	 */
+	public String getBaseUrl() {
+		return "http://localhost:%d".formatted(httpServer.getAddress().getPort());
+	}
+
+	public List<RecordedCall> getRecordedCalls() {
+		return List.copyOf(recordedCalls);
+	}
+
+	@Override
+	public void close() {
+		httpServer.stop(0);
+	}
+
+	private void handleGetUser(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			record(exchange);
+
+			final var user = findUser(exchange.getRequestURI().getRawPath());
+			final var status = user.isPresent() ? 200 : 404;
+			respond(exchange, status, jsonMapper.writeValueAsBytes(user.isPresent() ? user.get() : notFoundError()));
+		}
+	}
+
+	private void handleBatch(HttpExchange exchange) throws IOException {
+		try (exchange) {
+			final var batchRequest = jsonMapper.readTree(record(exchange));
+
+			final var responses = StreamSupport.stream(batchRequest.get("requests").spliterator(), false)
+				.map(request -> {
+					final var user = findUser(request.get("url").asString());
+					return Map.of(
+						"id", request.get("id").asString(),
+						"status", user.isPresent() ? 200 : 404,
+						"headers", Map.of("Content-Type", "application/json"),
+						"body", user.isPresent() ? user.get() : notFoundError());
+				})
+				.toList();
+
+			respond(exchange, 200, jsonMapper.writeValueAsBytes(Map.of("responses", responses)));
+		}
+	}
+
+	/**
+	 * Resolves a {@code /users/{id|email}?...} path to a registered user.
+	 */
+	private Optional<MSGraphUser> findUser(String url) {
+		final var path = url.split("\\?", 2)[0];
+		final var idOrEmail = URLDecoder.decode(path.substring(path.lastIndexOf('/') + 1), StandardCharsets.UTF_8);
+		return Optional.ofNullable(users.getOrDefault(idOrEmail, users.get(idOrEmail.toLowerCase(Locale.ROOT))));
+	}
+
+	private Map<String, Object> notFoundError() {
+		return Map.of("error", Map.of("code", "Request_ResourceNotFound", "message", "Resource does not exist."));
+	}
+
+	private String record(HttpExchange exchange) throws IOException {
+		final var requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+		final var authorization = exchange.getRequestHeaders().getFirst("Authorization");
+		recordedCalls.add(new RecordedCall(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), authorization, requestBody));
+		return requestBody;
+	}
+
+	private void respond(HttpExchange exchange, int status, byte[] response) throws IOException {
+		exchange.getResponseHeaders().add("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, response.length);
+		exchange.getResponseBody().write(response);
+	}
+
+}
@@ -1,25 +1,48 @@
 package ca.gov.dtsstn.vacman.api.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.jpa.domain.Specification;
 
 import ca.gov.dtsstn.vacman.api.data.entity.MatchEntity;
+import ca.gov.dtsstn.vacman.api.data.entity.MatchFeedbackEntity;
+import ca.gov.dtsstn.vacman.api.data.entity.MatchStatusEntity;
 import ca.gov.dtsstn.vacman.api.data.repository.MatchRepository;
+import ca.gov.dtsstn.vacman.api.event.MatchesBulkUpdatedEvent;
+import ca.gov.dtsstn.vacman.api.event.MatchesBulkUpdatedEvent.StatusChange;
+import ca.gov.dtsstn.vacman.api.service.dto.MatchBulkUpdate;
+import ca.gov.dtsstn.vacman.api.service.dto.MatchFeedbackImportResult.RowError;
+import ca.gov.dtsstn.vacman.api.service.dto.MatchFeedbackImportRow;
+import ca.gov.dtsstn.vacman.api.web.exception.ResourceNotFoundException;
 
 @ExtendWith(MockitoExtension.class)
 class MatchServiceTest {
 
+	@Mock CodeService codeService;
+
 	@Mock MatchRepository matchRepository;
 
+	@Mock ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks MatchService matchService;
 
 	@Test
@@ -49,4 +72,145 @@ class MatchServiceTest {
 		assertThat(result).isEmpty();
 	}
 
-}
\ No newline at end of file
+	@Test
+	@SuppressWarnings({ "unchecked" })
+	void testUpdateMatches_AppliesChangesAndPublishesSingleEvent() {
+		final var pending = MatchStatusEntity.builder().id(1L).code("MATCH_PENDING").build();
+		final var approved = MatchStatusEntity.builder().id(2L).code("APPROVED").build();
+		final var feedback = MatchFeedbackEntity.builder().id(3L).code("QA").build();
+
+		final var match1 = MatchEntity.builder().id(10L).matchStatus(pending).build();
+		final var match2 = MatchEntity.builder().id(20L).matchStatus(pending).hrAdvisorComment("unchanged").build();
+
+		when(matchRepository.findBy(any(Specification.class), any())).thenReturn(List.of(match2, match1));
+		when(matchRepository.saveAll(any())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+		when(codeService.getMatchStatuses(any())).thenReturn(new PageImpl<>(List.of(pending, approved)));
+		when(codeService.getMatchFeedbacks(any())).thenReturn(new PageImpl<>(List.of(feedback)));
+
+		final var result = matchService.updateMatches(1L, List.of(
+			MatchBulkUpdate.builder().matchId(10L).matchStatusCode("APPROVED").matchFeedbackId(3L).build(),
+			MatchBulkUpdate.builder().matchId(20L).hiringManagerComment("Great fit").build()));
+
+		assertThat(result).containsExactly(match1, match2);
+		assertThat(match1.getMatchStatus()).isEqualTo(approved);
+		assertThat(match1.getMatchFeedback()).isEqualTo(feedback);
+		assertThat(match2.getMatchStatus()).isEqualTo(pending);
+		assertThat(match2.getHiringManagerComment()).isEqualTo("Great fit");
+		assertThat(match2.getHrAdvisorComment()).isEqualTo("unchanged");
+
+		final var eventCaptor = ArgumentCaptor.forClass(MatchesBulkUpdatedEvent.class);
+		verify(eventPublisher).publishEvent(eventCaptor.capture());
+
+		assertThat(eventCaptor.getValue().requestId()).isEqualTo(1L);
+		assertThat(eventCaptor.getValue().entities()).containsExactly(match1, match2);
+		assertThat(eventCaptor.getValue().statusChanges()).containsExactly(new StatusChange(10L, "MATCH_PENDING", "APPROVED"));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked" })
+	void testUpdateMatches_WhenMatchNotFound() {
+		when(matchRepository.findBy(any(Specification.class), any()))
+			.thenReturn(List.of(MatchEntity.builder().id(10L).build()));
+
+		final var updates = List.of(
+			MatchBulkUpdate.builder().matchId(10L).hiringManagerComment("Great fit").build(),
+			MatchBulkUpdate.builder().matchId(20L).hiringManagerComment("Great fit").build());
+
+		assertThatExceptionOfType(ResourceNotFoundException.class)
+			.isThrownBy(() -> matchService.updateMatches(1L, updates))
+			.withMessageContaining("[20]");
+
+		verify(matchRepository, never()).saveAll(any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked" })
+	void testUpdateMatches_WhenStatusCodeNotFound() {
+		when(matchRepository.findBy(any(Specification.class), any()))
+			.thenReturn(List.of(MatchEntity.builder().id(10L).build()));
+		when(codeService.getMatchStatuses(any()))
+			.thenReturn(new PageImpl<>(List.of(MatchStatusEntity.builder().id(1L).code("MATCH_PENDING").build())));
+		when(codeService.getMatchFeedbacks(any()))
+			.thenReturn(new PageImpl<>(List.<MatchFeedbackEntity>of()));
+
+		final var updates = List.of(MatchBulkUpdate.builder().matchId(10L).matchStatusCode("UNKNOWN").build());
+
+		assertThatExceptionOfType(ResourceNotFoundException.class)
+			.isThrownBy(() -> matchService.updateMatches(1L, updates));
+
+		verify(matchRepository, never()).saveAll(any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked" })
+	void testImportMatchFeedback_AppliesAllRows() {
+		final var qualified = MatchFeedbackEntity.builder().id(3L).code("QA").nameEn("Qualified").nameFr("Qualifié").build();
+
+		final var match1 = MatchEntity.builder().id(10L).build();
+		final var match2 = MatchEntity.builder().id(20L).build();
+
+		when(matchRepository.findBy(any(Specification.class), any())).thenReturn(List.of(match1, match2));
+		when(matchRepository.saveAll(any())).thenAnswer(invocation -> List.copyOf(invocation.getArgument(0)));
+		when(codeService.getMatchStatuses(any())).thenReturn(new PageImpl<>(List.<MatchStatusEntity>of()));
+		when(codeService.getMatchFeedbacks(any())).thenReturn(new PageImpl<>(List.of(qualified)));
+
+		final var result = matchService.importMatchFeedback(1L, List.of(
+			MatchFeedbackImportRow.builder().rowNumber(2).matchId("10").matchFeedback(" qualified ").build(),
+			MatchFeedbackImportRow.builder().rowNumber(3).matchId("20.0").matchFeedback("QUALIFIÉ").hiringManagerComment("Great fit").build()));
+
+		assertThat(result.hasErrors()).isFalse();
+		assertThat(result.rowCount()).isEqualTo(2);
+		assertThat(result.updatedMatches()).containsExactly(match1, match2);
+		assertThat(match1.getMatchFeedback()).isEqualTo(qualified);
+		assertThat(match2.getMatchFeedback()).isEqualTo(qualified);
+		assertThat(match2.getHiringManagerComment()).isEqualTo("Great fit");
+
+		verify(eventPublisher).publishEvent(any(MatchesBulkUpdatedEvent.class));
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked" })
+	void testImportMatchFeedback_ReportsRowErrorsAndAppliesNothing() {
+		when(matchRepository.findBy(any(Specification.class), any()))
+			.thenReturn(List.of(MatchEntity.builder().id(10L).build()));
+		when(codeService.getMatchFeedbacks(any()))
+			.thenReturn(new PageImpl<>(List.of(MatchFeedbackEntity.builder().id(3L).code("QA").nameEn("Qualified").build())));
+
+		final var result = matchService.importMatchFeedback(1L, List.of(
+			MatchFeedbackImportRow.builder().rowNumber(2).matchId("10").matchFeedback("Maybe").build(),
+			MatchFeedbackImportRow.builder().rowNumber(3).matchId("abc").build(),
+			MatchFeedbackImportRow.builder().rowNumber(4).matchId("99").matchFeedback("Qualified").build(),
+			MatchFeedbackImportRow.builder().rowNumber(5).matchId("10").matchFeedback("Qualified").build()));
+
+		assertThat(result.updatedMatches()).isEmpty();
+		assertThat(result.errors()).extracting(RowError::rowNumber, RowError::field).containsExactly(
+			tuple(2L, "matchFeedback"),
+			tuple(3L, "matchId"),
+			tuple(4L, "matchId"),
+			tuple(5L, "matchId"));
+
+		verify(matchRepository, never()).saveAll(any());
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	@Test
+	@SuppressWarnings({ "unchecked" })
+	void testImportMatchFeedback_LooksUpMatchesInChunks() {
+		when(matchRepository.findBy(any(Specification.class), any())).thenReturn(List.of());
+		when(codeService.getMatchFeedbacks(any())).thenReturn(new PageImpl<>(List.<MatchFeedbackEntity>of()));
+
+		final var rowCount = (2 * MatchService.MAX_MATCH_IDS_PER_QUERY) + 1;
+
+		final var rows = LongStream.rangeClosed(1, rowCount)
+			.mapToObj(matchId -> MatchFeedbackImportRow.builder().rowNumber(matchId + 1).matchId(String.valueOf(matchId)).build())
+			.toList();
+
+		final var result = matchService.importMatchFeedback(1L, rows);
+
+		assertThat(result.errors()).hasSize(rowCount);
+		verify(matchRepository, times(3)).findBy(any(Specification.class), any());
+	}
+
+}
@@ -0,0 +1,186 @@
+package ca.gov.dtsstn.vacman.api.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.boot.restclient.RestTemplateBuilder;
+import org.springframework.web.client.HttpClientErrorException;
+
+import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.CircuitBreakerProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.ConnectionPoolProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.FrontendProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.GcNotifyProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.GcNotifyProperties.RateLimitProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes;
+import ca.gov.dtsstn.vacman.api.service.EmailTemplateService.EmailContent;
+import ca.gov.dtsstn.vacman.api.service.NotificationService.ProfileStatus;
+import ca.gov.dtsstn.vacman.api.service.NotificationService.RequestEvent;
+import ca.gov.dtsstn.vacman.api.service.http.PooledHttpClientFactory;
+import ca.gov.dtsstn.vacman.api.service.notify.GcNotifyRateLimiter;
+import ca.gov.dtsstn.vacman.api.service.notify.GcNotifyStubServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Exercises {@link NotificationService} over real HTTP against a local GC Notify stand-in that records every call.
+ */
+@ExtendWith({ MockitoExtension.class })
+@DisplayName("NotificationService stub server tests")
+class NotificationServiceStubServerTest {
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	ApplicationProperties applicationProperties;
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	GcNotifyProperties gcNotifyProperties;
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	RateLimitProperties rateLimitProperties;
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	EmailTemplateService emailTemplateService;
+
+	GcNotifyRateLimiter rateLimiter;
+
+	PooledHttpClientFactory httpClientFactory;
+
+	GcNotifyStubServer gcNotifyStubServer;
+
+	NotificationService notificationService;
+
+	final JsonMapper jsonMapper = JsonMapper.builder().build();
+
+	final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	@BeforeEach
+	void beforeEach() {
+		this.gcNotifyStubServer = new GcNotifyStubServer();
+
+		final var frontendProperties = mock(FrontendProperties.class);
+		// only request notifications link back to the frontend
+		lenient().when(frontendProperties.baseUrl()).thenReturn("http://localhost:3000");
+
+		when(applicationProperties.frontend()).thenReturn(frontendProperties);
+		when(applicationProperties.gcnotify()).thenReturn(gcNotifyProperties);
+		when(gcNotifyProperties.apiKey()).thenReturn("test-api-key");
+		when(gcNotifyProperties.baseUrl()).thenReturn(gcNotifyStubServer.getBaseUrl());
+		when(gcNotifyProperties.connectTimeout()).thenReturn(Duration.ofSeconds(5));
+		when(gcNotifyProperties.readTimeout()).thenReturn(Duration.ofSeconds(5));
+		when(gcNotifyProperties.genericTemplateId()).thenReturn("generic-template-id");
+		when(gcNotifyProperties.bulkChunkSize()).thenReturn(100);
+		when(gcNotifyProperties.rateLimit()).thenReturn(rateLimitProperties);
+		when(gcNotifyProperties.circuitBreaker()).thenReturn(new CircuitBreakerProperties(true, 50f, 80f, Duration.ofSeconds(10), 20, 10, Duration.ofSeconds(30), 3));
+		when(gcNotifyProperties.connectionPool()).thenReturn(new ConnectionPoolProperties(10, 10, Duration.ofMinutes(5), Duration.ofSeconds(30), Duration.ofSeconds(5)));
+
+		when(rateLimitProperties.enabled()).thenReturn(true);
+		when(rateLimitProperties.permitsPerSecond()).thenReturn(100.0);
+		when(rateLimitProperties.burstCapacity()).thenReturn(100);
+		when(rateLimitProperties.minPermitsPerSecond()).thenReturn(1.0);
+		when(rateLimitProperties.maxRetries()).thenReturn(2);
+
+		when(emailTemplateService.processEmailTemplate(any(), any(), any())).thenReturn(new EmailContent("Test Subject", "Test Body"));
+
+		this.rateLimiter = new GcNotifyRateLimiter(applicationProperties, meterRegistry);
+		this.httpClientFactory = new PooledHttpClientFactory(meterRegistry);
+		this.notificationService = new NotificationService(applicationProperties, new RestTemplateBuilder(), mock(LookupCodes.class), emailTemplateService, rateLimiter, httpClientFactory, CircuitBreakerRegistry.ofDefaults());
+	}
+
+	@AfterEach
+	void afterEach() {
+		httpClientFactory.destroy();
+		gcNotifyStubServer.close();
+	}
+
+	@Test
+	@DisplayName("Should send a single recipient notification through /email")
+	void sendSingleRecipientThroughEmailEndpoint() {
+		final var receipt = notificationService.sendRequestNotification("test@example.com", 123L, "Test Request", RequestEvent.SUBMITTED, "en");
+
+		assertThat(receipt.getId()).isNotBlank();
+		assertThat(gcNotifyStubServer.getRecordedCalls()).singleElement().satisfies(call -> {
+			assertThat(call.path()).isEqualTo("/email");
+			assertThat(call.authorization()).isEqualTo("ApiKey-v1 test-api-key");
+		});
+	}
+
+	@Test
+	@DisplayName("Should send multi-recipient notifications through /bulk in chunks")
+	void sendMultipleRecipientsThroughBulkEndpointInChunks() {
+		final var emails = IntStream.range(0, 250)
+			.mapToObj("test%d@example.com"::formatted)
+			.toList();
+
+		final var receipts = notificationService.sendProfileNotification(emails, "42", "Ana de Armas", "en", ProfileStatus.ARCHIVED);
+
+		assertThat(receipts).hasSize(3)
+			.allSatisfy(receipt -> assertThat(receipt.getData().getId()).isNotBlank());
+
+		assertThat(gcNotifyStubServer.getRecordedCalls("/email")).isEmpty();
+
+		final var bulkCalls = gcNotifyStubServer.getRecordedCalls("/bulk");
+		assertThat(bulkCalls).hasSize(3);
+
+		final var rowCounts = bulkCalls.stream()
+			.map(call -> jsonMapper.readTree(call.body()).get("rows").size())
+			.toList();
+
+		// each chunk carries a header row plus up to 100 recipients
+		assertThat(rowCounts).isEqualTo(List.of(101, 101, 51));
+		assertThat(jsonMapper.readTree(bulkCalls.get(2).body()).get("name").asString())
+			.isEqualTo("Profile ARCHIVED Notification - 42 (3/3)");
+	}
+
+	@Test
+	@DisplayName("Should send calls through the pooled GC Notify client")
+	void sendThroughConnectionPool() {
+		notificationService.sendRequestNotification("test1@example.com", 123L, "Test Request", RequestEvent.SUBMITTED, "en");
+		notificationService.sendRequestNotification("test2@example.com", 123L, "Test Request", RequestEvent.SUBMITTED, "en");
+
+		assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.max").tag("httpclient", "gcnotify").gauge().value()).isEqualTo(10.0);
+		// the connection used by the first call is kept alive for the second
+		assertThat(meterRegistry.get("httpcomponents.httpclient.pool.total.connections").tag("httpclient", "gcnotify").tag("state", "available").gauge().value()).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("Should retry a throttled call and slow down")
+	void retryThrottledCall() {
+		gcNotifyStubServer.throttleNextCalls(1, 0);
+
+		final var receipt = notificationService.sendRequestNotification("test@example.com", 123L, "Test Request", RequestEvent.SUBMITTED, "en");
+
+		assertThat(receipt.getId()).isNotBlank();
+		assertThat(gcNotifyStubServer.getRecordedCalls("/email")).hasSize(2);
+		assertThat(rateLimiter.getPermitsPerSecond()).isLessThan(100.0);
+	}
+
+	@Test
+	@DisplayName("Should give up once retries are exhausted")
+	void giveUpWhenRetriesExhausted() {
+		gcNotifyStubServer.throttleNextCalls(3, 0);
+
+		assertThatExceptionOfType(HttpClientErrorException.TooManyRequests.class)
+			.isThrownBy(() -> notificationService.sendRequestNotification("test@example.com", 123L, "Test Request", RequestEvent.SUBMITTED, "en"));
+
+		// the original call plus two retries
+		assertThat(gcNotifyStubServer.getRecordedCalls("/email")).hasSize(3);
+		assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(12.5);
+	}
+
+}
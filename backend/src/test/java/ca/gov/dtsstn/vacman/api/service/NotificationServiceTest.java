@@ -5,29 +5,41 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.boot.restclient.RestTemplateBuilder;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
 import org.springframework.web.client.RestTemplate;
 
 import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.CircuitBreakerProperties;
 import ca.gov.dtsstn.vacman.api.config.properties.FrontendProperties;
 import ca.gov.dtsstn.vacman.api.config.properties.GcNotifyProperties;
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes;
 import ca.gov.dtsstn.vacman.api.service.NotificationService.ProfileStatus;
 import ca.gov.dtsstn.vacman.api.service.email.data.EmailTemplateModel;
+import ca.gov.dtsstn.vacman.api.service.http.PooledHttpClientFactory;
+import ca.gov.dtsstn.vacman.api.service.notify.BulkNotificationReceipt;
+import ca.gov.dtsstn.vacman.api.service.notify.GcNotifyRateLimiter;
+import ca.gov.dtsstn.vacman.api.service.notify.ImmutableBulkNotificationReceipt;
 import ca.gov.dtsstn.vacman.api.service.notify.ImmutableNotificationReceipt;
 import ca.gov.dtsstn.vacman.api.service.notify.NotificationReceipt;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
 
 @ExtendWith({ MockitoExtension.class })
 @DisplayName("NotificationService tests")
@@ -45,6 +57,9 @@ class NotificationServiceTest {
 	@Mock
 	EmailTemplateService emailTemplateService;
 
+	@Mock
+	GcNotifyRateLimiter rateLimiter;
+
 	NotificationService notificationService;
 
 	@BeforeEach
@@ -58,16 +73,17 @@ class NotificationServiceTest {
 		when(applicationProperties.gcnotify().baseUrl()).thenReturn("https://notification.example.com/notifications/email");
 		when(applicationProperties.gcnotify().connectTimeout()).thenReturn(Duration.ofSeconds(10));
 		when(applicationProperties.gcnotify().readTimeout()).thenReturn(Duration.ofSeconds(10));
+		when(applicationProperties.gcnotify().circuitBreaker()).thenReturn(new CircuitBreakerProperties(true, 50f, 80f, Duration.ofSeconds(10), 20, 10, Duration.ofSeconds(30), 3));
 
 		final var restTemplateBuilder = mock(RestTemplateBuilder.class);
+		when(restTemplateBuilder.requestFactory(any(Supplier.class))).thenReturn(restTemplateBuilder);
 		when(restTemplateBuilder.defaultHeader(any(), any())).thenReturn(restTemplateBuilder);
 		when(restTemplateBuilder.rootUri(any())).thenReturn(restTemplateBuilder);
-		when(restTemplateBuilder.connectTimeout(any())).thenReturn(restTemplateBuilder);
-		when(restTemplateBuilder.readTimeout(any())).thenReturn(restTemplateBuilder);
+		when(restTemplateBuilder.interceptors(any(ClientHttpRequestInterceptor.class), any(ClientHttpRequestInterceptor.class))).thenReturn(restTemplateBuilder);
 		when(restTemplateBuilder.build()).thenReturn(restTemplate);
 
 		final var languages = mock(LookupCodes.Languages.class);
-		when(lookupCodes.languages()).thenReturn(languages);
+		lenient().when(lookupCodes.languages()).thenReturn(languages);
 		lenient().when(languages.english()).thenReturn("en");
 		lenient().when(languages.french()).thenReturn("fr");
 
@@ -77,10 +93,11 @@ class NotificationServiceTest {
 		lenient().when(mockEmailContent.body()).thenReturn("Test Body");
 		lenient().when(emailTemplateService.processEmailTemplate(any(), any(), any())).thenReturn(mockEmailContent);
 
-		// Mock generic template ID
+		// Mock generic template ID and bulk chunk size
 		lenient().when(applicationProperties.gcnotify().genericTemplateId()).thenReturn("generic-template-id");
+		lenient().when(applicationProperties.gcnotify().bulkChunkSize()).thenReturn(2);
 
-		this.notificationService = new NotificationService(applicationProperties, restTemplateBuilder, lookupCodes, emailTemplateService);
+		this.notificationService = new NotificationService(applicationProperties, restTemplateBuilder, lookupCodes, emailTemplateService, rateLimiter, mock(PooledHttpClientFactory.class), CircuitBreakerRegistry.ofDefaults());
 	}
 
 	@Test
@@ -183,8 +200,8 @@ class NotificationServiceTest {
 	@Test
 	@DisplayName("Test send Request notification to multiple emails with English language")
 	void sendRequestNotificationMultipleEnglishSuccess() {
-		when(restTemplate.postForObject(eq("/email"), any(Map.class), eq(NotificationReceipt.class)))
-			.thenReturn(ImmutableNotificationReceipt.builder().build());
+		when(restTemplate.postForObject(eq("/bulk"), any(Map.class), eq(BulkNotificationReceipt.class)))
+			.thenReturn(ImmutableBulkNotificationReceipt.builder().build());
 
 		final var result = notificationService.sendRequestNotification(
 			List.of("test1@example.com", "test2@example.com"),
@@ -194,14 +211,15 @@ class NotificationServiceTest {
 			lookupCodes.languages().english());
 
 		assertThat(result).isNotNull();
-		assertThat(result.size()).isEqualTo(2);
+		assertThat(result).hasSize(1);
+		verify(restTemplate, never()).postForObject(eq("/email"), any(), any());
 	}
 
 	@Test
 	@DisplayName("Test send Request notification to multiple emails with French language")
 	void sendRequestNotificationMultipleFrenchSuccess() {
-		when(restTemplate.postForObject(eq("/email"), any(Map.class), eq(NotificationReceipt.class)))
-			.thenReturn(ImmutableNotificationReceipt.builder().build());
+		when(restTemplate.postForObject(eq("/bulk"), any(Map.class), eq(BulkNotificationReceipt.class)))
+			.thenReturn(ImmutableBulkNotificationReceipt.builder().build());
 
 		final var result = notificationService.sendRequestNotification(
 			List.of("test1@example.com", "test2@example.com"),
@@ -211,7 +229,8 @@ class NotificationServiceTest {
 			lookupCodes.languages().french());
 
 		assertThat(result).isNotNull();
-		assertThat(result.size()).isEqualTo(2);
+		assertThat(result).hasSize(1);
+		verify(restTemplate, never()).postForObject(eq("/email"), any(), any());
 	}
 
 	@Test
@@ -233,8 +252,8 @@ class NotificationServiceTest {
 	@Test
 	@DisplayName("Test send Profile notification to multiple emails")
 	void sendProfileNotificationMultipleSuccess() {
-		when(restTemplate.postForObject(eq("/email"), any(Map.class), eq(NotificationReceipt.class)))
-			.thenReturn(ImmutableNotificationReceipt.builder().build());
+		when(restTemplate.postForObject(eq("/bulk"), any(Map.class), eq(BulkNotificationReceipt.class)))
+			.thenReturn(ImmutableBulkNotificationReceipt.builder().build());
 
 		final var result = notificationService.sendProfileNotification(
 			List.of("test1@example.com", "test2@example.com"),
@@ -244,15 +263,16 @@ class NotificationServiceTest {
 			ProfileStatus.APPROVED);
 
 		assertThat(result).isNotNull();
-		assertThat(result.size()).isEqualTo(2);
+		assertThat(result).hasSize(1);
+		verify(restTemplate, never()).postForObject(eq("/email"), any(), any());
 	}
 
 	@Test
 	@DisplayName("Test send bulk job opportunity notification with English language")
 	void sendBulkJobOpportunityNotificationEnglishSuccess() {
 		// Mock the response from the REST template
-		when(restTemplate.postForObject(eq("/bulk"), any(Map.class), eq(NotificationReceipt.class)))
-			.thenReturn(ImmutableNotificationReceipt.builder().build());
+		when(restTemplate.postForObject(eq("/bulk"), any(Map.class), eq(BulkNotificationReceipt.class)))
+			.thenReturn(ImmutableBulkNotificationReceipt.builder().build());
 
 		// Create test data
 		final var recipientEmails = List.of("test1@example.com", "test2@example.com");
@@ -289,8 +309,8 @@ class NotificationServiceTest {
 	@DisplayName("Test send bulk job opportunity notification with French language")
 	void sendBulkJobOpportunityNotificationFrenchSuccess() {
 		// Mock the response from the REST template
-		when(restTemplate.postForObject(eq("/bulk"), any(Map.class), eq(NotificationReceipt.class)))
-			.thenReturn(ImmutableNotificationReceipt.builder().build());
+		when(restTemplate.postForObject(eq("/bulk"), any(Map.class), eq(BulkNotificationReceipt.class)))
+			.thenReturn(ImmutableBulkNotificationReceipt.builder().build());
 
 		// Create test data
 		final var recipientEmails = List.of("test1@example.com", "test2@example.com");
@@ -327,8 +347,8 @@ class NotificationServiceTest {
 	@DisplayName("Test send bulk job opportunity notification with single recipient")
 	void sendBulkJobOpportunityNotificationSingleRecipientSuccess() {
 		// Mock the response from the REST template
-		when(restTemplate.postForObject(eq("/bulk"), any(Map.class), eq(NotificationReceipt.class)))
-			.thenReturn(ImmutableNotificationReceipt.builder().build());
+		when(restTemplate.postForObject(eq("/bulk"), any(Map.class), eq(BulkNotificationReceipt.class)))
+			.thenReturn(ImmutableBulkNotificationReceipt.builder().build());
 
 		// Create test data with a single recipient
 		final var recipientEmails = List.of("single@example.com");
@@ -515,4 +535,63 @@ class NotificationServiceTest {
 			);
 		});
 	}
+
+	@Test
+	@DisplayName("Test send Request notification splits recipients into bulk chunks")
+	@SuppressWarnings({ "unchecked" })
+	void sendRequestNotificationMultipleChunked() {
+		when(restTemplate.postForObject(eq("/bulk"), any(Map.class), eq(BulkNotificationReceipt.class)))
+			.thenReturn(ImmutableBulkNotificationReceipt.builder().build());
+
+		final var result = notificationService.sendRequestNotification(
+			List.of("test1@example.com", "test2@example.com", "test3@example.com", "", "test1@example.com"),
+			123L,
+			"Test Request",
+			NotificationService.RequestEvent.CANCELLED,
+			lookupCodes.languages().english());
+
+		// 3 distinct, non-blank recipients with a chunk size of 2 => 2 bulk calls
+		assertThat(result).hasSize(2);
+
+		final var requestCaptor = ArgumentCaptor.forClass(Map.class);
+		verify(restTemplate, times(2)).postForObject(eq("/bulk"), requestCaptor.capture(), eq(BulkNotificationReceipt.class));
+		verify(emailTemplateService, times(1)).processEmailTemplate(any(), any(), any());
+
+		final var requests = requestCaptor.getAllValues();
+		assertThat(requests.get(0).get("name")).isEqualTo("Request CANCELLED Notification - 123 (1/2)");
+		assertThat((List<List<String>>) requests.get(0).get("rows")).hasSize(3); // header + 2 recipients
+		assertThat(requests.get(1).get("name")).isEqualTo("Request CANCELLED Notification - 123 (2/2)");
+		assertThat((List<List<String>>) requests.get(1).get("rows")).hasSize(2); // header + 1 recipient
+		assertThat((List<List<String>>) requests.get(1).get("rows")).first().isEqualTo(List.of("email address", "email_body", "email_subject"));
+	}
+
+	@Test
+	@DisplayName("Test send Request notification with only blank recipients sends nothing")
+	void sendRequestNotificationMultipleBlankRecipients() {
+		final var result = notificationService.sendRequestNotification(
+			List.of("", " "),
+			123L,
+			"Test Request",
+			NotificationService.RequestEvent.CANCELLED,
+			lookupCodes.languages().english());
+
+		assertThat(result).isEmpty();
+		verify(restTemplate, never()).postForObject(any(String.class), any(), any());
+	}
+
+	@Test
+	@DisplayName("Test formatRequestNumber() applies the ####-####-## mask")
+	void formatRequestNumber() {
+		assertThat(notificationService.formatRequestNumber(0L)).isEqualTo("0000-0000-00");
+		assertThat(notificationService.formatRequestNumber(123L)).isEqualTo("0000-0001-23");
+		assertThat(notificationService.formatRequestNumber(9_999_999_999L)).isEqualTo("9999-9999-99");
+	}
+
+	@Test
+	@DisplayName("Test formatRequestNumber() returns ids that do not fit the mask as-is")
+	void formatRequestNumberOutOfRange() {
+		assertThat(notificationService.formatRequestNumber(10_000_000_000L)).isEqualTo("10000000000");
+		assertThat(notificationService.formatRequestNumber(-1L)).isEqualTo("-1");
+	}
+
 }
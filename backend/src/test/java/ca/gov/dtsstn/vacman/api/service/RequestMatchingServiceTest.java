@@ -57,6 +57,7 @@ import ca.gov.dtsstn.vacman.api.data.repository.RequestStatusRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.UserRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.UserTypeRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.WfaStatusRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 
 /**
  * Integration tests for {@link RequestMatchingService}.
@@ -174,6 +175,8 @@ class RequestMatchingServiceTest {
 
 	UserEntity requestSubmitter;
 
+	SimpleMeterRegistry meterRegistry;
+
 	RequestMatchingService requestMatchingService;
 
 
@@ -201,11 +204,14 @@ class RequestMatchingServiceTest {
 		final var applicationProperties = mock(ApplicationProperties.class, org.mockito.Answers.RETURNS_DEEP_STUBS);
 		when(applicationProperties.matches().wfaEndDateGracePeriod()).thenReturn(Duration.ofDays(30));
 
+		this.meterRegistry = new SimpleMeterRegistry();
+
 		this.requestMatchingService = new RequestMatchingService(
 			applicationProperties,
 			lookupCodes,
 			matchRepository,
 			matchStatusRepository,
+			meterRegistry,
 			profileRepository,
 			requestRepository
 		);
@@ -2355,6 +2361,95 @@ class RequestMatchingServiceTest {
 			.allMatch(hasValidWfaStartDate);
 	}
 
+	/**
+	 * Tests that the matching latency is recorded per outcome and candidate pool size class.
+	 *
+	 * Why This Matters: matching latency grows with the number of profiles that meet a request's
+	 * criteria, so latency SLOs can only be tracked meaningfully per candidate pool size.
+	 */
+	@Test
+	@DisplayName("Should record matching latency tagged with outcome and candidate pool size")
+	void shouldRecordMatchingLatencyByCandidatePoolSize() {
+		final var request = requestRepository.save(RequestEntity.builder()
+			.startDate(LocalDate.now().minusDays(60))
+			.endDate(LocalDate.now().plusDays(60))
+			.cities(List.of(ottawa))
+			.classification(findClassification("IT-01"))
+			.languageRequirements(List.of(findLanguageRequirement("BI")))
+			.requestStatus(findRequestStatus("SUBMIT"))
+			.submitter(requestSubmitter)
+			.build());
+
+		for (var i = 0; i < 3; i++) {
+			final var profile = new ProfileTestBuilder(i)
+				.withNamePrefix("Timed")
+				.withUserLanguage(findLanguage("EN"))
+				.withUserType(findUserType("employee"))
+				.withCity(ottawa)
+				.withClassification(findClassification("IT-01"))
+				.withLanguage(findLanguageReferralType("BILINGUAL"))
+				.withProfileStatus(findProfileStatus("APPROVED"))
+				.withWfaStatus(findWfaStatus("AFFECTED"))
+				.build();
+
+			userRepository.save(profile.getUser());
+			profileRepository.save(profile);
+		}
+
+		requestMatchingService.performRequestMatching(request.getId(), 10);
+
+		final var timer = meterRegistry.find(RequestMatchingService.PERFORM_REQUEST_MATCHING_TIMER)
+			.tag("candidate.pool.size", "small")
+			.tag("outcome", "SUCCESS")
+			.timer();
+
+		assertThat(timer).isNotNull();
+		assertThat(timer.count()).isEqualTo(1);
+
+		assertThatThrownBy(() -> requestMatchingService.performRequestMatching(Long.MAX_VALUE, 10))
+			.isInstanceOf(IllegalArgumentException.class);
+
+		assertThat(meterRegistry.find(RequestMatchingService.PERFORM_REQUEST_MATCHING_TIMER)
+			.tag("candidate.pool.size", "unknown")
+			.tag("outcome", "ERROR")
+			.timer()).isNotNull();
+	}
+
+	/**
+	 * Tests that the time spent in each phase of matching, the candidate pool size and the number
+	 * of selected matches are recorded, and that requests with no matches are counted.
+	 *
+	 * Why This Matters: as the profile table grows, these metrics show where matching time goes
+	 * and which classifications are not finding any candidates.
+	 */
+	@Test
+	@DisplayName("Should record phase timings, pool size, match count and empty results")
+	void shouldRecordPhaseTimingsAndEmptyMatches() {
+		final var request = requestRepository.save(RequestEntity.builder()
+			.startDate(LocalDate.now().minusDays(60))
+			.endDate(LocalDate.now().plusDays(60))
+			.cities(List.of(vancouver))
+			.classification(findClassification("IT-01"))
+			.languageRequirements(List.of(findLanguageRequirement("BI")))
+			.requestStatus(findRequestStatus("SUBMIT"))
+			.submitter(requestSubmitter)
+			.build());
+
+		final var matches = requestMatchingService.performRequestMatching(request.getId(), 10);
+
+		assertThat(matches).isEmpty();
+
+		assertThat(List.of("load-request", "candidate-query", "rank", "match-insert"))
+			.allSatisfy(phase -> assertThat(meterRegistry.find(RequestMatchingService.PHASE_TIMER).tag("phase", phase).timer())
+				.as("timer for phase %s", phase)
+				.isNotNull()
+				.satisfies(timer -> assertThat(timer.count()).isEqualTo(1)));
+
+		assertThat(meterRegistry.get(RequestMatchingService.CANDIDATE_POOL_SIZE_SUMMARY).summary().count()).isEqualTo(1);
+		assertThat(meterRegistry.get(RequestMatchingService.SELECTED_MATCHES_SUMMARY).summary().totalAmount()).isZero();
+		assertThat(meterRegistry.get(RequestMatchingService.EMPTY_MATCHES_COUNTER).tag("classification", "IT-01").counter().count()).isEqualTo(1);
+	}
+
 	// -------------------------------------------------------------------------
 	// Entity finders
 	// -------------------------------------------------------------------------
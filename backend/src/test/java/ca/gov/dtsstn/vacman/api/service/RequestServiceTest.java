@@ -4,10 +4,18 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,6 +25,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor.SpecificationFluentQuery;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
@@ -24,6 +34,7 @@ import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes;
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes.MatchStatuses;
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes.RequestStatuses;
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes.UserTypes;
+import ca.gov.dtsstn.vacman.api.data.entity.MatchEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.RequestEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.UserEntity;
 import ca.gov.dtsstn.vacman.api.data.repository.CityRepository;
@@ -44,6 +55,8 @@ import ca.gov.dtsstn.vacman.api.data.repository.WorkScheduleRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.WorkUnitRepository;
 import ca.gov.dtsstn.vacman.api.event.RequestHrAdvisorUpdatedEvent;
 import ca.gov.dtsstn.vacman.api.event.RequestUpdatedEvent;
+import ca.gov.dtsstn.vacman.api.service.dto.MatchQuery;
+import jakarta.persistence.EntityManager;
 
 @ExtendWith(MockitoExtension.class)
 class RequestServiceTest {
@@ -54,6 +67,7 @@ class RequestServiceTest {
 	@Mock ClassificationRepository classificationRepository;
 	@Mock EmploymentEquityRepository employmentEquityRepository;
 	@Mock EmploymentTenureRepository employmentTenureRepository;
+	@Mock EntityManager entityManager;
 	@Mock LanguageRepository languageRepository;
 	@Mock LanguageRequirementRepository languageRequirementRepository;
 	@Mock LookupCodes lookupCodes;
@@ -80,7 +94,7 @@ class RequestServiceTest {
 		when(lookupCodes.requestStatuses()).thenReturn(requestStatuses);
 		when(lookupCodes.matchStatuses()).thenReturn(matchStatuses);
 		when(lookupCodes.userTypes()).thenReturn(userTypes);
-		when(requestRepository.save(any(RequestEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+		lenient().when(requestRepository.save(any(RequestEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
 		requestService = new RequestService(
 			eventPublisher,
@@ -89,6 +103,7 @@ class RequestServiceTest {
 			classificationRepository,
 			employmentEquityRepository,
 			employmentTenureRepository,
+			entityManager,
 			languageRepository,
 			languageRequirementRepository,
 			lookupCodes,
@@ -148,6 +163,30 @@ class RequestServiceTest {
 		assertTrue(requestUpdatedPublished, "RequestUpdatedEvent should always be published");
 	}
 
+	@Test
+	@DisplayName("streamMatchesByRequestId() maps every match and periodically clears the persistence context")
+	@SuppressWarnings({ "unchecked" })
+	void streamMatchesByRequestIdMapsAndClears() {
+		final var fluentQuery = mock(SpecificationFluentQuery.class);
+		when(fluentQuery.project(anyList())).thenReturn(fluentQuery);
+		when(fluentQuery.stream()).thenAnswer(invocation -> IntStream.range(0, 250).mapToObj(i -> new MatchEntity()));
+
+		when(matchRepository.findBy(any(Specification.class), any(Function.class))).thenAnswer(invocation -> {
+			final Function<SpecificationFluentQuery<MatchEntity>, Object> queryFunction = invocation.getArgument(1);
+			return queryFunction.apply(fluentQuery);
+		});
+
+		final var matchQuery = MatchQuery.builder().requestId(1L).build();
+		final var mappedCount = new AtomicInteger();
+
+		requestService.streamMatchesByRequestId(matchQuery, match -> mappedCount.incrementAndGet(), matches -> {
+			assertThat(matches.toList()).hasSize(250);
+		});
+
+		assertThat(mappedCount).hasValue(250);
+		verify(entityManager, times(2)).clear();
+	}
+
 	private RequestEntity buildRequestEntity(Long requestId, Long advisorId, String advisorEmail) {
 		final var request = new RequestEntity();
 		ReflectionTestUtils.setField(request, "id", requestId);
@@ -0,0 +1,32 @@
+package ca.gov.dtsstn.vacman.api.service.email.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("EmailTemplateModel tests")
+class EmailTemplateModelTest {
+
+	@Test
+	@DisplayName("toMap() should map every record component by name")
+	void toMapMapsEveryComponent() {
+		final var model = new EmailTemplateModel.JobOpportunity("0000-0001-23", "Developer", "IT-02", "English", "Ottawa", "Secret", "Jane Doe", "jane.doe@example.com", true, "Merit");
+
+		assertThat(EmailTemplateModel.toMap(model))
+			.hasSize(10)
+			.containsEntry("requestNumber", "0000-0001-23")
+			.containsEntry("submitterEmail", "jane.doe@example.com")
+			.containsEntry("bilingual", true);
+	}
+
+	@Test
+	@DisplayName("toMap() should omit null components")
+	void toMapOmitsNullComponents() {
+		final var model = new EmailTemplateModel.FeedbackApproved("0000-0001-23", null);
+
+		assertThat(EmailTemplateModel.toMap(model))
+			.containsOnlyKeys("requestNumber");
+	}
+
+}
@@ -0,0 +1,107 @@
+package ca.gov.dtsstn.vacman.api.service.http;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+import ca.gov.dtsstn.vacman.api.config.properties.CircuitBreakerProperties;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker.State;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+@ExtendWith({ MockitoExtension.class })
+@DisplayName("CircuitBreakerInterceptor tests")
+class CircuitBreakerInterceptorTest {
+
+	@Mock
+	HttpRequest request;
+
+	@Mock
+	ClientHttpRequestExecution execution;
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	ClientHttpResponse response;
+
+	CircuitBreakerInterceptor circuitBreakerInterceptor;
+
+	@BeforeEach
+	void beforeEach() throws IOException {
+		when(response.getHeaders()).thenReturn(new HttpHeaders());
+		when(response.getStatusText()).thenReturn("");
+
+		final var circuitBreakerProperties = new CircuitBreakerProperties(true, 50f, 100f, Duration.ofSeconds(10), 4, 4, Duration.ofMinutes(1), 1);
+		this.circuitBreakerInterceptor = CircuitBreakerInterceptor.create(CircuitBreakerRegistry.ofDefaults(), "test", circuitBreakerProperties);
+	}
+
+	@Test
+	@DisplayName("Should open after too many 5xx responses and then fail fast")
+	void openOnServerErrors() throws IOException {
+		when(response.getStatusCode()).thenReturn(HttpStatus.SERVICE_UNAVAILABLE);
+		when(execution.execute(any(), any())).thenReturn(response);
+
+		for (var i = 0; i < 4; i++) {
+			circuitBreakerInterceptor.intercept(request, new byte[0], execution);
+		}
+
+		assertThat(circuitBreakerInterceptor.getCircuitBreaker().getState()).isEqualTo(State.OPEN);
+
+		assertThatExceptionOfType(CallNotPermittedException.class)
+			.isThrownBy(() -> circuitBreakerInterceptor.intercept(request, new byte[0], execution));
+	}
+
+	@Test
+	@DisplayName("Should open after too many I/O errors")
+	void openOnIoErrors() throws IOException {
+		when(execution.execute(any(), any())).thenThrow(new IOException("Connection refused"));
+
+		for (var i = 0; i < 4; i++) {
+			assertThatExceptionOfType(IOException.class)
+				.isThrownBy(() -> circuitBreakerInterceptor.intercept(request, new byte[0], execution));
+		}
+
+		assertThat(circuitBreakerInterceptor.getCircuitBreaker().getState()).isEqualTo(State.OPEN);
+	}
+
+	@Test
+	@DisplayName("Should not count 4xx responses as failures")
+	void stayClosedOnClientErrors() throws IOException {
+		when(response.getStatusCode()).thenReturn(HttpStatus.NOT_FOUND);
+		when(execution.execute(any(), any())).thenReturn(response);
+
+		for (var i = 0; i < 4; i++) {
+			circuitBreakerInterceptor.intercept(request, new byte[0], execution);
+		}
+
+		assertThat(circuitBreakerInterceptor.getCircuitBreaker().getState()).isEqualTo(State.CLOSED);
+	}
+
+	@Test
+	@DisplayName("Should not execute the call while open")
+	void skipCallWhileOpen() throws IOException {
+		circuitBreakerInterceptor.getCircuitBreaker().transitionToOpenState();
+
+		assertThatExceptionOfType(CallNotPermittedException.class)
+			.isThrownBy(() -> circuitBreakerInterceptor.intercept(request, new byte[0], execution));
+
+		verify(execution, never()).execute(any(), any());
+	}
+
+}
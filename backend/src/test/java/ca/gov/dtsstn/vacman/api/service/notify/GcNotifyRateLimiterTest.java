@@ -0,0 +1,194 @@
+package ca.gov.dtsstn.vacman.api.service.notify;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.mock.http.client.MockClientHttpResponse;
+
+import ca.gov.dtsstn.vacman.api.config.properties.ApplicationProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.GcNotifyProperties;
+import ca.gov.dtsstn.vacman.api.config.properties.GcNotifyProperties.RateLimitProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith({ MockitoExtension.class })
+@DisplayName("GcNotifyRateLimiter tests")
+class GcNotifyRateLimiterTest {
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	ApplicationProperties applicationProperties;
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	GcNotifyProperties gcNotifyProperties;
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	RateLimitProperties rateLimitProperties;
+
+	SimpleMeterRegistry meterRegistry;
+
+	GcNotifyRateLimiter rateLimiter;
+
+	@BeforeEach
+	void beforeEach() {
+		when(applicationProperties.gcnotify()).thenReturn(gcNotifyProperties);
+		when(gcNotifyProperties.rateLimit()).thenReturn(rateLimitProperties);
+		when(rateLimitProperties.enabled()).thenReturn(true);
+		when(rateLimitProperties.permitsPerSecond()).thenReturn(10.0);
+		when(rateLimitProperties.burstCapacity()).thenReturn(2);
+		when(rateLimitProperties.minPermitsPerSecond()).thenReturn(1.0);
+		when(rateLimitProperties.maxRetries()).thenReturn(2);
+
+		this.meterRegistry = new SimpleMeterRegistry();
+		this.rateLimiter = new GcNotifyRateLimiter(applicationProperties, meterRegistry);
+	}
+
+	@Nested
+	@DisplayName("reserve()")
+	class Reserve {
+
+		@Test
+		@DisplayName("Should not wait while burst capacity remains")
+		void noWaitWithinBurst() {
+			assertThat(rateLimiter.reserve()).isZero();
+			assertThat(rateLimiter.reserve()).isZero();
+		}
+
+		@Test
+		@DisplayName("Should queue callers once burst capacity is exhausted")
+		void waitOnceBurstExhausted() {
+			rateLimiter.reserve();
+			rateLimiter.reserve();
+
+			// at 10 permits/s, each queued caller waits roughly 100ms longer than the one before it
+			assertThat(Duration.ofNanos(rateLimiter.reserve())).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+			assertThat(Duration.ofNanos(rateLimiter.reserve())).isBetween(Duration.ofMillis(150), Duration.ofMillis(200));
+		}
+
+		@Test
+		@DisplayName("Should pause all callers after being throttled")
+		void waitAfterThrottled() {
+			rateLimiter.onThrottled(Duration.ofSeconds(5));
+
+			assertThat(Duration.ofNanos(rateLimiter.reserve())).isGreaterThan(Duration.ofSeconds(4));
+		}
+
+	}
+
+	@Nested
+	@DisplayName("onThrottled() / onSuccess()")
+	class AdaptiveRate {
+
+		@Test
+		@DisplayName("Should halve the rate when throttled, but never below the minimum")
+		void halveRateWhenThrottled() {
+			rateLimiter.onThrottled(Duration.ZERO);
+			assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(5.0);
+
+			rateLimiter.onThrottled(Duration.ZERO);
+			rateLimiter.onThrottled(Duration.ZERO);
+			rateLimiter.onThrottled(Duration.ZERO);
+			assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(1.0);
+
+			assertThat(meterRegistry.get("gcnotify.ratelimiter.throttled").counter().count()).isEqualTo(4.0);
+		}
+
+		@Test
+		@DisplayName("Should recover the rate after successful calls, but never above the maximum")
+		void recoverRateAfterSuccess() {
+			rateLimiter.onThrottled(Duration.ZERO);
+
+			for (var i = 0; i < 50; i++) {
+				rateLimiter.onSuccess();
+			}
+
+			assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(10.0);
+			assertThat(meterRegistry.get("gcnotify.ratelimiter.rate").gauge().value()).isEqualTo(10.0);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("intercept()")
+	class Intercept {
+
+		@Mock
+		HttpRequest request;
+
+		@Mock
+		ClientHttpRequestExecution execution;
+
+		@Test
+		@DisplayName("Should recover the rate after a 2xx response")
+		void recoverRateAfterSuccessfulResponse() throws IOException {
+			rateLimiter.onThrottled(Duration.ZERO);
+			when(execution.execute(request, new byte[0])).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.CREATED));
+
+			rateLimiter.intercept(request, new byte[0], execution);
+
+			assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(5.5);
+		}
+
+		@Test
+		@DisplayName("Should not recover the rate after a 5xx response")
+		void keepRateAfterServerError() throws IOException {
+			rateLimiter.onThrottled(Duration.ZERO);
+			when(execution.execute(request, new byte[0])).thenReturn(new MockClientHttpResponse(new byte[0], HttpStatus.SERVICE_UNAVAILABLE));
+
+			final var response = rateLimiter.intercept(request, new byte[0], execution);
+
+			assertThat(response.getStatusCode()).isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+			assertThat(rateLimiter.getPermitsPerSecond()).isEqualTo(5.0);
+		}
+
+	}
+
+	@Nested
+	@DisplayName("getRetryAfter()")
+	class GetRetryAfter {
+
+		@Test
+		@DisplayName("Should parse delta-seconds")
+		void parseDeltaSeconds() {
+			final var headers = new HttpHeaders();
+			headers.set(HttpHeaders.RETRY_AFTER, "30");
+
+			assertThat(GcNotifyRateLimiter.getRetryAfter(headers)).isEqualTo(Duration.ofSeconds(30));
+		}
+
+		@Test
+		@DisplayName("Should parse an HTTP date")
+		void parseHttpDate() {
+			final var headers = new HttpHeaders();
+			headers.set(HttpHeaders.RETRY_AFTER, ZonedDateTime.now().plusMinutes(1).format(DateTimeFormatter.RFC_1123_DATE_TIME));
+
+			assertThat(GcNotifyRateLimiter.getRetryAfter(headers)).isBetween(Duration.ofSeconds(55), Duration.ofSeconds(60));
+		}
+
+		@Test
+		@DisplayName("Should default to one second when missing or invalid")
+		void defaultWhenMissingOrInvalid() {
+			final var headers = new HttpHeaders();
+			assertThat(GcNotifyRateLimiter.getRetryAfter(headers)).isEqualTo(Duration.ofSeconds(1));
+
+			headers.set(HttpHeaders.RETRY_AFTER, "soon");
+			assertThat(GcNotifyRateLimiter.getRetryAfter(headers)).isEqualTo(Duration.ofSeconds(1));
+		}
+
+	}
+
+}
@@ -0,0 +1,115 @@
+package ca.gov.dtsstn.vacman.api.service.notify;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+/**
+ * A minimal, in-process stand-in for the GC Notify API that records every call it receives.
+ * Responds to {@code POST /email} and {@code POST /bulk} with a canned receipt, or with
+ * {@code 429 Too Many Requests} when told to via {@link #throttleNextCalls(int, int)}.
+ */
+public class GcNotifyStubServer implements AutoCloseable {
+
+	/**
+	 * A call recorded by the stub server.
+	 */
+	public record RecordedCall(String method, String path, String authorization, String body) {}
+
+	private final HttpServer httpServer;
+
+	private final List<RecordedCall> recordedCalls = new CopyOnWriteArrayList<>();
+
+	private final AtomicInteger throttledCalls = new AtomicInteger();
+
+	private volatile int retryAfterSeconds;
+
+	public GcNotifyStubServer() {
+		try {
+			this.httpServer = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+			this.httpServer.createContext("/email", exchange -> respond(exchange, emailReceipt()));
+			this.httpServer.createContext("/bulk", exchange -> respond(exchange, bulkReceipt()));
+			this.httpServer.start();
+		}
+		catch (final IOException exception) {
+			throw new UncheckedIOException(exception);
+		}
+	}
+
+	/**
+	 * The base URL of the stub server, suitable for {@code application.gcnotify.base-url}.
+	 */
+	public String getBaseUrl() {
+		return "http://localhost:%d".formatted(httpServer.getAddress().getPort());
+	}
+
+	public List<RecordedCall> getRecordedCalls() {
+		return List.copyOf(recordedCalls);
+	}
+
+	public List<RecordedCall> getRecordedCalls(String path) {
+		return recordedCalls.stream().filter(call -> call.path().equals(path)).toList();
+	}
+
+	/**
+	 * Responds to the next {@code count} calls with {@code 429 Too Many Requests} and the given {@code Retry-After}.
+	 */
+	public void throttleNextCalls(int count, int retryAfterSeconds) {
+		this.retryAfterSeconds = retryAfterSeconds;
+		this.throttledCalls.set(count);
+	}
+
+	@Override
+	public void close() {
+		httpServer.stop(0);
+	}
+
+	private void respond(HttpExchange exchange, String responseBody) throws IOException {
+		try (exchange) {
+			final var requestBody = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+			final var authorization = exchange.getRequestHeaders().getFirst("Authorization");
+			recordedCalls.add(new RecordedCall(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), authorization, requestBody));
+
+			if (throttledCalls.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+				final var response = "{ \"status_code\": 429, \"errors\": [{ \"error\": \"RateLimitError\" }] }".getBytes(StandardCharsets.UTF_8);
+				exchange.getResponseHeaders().add("Content-Type", "application/json");
+				exchange.getResponseHeaders().add("Retry-After", String.valueOf(retryAfterSeconds));
+				exchange.sendResponseHeaders(429, response.length);
+				exchange.getResponseBody().write(response);
+				return;
+			}
+
+			final var response = responseBody.getBytes(StandardCharsets.UTF_8);
+			exchange.getResponseHeaders().add("Content-Type", "application/json");
+			exchange.sendResponseHeaders(201, response.length);
+			exchange.getResponseBody().write(response);
+		}
+	}
+
+	private String emailReceipt() {
+		return """
+			{
+				"id": "%s",
+				"reference": null,
+				"uri": "https://api.notification.canada.ca/v2/notifications/%1$s",
+				"content": { "body": "body", "from_email": "noreply@example.com", "subject": "subject" },
+				"template": { "id": "00000000-0000-0000-0000-000000000000", "uri": "https://example.com", "version": "1" }
+			}""".formatted(UUID.randomUUID());
+	}
+
+	private String bulkReceipt() {
+		return """
+			{
+				"data": { "id": "%s", "job_status": "pending", "original_file_name": "bulk" }
+			}""".formatted(UUID.randomUUID());
+	}
+
+}
@@ -0,0 +1,153 @@
+package ca.gov.dtsstn.vacman.api.tracing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+
+@DisplayName("AdaptiveSamplingSpanProcessor tests")
+class AdaptiveSamplingSpanProcessorTest {
+
+	final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	final List<String> exportedSpanNames = new CopyOnWriteArrayList<>();
+
+	final SdkTracerProvider tracerProvider = SdkTracerProvider.builder()
+		.setSampler(Sampler.alwaysOn())
+		.addSpanProcessor(new AdaptiveSamplingSpanProcessor(new ExportingSpanProcessor(), 0.0, Duration.ofSeconds(1), List.of("/api/v1/requests/*/run-matches"), 100, meterRegistry))
+		.build();
+
+	final Tracer tracer = tracerProvider.get("test");
+
+	@AfterEach
+	void tearDown() {
+		tracerProvider.close();
+	}
+
+	@Test
+	@DisplayName("Fast, successful traces should be dropped")
+	void dropsFastSuccessfulTraces() {
+		final var rootSpan = tracer.spanBuilder("root").startSpan();
+		tracer.spanBuilder("child").setParent(Context.current().with(rootSpan)).startSpan().end();
+		rootSpan.end();
+
+		assertThat(exportedSpanNames).isEmpty();
+		assertThat(decisionCount("dropped")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("Traces with a failed span should be exported, including the spans that ended before the root span")
+	void exportsFailedTraces() {
+		final var rootSpan = tracer.spanBuilder("root").startSpan();
+		tracer.spanBuilder("child").setParent(Context.current().with(rootSpan)).startSpan().setStatus(StatusCode.ERROR).end();
+		rootSpan.end();
+
+		// spans that end after the root span follow the decision that was made for their trace
+		tracer.spanBuilder("async").setParent(Context.current().with(rootSpan)).startSpan().end();
+
+		assertThat(exportedSpanNames).containsExactly("child", "root", "async");
+		assertThat(decisionCount("error")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("Slow traces should be exported")
+	void exportsSlowTraces() {
+		final var rootSpan = tracer.spanBuilder("root").setStartTimestamp(1, TimeUnit.SECONDS).startSpan();
+		rootSpan.end(3, TimeUnit.SECONDS);
+
+		assertThat(exportedSpanNames).containsExactly("root");
+		assertThat(decisionCount("latency")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("Traces of always-sample routes should be exported")
+	void exportsAlwaysSampleRoutes() {
+		tracer.spanBuilder("http post").setAttribute("uri", "/api/v1/requests/{id}/run-matches").startSpan().end();
+		tracer.spanBuilder("http get").setAttribute("uri", "/api/v1/requests/{id}").startSpan().end();
+
+		assertThat(exportedSpanNames).containsExactly("http post");
+		assertThat(decisionCount("route")).isEqualTo(1.0);
+		assertThat(decisionCount("dropped")).isEqualTo(1.0);
+	}
+
+	@Test
+	@DisplayName("Spans that end while their root span is ending should follow the trace's decision")
+	void exportsSpansEndingConcurrentlyWithTheirRootSpan() throws Exception {
+		final var childCount = 4;
+		final var traceCount = 200;
+
+		try (final var executor = Executors.newFixedThreadPool(childCount)) {
+			for (var i = 0; i < traceCount; i++) {
+				final var rootSpan = tracer.spanBuilder("root").startSpan().setStatus(StatusCode.ERROR);
+				final var childSpans = IntStream.range(0, childCount)
+					.mapToObj(j -> tracer.spanBuilder("child").setParent(Context.current().with(rootSpan)).startSpan())
+					.toList();
+
+				final var start = new CountDownLatch(1);
+				final var futures = childSpans.stream()
+					.map(childSpan -> executor.submit(() -> { start.await(); childSpan.end(); return null; }))
+					.toList();
+
+				start.countDown();
+				rootSpan.end();
+
+				for (final var future : futures) { future.get(); }
+			}
+		}
+
+		assertThat(exportedSpanNames).hasSize(traceCount * (childCount + 1));
+		assertThat(decisionCount("error")).isEqualTo(traceCount);
+	}
+
+	double decisionCount(String rule) {
+		return meterRegistry.get(AdaptiveSamplingSpanProcessor.DECISIONS_COUNTER).tag("rule", rule).counter().count();
+	}
+
+	class ExportingSpanProcessor implements SpanProcessor {
+
+		@Override
+		public void onStart(Context parentContext, ReadWriteSpan span) {}
+
+		@Override
+		public boolean isStartRequired() {
+			return false;
+		}
+
+		@Override
+		public void onEnd(ReadableSpan span) {
+			exportedSpanNames.add(span.getName());
+		}
+
+		@Override
+		public boolean isEndRequired() {
+			return true;
+		}
+
+		@Override
+		public CompletableResultCode shutdown() {
+			return CompletableResultCode.ofSuccess();
+		}
+
+	}
+
+}
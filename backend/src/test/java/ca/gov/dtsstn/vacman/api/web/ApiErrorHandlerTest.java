@@ -26,6 +26,8 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
 
 import ca.gov.dtsstn.vacman.api.web.exception.UnauthorizedException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.micrometer.core.instrument.MeterRegistry;
 
 @ExtendWith(MockitoExtension.class)
@@ -156,4 +158,35 @@ class ApiErrorHandlerTest {
 			});
 	}
 
+	@Test
+	@DisplayName("handleCallNotPermittedException should return ServiceUnavailable with ProblemDetail")
+	void handleCallNotPermittedException_returnsServiceUnavailableWithProblemDetail() {
+		final var circuitBreaker = CircuitBreaker.ofDefaults("msgraph");
+		circuitBreaker.transitionToOpenState();
+
+		final var responseEntity = apiErrorHandler.handleCallNotPermittedException(CallNotPermittedException.createCallNotPermittedException(circuitBreaker), mock(WebRequest.class));
+
+		assertThat(responseEntity)
+			.extracting(ResponseEntity::getStatusCode)
+			.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+
+		assertThat(responseEntity)
+			.extracting(ResponseEntity::getBody, type(ProblemDetail.class))
+			.satisfies(problemDetail -> {
+				assertThat(problemDetail)
+					.extracting(ProblemDetail::getStatus)
+					.isEqualTo(HttpStatus.SERVICE_UNAVAILABLE.value());
+
+				assertThat(problemDetail)
+					.extracting(ProblemDetail::getProperties)
+					.satisfies(properties -> {
+						assertThat(properties)
+							.containsKey("correlationId")
+							.containsKey("errorCode");
+
+						assertThat(properties.get("errorCode")).isEqualTo("API-0503");
+					});
+			});
+	}
+
 }
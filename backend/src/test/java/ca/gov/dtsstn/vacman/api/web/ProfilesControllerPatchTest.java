@@ -0,0 +1,150 @@
+package ca.gov.dtsstn.vacman.api.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase.Replace;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes;
+import ca.gov.dtsstn.vacman.api.data.entity.ProfileEntity;
+import ca.gov.dtsstn.vacman.api.data.entity.UserEntity;
+import ca.gov.dtsstn.vacman.api.data.repository.CityRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.ClassificationRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.EmploymentOpportunityRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.LanguageReferralTypeRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.LanguageRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.ProfileRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.ProfileStatusRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.UserRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.UserTypeRepository;
+
+/**
+ * Tests {@code PATCH /api/v1/profiles/{id}} against the real {@code ProfileService} (which
+ * {@link ProfilesControllerTest} mocks), so that the patched model is actually applied.
+ */
+@Transactional
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles({ "test" })
+@DisplayName("PATCH /api/v1/profiles/{id}")
+@AutoConfigureTestDatabase(replace = Replace.NONE)
+class ProfilesControllerPatchTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	CityRepository cityRepository;
+
+	@Autowired
+	ClassificationRepository classificationRepository;
+
+	@Autowired
+	EmploymentOpportunityRepository employmentOpportunityRepository;
+
+	@Autowired
+	LanguageReferralTypeRepository languageReferralTypeRepository;
+
+	@Autowired
+	LanguageRepository languageRepository;
+
+	@Autowired
+	ProfileRepository profileRepository;
+
+	@Autowired
+	ProfileStatusRepository profileStatusRepository;
+
+	@Autowired
+	UserRepository userRepository;
+
+	@Autowired
+	UserTypeRepository userTypeRepository;
+
+	@Autowired
+	LookupCodes lookupCodes;
+
+	ProfileEntity profile;
+
+	@BeforeEach
+	void setUp() {
+		final var employee = userRepository.save(UserEntity.builder()
+			.firstName("Test").lastName("Employee")
+			.businessEmailAddress("employee@example.com")
+			.microsoftEntraId("bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb")
+			.userType(userTypeRepository.findByCode(lookupCodes.userTypes().employee()).orElseThrow())
+			.language(languageRepository.getReferenceById(1L))
+			.build());
+
+		this.profile = profileRepository.save(ProfileEntity.builder()
+			.user(employee)
+			.additionalComment("Initial comment")
+			.profileStatus(profileStatusRepository.findByCode(lookupCodes.profileStatuses().incomplete()).orElseThrow())
+			.preferredCities(List.of(cityRepository.getReferenceById(1L), cityRepository.getReferenceById(2L)))
+			.preferredClassifications(List.of(classificationRepository.getReferenceById(1L)))
+			.preferredEmploymentOpportunities(List.of(employmentOpportunityRepository.getReferenceById(1L)))
+			.preferredLanguages(List.of(languageReferralTypeRepository.getReferenceById(1L)))
+			.createdBy("TestUser")
+			.createdDate(Instant.EPOCH)
+			.lastModifiedBy("TestUser")
+			.lastModifiedDate(Instant.EPOCH)
+			.build());
+	}
+
+	@Test
+	@DisplayName("Should only update the patched fields")
+	@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+	void patchProfile_shouldOnlyUpdatePatchedFields() throws Exception {
+		mockMvc.perform(patch("/api/v1/profiles/{id}", profile.getId())
+				.contentType("application/merge-patch+json")
+				.content("""
+					{ "additionalComment": "Updated comment", "preferredCities": [ 3 ] }
+					"""))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.additionalComment", is("Updated comment")))
+			.andExpect(jsonPath("$.preferredCities.length()", is(1)))
+			.andExpect(jsonPath("$.preferredCities[0].id", is(3)))
+			.andExpect(jsonPath("$.preferredClassifications.length()", is(1)));
+	}
+
+	@Test
+	@DisplayName("Should clear the preferences that are patched to null")
+	@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+	void patchProfile_shouldClearNullCollections() throws Exception {
+		mockMvc.perform(patch("/api/v1/profiles/{id}", profile.getId())
+				.contentType("application/merge-patch+json")
+				.content("""
+					{
+						"preferredCities": null,
+						"preferredClassification": null,
+						"preferredEmploymentOpportunities": null,
+						"preferredLanguages": null
+					}
+					"""))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.additionalComment", is("Initial comment")));
+
+		final var patchedProfile = profileRepository.findById(profile.getId()).orElseThrow();
+		assertThat(patchedProfile.getPreferredCities()).isEmpty();
+		assertThat(patchedProfile.getPreferredClassifications()).isEmpty();
+		assertThat(patchedProfile.getPreferredEmploymentOpportunities()).isEmpty();
+		assertThat(patchedProfile.getPreferredLanguages()).isEmpty();
+	}
+
+}
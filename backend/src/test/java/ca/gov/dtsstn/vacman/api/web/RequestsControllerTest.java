@@ -5,6 +5,7 @@ import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
@@ -12,6 +13,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -27,9 +30,13 @@ import org.springframework.security.test.context.support.WithAnonymousUser;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
 import org.springframework.transaction.annotation.Transactional;
 
 import ca.gov.dtsstn.vacman.api.config.properties.LookupCodes;
+import ca.gov.dtsstn.vacman.api.data.entity.CityEntity;
+import ca.gov.dtsstn.vacman.api.data.entity.MatchEntity;
+import ca.gov.dtsstn.vacman.api.data.entity.ProfileEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.RequestEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.RequestStatusEntity;
 import ca.gov.dtsstn.vacman.api.data.entity.UserEntity;
@@ -39,7 +46,11 @@ import ca.gov.dtsstn.vacman.api.data.repository.EmploymentEquityRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.EmploymentTenureRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.LanguageRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.LanguageRequirementRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.MatchRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.MatchStatusRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.NonAdvertisedAppointmentRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.ProfileRepository;
+import ca.gov.dtsstn.vacman.api.data.repository.ProfileStatusRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.RequestRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.RequestStatusRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.SecurityClearanceRepository;
@@ -48,6 +59,7 @@ import ca.gov.dtsstn.vacman.api.data.repository.UserRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.UserTypeRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.WorkScheduleRepository;
 import ca.gov.dtsstn.vacman.api.data.repository.WorkUnitRepository;
+import ca.gov.dtsstn.vacman.api.web.export.SpreadsheetMediaTypes;
 import ca.gov.dtsstn.vacman.api.web.model.RequestStatusUpdateModel;
 import ca.gov.dtsstn.vacman.api.web.model.RequestUpdateModel;
 import ca.gov.dtsstn.vacman.api.web.model.RequestUpdateModelBuilder;
@@ -112,6 +124,18 @@ class RequestsControllerTest {
 	@Autowired
 	EmploymentEquityRepository employmentEquityRepository;
 
+	@Autowired
+	MatchRepository matchRepository;
+
+	@Autowired
+	MatchStatusRepository matchStatusRepository;
+
+	@Autowired
+	ProfileRepository profileRepository;
+
+	@Autowired
+	ProfileStatusRepository profileStatusRepository;
+
 	@Autowired
 	LookupCodes lookupCodes;
 
@@ -627,6 +651,35 @@ class RequestsControllerTest {
 				.andExpect(jsonPath("$.content[0].englishTitle", is("Software Developer")));
 		}
 
+		@Test
+		@DisplayName("Should only return the requested fields when a sparse fieldset is requested")
+		@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+		void testGetAllRequestsWithSparseFieldset() throws Exception {
+			requestRepository.save(RequestEntity.builder()
+				.classification(classificationRepository.getReferenceById(1L))
+				.hiringManager(hiringManager)
+				.hrAdvisor(hrAdvisor)
+				.language(languageRepository.getReferenceById(1L))
+				.nameEn("Software Developer")
+				.nameFr("Développeur logiciel")
+				.requestNumber("REQ-001")
+				.requestStatus(requestStatusRepository.findByCode(lookupCodes.requestStatuses().hrReview()).orElseThrow())
+				.submitter(submitter)
+				.workUnit(workUnitRepository.getReferenceById(1L))
+				.build());
+
+			mockMvc.perform(get("/api/v1/requests").param("fields", "englishTitle,hrAdvisor"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content.length()", is(1)))
+				.andExpect(jsonPath("$.content[0].id").exists())
+				.andExpect(jsonPath("$.content[0].englishTitle", is("Software Developer")))
+				.andExpect(jsonPath("$.content[0].hrAdvisor.id", is(hrAdvisor.getId().intValue())))
+				.andExpect(jsonPath("$.content[0].frenchTitle").doesNotExist())
+				.andExpect(jsonPath("$.content[0].hiringManager").doesNotExist())
+				.andExpect(jsonPath("$.content[0].hasMatches").doesNotExist())
+				.andExpect(jsonPath("$.page.totalElements", is(1)));
+		}
+
 		@Test
 		@DisplayName("Should return 401 Unauthorized when not authenticated")
 		@WithAnonymousUser
@@ -1172,6 +1225,298 @@ class RequestsControllerTest {
 
 	}
 
+	@Nested
+	@DisplayName("POST /api/v1/requests/{id}/matches/feedback-import")
+	class ImportRequestMatchFeedback {
+
+		RequestEntity request;
+
+		MatchEntity match;
+
+		@BeforeEach
+		void setUp() {
+			this.request = requestRepository.save(RequestEntity.builder()
+				.classification(classificationRepository.getReferenceById(1L))
+				.hiringManager(hiringManager)
+				.hrAdvisor(hrAdvisor)
+				.nameEn("Feedback Import")
+				.nameFr("Importation de rétroaction")
+				.requestNumber("IMPORT-001")
+				.requestStatus(requestStatusRepository.findByCode(lookupCodes.requestStatuses().feedbackPending()).orElseThrow())
+				.submitter(submitter)
+				.workUnit(workUnitRepository.getReferenceById(1L))
+				.build());
+
+			final var profile = profileRepository.save(ProfileEntity.builder()
+				.user(submitter)
+				.profileStatus(profileStatusRepository.findByCode(lookupCodes.profileStatuses().approved()).orElseThrow())
+				.build());
+
+			this.match = matchRepository.save(MatchEntity.builder()
+				.profile(profile)
+				.request(request)
+				.matchStatus(matchStatusRepository.findByCode(lookupCodes.matchStatuses().inProgress()).orElseThrow())
+				.build());
+		}
+
+		@Test
+		@DisplayName("Should update the feedback and comments of the imported matches")
+		@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+		void testImportMatchFeedback() throws Exception {
+			mockMvc.perform(post("/api/v1/requests/{id}/matches/feedback-import", request.getId())
+					.contentType(SpreadsheetMediaTypes.CSV)
+					.content("""
+						Match ID,Match Feedback,Hiring Manager Comment
+						%d,No response,Left a voicemail
+						""".formatted(match.getId())))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.rowCount", is(1)))
+				.andExpect(jsonPath("$.updatedCount", is(1)));
+
+			final var updatedMatch = matchRepository.findById(match.getId()).orElseThrow();
+			assertThat(updatedMatch.getMatchFeedback().getCode()).isEqualTo("NR-PR");
+			assertThat(updatedMatch.getHiringManagerComment()).isEqualTo("Left a voicemail");
+		}
+
+		@Test
+		@DisplayName("Should return 422 if the spreadsheet is missing a required column")
+		@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+		void testImportMatchFeedbackWithMissingColumn() throws Exception {
+			mockMvc.perform(post("/api/v1/requests/{id}/matches/feedback-import", request.getId())
+					.contentType(SpreadsheetMediaTypes.CSV)
+					.content("""
+						Match ID,Hiring Manager Comment
+						%d,Left a voicemail
+						""".formatted(match.getId())))
+				.andExpect(status().isUnprocessableContent())
+				.andExpect(jsonPath("$.errors[0].rowNumber", is(1)))
+				.andExpect(jsonPath("$.errors[0].field", is("headers")));
+		}
+
+		@Test
+		@DisplayName("Should return 422 if the spreadsheet is malformed")
+		@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+		void testImportMatchFeedbackWithMalformedSpreadsheet() throws Exception {
+			mockMvc.perform(post("/api/v1/requests/{id}/matches/feedback-import", request.getId())
+					.contentType(SpreadsheetMediaTypes.CSV)
+					.content("""
+						Match ID,Match Feedback
+						%d,"No response
+						""".formatted(match.getId())))
+				.andExpect(status().isUnprocessableContent())
+				.andExpect(jsonPath("$.updatedCount", is(0)))
+				.andExpect(jsonPath("$.errors[0].rowNumber", is(2)))
+				.andExpect(jsonPath("$.errors[0].field", is("spreadsheet")));
+
+			mockMvc.perform(post("/api/v1/requests/{id}/matches/feedback-import", request.getId())
+					.contentType(SpreadsheetMediaTypes.OPENDOCUMENT_SPREADSHEET)
+					.content("not an ods document"))
+				.andExpect(status().isUnprocessableContent())
+				.andExpect(jsonPath("$.errors[0].field", is("spreadsheet")));
+
+			assertThat(matchRepository.findById(match.getId()).orElseThrow().getMatchFeedback()).isNull();
+		}
+
+		@Test
+		@DisplayName("Should return 422 if the spreadsheet has too many rows")
+		@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+		void testImportMatchFeedbackWithTooManyRows() throws Exception {
+			final var rows = IntStream.rangeClosed(1, RequestsController.MAX_FEEDBACK_IMPORT_ROWS + 1)
+				.mapToObj(i -> match.getId() + ",No response")
+				.collect(Collectors.joining("\n", "Match ID,Match Feedback\n", "\n"));
+
+			mockMvc.perform(post("/api/v1/requests/{id}/matches/feedback-import", request.getId())
+					.contentType(SpreadsheetMediaTypes.CSV)
+					.content(rows))
+				.andExpect(status().isUnprocessableContent())
+				.andExpect(jsonPath("$.rowCount", is(RequestsController.MAX_FEEDBACK_IMPORT_ROWS)))
+				.andExpect(jsonPath("$.errors[0].rowNumber", is(RequestsController.MAX_FEEDBACK_IMPORT_ROWS + 2)))
+				.andExpect(jsonPath("$.errors[0].field", is("rows")));
+		}
+
+	}
+
+	@Nested
+	@DisplayName("POST /api/v1/requests/{id}/matches/exports")
+	class CreateRequestMatchesExport {
+
+		RequestEntity request;
+
+		@BeforeEach
+		void setUp() {
+			this.request = requestRepository.save(RequestEntity.builder()
+				.classification(classificationRepository.getReferenceById(1L))
+				.hiringManager(hiringManager)
+				.hrAdvisor(hrAdvisor)
+				.nameEn("Matches Export")
+				.nameFr("Exportation des jumelages")
+				.requestNumber("EXPORT-001")
+				.requestStatus(requestStatusRepository.findByCode(lookupCodes.requestStatuses().feedbackPending()).orElseThrow())
+				.submitter(submitter)
+				.workUnit(workUnitRepository.getReferenceById(1L))
+				.build());
+		}
+
+		@Test
+		@DisplayName("Should export filtered and unfiltered matches separately")
+		@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+		void testCreateMatchesExportWithFilters() throws Exception {
+			final var unfilteredExportId = createExport(post("/api/v1/requests/{id}/matches/exports", request.getId()));
+
+			final var filteredExportId = createExport(post("/api/v1/requests/{id}/matches/exports", request.getId())
+				.param("matchFeedbackId", "2", "1")
+				.param("profile.employeeName", "Smith"));
+
+			final var reorderedFilteredExportId = createExport(post("/api/v1/requests/{id}/matches/exports", request.getId())
+				.param("matchFeedbackId", "1", "2")
+				.param("profile.employeeName", "Smith"));
+
+			assertThat(filteredExportId).isNotEqualTo(unfilteredExportId);
+			assertThat(reorderedFilteredExportId).isEqualTo(filteredExportId);
+		}
+
+		@Test
+		@DisplayName("Should return 403 Forbidden when the user can only read the request")
+		@WithMockUser(username = "bbbbbbbb-bbbb-bbbb-bbbb-bbbbbbbbbbbb", authorities = { "employee" })
+		void testCreateMatchesExportForbiddenForDelegate() throws Exception {
+			mockMvc.perform(post("/api/v1/requests/{id}/matches/exports", request.getId()))
+				.andExpect(status().isForbidden());
+		}
+
+		@Test
+		@DisplayName("Should export matches when the user owns the request")
+		@WithMockUser(username = "cccccccc-cccc-cccc-cccc-cccccccccccc", authorities = { "employee" })
+		void testCreateMatchesExportAsOwner() throws Exception {
+			mockMvc.perform(post("/api/v1/requests/{id}/matches/exports", request.getId()))
+				.andExpect(status().isAccepted())
+				.andExpect(jsonPath("$.id", notNullValue()));
+		}
+
+		private String createExport(MockHttpServletRequestBuilder requestBuilder) throws Exception {
+			final var response = mockMvc.perform(requestBuilder)
+				.andExpect(status().isAccepted())
+				.andReturn().getResponse().getContentAsString();
+
+			return objectMapper.readTree(response).get("id").asString();
+		}
+
+	}
+
+	@Nested
+	@DisplayName("PATCH /api/v1/requests/{id}")
+	class PatchRequest {
+
+		@Test
+		@DisplayName("Should only update the patched fields")
+		@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+		void testPatchRequestUpdatesOnlyPatchedFields() throws Exception {
+			final var request = requestRepository.save(RequestEntity.builder()
+				.additionalComment("Initial comment")
+				.cities(List.of(
+					cityRepository.getReferenceById(1L),
+					cityRepository.getReferenceById(2L)))
+				.classification(classificationRepository.getReferenceById(1L))
+				.hiringManager(hiringManager)
+				.hrAdvisor(hrAdvisor)
+				.nameEn("Business Analyst")
+				.nameFr("Analyste d'affaires")
+				.requestNumber("REQ-020")
+				.requestStatus(requestStatusRepository.findByCode(lookupCodes.requestStatuses().draft()).orElseThrow())
+				.submitter(submitter)
+				.workUnit(workUnitRepository.getReferenceById(1L))
+				.build());
+
+			mockMvc.perform(patch("/api/v1/requests/{id}", request.getId())
+					.contentType("application/merge-patch+json")
+					.content("""
+						{ "englishTitle": "Senior Business Analyst", "additionalComment": null }
+						"""))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.id", is(request.getId().intValue())))
+				.andExpect(jsonPath("$.englishTitle", is("Senior Business Analyst")))
+				.andExpect(jsonPath("$.frenchTitle", is("Analyste d'affaires")))
+				.andExpect(jsonPath("$.cities.length()", is(2)))
+				.andExpect(jsonPath("$.hrAdvisor.id", is(hrAdvisor.getId().intValue())));
+
+			final var updatedRequest = requestRepository.findById(request.getId()).orElseThrow();
+			assertThat(updatedRequest.getAdditionalComment()).isNull();
+			assertThat(updatedRequest.getNameEn()).isEqualTo("Senior Business Analyst");
+			assertThat(updatedRequest.getNameFr()).isEqualTo("Analyste d'affaires");
+			assertThat(updatedRequest.getCities()).hasSize(2);
+			assertThat(updatedRequest.getHiringManager().getId()).isEqualTo(hiringManager.getId());
+		}
+
+		@Test
+		@DisplayName("Should replace a collection when it is patched")
+		@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+		void testPatchRequestReplacesPatchedCollection() throws Exception {
+			final var request = requestRepository.save(RequestEntity.builder()
+				.cities(List.of(
+					cityRepository.getReferenceById(1L),
+					cityRepository.getReferenceById(2L)))
+				.classification(classificationRepository.getReferenceById(1L))
+				.employmentEquities(List.of(
+					employmentEquityRepository.getReferenceById(1L)))
+				.hiringManager(hiringManager)
+				.nameEn("Policy Analyst")
+				.nameFr("Analyste des politiques")
+				.requestNumber("REQ-021")
+				.requestStatus(requestStatusRepository.findByCode(lookupCodes.requestStatuses().draft()).orElseThrow())
+				.submitter(submitter)
+				.workUnit(workUnitRepository.getReferenceById(1L))
+				.build());
+
+			mockMvc.perform(patch("/api/v1/requests/{id}", request.getId())
+					.contentType("application/merge-patch+json")
+					.content("""
+						{ "cityIds": [ { "value": 2 } ] }
+						"""))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.cities.length()", is(1)))
+				.andExpect(jsonPath("$.cities[0].id", is(2)))
+				.andExpect(jsonPath("$.employmentEquities.length()", is(1)));
+
+			final var updatedRequest = requestRepository.findById(request.getId()).orElseThrow();
+			assertThat(updatedRequest.getCities()).extracting(CityEntity::getId).containsExactly(2L);
+			assertThat(updatedRequest.getEmploymentEquities()).hasSize(1);
+		}
+
+		@Test
+		@DisplayName("Should return 400 when the patched request is invalid")
+		@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+		void testPatchRequestValidationFails() throws Exception {
+			final var request = requestRepository.save(RequestEntity.builder()
+				.classification(classificationRepository.getReferenceById(1L))
+				.hiringManager(hiringManager)
+				.nameEn("Policy Analyst")
+				.nameFr("Analyste des politiques")
+				.requestNumber("REQ-022")
+				.requestStatus(requestStatusRepository.findByCode(lookupCodes.requestStatuses().draft()).orElseThrow())
+				.submitter(submitter)
+				.build());
+
+			mockMvc.perform(patch("/api/v1/requests/{id}", request.getId())
+					.contentType("application/merge-patch+json")
+					.content("""
+						{ "positionNumbers": "invalid" }
+						"""))
+				.andExpect(status().isBadRequest());
+		}
+
+		@Test
+		@DisplayName("Should return 404 when request does not exist")
+		@WithMockUser(username = "aaaaaaaa-aaaa-aaaa-aaaa-aaaaaaaaaaaa", authorities = { "hr-advisor" })
+		void testPatchRequestNotFound() throws Exception {
+			mockMvc.perform(patch("/api/v1/requests/{id}", 999999L)
+					.contentType("application/merge-patch+json")
+					.content("""
+						{ "englishTitle": "Non-existent Request" }
+						"""))
+				.andExpect(status().isNotFound());
+		}
+
+	}
+
 	@Nested
 	@DisplayName("PUT /api/v1/requests/{id}/status-change")
 	class UpdateRequestStatus {
@@ -234,6 +234,26 @@ class UsersControllerTest {
 				.andExpect(jsonPath("$.content[*].businessEmailAddress", hasItem("employee@example.com")));
 		}
 
+		@Test
+		@WithMockUser(username = "01010101-0101-0101-0101-010101010101", authorities = { "hr-advisor" })
+		@DisplayName("Should only return the requested fields when a sparse fieldset is requested")
+		void testGetUsersWithSparseFieldset() throws Exception {
+			userRepository.save(UserEntity.builder()
+				.firstName("HR").lastName("Advisor")
+				.businessEmailAddress("hr.advisor@example.com")
+				.microsoftEntraId("01010101-0101-0101-0101-010101010101")
+				.userType(userTypeRepository.findByCode("HRA").orElseThrow())
+				.language(languageRepository.getReferenceById(1L))
+				.build());
+
+			mockMvc.perform(get("/api/v1/users").param("fields", "firstName"))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].id").exists())
+				.andExpect(jsonPath("$.content[0].firstName", is("HR")))
+				.andExpect(jsonPath("$.content[0].lastName").doesNotExist())
+				.andExpect(jsonPath("$.content[0].businessEmailAddress").doesNotExist());
+		}
+
 		@Test
 		@DisplayName("Should allow regular user to view users list")
 		@WithMockUser(username = "01010101-0101-0101-0101-010101010101", authorities = { "employee" })
@@ -563,6 +583,35 @@ class UsersControllerTest {
 			assertThat(updatedUser.getBusinessEmailAddress()).isEqualTo("overwritten@example.com");
 		}
 
+		@Test
+		@DisplayName("Should return the whole user even if a sparse fieldset is requested")
+		@WithMockUser(username = "01010101-0101-0101-0101-010101010101", authorities = { "hr-advisor" })
+		void testOverwriteUserIgnoresSparseFieldset() throws Exception {
+			final var user = userRepository.save(UserEntity.builder()
+				.firstName("Original").lastName("Name")
+				.businessEmailAddress("original@example.com")
+				.microsoftEntraId("99999999-9999-9999-9999-999999999999")
+				.userType(userTypeRepository.findByCode("employee").orElseThrow())
+				.language(languageRepository.getReferenceById(1L))
+				.build());
+
+			final var updateModel = UserPatchModel.builder()
+				.firstName("Overwritten")
+				.lastName("User")
+				.businessEmail("overwritten@example.com")
+				.languageId(1L)
+				.build();
+
+			mockMvc.perform(put("/api/v1/users/{id}", user.getId())
+					.param("fields", "firstName")
+					.contentType(MediaType.APPLICATION_JSON)
+					.content(objectMapper.writeValueAsString(updateModel)))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.firstName", is("Overwritten")))
+				.andExpect(jsonPath("$.lastName", is("User")))
+				.andExpect(jsonPath("$.businessEmailAddress", is("overwritten@example.com")));
+		}
+
 		@Test
 		@DisplayName("Should return 404 Not Found if user does not exist")
 		@WithMockUser(username = "01010101-0101-0101-0101-010101010101", authorities = { "hr-advisor" })
@@ -0,0 +1,95 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CsvSpreadsheetReader tests")
+class CsvSpreadsheetReaderTest {
+
+	@Test
+	@DisplayName("Should read back a file written by CsvSpreadsheetWriter")
+	void readWrittenCsv() throws IOException {
+		final var outputStream = new ByteArrayOutputStream();
+
+		try (final var csvWriter = new CsvSpreadsheetWriter(outputStream, List.of("Name", "Comment"))) {
+			csvWriter.writeRow(List.of("Jane Doe", "Said \"hi\", then left"));
+			csvWriter.writeRow(Arrays.asList("Zoë", null));
+			csvWriter.writeRow(List.of("John", "Line one\nLine two"));
+			csvWriter.writeRow(List.of("=1+1", "-5"));
+		}
+
+		try (final var csvReader = new CsvSpreadsheetReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+			assertThat(csvReader.getHeaders()).containsExactly("Name", "Comment");
+			assertThat(csvReader.readRow()).containsExactly("Jane Doe", "Said \"hi\", then left");
+			assertThat(csvReader.readRow()).containsExactly("Zoë", "");
+			assertThat(csvReader.readRow()).containsExactly("John", "Line one\nLine two");
+			assertThat(csvReader.getRowNumber()).isEqualTo(4);
+			assertThat(csvReader.readRow()).containsExactly("=1+1", "-5");
+			assertThat(csvReader.readRow()).isNull();
+		}
+	}
+
+	@Test
+	@DisplayName("Should accept LF line endings and files without a BOM or trailing newline")
+	void readLfCsv() throws IOException {
+		final var csv = "A,B\n1,2\n3,4";
+
+		try (final var csvReader = new CsvSpreadsheetReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+			assertThat(csvReader.getHeaders()).containsExactly("A", "B");
+			assertThat(csvReader.readRow()).containsExactly("1", "2");
+			assertThat(csvReader.readRow()).containsExactly("3", "4");
+			assertThat(csvReader.readRow()).isNull();
+		}
+	}
+
+	@Test
+	@DisplayName("Should return no headers for an empty file")
+	void readEmptyCsv() throws IOException {
+		try (final var csvReader = new CsvSpreadsheetReader(new ByteArrayInputStream(new byte[0]))) {
+			assertThat(csvReader.getHeaders()).isEmpty();
+			assertThat(csvReader.readRow()).isNull();
+		}
+	}
+
+	@Test
+	@DisplayName("Should reject unterminated quoted values")
+	void rejectUnterminatedQuotes() throws IOException {
+		final var csv = "A\r\n\"never closed\r\n";
+
+		try (final var csvReader = new CsvSpreadsheetReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+			assertThatIOException().isThrownBy(csvReader::readRow);
+		}
+	}
+
+	@Test
+	@DisplayName("Should ignore columns past the maximum column count")
+	void ignoreExtraColumns() throws IOException {
+		final var csv = "A\r\n" + "x,".repeat(CsvSpreadsheetReader.MAX_COLUMN_COUNT * 2) + "x\r\n";
+
+		try (final var csvReader = new CsvSpreadsheetReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+			assertThat(csvReader.readRow()).hasSize(CsvSpreadsheetReader.MAX_COLUMN_COUNT);
+			assertThat(csvReader.readRow()).isNull();
+		}
+	}
+
+	@Test
+	@DisplayName("Should reject values longer than the maximum value length")
+	void rejectLongValues() throws IOException {
+		final var csv = "A\r\n\"" + "x".repeat(CsvSpreadsheetReader.MAX_VALUE_LENGTH + 1) + "\"\r\n";
+
+		try (final var csvReader = new CsvSpreadsheetReader(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)))) {
+			assertThatIOException().isThrownBy(csvReader::readRow);
+		}
+	}
+
+}
@@ -0,0 +1,48 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("CsvSpreadsheetWriter tests")
+class CsvSpreadsheetWriterTest {
+
+	@Test
+	@DisplayName("Should write a BOM, a header row and RFC 4180 quoted data rows")
+	void writeCsv() throws IOException {
+		final var outputStream = new ByteArrayOutputStream();
+
+		try (final var csvWriter = new CsvSpreadsheetWriter(outputStream, List.of("Name", "Comment"))) {
+			csvWriter.writeRow(List.of("Jane Doe", "Said \"hi\", then left"));
+			csvWriter.writeRow(Arrays.asList("Zoë", null));
+			csvWriter.writeRow(List.of("John", "Line one\nLine two"));
+		}
+
+		assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(
+			"\uFEFFName,Comment\r\n" +
+			"Jane Doe,\"Said \"\"hi\"\", then left\"\r\n" +
+			"Zoë,\r\n" +
+			"John,\"Line one\nLine two\"\r\n");
+	}
+
+	@Test
+	@DisplayName("Should neutralize values that would be interpreted as formulas")
+	void escapeFormulas() throws IOException {
+		final var outputStream = new ByteArrayOutputStream();
+
+		try (final var csvWriter = new CsvSpreadsheetWriter(outputStream, List.of("A", "B", "C"))) {
+			csvWriter.writeRow(List.of("=HYPERLINK(\"http://example.com\")", "+1", "@SUM(A1)"));
+		}
+
+		assertThat(outputStream.toString(StandardCharsets.UTF_8))
+			.endsWith("\"'=HYPERLINK(\"\"http://example.com\"\")\",'+1,'@SUM(A1)\r\n");
+	}
+
+}
@@ -0,0 +1,95 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIOException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("OdsSpreadsheetReader tests")
+class OdsSpreadsheetReaderTest {
+
+	@Test
+	@DisplayName("Should read back a document written by OdsSpreadsheetWriter")
+	void readWrittenSpreadsheet() throws IOException {
+		final var outputStream = new ByteArrayOutputStream();
+
+		try (final var odsWriter = new OdsSpreadsheetWriter(outputStream, "Matches", List.of("First Name", "Last Name", "Comment"))) {
+			odsWriter.writeRow(List.of("Jane", "Doe", "Line one\nLine two"));
+			odsWriter.writeRow(Arrays.asList(null, null, null));
+			odsWriter.writeRow(Arrays.asList("John", "<Smith & Sons>", null));
+		}
+
+		try (final var odsReader = new OdsSpreadsheetReader(new ByteArrayInputStream(outputStream.toByteArray()))) {
+			assertThat(odsReader.getHeaders()).containsExactly("First Name", "Last Name", "Comment");
+			assertThat(odsReader.readRow()).containsExactly("Jane", "Doe", "Line one\nLine two");
+			assertThat(odsReader.getRowNumber()).isEqualTo(2);
+			assertThat(odsReader.readRow()).containsExactly("John", "<Smith & Sons>");
+			assertThat(odsReader.getRowNumber()).isEqualTo(4);
+			assertThat(odsReader.readRow()).isNull();
+		}
+	}
+
+	@Test
+	@DisplayName("Should expand repeated cells and rows, but skip trailing empty cells and blank rows")
+	void readRepeatedCellsAndRows() throws IOException {
+		final var content = """
+			<?xml version="1.0" encoding="UTF-8"?>
+			<office:document-content
+					xmlns:office="urn:oasis:names:tc:opendocument:xmlns:office:1.0"
+					xmlns:table="urn:oasis:names:tc:opendocument:xmlns:table:1.0"
+					xmlns:text="urn:oasis:names:tc:opendocument:xmlns:text:1.0">
+				<office:body><office:spreadsheet><table:table table:name="Sheet1">
+					<table:table-row>
+						<table:table-cell><text:p>A</text:p></table:table-cell>
+						<table:table-cell><text:p>B</text:p></table:table-cell>
+						<table:table-cell table:number-columns-repeated="16382"/>
+					</table:table-row>
+					<table:table-row table:number-rows-repeated="2">
+						<table:table-cell office:value-type="float" office:value="42"/>
+						<table:table-cell><text:p>x<text:s text:c="2"/>y</text:p></table:table-cell>
+					</table:table-row>
+					<table:table-row table:number-rows-repeated="1048573">
+						<table:table-cell table:number-columns-repeated="16384"/>
+					</table:table-row>
+				</table:table></office:spreadsheet></office:body>
+			</office:document-content>
+			""".strip();
+
+		try (final var odsReader = new OdsSpreadsheetReader(new ByteArrayInputStream(zip(content)))) {
+			assertThat(odsReader.getHeaders()).containsExactly("A", "B");
+			assertThat(odsReader.readRow()).containsExactly("42", "x  y");
+			assertThat(odsReader.readRow()).containsExactly("42", "x  y");
+			assertThat(odsReader.getRowNumber()).isEqualTo(3);
+			assertThat(odsReader.readRow()).isNull();
+		}
+	}
+
+	@Test
+	@DisplayName("Should reject documents without a content.xml entry")
+	void rejectMissingContent() {
+		assertThatIOException().isThrownBy(() -> new OdsSpreadsheetReader(new ByteArrayInputStream(new byte[0])));
+	}
+
+	private static byte[] zip(String content) throws IOException {
+		final var outputStream = new ByteArrayOutputStream();
+
+		try (final var zipOutputStream = new ZipOutputStream(outputStream)) {
+			zipOutputStream.putNextEntry(new ZipEntry("content.xml"));
+			zipOutputStream.write(content.getBytes(StandardCharsets.UTF_8));
+			zipOutputStream.closeEntry();
+		}
+
+		return outputStream.toByteArray();
+	}
+
+}
@@ -0,0 +1,85 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.odftoolkit.odfdom.doc.OdfSpreadsheetDocument;
+
+@DisplayName("OdsSpreadsheetWriter tests")
+class OdsSpreadsheetWriterTest {
+
+	@Test
+	@DisplayName("Should write the mimetype as the first, uncompressed zip entry")
+	void mimetypeIsFirstStoredEntry() throws IOException {
+		final var outputStream = new ByteArrayOutputStream();
+
+		try (final var odsWriter = new OdsSpreadsheetWriter(outputStream, "Sheet1", List.of("A"))) {
+			odsWriter.writeRow(List.of("1"));
+		}
+
+		try (final var zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+			final var zipEntry = zipInputStream.getNextEntry();
+
+			assertThat(zipEntry.getName()).isEqualTo("mimetype");
+			assertThat(zipEntry.getMethod()).isEqualTo(ZipEntry.STORED);
+			assertThat(new String(zipInputStream.readAllBytes())).isEqualTo("application/vnd.oasis.opendocument.spreadsheet");
+		}
+	}
+
+	@Test
+	@DisplayName("Should write a document that can be read back as a spreadsheet")
+	void writeReadableSpreadsheet() throws Exception {
+		final var outputStream = new ByteArrayOutputStream();
+
+		try (final var odsWriter = new OdsSpreadsheetWriter(outputStream, "Matches", List.of("First Name", "Last Name", "Comment"))) {
+			odsWriter.writeRow(List.of("Jane", "Doe", "Line one\nLine two"));
+			odsWriter.writeRow(Arrays.asList("John", "<Smith & Sons>", null));
+		}
+
+		final var spreadsheet = OdfSpreadsheetDocument.loadDocument(new ByteArrayInputStream(outputStream.toByteArray()));
+		final var table = spreadsheet.getTableByName("Matches");
+
+		assertThat(table.getRowCount()).isEqualTo(3);
+		assertThat(table.getCellByPosition(0, 0).getStringValue()).isEqualTo("First Name");
+		assertThat(table.getCellByPosition(2, 0).getStringValue()).isEqualTo("Comment");
+		assertThat(table.getCellByPosition(0, 1).getStringValue()).isEqualTo("Jane");
+		assertThat(table.getCellByPosition(2, 1).getStringValue()).contains("Line one", "Line two");
+		assertThat(table.getCellByPosition(1, 2).getStringValue()).isEqualTo("<Smith & Sons>");
+		assertThat(table.getCellByPosition(2, 2).getStringValue()).isEmpty();
+
+		spreadsheet.close();
+	}
+
+	@Test
+	@DisplayName("Should strip control characters that are not allowed in XML")
+	void stripInvalidXmlChars() throws Exception {
+		final var outputStream = new ByteArrayOutputStream();
+
+		try (final var odsWriter = new OdsSpreadsheetWriter(outputStream, "Sheet1", List.of("A"))) {
+			odsWriter.writeRow(List.of("bell\u0007 and null\u0000"));
+		}
+
+		final var spreadsheet = OdfSpreadsheetDocument.loadDocument(new ByteArrayInputStream(outputStream.toByteArray()));
+		assertThat(spreadsheet.getTableByName("Sheet1").getCellByPosition(0, 1).getStringValue()).isEqualTo("bell and null");
+		spreadsheet.close();
+	}
+
+	@Test
+	@DisplayName("Should reject rows with the wrong number of values")
+	void rejectRaggedRows() throws IOException {
+		try (final var odsWriter = new OdsSpreadsheetWriter(new ByteArrayOutputStream(), "Sheet1", List.of("A", "B"))) {
+			assertThatIllegalArgumentException().isThrownBy(() -> odsWriter.writeRow(List.of("1")));
+		}
+	}
+
+}
@@ -0,0 +1,28 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("SpreadsheetFormat tests")
+class SpreadsheetFormatTest {
+
+	@Test
+	@DisplayName("Should select the spreadsheet format with the highest quality value")
+	void fromAcceptHeader() {
+		assertThat(SpreadsheetFormat.fromAcceptHeader("text/csv")).contains(SpreadsheetFormat.CSV);
+		assertThat(SpreadsheetFormat.fromAcceptHeader("application/vnd.oasis.opendocument.spreadsheet")).contains(SpreadsheetFormat.ODS);
+		assertThat(SpreadsheetFormat.fromAcceptHeader("text/csv;q=0.5, application/vnd.openxmlformats-officedocument.spreadsheetml.sheet")).contains(SpreadsheetFormat.XLSX);
+	}
+
+	@Test
+	@DisplayName("Should not select a spreadsheet format when the client prefers something else")
+	void fromAcceptHeaderNotSpreadsheet() {
+		assertThat(SpreadsheetFormat.fromAcceptHeader(null)).isEmpty();
+		assertThat(SpreadsheetFormat.fromAcceptHeader("*/*")).isEmpty();
+		assertThat(SpreadsheetFormat.fromAcceptHeader("application/json, text/csv;q=0.9")).isEmpty();
+		assertThat(SpreadsheetFormat.fromAcceptHeader("not a media type")).isEmpty();
+	}
+
+}
@@ -0,0 +1,85 @@
+package ca.gov.dtsstn.vacman.api.web.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipInputStream;
+
+import javax.xml.parsers.DocumentBuilderFactory;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("XlsxSpreadsheetWriter tests")
+class XlsxSpreadsheetWriterTest {
+
+	@Test
+	@DisplayName("Should write all of the parts of a workbook")
+	void writeWorkbookParts() throws IOException {
+		final var entries = writeAndUnzip(List.of("A"), List.of(List.of("1")));
+
+		assertThat(entries).containsOnlyKeys(
+			"[Content_Types].xml",
+			"_rels/.rels",
+			"xl/workbook.xml",
+			"xl/_rels/workbook.xml.rels",
+			"xl/styles.xml",
+			"xl/worksheets/sheet1.xml");
+
+		assertThat(entries.get("xl/workbook.xml")).contains("<sheet name=\"Sheet1\" sheetId=\"1\" r:id=\"rId1\"/>");
+	}
+
+	@Test
+	@DisplayName("Should write rows as well-formed inline strings")
+	void writeRows() throws Exception {
+		final var entries = writeAndUnzip(List.of("First Name", "Comment"), List.of(
+			List.of("Jane", "<Smith & Sons>"),
+			Arrays.asList("John", null)));
+
+		final var sheet = entries.get("xl/worksheets/sheet1.xml");
+
+		// must be well-formed XML
+		DocumentBuilderFactory.newInstance().newDocumentBuilder().parse(new ByteArrayInputStream(sheet.getBytes(StandardCharsets.UTF_8)));
+
+		assertThat(sheet)
+			.contains("<c r=\"A1\" s=\"1\" t=\"inlineStr\"><is><t xml:space=\"preserve\">First Name</t></is></c>")
+			.contains("<c r=\"B2\" t=\"inlineStr\"><is><t xml:space=\"preserve\">&lt;Smith &amp; Sons&gt;</t></is></c>")
+			.contains("<c r=\"B3\"></c>");
+	}
+
+	@Test
+	@DisplayName("Should convert column indexes to spreadsheet column names")
+	void columnName() {
+		assertThat(XlsxSpreadsheetWriter.columnName(0)).isEqualTo("A");
+		assertThat(XlsxSpreadsheetWriter.columnName(25)).isEqualTo("Z");
+		assertThat(XlsxSpreadsheetWriter.columnName(26)).isEqualTo("AA");
+		assertThat(XlsxSpreadsheetWriter.columnName(701)).isEqualTo("ZZ");
+		assertThat(XlsxSpreadsheetWriter.columnName(702)).isEqualTo("AAA");
+	}
+
+	Map<String, String> writeAndUnzip(List<String> headers, List<List<String>> rows) throws IOException {
+		final var outputStream = new ByteArrayOutputStream();
+
+		try (final var xlsxWriter = new XlsxSpreadsheetWriter(outputStream, "Sheet1", headers)) {
+			for (final var row : rows) { xlsxWriter.writeRow(row); }
+		}
+
+		final var entries = new HashMap<String, String>();
+
+		try (final var zipInputStream = new ZipInputStream(new ByteArrayInputStream(outputStream.toByteArray()))) {
+			for (var zipEntry = zipInputStream.getNextEntry(); zipEntry != null; zipEntry = zipInputStream.getNextEntry()) {
+				entries.put(zipEntry.getName(), new String(zipInputStream.readAllBytes(), StandardCharsets.UTF_8));
+			}
+		}
+
+		return entries;
+	}
+
+}
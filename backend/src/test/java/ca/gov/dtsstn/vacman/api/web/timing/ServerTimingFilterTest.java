@@ -0,0 +1,69 @@
+package ca.gov.dtsstn.vacman.api.web.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+@AutoConfigureMockMvc
+@ActiveProfiles({ "test" })
+@DisplayName("ServerTimingFilter tests")
+@SpringBootTest(properties = {
+	"application.metrics.server-timing.enabled=true",
+	"application.metrics.trace-sampling.base-probability=1.0"
+})
+class ServerTimingFilterTest {
+
+	@Autowired
+	MockMvc mockMvc;
+
+	@Autowired
+	SdkTracerProvider sdkTracerProvider;
+
+	@MockitoSpyBean
+	SpanExporter spanExporter;
+
+	@Test
+	@DisplayName("Should add the server timings to the request's span")
+	void addsServerTimingsToSpan() throws Exception {
+		// the batch span processor reuses (and clears) the collection that it exports, so the spans are copied
+		final var exportedSpans = new CopyOnWriteArrayList<SpanData>();
+
+		doAnswer(invocation -> {
+			exportedSpans.addAll(invocation.getArgument(0));
+			return invocation.callRealMethod();
+		}).when(spanExporter).export(any());
+
+		mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+
+		sdkTracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+		assertThat(exportedSpans)
+			.filteredOn(span -> span.getKind() == SpanKind.SERVER)
+			.isNotEmpty()
+			.allSatisfy(span -> {
+				assertThat(span.getAttributes().get(AttributeKey.stringKey("db.statement.count"))).isNotNull();
+				assertThat(span.getAttributes().get(AttributeKey.stringKey("cache.hit.count"))).isNotNull();
+			});
+	}
+
+}
@@ -0,0 +1,56 @@
+package ca.gov.dtsstn.vacman.api.web.timing;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("ServerTimings tests")
+class ServerTimingsTest {
+
+	@AfterEach
+	void tearDown() {
+		ServerTimings.stop();
+	}
+
+	@Test
+	@DisplayName("Timings recorded outside of a request should be ignored")
+	void recordOutsideOfRequest() {
+		ServerTimings.recordJdbcStatements(1, 10, TimeUnit.MILLISECONDS);
+		ServerTimings.recordCacheLookup(true);
+
+		assertThat(ServerTimings.current()).isEmpty();
+	}
+
+	@Test
+	@DisplayName("toHeaderValue() should include database, cache, external call and total timings")
+	void toHeaderValue() {
+		final var serverTimings = ServerTimings.start();
+
+		ServerTimings.recordJdbcStatements(1, 10, TimeUnit.MILLISECONDS);
+		ServerTimings.recordJdbcStatements(2, 5, TimeUnit.MILLISECONDS);
+		ServerTimings.recordConnectionAcquired(1, TimeUnit.MILLISECONDS);
+		ServerTimings.recordCacheLookup(true);
+		ServerTimings.recordCacheLookup(false);
+		ServerTimings.recordExternalCall("msgraph", 1_500, TimeUnit.MICROSECONDS);
+
+		assertThat(serverTimings.toHeaderValue())
+			.startsWith("db;dur=15.0;desc=\"3 statements\", db-connection;dur=1.0;desc=\"1 connections\", cache;desc=\"1 hits, 1 misses\", msgraph;dur=1.5;desc=\"1 calls\", app;dur=");
+
+		assertThat(serverTimings.toSpanAttributes())
+			.containsEntry("db.statement.count", "3")
+			.containsEntry("db.duration.ms", "15.0")
+			.containsEntry("cache.hit.count", "1")
+			.containsEntry("external.msgraph.duration.ms", "1.5");
+	}
+
+	@Test
+	@DisplayName("toHeaderValue() should omit the cache timing when there were no cache lookups")
+	void toHeaderValueWithoutCacheLookups() {
+		assertThat(ServerTimings.start().toHeaderValue()).doesNotContain("cache;");
+	}
+
+}